@@ -143,6 +143,16 @@ public interface Item extends Serializable, KryoSerializable {
         return false;
     }
 
+    /**
+     * Tests whether the item is an atomic item of type integer whose value fits in, and is available as, a primitive
+     * long.
+     *
+     * @return true if it is an integer with a long value, false otherwise.
+     */
+    default boolean isLong() {
+        return false;
+    }
+
     /**
      * Tests whether the item is an atomic item of type double.
      *
@@ -398,6 +408,15 @@ public interface Item extends Serializable, KryoSerializable {
         throw new UnsupportedOperationException("Operation not defined for type " + this.getDynamicType());
     }
 
+    /**
+     * Returns the long value of the item, if it is an integer that fits in a long.
+     *
+     * @return the integer value as a long.
+     */
+    default long getLongValue() {
+        throw new UnsupportedOperationException("Operation not defined for type " + this.getDynamicType());
+    }
+
     /**
      * Returns the integer value of the item as a bit integer, if it is an integer.
      *
@@ -23,6 +23,7 @@ import sparksoniq.spark.SparkSessionManager;
 public class Rumble {
 
     private RumbleRuntimeConfiguration configuration;
+    private SequenceOfItems lastSequence;
 
     /**
      * Creates a new Rumble instance. This does NOT initialize Spark. You need to do so before instantiating Rumble.
@@ -41,6 +42,7 @@ public class Rumble {
      * @return the resulting sequence as an ItemIterator.
      */
     public SequenceOfItems runQuery(String query) {
+        unpersistLastSequence();
         MainModule mainModule = VisitorHelpers.parseMainModuleFromQuery(
             query,
             this.configuration
@@ -50,7 +52,8 @@ public class Rumble {
             mainModule,
             this.configuration
         );
-        return new SequenceOfItems(iterator, dynamicContext, this.configuration);
+        this.lastSequence = new SequenceOfItems(iterator, dynamicContext, this.configuration);
+        return this.lastSequence;
     }
 
     /**
@@ -61,6 +64,7 @@ public class Rumble {
      * @return the resulting sequence as an ItemIterator.
      */
     public SequenceOfItems runQuery(URI location) throws IOException {
+        unpersistLastSequence();
         MainModule mainModule = VisitorHelpers.parseMainModuleFromLocation(
             location,
             this.configuration
@@ -70,7 +74,19 @@ public class Rumble {
             mainModule,
             this.configuration
         );
-        return new SequenceOfItems(iterator, dynamicContext, this.configuration);
+        this.lastSequence = new SequenceOfItems(iterator, dynamicContext, this.configuration);
+        return this.lastSequence;
+    }
+
+    /**
+     * Unpersists the sequences persisted by the previous query run by this instance, as its results are not expected
+     * to be accessed anymore. The queries run by other instances are not affected.
+     */
+    private void unpersistLastSequence() {
+        if (this.lastSequence != null) {
+            this.lastSequence.unpersist();
+            this.lastSequence = null;
+        }
     }
 
     /**
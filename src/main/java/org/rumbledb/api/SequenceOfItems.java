@@ -72,6 +72,14 @@ public class SequenceOfItems {
         this.isOpen = false;
     }
 
+    /**
+     * Unpersists the sequences that the query persisted because the variables they are bound to are referenced
+     * several times. The results can still be accessed afterwards, but these sequences are then recomputed.
+     */
+    public void unpersist() {
+        this.dynamicContext.getPersistedSequences().unpersistAll();
+    }
+
     /**
      * Checks whether there are more items.
      *
@@ -24,6 +24,11 @@ import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.sql.DataFrameWriter;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
+import org.apache.spark.sql.streaming.DataStreamWriter;
+import org.apache.spark.sql.streaming.OutputMode;
+import org.apache.spark.sql.streaming.StreamingQuery;
+import org.apache.spark.sql.streaming.StreamingQueryException;
+import org.apache.spark.sql.streaming.Trigger;
 import org.rumbledb.api.Item;
 import org.rumbledb.api.Rumble;
 import org.rumbledb.api.SequenceOfItems;
@@ -40,6 +45,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 
@@ -127,29 +133,33 @@ public class JsoniqQueryExecutor {
 
         if (sequence.availableAsDataFrame() && outputPath != null) {
             Dataset<Row> df = sequence.getAsDataFrame();
-            if (this.configuration.getNumberOfOutputPartitions() > 0) {
-                df = df.repartition(this.configuration.getNumberOfOutputPartitions());
-            }
-            DataFrameWriter<Row> writer = df.write();
-            Map<String, String> options = this.configuration.getOutputFormatOptions();
-            for (String key : options.keySet()) {
-                writer.option(key, options.get(key));
-                System.err.println("[INFO] Writing with option " + key + " : " + options.get(key));
-            }
-            String format = this.configuration.getOutputFormat();
-            System.err.println("[INFO] Writing to format " + format);
-            switch (format) {
-                case "json":
-                    writer.json(outputPath);
-                    break;
-                case "csv":
-                    writer.csv(outputPath);
-                    break;
-                case "parquet":
-                    writer.parquet(outputPath);
-                    break;
-                default:
-                    writer.format(format).save(outputPath);
+            if (df.isStreaming()) {
+                writeStream(df, outputPath);
+            } else {
+                if (this.configuration.getNumberOfOutputPartitions() > 0) {
+                    df = df.repartition(this.configuration.getNumberOfOutputPartitions());
+                }
+                DataFrameWriter<Row> writer = df.write();
+                Map<String, String> options = this.configuration.getOutputFormatOptions();
+                for (String key : options.keySet()) {
+                    writer.option(key, options.get(key));
+                    System.err.println("[INFO] Writing with option " + key + " : " + options.get(key));
+                }
+                String format = this.configuration.getOutputFormat();
+                System.err.println("[INFO] Writing to format " + format);
+                switch (format) {
+                    case "json":
+                        writer.json(outputPath);
+                        break;
+                    case "csv":
+                        writer.csv(outputPath);
+                        break;
+                    case "parquet":
+                        writer.parquet(outputPath);
+                        break;
+                    default:
+                        writer.format(format).save(outputPath);
+                }
             }
         } else if (sequence.availableAsRDD() && outputPath != null) {
             JavaRDD<Item> rdd = sequence.getAsRDD();
@@ -181,6 +191,7 @@ public class JsoniqQueryExecutor {
                 }
             }
         }
+        sequence.unpersist();
 
         long endTime = System.currentTimeMillis();
         long totalTime = endTime - startTime;
@@ -197,6 +208,61 @@ public class JsoniqQueryExecutor {
         return outputList;
     }
 
+    /**
+     * Writes the results of a streaming query incrementally to the output path, and blocks until the stream is
+     * stopped.
+     */
+    private void writeStream(Dataset<Row> df, String outputPath) {
+        StreamingQuery query = startStream(df, outputPath, this.configuration, Trigger.ProcessingTime(0));
+        try {
+            query.awaitTermination();
+        } catch (StreamingQueryException e) {
+            CliException ex = new CliException("The streaming query stopped: " + e.getMessage());
+            ex.initCause(e);
+            throw ex;
+        }
+    }
+
+    /**
+     * Starts writing the results of a streaming query incrementally to the output path. Progress is checkpointed next
+     * to the output path (or to the checkpointLocation output format option), so that a restarted query resumes where
+     * it stopped.
+     *
+     * @param df the streaming DataFrame returned by the query.
+     * @param outputPath the output path.
+     * @param configuration the configuration, with the output format and its options.
+     * @param trigger when the new inputs are processed.
+     * @return the started streaming query.
+     */
+    public static StreamingQuery startStream(
+            Dataset<Row> df,
+            String outputPath,
+            RumbleRuntimeConfiguration configuration,
+            Trigger trigger
+    ) {
+        DataStreamWriter<Row> writer = df.writeStream().outputMode(OutputMode.Append()).trigger(trigger);
+        Map<String, String> options = configuration.getOutputFormatOptions();
+        if (!options.containsKey("checkpointLocation")) {
+            writer.option("checkpointLocation", outputPath + "-checkpoints");
+        }
+        for (String key : options.keySet()) {
+            writer.option(key, options.get(key));
+            System.err.println("[INFO] Writing with option " + key + " : " + options.get(key));
+        }
+        String format = configuration.getOutputFormat();
+        if (format.equals("tyson") || format.equals("xml-json-hybrid")) {
+            format = "json";
+        }
+        System.err.println("[INFO] Streaming to format " + format);
+        try {
+            return writer.format(format).start(outputPath);
+        } catch (TimeoutException e) {
+            CliException ex = new CliException("The streaming query could not start: " + e.getMessage());
+            ex.initCause(e);
+            throw ex;
+        }
+    }
+
     public static void issueMaterializationWarning(long materializationCount) {
         if (materializationCount == Long.MAX_VALUE) {
             System.err.println(
@@ -219,12 +285,16 @@ public class JsoniqQueryExecutor {
     public long runInteractive(String query, List<Item> resultList) throws IOException {
         Rumble rumble = new Rumble(this.configuration);
         SequenceOfItems sequence = rumble.runQuery(query);
-        if (!sequence.availableAsRDD()) {
-            return sequence.populateList(resultList);
+        try {
+            if (!sequence.availableAsRDD()) {
+                return sequence.populateList(resultList);
+            }
+            resultList.clear();
+            JavaRDD<Item> rdd = sequence.getAsRDD();
+            return SparkSessionManager.collectRDDwithLimitWarningOnly(rdd, resultList);
+        } finally {
+            sequence.unpersist();
         }
-        resultList.clear();
-        JavaRDD<Item> rdd = sequence.getAsRDD();
-        return SparkSessionManager.collectRDDwithLimitWarningOnly(rdd, resultList);
     }
 
 }
@@ -31,6 +31,7 @@ import org.rumbledb.server.RumbleServer;
 import org.rumbledb.shell.RumbleJLineShell;
 
 import javassist.CannotCompileException;
+import sparksoniq.spark.SparkSessionManager;
 
 public class Main {
     public static RumbleJLineShell terminal = null;
@@ -50,6 +51,9 @@ public class Main {
         // Parse arguments
         try {
             sparksoniqConf = new RumbleRuntimeConfiguration(args);
+            if (sparksoniqConf.prewarmSparkSession()) {
+                SparkSessionManager.getInstance().prewarmSessionInBackground();
+            }
 
             if (sparksoniqConf.isShell()) {
                 launchShell(sparksoniqConf);
@@ -121,7 +121,21 @@ public class DynamicContextVisitor extends AbstractNodeVisitor<DynamicContext> {
         if (!variableDeclaration.external()) {
             Expression expression = variableDeclaration.getExpression();
             RuntimeIterator iterator = VisitorHelpers.generateRuntimeIterator(expression, this.configuration);
-            iterator.bindToVariableInDynamicContext(argument, name, argument);
+            if (variableDeclaration.isPersisted() && iterator.isDataFrame()) {
+                argument.getVariableValues()
+                    .addVariableValue(
+                        name,
+                        argument.getPersistedSequences().persist(iterator.getDataFrame(argument), this.configuration)
+                    );
+            } else if (variableDeclaration.isPersisted() && iterator.isRDDOrDataFrame()) {
+                argument.getVariableValues()
+                    .addVariableValue(
+                        name,
+                        argument.getPersistedSequences().persist(iterator.getRDD(argument), this.configuration)
+                    );
+            } else {
+                iterator.bindToVariableInDynamicContext(argument, name, argument);
+            }
             return argument;
         }
 
@@ -327,6 +341,7 @@ public class DynamicContextVisitor extends AbstractNodeVisitor<DynamicContext> {
         if (!this.importedModuleContexts.containsKey(module.getNamespace())) {
             DynamicContext newContext = new DynamicContext(this.configuration);
             newContext.setNamedFunctions(argument.getNamedFunctions());
+            newContext.setPersistedSequences(argument.getPersistedSequences());
             DynamicContext importedContext = visitDescendants(module, newContext);
             this.importedModuleContexts.put(module.getNamespace(), importedContext);
         }
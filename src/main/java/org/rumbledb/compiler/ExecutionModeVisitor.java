@@ -20,9 +20,19 @@
 
 package org.rumbledb.compiler;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigInteger;
+import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
+
+import org.apache.hadoop.fs.FileStatus;
 
 import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.context.BuiltinFunctionCatalogue;
@@ -30,6 +40,7 @@ import org.rumbledb.context.FunctionIdentifier;
 import org.rumbledb.context.InScopeVariable;
 import org.rumbledb.context.Name;
 import org.rumbledb.context.StaticContext;
+import org.rumbledb.exceptions.RumbleException;
 import org.rumbledb.expressions.AbstractNodeVisitor;
 import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.expressions.Expression;
@@ -44,15 +55,25 @@ import org.rumbledb.expressions.flowr.ForClause;
 import org.rumbledb.expressions.flowr.GroupByClause;
 import org.rumbledb.expressions.flowr.LetClause;
 import org.rumbledb.expressions.flowr.ReturnClause;
+import org.rumbledb.expressions.flowr.SimpleMapExpression;
+import org.rumbledb.expressions.flowr.WindowClause;
+import org.rumbledb.expressions.flowr.WindowCondition;
+import org.rumbledb.expressions.miscellaneous.RangeExpression;
 import org.rumbledb.expressions.module.FunctionDeclaration;
 import org.rumbledb.expressions.module.LibraryModule;
 import org.rumbledb.expressions.module.MainModule;
 import org.rumbledb.expressions.module.Prolog;
 import org.rumbledb.expressions.module.VariableDeclaration;
+import org.rumbledb.expressions.postfix.FilterExpression;
 import org.rumbledb.expressions.primary.FunctionCallExpression;
 import org.rumbledb.expressions.primary.InlineFunctionExpression;
+import org.rumbledb.expressions.primary.IntegerLiteralExpression;
+import org.rumbledb.expressions.primary.StringLiteralExpression;
 import org.rumbledb.expressions.primary.VariableReferenceExpression;
 import org.rumbledb.expressions.typing.ValidateTypeExpression;
+import org.rumbledb.items.parsing.JSONSchemaInference;
+import org.rumbledb.runtime.functions.input.FileSystemUtil;
+import org.rumbledb.types.ItemType;
 import org.rumbledb.types.SequenceType;
 import org.rumbledb.types.SequenceType.Arity;
 
@@ -61,8 +82,20 @@ import org.rumbledb.types.SequenceType.Arity;
  */
 public class ExecutionModeVisitor extends AbstractNodeVisitor<StaticContext> {
 
+    private static final Set<FunctionIdentifier> LINE_BASED_FILE_FUNCTIONS = new HashSet<>(
+            Arrays.asList(
+                new FunctionIdentifier(new Name(Name.JN_NS, "jn", "json-file"), 1),
+                new FunctionIdentifier(new Name(Name.JN_NS, "jn", "text-file"), 1),
+                new FunctionIdentifier(new Name(Name.FN_NS, "fn", "unparsed-text-lines"), 1)
+            )
+    );
+    private static final Name JSON_FILE = new Name(Name.JN_NS, "jn", "json-file");
+
     private VisitorConfig visitorConfig;
     private RumbleRuntimeConfiguration configuration;
+    // Number of enclosing function bodies, predicates, mapping expressions and clauses (other than the first clause
+    // of a FLWOR expression), which may be evaluated within Spark jobs.
+    private int nestingDepth = 0;
 
     ExecutionModeVisitor(RumbleRuntimeConfiguration configuration) {
         this.visitorConfig = VisitorConfig.staticContextVisitorInitialPassConfig;
@@ -166,7 +199,7 @@ public class ExecutionModeVisitor extends AbstractNodeVisitor<StaticContext> {
             );
         populateFunctionDeclarationStaticContext(expression.getStaticContext(), modes, expression);
         // visit the body first to make its execution mode available while adding the function to the catalog
-        this.visit(expression.getBody(), expression.getStaticContext());
+        visitNested(expression.getBody(), expression.getStaticContext());
         expression.initHighestExecutionMode(this.visitorConfig);
         declaration.initHighestExecutionMode(this.visitorConfig);
         expression.registerUserDefinedFunctionExecutionMode(
@@ -188,7 +221,7 @@ public class ExecutionModeVisitor extends AbstractNodeVisitor<StaticContext> {
                     )
             );
         // visit the body first to make its execution mode available while adding the function to the catalog
-        this.visit(expression.getBody(), expression.getBody().getStaticContext());
+        visitNested(expression.getBody(), expression.getBody().getStaticContext());
         expression.initHighestExecutionMode(this.visitorConfig);
         expression.registerUserDefinedFunctionExecutionMode(
             this.visitorConfig
@@ -220,8 +253,100 @@ public class ExecutionModeVisitor extends AbstractNodeVisitor<StaticContext> {
                 );
         }
         expression.initFunctionCallHighestExecutionMode(this.visitorConfig);
+        if (isSmallLocalFileInput(expression)) {
+            expression.setHighestExecutionMode(ExecutionMode.LOCAL);
+        } else if (isInferredStructuredInput(expression)) {
+            expression.setHighestExecutionMode(ExecutionMode.DATAFRAME);
+        }
         return argument;
     }
+
+    /**
+     * Says whether a call to json-file(), text-file() or unparsed-text-lines() reads a file small enough to be read
+     * locally, which avoids the overhead of scheduling Spark jobs. This is only decided for literal locations of
+     * local or HDFS files, without an explicit number of partitions, that are not compressed.
+     */
+    private boolean isSmallLocalFileInput(FunctionCallExpression expression) {
+        long threshold = this.configuration.getLocalExecutionThreshold();
+        if (threshold <= 0 || !expression.getHighestExecutionMode(this.visitorConfig).isRDD()) {
+            return false;
+        }
+        if (!LINE_BASED_FILE_FUNCTIONS.contains(expression.getFunctionIdentifier())) {
+            return false;
+        }
+        if (!(expression.getArguments().get(0) instanceof StringLiteralExpression)) {
+            return false;
+        }
+        String location = ((StringLiteralExpression) expression.getArguments().get(0)).getValue();
+        try {
+            URI uri = FileSystemUtil.resolveURI(
+                expression.getStaticContext().getStaticBaseURI(),
+                location,
+                expression.getMetadata()
+            );
+            if (FileSystemUtil.getCompressionCodec(uri) != null) {
+                // The threshold applies to the decompressed size, which is not known in advance.
+                return false;
+            }
+            FileStatus status = FileSystemUtil.getFileStatus(uri, this.configuration, expression.getMetadata());
+            return status != null && status.isFile() && status.getLen() <= threshold;
+        } catch (RumbleException e) {
+            // Errors, such as missing files, are reported at runtime.
+            return false;
+        }
+    }
+
+    /**
+     * Says whether a call to json-file() reads a file from whose first lines a schema can be inferred, in which case
+     * it is read into a DataFrame that can be processed natively. This is only decided for literal locations of local
+     * or HDFS files, if at least one field has consistent atomic values in the sampled lines.
+     */
+    private boolean isInferredStructuredInput(FunctionCallExpression expression) {
+        int sampleSize = this.configuration.getJSONSchemaInferenceSampleSize();
+        if (sampleSize <= 0 || !expression.getHighestExecutionMode(this.visitorConfig).isRDD()) {
+            return false;
+        }
+        if (!expression.getFunctionIdentifier().getName().equals(JSON_FILE)) {
+            return false;
+        }
+        if (!(expression.getArguments().get(0) instanceof StringLiteralExpression)) {
+            return false;
+        }
+        String location = ((StringLiteralExpression) expression.getArguments().get(0)).getValue();
+        List<String> lines = new ArrayList<>();
+        try {
+            URI uri = FileSystemUtil.resolveURI(
+                expression.getStaticContext().getStaticBaseURI(),
+                location,
+                expression.getMetadata()
+            );
+            FileStatus status = FileSystemUtil.getFileStatus(uri, this.configuration, expression.getMetadata());
+            if (status == null || !status.isFile()) {
+                return false;
+            }
+            try (
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(
+                                FileSystemUtil.getDecompressedDataInputStream(
+                                    uri,
+                                    this.configuration,
+                                    expression.getMetadata()
+                                )
+                        )
+                )
+            ) {
+                String line;
+                while (lines.size() < sampleSize && (line = reader.readLine()) != null) {
+                    lines.add(line);
+                }
+            }
+        } catch (RumbleException | IOException e) {
+            // Errors, such as missing files, are reported at runtime.
+            return false;
+        }
+        ItemType itemType = JSONSchemaInference.inferItemType(lines, expression.getMetadata());
+        return itemType != null && !itemType.getObjectContentFacet().isEmpty();
+    }
     // endregion
 
     @Override
@@ -276,10 +401,13 @@ public class ExecutionModeVisitor extends AbstractNodeVisitor<StaticContext> {
     public StaticContext visitFlowrExpression(FlworExpression expression, StaticContext argument) {
         Clause clause = expression.getReturnClause().getFirstClause();
         while (clause != null) {
-            if (clause.getNextClause() != null) {
-                this.visit(clause, clause.getNextClause().getStaticContext());
+            StaticContext nextContext = clause.getNextClause() != null
+                ? clause.getNextClause().getStaticContext()
+                : null;
+            if (clause.getPreviousClause() == null) {
+                this.visit(clause, nextContext);
             } else {
-                this.visit(clause, null);
+                visitNested(clause, nextContext);
             }
             clause = clause.getNextClause();
         }
@@ -297,6 +425,9 @@ public class ExecutionModeVisitor extends AbstractNodeVisitor<StaticContext> {
     @Override
     public StaticContext visitForClause(ForClause clause, StaticContext argument) {
         this.visit(clause.getExpression(), clause.getExpression().getStaticContext());
+        if (isDistributedRange(clause)) {
+            clause.getExpression().setHighestExecutionMode(ExecutionMode.RDD);
+        }
         clause.initHighestExecutionMode(this.visitorConfig);
 
         argument.setVariableStorageMode(
@@ -313,6 +444,90 @@ public class ExecutionModeVisitor extends AbstractNodeVisitor<StaticContext> {
         return argument;
     }
 
+    /**
+     * Says whether the range expression over which the first clause of a FLWOR expression iterates should be generated
+     * with Spark: its bounds are literals and it contains at least as many items as the range distribution threshold,
+     * or its bounds are dynamic and the distribution of such ranges is activated. Ranges in expressions that may be
+     * evaluated within Spark jobs are always generated locally.
+     */
+    private boolean isDistributedRange(ForClause clause) {
+        long threshold = this.configuration.getRangeDistributionThreshold();
+        if (
+            threshold <= 0
+                || this.nestingDepth > 0
+                || clause.getPreviousClause() != null
+                || !(clause.getExpression() instanceof RangeExpression)
+        ) {
+            return false;
+        }
+        Node left = clause.getExpression().getChildren().get(0);
+        Node right = clause.getExpression().getChildren().get(1);
+        if (!(left instanceof IntegerLiteralExpression) || !(right instanceof IntegerLiteralExpression)) {
+            return this.configuration.distributeDynamicRanges();
+        }
+        try {
+            BigInteger size = new BigInteger(((IntegerLiteralExpression) right).getLexicalValue())
+                .subtract(new BigInteger(((IntegerLiteralExpression) left).getLexicalValue()))
+                .add(BigInteger.ONE);
+            return size.compareTo(BigInteger.valueOf(threshold)) >= 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public StaticContext visitFilterExpression(FilterExpression expression, StaticContext argument) {
+        this.visit(expression.getMainExpression(), argument);
+        visitNested(expression.getPredicateExpression(), argument);
+        expression.initHighestExecutionMode(this.visitorConfig);
+        return argument;
+    }
+
+    @Override
+    public StaticContext visitSimpleMapExpr(SimpleMapExpression expression, StaticContext argument) {
+        this.visit(expression.getChildren().get(0), argument);
+        visitNested(expression.getChildren().get(1), argument);
+        expression.initHighestExecutionMode(this.visitorConfig);
+        return argument;
+    }
+
+    private void visitNested(Node node, StaticContext argument) {
+        ++this.nestingDepth;
+        try {
+            this.visit(node, argument);
+        } finally {
+            --this.nestingDepth;
+        }
+    }
+
+    @Override
+    public StaticContext visitWindowClause(WindowClause clause, StaticContext argument) {
+        this.visit(clause.getExpression(), clause.getExpression().getStaticContext());
+
+        Expression startExpression = clause.getStartCondition().getExpression();
+        setWindowConditionStorageModes(startExpression.getStaticContext(), clause.getStartCondition());
+        this.visit(startExpression, startExpression.getStaticContext());
+        if (clause.getEndCondition() != null) {
+            Expression endExpression = clause.getEndCondition().getExpression();
+            setWindowConditionStorageModes(endExpression.getStaticContext(), clause.getEndCondition());
+            this.visit(endExpression, endExpression.getStaticContext());
+        }
+        clause.initHighestExecutionMode(this.visitorConfig);
+
+        argument.setVariableStorageMode(clause.getVariableName(), ExecutionMode.LOCAL);
+        setWindowConditionStorageModes(argument, clause.getStartCondition());
+        if (clause.getEndCondition() != null) {
+            setWindowConditionStorageModes(argument, clause.getEndCondition());
+        }
+        return argument;
+    }
+
+    private static void setWindowConditionStorageModes(StaticContext context, WindowCondition condition) {
+        for (Name name : condition.getVariableNames()) {
+            context.setVariableStorageMode(name, ExecutionMode.LOCAL);
+        }
+    }
+
     @Override
     public StaticContext visitLetClause(LetClause clause, StaticContext argument) {
         this.visit(clause.getExpression(), clause.getExpression().getStaticContext());
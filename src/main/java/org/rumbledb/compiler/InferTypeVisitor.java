@@ -48,6 +48,8 @@ import org.rumbledb.expressions.flowr.OrderByClause;
 import org.rumbledb.expressions.flowr.OrderByClauseSortingKey;
 import org.rumbledb.expressions.flowr.SimpleMapExpression;
 import org.rumbledb.expressions.flowr.WhereClause;
+import org.rumbledb.expressions.flowr.WindowClause;
+import org.rumbledb.expressions.flowr.WindowCondition;
 import org.rumbledb.expressions.logic.AndExpression;
 import org.rumbledb.expressions.logic.NotExpression;
 import org.rumbledb.expressions.logic.OrExpression;
@@ -1732,6 +1734,9 @@ public class InferTypeVisitor extends AbstractNodeVisitor<StaticContext> {
                 if (!forType.isEmptySequence()) {
                     forArities = forType.getArity().multiplyWith(forArities);
                 }
+            } else if (clause.getClauseType() == FLWOR_CLAUSES.WINDOW) {
+                // a window clause may produce any number of windows, including none
+                forArities = SequenceType.Arity.ZeroOrMore.multiplyWith(forArities);
             } else if (clause.getClauseType() == FLWOR_CLAUSES.WHERE) {
                 // where clause could reject all tuples so arity change from + => * and 1 => ?
                 if (forArities == SequenceType.Arity.One) {
@@ -1797,6 +1802,62 @@ public class InferTypeVisitor extends AbstractNodeVisitor<StaticContext> {
         return argument;
     }
 
+    @Override
+    public StaticContext visitWindowClause(WindowClause expression, StaticContext argument) {
+        visit(expression.getExpression(), argument);
+        SequenceType declaredType = expression.getActualSequenceType();
+        SequenceType inferredType = expression.getExpression().getStaticSequenceType();
+        basicChecks(inferredType, expression.getClass().getSimpleName(), true, false, expression.getMetadata());
+        for (WindowCondition condition : Arrays.asList(expression.getStartCondition(), expression.getEndCondition())) {
+            if (condition == null) {
+                continue;
+            }
+            // the current, previous and next items are items of the input sequence
+            List<StaticContext> contexts = Arrays.asList(
+                condition.getExpression().getStaticContext(),
+                expression.getNextClause().getStaticContext()
+            );
+            for (StaticContext context : contexts) {
+                if (condition.getCurrentItemName() != null) {
+                    context.replaceVariableSequenceType(
+                        condition.getCurrentItemName(),
+                        new SequenceType(inferredType.getItemType())
+                    );
+                }
+                for (Name name : Arrays.asList(condition.getPreviousItemName(), condition.getNextItemName())) {
+                    if (name != null) {
+                        context.replaceVariableSequenceType(
+                            name,
+                            new SequenceType(inferredType.getItemType(), SequenceType.Arity.OneOrZero)
+                        );
+                    }
+                }
+            }
+            visit(condition.getExpression(), argument);
+            SequenceType conditionType = condition.getExpression().getStaticSequenceType();
+            basicChecks(conditionType, expression.getClass().getSimpleName(), true, false, expression.getMetadata());
+            if (!conditionType.hasEffectiveBooleanValue()) {
+                throwStaticTypeException(
+                    "window condition inferred type (" + conditionType + ") has no effective boolean value",
+                    expression.getMetadata()
+                );
+            }
+        }
+        // a window is never empty, and only contains items of the input sequence
+        inferredType = new SequenceType(inferredType.getItemType(), SequenceType.Arity.OneOrMore);
+
+        checkAndUpdateVariableStaticType(
+            declaredType,
+            inferredType,
+            expression.getNextClause().getStaticContext(),
+            expression.getClass().getSimpleName(),
+            expression.getVariableName(),
+            expression.getMetadata()
+        );
+
+        return argument;
+    }
+
     @Override
     public StaticContext visitLetClause(LetClause expression, StaticContext argument) {
         visit(expression.getExpression(), argument);
@@ -0,0 +1,141 @@
+package org.rumbledb.compiler;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+
+/**
+ * Caches the parse trees of imported library modules across queries, keyed by resolved location. An entry is valid
+ * as long as the modification time of the module is unchanged or, if the modification time cannot be known (e.g.,
+ * over HTTP), as long as its content is unchanged.
+ *
+ * Only parse trees are cached: the expression tree of a library module is annotated with the static context,
+ * inferred types and execution modes of the importing main module, so it is translated again for each import.
+ */
+public class LibraryModuleCache {
+
+    public static final long UNKNOWN_MODIFICATION_TIME = -1;
+
+    private static final LibraryModuleCache instance = new LibraryModuleCache();
+
+    private final Map<URI, CachedLibraryModule> entries;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong invalidations;
+
+    public static class CachedLibraryModule {
+        private final long modificationTime;
+        private final String query;
+        private final ParseTree parseTree;
+
+        public CachedLibraryModule(long modificationTime, String query, ParseTree parseTree) {
+            this.modificationTime = modificationTime;
+            this.query = query;
+            this.parseTree = parseTree;
+        }
+
+        public String getQuery() {
+            return this.query;
+        }
+
+        public ParseTree getParseTree() {
+            return this.parseTree;
+        }
+    }
+
+    private LibraryModuleCache() {
+        this.entries = new ConcurrentHashMap<>();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.invalidations = new AtomicLong();
+    }
+
+    public static LibraryModuleCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Looks up a module by location and modification time.
+     *
+     * @param location the resolved location of the module.
+     * @param modificationTime the current modification time of the module.
+     * @return the cached module, or null if it is not cached, has changed, or if its modification time is unknown.
+     */
+    public CachedLibraryModule get(URI location, long modificationTime) {
+        if (modificationTime == UNKNOWN_MODIFICATION_TIME) {
+            return null;
+        }
+        return validate(location, entry -> entry.modificationTime == modificationTime);
+    }
+
+    /**
+     * Looks up a module by location and content.
+     *
+     * @param location the resolved location of the module.
+     * @param query the current content of the module.
+     * @return the cached module, or null if it is not cached or has changed.
+     */
+    public CachedLibraryModule get(URI location, String query) {
+        return validate(location, entry -> entry.query.equals(query));
+    }
+
+    private CachedLibraryModule validate(
+            URI location,
+            Predicate<CachedLibraryModule> isUpToDate
+    ) {
+        CachedLibraryModule entry = this.entries.get(location);
+        if (entry == null) {
+            this.misses.incrementAndGet();
+            return null;
+        }
+        if (!isUpToDate.test(entry)) {
+            this.entries.remove(location, entry);
+            this.invalidations.incrementAndGet();
+            this.misses.incrementAndGet();
+            return null;
+        }
+        this.hits.incrementAndGet();
+        return entry;
+    }
+
+    public void put(URI location, CachedLibraryModule module) {
+        this.entries.put(location, module);
+    }
+
+    public void clear() {
+        this.entries.clear();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    public long getInvalidations() {
+        return this.invalidations.get();
+    }
+
+    @Override
+    public String toString() {
+        return "Library module cache: "
+            + size()
+            + " modules, "
+            + getHits()
+            + " hits, "
+            + getMisses()
+            + " misses, "
+            + getInvalidations()
+            + " invalidations";
+    }
+}
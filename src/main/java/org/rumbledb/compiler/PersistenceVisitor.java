@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.compiler;
+
+import org.rumbledb.config.RumbleRuntimeConfiguration;
+import org.rumbledb.context.Name;
+import org.rumbledb.expressions.AbstractNodeVisitor;
+import org.rumbledb.expressions.Node;
+import org.rumbledb.expressions.flowr.Clause;
+import org.rumbledb.expressions.flowr.FlworExpression;
+import org.rumbledb.expressions.flowr.ForClause;
+import org.rumbledb.expressions.flowr.LetClause;
+import org.rumbledb.expressions.flowr.WindowClause;
+import org.rumbledb.expressions.module.VariableDeclaration;
+import org.rumbledb.expressions.primary.InlineFunctionExpression;
+import org.rumbledb.expressions.primary.VariableReferenceExpression;
+
+/**
+ * This visitor marks the global and let variables that are bound to a big sequence (RDD or DataFrame) and that are
+ * referenced several times, so that their value is persisted rather than recomputed for each reference. References
+ * that may be evaluated several times (after a for clause, or in a function body) count twice.
+ */
+public class PersistenceVisitor extends AbstractNodeVisitor<Void> {
+
+    private Node root;
+
+    /**
+     * Builds a new visitor.
+     *
+     * @param root the module, in which references to global variables are counted.
+     */
+    PersistenceVisitor(Node root) {
+        this.root = root;
+    }
+
+    @Override
+    public Void visitFlowrExpression(FlworExpression expression, Void argument) {
+        Clause clause = expression.getReturnClause().getFirstClause();
+        while (clause != null) {
+            this.visit(clause, argument);
+            clause = clause.getNextClause();
+        }
+        return argument;
+    }
+
+    @Override
+    public Void visitLetClause(LetClause clause, Void argument) {
+        if (
+            clause.getVariableHighestStorageMode(VisitorConfig.runtimeIteratorVisitorConfig).isRDDOrDataFrame()
+        ) {
+            ReferenceCounter counter = new ReferenceCounter(clause.getVariableName());
+            Clause nextClause = clause.getNextClause();
+            while (nextClause != null) {
+                counter.visit(nextClause, null);
+                if (
+                    (nextClause instanceof LetClause
+                        && ((LetClause) nextClause).getVariableName().equals(clause.getVariableName()))
+                        || (nextClause instanceof ForClause
+                            && ((ForClause) nextClause).getVariableName().equals(clause.getVariableName()))
+                ) {
+                    // the variable is hidden by a new binding.
+                    break;
+                }
+                if (nextClause instanceof ForClause || nextClause instanceof WindowClause) {
+                    counter.weight = 2;
+                }
+                nextClause = nextClause.getNextClause();
+            }
+            clause.setPersisted(counter.count > 1);
+        }
+        return visitDescendants(clause, argument);
+    }
+
+    @Override
+    public Void visitVariableDeclaration(VariableDeclaration declaration, Void argument) {
+        if (
+            !declaration.external()
+                && declaration.getExpression()
+                    .getHighestExecutionMode(VisitorConfig.runtimeIteratorVisitorConfig)
+                    .isRDDOrDataFrame()
+        ) {
+            ReferenceCounter counter = new ReferenceCounter(declaration.getVariableName());
+            counter.visit(this.root, null);
+            declaration.setPersisted(counter.count > 1);
+        }
+        return visitDescendants(declaration, argument);
+    }
+
+    /**
+     * Counts the references to a variable.
+     */
+    private static class ReferenceCounter extends AbstractNodeVisitor<Void> {
+
+        private final Name variableName;
+        private int weight;
+        private int count;
+
+        ReferenceCounter(Name variableName) {
+            this.variableName = variableName;
+            this.weight = 1;
+            this.count = 0;
+        }
+
+        @Override
+        public Void visitVariableReference(VariableReferenceExpression expression, Void argument) {
+            if (expression.getVariableName().equals(this.variableName)) {
+                this.count += this.weight;
+            }
+            return argument;
+        }
+
+        @Override
+        public Void visitFlowrExpression(FlworExpression expression, Void argument) {
+            int previousWeight = this.weight;
+            Clause clause = expression.getReturnClause().getFirstClause();
+            while (clause != null) {
+                this.visit(clause, argument);
+                if (clause instanceof ForClause || clause instanceof WindowClause) {
+                    this.weight = 2;
+                }
+                clause = clause.getNextClause();
+            }
+            this.weight = previousWeight;
+            return argument;
+        }
+
+        @Override
+        public Void visitInlineFunctionExpr(InlineFunctionExpression expression, Void argument) {
+            int previousWeight = this.weight;
+            this.weight = 2;
+            visitDescendants(expression, argument);
+            this.weight = previousWeight;
+            return argument;
+        }
+    }
+}
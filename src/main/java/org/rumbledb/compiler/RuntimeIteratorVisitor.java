@@ -56,6 +56,8 @@ import org.rumbledb.expressions.flowr.LetClause;
 import org.rumbledb.expressions.flowr.OrderByClause;
 import org.rumbledb.expressions.flowr.OrderByClauseSortingKey;
 import org.rumbledb.expressions.flowr.WhereClause;
+import org.rumbledb.expressions.flowr.WindowClause;
+import org.rumbledb.expressions.flowr.WindowCondition;
 import org.rumbledb.expressions.logic.AndExpression;
 import org.rumbledb.expressions.logic.NotExpression;
 import org.rumbledb.expressions.logic.OrExpression;
@@ -90,6 +92,9 @@ import org.rumbledb.runtime.CommaExpressionIterator;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.RuntimeTupleIterator;
 import org.rumbledb.runtime.arithmetics.AdditiveOperationIterator;
+import org.rumbledb.runtime.arithmetics.DoubleAdditiveOperationIterator;
+import org.rumbledb.runtime.arithmetics.DoubleMultiplicativeOperationIterator;
+import org.rumbledb.runtime.arithmetics.IntegerAdditiveOperationIterator;
 import org.rumbledb.runtime.arithmetics.MultiplicativeOperationIterator;
 import org.rumbledb.runtime.arithmetics.UnaryOperationIterator;
 import org.rumbledb.runtime.control.AtMostOneItemIfRuntimeIterator;
@@ -106,17 +111,22 @@ import org.rumbledb.runtime.flwor.clauses.OrderByClauseSparkIterator;
 import org.rumbledb.runtime.flwor.clauses.ReturnClauseSparkIterator;
 import org.rumbledb.runtime.flwor.expression.SimpleMapExpressionIterator;
 import org.rumbledb.runtime.flwor.clauses.WhereClauseSparkIterator;
+import org.rumbledb.runtime.flwor.clauses.WindowClauseSparkIterator;
 import org.rumbledb.runtime.flwor.expression.GroupByClauseSparkIteratorExpression;
 import org.rumbledb.runtime.flwor.expression.OrderByClauseAnnotatedChildIterator;
+import org.rumbledb.runtime.flwor.expression.WindowClauseSparkIteratorCondition;
 import org.rumbledb.runtime.functions.DynamicFunctionCallIterator;
 import org.rumbledb.runtime.functions.FunctionRuntimeIterator;
 import org.rumbledb.runtime.functions.NamedFunctionRefRuntimeIterator;
 import org.rumbledb.runtime.functions.StaticUserDefinedFunctionCallIterator;
+import org.rumbledb.runtime.functions.sequences.aggregate.AggregateFusion;
 import org.rumbledb.runtime.logics.AndOperationIterator;
 import org.rumbledb.runtime.logics.NotOperationIterator;
 import org.rumbledb.runtime.logics.OrOperationIterator;
 import org.rumbledb.runtime.misc.ComparisonIterator;
+import org.rumbledb.runtime.misc.DoubleComparisonIterator;
 import org.rumbledb.runtime.misc.RangeOperationIterator;
+import org.rumbledb.runtime.misc.StringComparisonIterator;
 import org.rumbledb.runtime.misc.StringConcatIterator;
 import org.rumbledb.runtime.navigation.ArrayLookupIterator;
 import org.rumbledb.runtime.navigation.ArrayUnboxingIterator;
@@ -139,6 +149,7 @@ import org.rumbledb.runtime.primary.ObjectConstructorRuntimeIterator;
 import org.rumbledb.runtime.primary.StringRuntimeIterator;
 import org.rumbledb.runtime.primary.VariableReferenceIterator;
 import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.types.ItemType;
 import org.rumbledb.types.SequenceType;
 
 import java.util.ArrayList;
@@ -223,6 +234,20 @@ public class RuntimeIteratorVisitor extends AbstractNodeVisitor<RuntimeIterator>
         return runtimeIterator;
     }
 
+    private WindowClauseSparkIteratorCondition visitWindowCondition(
+            WindowCondition condition,
+            RuntimeIterator argument
+    ) {
+        return new WindowClauseSparkIteratorCondition(
+                condition.isOnly(),
+                condition.getCurrentItemName(),
+                condition.getPositionalVariableName(),
+                condition.getPreviousItemName(),
+                condition.getNextItemName(),
+                this.visit(condition.getExpression(), argument)
+        );
+    }
+
     private RuntimeTupleIterator visitFlowrClause(
             Clause clause,
             RuntimeIterator argument
@@ -243,6 +268,27 @@ public class RuntimeIteratorVisitor extends AbstractNodeVisitor<RuntimeIterator>
                     forClause.getHighestExecutionMode(this.visitorConfig),
                     clause.getMetadata()
             );
+        } else if (clause instanceof WindowClause) {
+            WindowClause windowClause = (WindowClause) clause;
+            if (previousIterator != null && previousIterator.getHighestExecutionMode().isDataFrame()) {
+                throw new UnsupportedFeatureException(
+                        "Window clauses are not supported yet after clauses that are executed with DataFrames.",
+                        clause.getMetadata()
+                );
+            }
+            RuntimeIterator assignmentIterator = this.visit(windowClause.getExpression(), argument);
+            return new WindowClauseSparkIterator(
+                    previousIterator,
+                    windowClause.getVariableName(),
+                    windowClause.isSliding(),
+                    assignmentIterator,
+                    this.visitWindowCondition(windowClause.getStartCondition(), argument),
+                    windowClause.getEndCondition() == null
+                        ? null
+                        : this.visitWindowCondition(windowClause.getEndCondition(), argument),
+                    windowClause.getHighestExecutionMode(this.visitorConfig),
+                    clause.getMetadata()
+            );
         } else if (clause instanceof LetClause) {
             LetClause letClause = (LetClause) clause;
             RuntimeIterator assignmentIterator = this.visit(letClause.getExpression(), argument);
@@ -251,6 +297,7 @@ public class RuntimeIteratorVisitor extends AbstractNodeVisitor<RuntimeIterator>
                     letClause.getVariableName(),
                     letClause.getActualSequenceType(),
                     assignmentIterator,
+                    letClause.isPersisted(),
                     letClause.getHighestExecutionMode(this.visitorConfig),
                     clause.getMetadata()
             );
@@ -470,6 +517,7 @@ public class RuntimeIteratorVisitor extends AbstractNodeVisitor<RuntimeIterator>
                 .stream()
                 .map(arg -> this.visit(arg, argument))
                 .collect(Collectors.toList());
+            AggregateFusion.fuseSiblingAggregates(expression.getValues(), values);
             runtimeIterator = new ObjectConstructorRuntimeIterator(
                     keys,
                     values,
@@ -655,13 +703,38 @@ public class RuntimeIteratorVisitor extends AbstractNodeVisitor<RuntimeIterator>
             argument
         );
 
-        RuntimeIterator runtimeIterator = new AdditiveOperationIterator(
-                left,
-                right,
-                expression.isMinus(),
-                expression.getHighestExecutionMode(this.visitorConfig),
-                expression.getMetadata()
-        );
+        RuntimeIterator runtimeIterator;
+        if (
+            isAtMostOneItemOfType(leftExpression, BuiltinTypesCatalogue.doubleItem)
+                && isAtMostOneItemOfType(rightExpression, BuiltinTypesCatalogue.doubleItem)
+        ) {
+            runtimeIterator = new DoubleAdditiveOperationIterator(
+                    left,
+                    right,
+                    expression.isMinus(),
+                    expression.getHighestExecutionMode(this.visitorConfig),
+                    expression.getMetadata()
+            );
+        } else if (
+            isAtMostOneItemOfType(leftExpression, BuiltinTypesCatalogue.integerItem)
+                && isAtMostOneItemOfType(rightExpression, BuiltinTypesCatalogue.integerItem)
+        ) {
+            runtimeIterator = new IntegerAdditiveOperationIterator(
+                    left,
+                    right,
+                    expression.isMinus(),
+                    expression.getHighestExecutionMode(this.visitorConfig),
+                    expression.getMetadata()
+            );
+        } else {
+            runtimeIterator = new AdditiveOperationIterator(
+                    left,
+                    right,
+                    expression.isMinus(),
+                    expression.getHighestExecutionMode(this.visitorConfig),
+                    expression.getMetadata()
+            );
+        }
         runtimeIterator.setStaticContext(expression.getStaticContext());
         return runtimeIterator;
     }
@@ -679,13 +752,27 @@ public class RuntimeIteratorVisitor extends AbstractNodeVisitor<RuntimeIterator>
             argument
         );
 
-        RuntimeIterator runtimeIterator = new MultiplicativeOperationIterator(
-                left,
-                right,
-                expression.getMultiplicativeOperator(),
-                expression.getHighestExecutionMode(this.visitorConfig),
-                expression.getMetadata()
-        );
+        RuntimeIterator runtimeIterator;
+        if (
+            isAtMostOneItemOfType(leftExpression, BuiltinTypesCatalogue.doubleItem)
+                && isAtMostOneItemOfType(rightExpression, BuiltinTypesCatalogue.doubleItem)
+        ) {
+            runtimeIterator = new DoubleMultiplicativeOperationIterator(
+                    left,
+                    right,
+                    expression.getMultiplicativeOperator(),
+                    expression.getHighestExecutionMode(this.visitorConfig),
+                    expression.getMetadata()
+            );
+        } else {
+            runtimeIterator = new MultiplicativeOperationIterator(
+                    left,
+                    right,
+                    expression.getMultiplicativeOperator(),
+                    expression.getHighestExecutionMode(this.visitorConfig),
+                    expression.getMetadata()
+            );
+        }
         runtimeIterator.setStaticContext(expression.getStaticContext());
         return runtimeIterator;
     }
@@ -799,19 +886,68 @@ public class RuntimeIteratorVisitor extends AbstractNodeVisitor<RuntimeIterator>
 
     @Override
     public RuntimeIterator visitComparisonExpr(ComparisonExpression expression, RuntimeIterator argument) {
-        RuntimeIterator left = this.visit(expression.getChildren().get(0), argument);
-        RuntimeIterator right = this.visit(expression.getChildren().get(1), argument);
-        RuntimeIterator runtimeIterator = new ComparisonIterator(
-                left,
-                right,
-                expression.getComparisonOperator(),
-                expression.getHighestExecutionMode(this.visitorConfig),
-                expression.getMetadata()
-        );
+        Expression leftExpression = (Expression) expression.getChildren().get(0);
+        Expression rightExpression = (Expression) expression.getChildren().get(1);
+        RuntimeIterator left = this.visit(leftExpression, argument);
+        RuntimeIterator right = this.visit(rightExpression, argument);
+        RuntimeIterator runtimeIterator;
+        if (
+            isAtMostOneItemOfType(leftExpression, BuiltinTypesCatalogue.stringItem)
+                && isAtMostOneItemOfType(rightExpression, BuiltinTypesCatalogue.stringItem)
+        ) {
+            runtimeIterator = new StringComparisonIterator(
+                    left,
+                    right,
+                    expression.getComparisonOperator(),
+                    expression.getHighestExecutionMode(this.visitorConfig),
+                    expression.getMetadata()
+            );
+        } else if (
+            isAtMostOneItemOfType(leftExpression, BuiltinTypesCatalogue.doubleItem)
+                && isAtMostOneItemOfType(rightExpression, BuiltinTypesCatalogue.doubleItem)
+        ) {
+            runtimeIterator = new DoubleComparisonIterator(
+                    left,
+                    right,
+                    expression.getComparisonOperator(),
+                    expression.getHighestExecutionMode(this.visitorConfig),
+                    expression.getMetadata()
+            );
+        } else {
+            runtimeIterator = new ComparisonIterator(
+                    left,
+                    right,
+                    expression.getComparisonOperator(),
+                    expression.getHighestExecutionMode(this.visitorConfig),
+                    expression.getMetadata()
+            );
+        }
         runtimeIterator.setStaticContext(expression.getStaticContext());
         return runtimeIterator;
     }
 
+    /**
+     * Tells whether the statically inferred type of an expression guarantees at most one item of the given atomic
+     * type, in which case specialized runtime iterators can be used.
+     *
+     * @param expression the expression.
+     * @param itemType the atomic item type.
+     * @return true if the expression is statically known to return at most one item of this type.
+     */
+    private static boolean isAtMostOneItemOfType(Expression expression, ItemType itemType) {
+        SequenceType staticType = expression.getStaticSequenceType();
+        if (staticType == null || staticType.isEmptySequence() || !staticType.isResolved()) {
+            return false;
+        }
+        if (
+            !staticType.getArity().equals(SequenceType.Arity.One)
+                && !staticType.getArity().equals(SequenceType.Arity.OneOrZero)
+        ) {
+            return false;
+        }
+        return staticType.getItemType().isSubtypeOf(itemType);
+    }
+
     @Override
     public RuntimeIterator visitStringConcatExpr(StringConcatExpression expression, RuntimeIterator argument) {
         RuntimeIterator left = this.visit(expression.getChildren().get(0), argument);
@@ -27,6 +27,7 @@ import java.util.Map.Entry;
 
 import org.rumbledb.context.Name;
 import org.rumbledb.context.StaticContext;
+import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.exceptions.OurBadException;
 import org.rumbledb.exceptions.UndeclaredVariableException;
 import org.rumbledb.expressions.AbstractNodeVisitor;
@@ -41,6 +42,8 @@ import org.rumbledb.expressions.flowr.GroupByVariableDeclaration;
 import org.rumbledb.expressions.flowr.ForClause;
 import org.rumbledb.expressions.flowr.GroupByClause;
 import org.rumbledb.expressions.flowr.LetClause;
+import org.rumbledb.expressions.flowr.WindowClause;
+import org.rumbledb.expressions.flowr.WindowCondition;
 import org.rumbledb.expressions.module.FunctionDeclaration;
 import org.rumbledb.expressions.module.LibraryModule;
 import org.rumbledb.expressions.module.MainModule;
@@ -225,6 +228,69 @@ public class StaticContextVisitor extends AbstractNodeVisitor<StaticContext> {
         return result;
     }
 
+    @Override
+    public StaticContext visitWindowClause(WindowClause clause, StaticContext argument) {
+        this.visit(clause.getExpression(), argument);
+
+        // the start condition sees the start variables, the end condition sees both the start and end variables
+        StaticContext startConditionContext = new StaticContext(argument);
+        addWindowConditionVariables(startConditionContext, clause.getStartCondition(), clause.getMetadata());
+        this.visit(clause.getStartCondition().getExpression(), startConditionContext);
+        if (clause.getEndCondition() != null) {
+            StaticContext endConditionContext = new StaticContext(startConditionContext);
+            addWindowConditionVariables(endConditionContext, clause.getEndCondition(), clause.getMetadata());
+            this.visit(clause.getEndCondition().getExpression(), endConditionContext);
+        }
+
+        StaticContext result = new StaticContext(argument);
+        result.addVariable(
+            clause.getVariableName(),
+            clause.getActualSequenceType(),
+            clause.getMetadata()
+        );
+        clause.getSequenceType().resolve(result, clause.getMetadata());
+        addWindowConditionVariables(result, clause.getStartCondition(), clause.getMetadata());
+        if (clause.getEndCondition() != null) {
+            addWindowConditionVariables(result, clause.getEndCondition(), clause.getMetadata());
+        }
+        return result;
+    }
+
+    private static void addWindowConditionVariables(
+            StaticContext context,
+            WindowCondition condition,
+            ExceptionMetadata metadata
+    ) {
+        if (condition.getCurrentItemName() != null) {
+            context.addVariable(
+                condition.getCurrentItemName(),
+                new SequenceType(BuiltinTypesCatalogue.item),
+                metadata
+            );
+        }
+        if (condition.getPositionalVariableName() != null) {
+            context.addVariable(
+                condition.getPositionalVariableName(),
+                new SequenceType(BuiltinTypesCatalogue.integerItem),
+                metadata
+            );
+        }
+        if (condition.getPreviousItemName() != null) {
+            context.addVariable(
+                condition.getPreviousItemName(),
+                new SequenceType(BuiltinTypesCatalogue.item, SequenceType.Arity.OneOrZero),
+                metadata
+            );
+        }
+        if (condition.getNextItemName() != null) {
+            context.addVariable(
+                condition.getNextItemName(),
+                new SequenceType(BuiltinTypesCatalogue.item, SequenceType.Arity.OneOrZero),
+                metadata
+            );
+        }
+    }
+
     @Override
     public StaticContext visitLetClause(LetClause clause, StaticContext argument) {
         this.visit(clause.getExpression(), argument);
@@ -63,6 +63,7 @@ import org.rumbledb.exceptions.PositionalVariableNameSameAsForVariableException;
 import org.rumbledb.exceptions.PrefixCannotBeExpandedException;
 import org.rumbledb.exceptions.RumbleException;
 import org.rumbledb.exceptions.UnsupportedFeatureException;
+import org.rumbledb.exceptions.VariableAlreadyExistsException;
 import org.rumbledb.expressions.CommaExpression;
 import org.rumbledb.expressions.Expression;
 import org.rumbledb.expressions.Node;
@@ -88,6 +89,8 @@ import org.rumbledb.expressions.flowr.OrderByClauseSortingKey;
 import org.rumbledb.expressions.flowr.ReturnClause;
 import org.rumbledb.expressions.flowr.SimpleMapExpression;
 import org.rumbledb.expressions.flowr.WhereClause;
+import org.rumbledb.expressions.flowr.WindowClause;
+import org.rumbledb.expressions.flowr.WindowCondition;
 import org.rumbledb.expressions.logic.AndExpression;
 import org.rumbledb.expressions.logic.NotExpression;
 import org.rumbledb.expressions.logic.OrExpression;
@@ -569,11 +572,13 @@ public class TranslationVisitor extends org.rumbledb.parser.JsoniqBaseVisitor<No
     @Override
     public Node visitFlowrExpr(JsoniqParser.FlowrExprContext ctx) {
         Clause clause;
-        // check the start clause, for or let
-        if (ctx.start_for == null) {
-            clause = (Clause) this.visitLetClause(ctx.start_let);
-        } else {
+        // check the start clause, for, window or let
+        if (ctx.start_for != null) {
             clause = (Clause) this.visitForClause(ctx.start_for);
+        } else if (ctx.start_window != null) {
+            clause = (Clause) this.visitWindowClause(ctx.start_window);
+        } else {
+            clause = (Clause) this.visitLetClause(ctx.start_let);
         }
 
         Clause previousFLWORClause = clause.getLastClause();
@@ -581,6 +586,8 @@ public class TranslationVisitor extends org.rumbledb.parser.JsoniqBaseVisitor<No
         for (ParseTree child : ctx.children.subList(1, ctx.children.size() - 2)) {
             if (child instanceof JsoniqParser.ForClauseContext) {
                 clause = (Clause) this.visitForClause((JsoniqParser.ForClauseContext) child);
+            } else if (child instanceof JsoniqParser.WindowClauseContext) {
+                clause = (Clause) this.visitWindowClause((JsoniqParser.WindowClauseContext) child);
             } else if (child instanceof JsoniqParser.LetClauseContext) {
                 clause = (Clause) this.visitLetClause((JsoniqParser.LetClauseContext) child);
             } else if (child instanceof JsoniqParser.WhereClauseContext) {
@@ -666,6 +673,80 @@ public class TranslationVisitor extends org.rumbledb.parser.JsoniqBaseVisitor<No
         return new ForClause(var, emptyFlag, seq, atVar, expr, createMetadataFromContext(ctx));
     }
 
+    @Override
+    public Node visitWindowClause(JsoniqParser.WindowClauseContext ctx) {
+        boolean sliding = ctx.kind.getText().equals("sliding");
+        Name var = ((VariableReferenceExpression) this.visitVarRef(ctx.var_ref)).getVariableName();
+        SequenceType seq = null;
+        if (ctx.seq != null) {
+            seq = this.processSequenceType(ctx.seq);
+        }
+        Expression expr = (Expression) this.visitExprSingle(ctx.ex);
+        // As for for clauses, the declared item type is checked on the input sequence, since windows only
+        // contain items of this sequence.
+        if (seq != null) {
+            SequenceType expressionType = new SequenceType(
+                    seq.getItemType(),
+                    SequenceType.Arity.ZeroOrMore
+            );
+            expr = new TreatExpression(expr, expressionType, ErrorCode.UnexpectedTypeErrorCode, expr.getMetadata());
+        }
+        WindowCondition startCondition = this.processWindowCondition(
+            false,
+            ctx.start_cond.vars,
+            ctx.start_cond.ex
+        );
+        WindowCondition endCondition = null;
+        if (ctx.end_cond != null) {
+            endCondition = this.processWindowCondition(
+                ctx.end_cond.only != null,
+                ctx.end_cond.vars,
+                ctx.end_cond.ex
+            );
+        }
+        List<Name> names = new ArrayList<>();
+        names.add(var);
+        names.addAll(startCondition.getVariableNames());
+        if (endCondition != null) {
+            names.addAll(endCondition.getVariableNames());
+        }
+        Set<Name> distinctNames = new HashSet<>();
+        for (Name name : names) {
+            if (!distinctNames.add(name)) {
+                throw new VariableAlreadyExistsException(name, createMetadataFromContext(ctx));
+            }
+        }
+
+        return new WindowClause(
+                sliding,
+                var,
+                seq,
+                expr,
+                startCondition,
+                endCondition,
+                createMetadataFromContext(ctx)
+        );
+    }
+
+    private WindowCondition processWindowCondition(
+            boolean only,
+            JsoniqParser.WindowVarsContext vars,
+            JsoniqParser.ExprSingleContext condition
+    ) {
+        return new WindowCondition(
+                only,
+                vars.current == null ? null : this.getVariableName(vars.current),
+                vars.position == null ? null : this.getVariableName(vars.position),
+                vars.previous == null ? null : this.getVariableName(vars.previous),
+                vars.next == null ? null : this.getVariableName(vars.next),
+                (Expression) this.visitExprSingle(condition)
+        );
+    }
+
+    private Name getVariableName(JsoniqParser.VarRefContext ctx) {
+        return ((VariableReferenceExpression) this.visitVarRef(ctx)).getVariableName();
+    }
+
     @Override
     public Node visitLetClause(JsoniqParser.LetClauseContext ctx) {
         LetClause clause = null;
@@ -1604,13 +1685,13 @@ public class TranslationVisitor extends org.rumbledb.parser.JsoniqBaseVisitor<No
         if (!isUniversal) {
             return new FunctionCallExpression(
                     Name.createVariableInDefaultFunctionNamespace("exists"),
-                    Collections.singletonList(flworExpression),
+                    new ArrayList<>(Collections.singletonList(flworExpression)),
                     createMetadataFromContext(ctx)
             );
         } else {
             return new FunctionCallExpression(
                     Name.createVariableInDefaultFunctionNamespace("empty"),
-                    Collections.singletonList(flworExpression),
+                    new ArrayList<>(Collections.singletonList(flworExpression)),
                     createMetadataFromContext(ctx)
             );
         }
@@ -24,6 +24,7 @@ import org.jgrapht.graph.DefaultEdge;
 import org.jgrapht.graph.DirectedAcyclicGraph;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -53,6 +54,8 @@ import org.rumbledb.expressions.flowr.OrderByClauseSortingKey;
 import org.rumbledb.expressions.flowr.ReturnClause;
 import org.rumbledb.expressions.flowr.SimpleMapExpression;
 import org.rumbledb.expressions.flowr.WhereClause;
+import org.rumbledb.expressions.flowr.WindowClause;
+import org.rumbledb.expressions.flowr.WindowCondition;
 import org.rumbledb.expressions.module.FunctionDeclaration;
 import org.rumbledb.expressions.module.Prolog;
 import org.rumbledb.expressions.module.TypeDeclaration;
@@ -241,6 +244,34 @@ public class VariableDependenciesVisitor extends AbstractNodeVisitor<Void> {
         return null;
     }
 
+    @Override
+    public Void visitWindowClause(WindowClause expression, Void argument) {
+        visit(expression.getPreviousClause(), null);
+        addOutputVariableDependencies(expression, getOutputVariableDependencies(expression.getPreviousClause()));
+        addOutputVariableDependency(expression, expression.getVariableName());
+
+        visit(expression.getExpression(), null);
+        addInputVariableDependencies(expression, getInputVariableDependencies(expression.getExpression()));
+
+        Set<Name> conditionVariables = new TreeSet<>();
+        for (WindowCondition condition : Arrays.asList(expression.getStartCondition(), expression.getEndCondition())) {
+            if (condition == null) {
+                continue;
+            }
+            conditionVariables.addAll(condition.getVariableNames());
+            visit(condition.getExpression(), null);
+            addInputVariableDependencies(expression, getInputVariableDependencies(condition.getExpression()));
+        }
+        removeInputVariableDependencies(expression, conditionVariables);
+        addOutputVariableDependencies(expression, conditionVariables);
+
+        removeInputVariableDependencies(
+            expression,
+            getOutputVariableDependencies(expression.getPreviousClause())
+        );
+        return null;
+    }
+
     @Override
     public Void visitLetClause(LetClause expression, Void argument) {
         visit(expression.getPreviousClause(), null);
@@ -12,6 +12,7 @@ import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.commons.io.IOUtils;
 import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.context.DynamicContext;
@@ -27,6 +28,7 @@ import org.rumbledb.expressions.Node;
 import org.rumbledb.expressions.module.LibraryModule;
 import org.rumbledb.expressions.module.MainModule;
 import org.rumbledb.expressions.module.Module;
+import org.rumbledb.optimizations.RewriteEngine;
 import org.rumbledb.parser.JsoniqLexer;
 import org.rumbledb.parser.JsoniqParser;
 import org.rumbledb.parser.XQueryLexer;
@@ -50,6 +52,14 @@ public class VisitorHelpers {
         new VariableDependenciesVisitor(conf).visit(node, null);
     }
 
+    private static void markPersistedVariables(Module module, RumbleRuntimeConfiguration conf) {
+        new PersistenceVisitor(module).visit(module, null);
+    }
+
+    private static void rewrite(Module module, RumbleRuntimeConfiguration conf) {
+        new RewriteEngine(conf).rewrite(module);
+    }
+
     private static void pruneModules(Node node, RumbleRuntimeConfiguration conf) {
         new ModulePruningVisitor(conf).visit(node, null);
     }
@@ -85,9 +95,31 @@ public class VisitorHelpers {
             ExceptionMetadata metadata
     )
             throws IOException {
-        InputStream in = FileSystemUtil.getDataInputStream(location, configuration, metadata);
-        String query = IOUtils.toString(in, StandardCharsets.UTF_8.name());
-        return parseLibraryModule(query, location, importingModuleContext, configuration);
+        LibraryModuleCache cache = LibraryModuleCache.getInstance();
+        long modificationTime = FileSystemUtil.getModificationTime(location, configuration, metadata);
+        LibraryModuleCache.CachedLibraryModule cachedModule = cache.get(location, modificationTime);
+        if (cachedModule == null) {
+            InputStream in = FileSystemUtil.getDataInputStream(location, configuration, metadata);
+            String query = IOUtils.toString(in, StandardCharsets.UTF_8.name());
+            if (modificationTime == LibraryModuleCache.UNKNOWN_MODIFICATION_TIME) {
+                cachedModule = cache.get(location, query);
+            }
+            if (cachedModule == null) {
+                cachedModule = new LibraryModuleCache.CachedLibraryModule(
+                        modificationTime,
+                        query,
+                        parseLibraryModuleTree(query, location)
+                );
+                cache.put(location, cachedModule);
+            }
+        }
+        return translateLibraryModule(
+            cachedModule.getQuery(),
+            cachedModule.getParseTree(),
+            location,
+            importingModuleContext,
+            configuration
+        );
     }
 
     public static MainModule parseMainModuleFromQuery(String query, RumbleRuntimeConfiguration configuration) {
@@ -139,8 +171,10 @@ public class VisitorHelpers {
             pruneModules(mainModule, configuration);
             resolveDependencies(mainModule, configuration);
             populateStaticContext(mainModule, configuration);
+            rewrite(mainModule, configuration);
             inferTypes(mainModule, configuration);
             populateExecutionModes(mainModule, configuration);
+            markPersistedVariables(mainModule, configuration);
             return mainModule;
         } catch (ParseCancellationException ex) {
             ParsingException e = new ParsingException(
@@ -179,8 +213,10 @@ public class VisitorHelpers {
             pruneModules(mainModule, configuration);
             resolveDependencies(mainModule, configuration);
             populateStaticContext(mainModule, configuration);
+            rewrite(mainModule, configuration);
             inferTypes(mainModule, configuration);
             populateExecutionModes(mainModule, configuration);
+            markPersistedVariables(mainModule, configuration);
             return mainModule;
         } catch (ParseCancellationException ex) {
             ParsingException e = new ParsingException(
@@ -203,6 +239,16 @@ public class VisitorHelpers {
             StaticContext importingModuleContext,
             RumbleRuntimeConfiguration configuration
     ) {
+        return translateLibraryModule(
+            query,
+            parseLibraryModuleTree(query, uri),
+            uri,
+            importingModuleContext,
+            configuration
+        );
+    }
+
+    private static boolean isXQuery(String query) {
         CharStream stream = CharStreams.fromString(query);
         StringBuffer sb = new StringBuffer();
         sb.append((char) stream.LA(1));
@@ -211,12 +257,52 @@ public class VisitorHelpers {
         sb.append((char) stream.LA(4));
         sb.append((char) stream.LA(5));
         sb.append((char) stream.LA(6));
-        if (sb.toString().equals("xquery")) {
-            return parseXQueryLibraryModule(query, uri, importingModuleContext, configuration);
+        return sb.toString().equals("xquery");
+    }
+
+    /**
+     * Parses a library module without translating it, so that its parse tree can be cached and translated again for
+     * each importing module.
+     *
+     * @param query the content of the library module.
+     * @param uri the location of the library module.
+     * @return the parse tree of the library module.
+     */
+    public static ParseTree parseLibraryModuleTree(String query, URI uri) {
+        if (isXQuery(query)) {
+            return parseXQueryLibraryModuleTree(query, uri);
         } else {
-            return parseJSONiqLibraryModule(query, uri, importingModuleContext, configuration);
+            return parseJSONiqLibraryModuleTree(query, uri);
         }
+    }
 
+    private static LibraryModule translateLibraryModule(
+            String query,
+            ParseTree parseTree,
+            URI uri,
+            StaticContext importingModuleContext,
+            RumbleRuntimeConfiguration configuration
+    ) {
+        StaticContext moduleContext = new StaticContext(uri, configuration);
+        moduleContext.setUserDefinedFunctionsExecutionModes(
+            importingModuleContext.getUserDefinedFunctionsExecutionModes()
+        );
+        LibraryModule libraryModule;
+        if (parseTree instanceof XQueryParser.LibraryModuleContext) {
+            XQueryTranslationVisitor visitor = new XQueryTranslationVisitor(
+                    moduleContext,
+                    false,
+                    configuration,
+                    query
+            );
+            libraryModule = (LibraryModule) visitor.visit(parseTree);
+        } else {
+            TranslationVisitor visitor = new TranslationVisitor(moduleContext, false, configuration, query);
+            libraryModule = (LibraryModule) visitor.visit(parseTree);
+        }
+        resolveDependencies(libraryModule, configuration);
+        // no static context population, as this is done in a single shot via the importing main module.
+        return libraryModule;
     }
 
     public static LibraryModule parseJSONiqLibraryModule(
@@ -225,23 +311,24 @@ public class VisitorHelpers {
             StaticContext importingModuleContext,
             RumbleRuntimeConfiguration configuration
     ) {
+        return translateLibraryModule(
+            query,
+            parseJSONiqLibraryModuleTree(query, uri),
+            uri,
+            importingModuleContext,
+            configuration
+        );
+    }
+
+    private static JsoniqParser.LibraryModuleContext parseJSONiqLibraryModuleTree(String query, URI uri) {
         CharStream stream = CharStreams.fromString(query);
         JsoniqLexer lexer = new JsoniqLexer(stream);
         JsoniqParser parser = new JsoniqParser(new CommonTokenStream(lexer));
         parser.setErrorHandler(new BailErrorStrategy());
-        StaticContext moduleContext = new StaticContext(uri, configuration);
-        moduleContext.setUserDefinedFunctionsExecutionModes(
-            importingModuleContext.getUserDefinedFunctionsExecutionModes()
-        );
-        TranslationVisitor visitor = new TranslationVisitor(moduleContext, false, configuration, query);
         try {
             // TODO Handle module extras
             JsoniqParser.ModuleAndThisIsItContext module = parser.moduleAndThisIsIt();
-            JsoniqParser.LibraryModuleContext main = module.module().libraryModule();
-            LibraryModule libraryModule = (LibraryModule) visitor.visit(main);
-            resolveDependencies(libraryModule, configuration);
-            // no static context population, as this is done in a single shot via the importing main module.
-            return libraryModule;
+            return module.module().libraryModule();
         } catch (ParseCancellationException ex) {
             ParsingException e = new ParsingException(
                     lexer.getText(),
@@ -263,22 +350,23 @@ public class VisitorHelpers {
             StaticContext importingModuleContext,
             RumbleRuntimeConfiguration configuration
     ) {
+        return translateLibraryModule(
+            query,
+            parseXQueryLibraryModuleTree(query, uri),
+            uri,
+            importingModuleContext,
+            configuration
+        );
+    }
+
+    private static XQueryParser.LibraryModuleContext parseXQueryLibraryModuleTree(String query, URI uri) {
         CharStream stream = CharStreams.fromString(query);
         XQueryLexer lexer = new XQueryLexer(stream);
         XQueryParser parser = new XQueryParser(new CommonTokenStream(lexer));
         parser.setErrorHandler(new BailErrorStrategy());
-        StaticContext moduleContext = new StaticContext(uri, configuration);
-        moduleContext.setUserDefinedFunctionsExecutionModes(
-            importingModuleContext.getUserDefinedFunctionsExecutionModes()
-        );
-        XQueryTranslationVisitor visitor = new XQueryTranslationVisitor(moduleContext, false, configuration, query);
         try {
             // TODO Handle module extras
-            XQueryParser.LibraryModuleContext main = parser.module().libraryModule();
-            LibraryModule libraryModule = (LibraryModule) visitor.visit(main);
-            resolveDependencies(libraryModule, configuration);
-            // no static context population, as this is done in a single shot via the importing main module.
-            return libraryModule;
+            return parser.module().libraryModule();
         } catch (ParseCancellationException ex) {
             ParsingException e = new ParsingException(
                     lexer.getText(),
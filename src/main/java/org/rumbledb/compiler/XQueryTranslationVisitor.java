@@ -1657,13 +1657,13 @@ public class XQueryTranslationVisitor extends org.rumbledb.parser.XQueryParserBa
         if (!isUniversal) {
             return new FunctionCallExpression(
                     Name.createVariableInDefaultFunctionNamespace("exists"),
-                    Collections.singletonList(flworExpression),
+                    new ArrayList<>(Collections.singletonList(flworExpression)),
                     createMetadataFromContext(ctx)
             );
         } else {
             return new FunctionCallExpression(
                     Name.createVariableInDefaultFunctionNamespace("empty"),
-                    Collections.singletonList(flworExpression),
+                    new ArrayList<>(Collections.singletonList(flworExpression)),
                     createMetadataFromContext(ctx)
             );
         }
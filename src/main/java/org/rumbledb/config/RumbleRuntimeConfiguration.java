@@ -34,6 +34,7 @@ import sparksoniq.spark.SparkSessionManager;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -567,6 +568,146 @@ public class RumbleRuntimeConfiguration implements Serializable, KryoSerializabl
             && this.arguments.get("escape-backticks").equals("yes");
     }
 
+    public boolean prewarmSparkSession() {
+        return this.arguments.containsKey("prewarm-spark-session")
+            && this.arguments.get("prewarm-spark-session").equals("yes");
+    }
+
+    public boolean collectStatistics() {
+        return this.arguments.containsKey("collect-statistics")
+            && this.arguments.get("collect-statistics").equals("yes");
+    }
+
+    public boolean printExecutionReport() {
+        return this.arguments.containsKey("print-execution-report")
+            && this.arguments.get("print-execution-report").equals("yes");
+    }
+
+    /**
+     * Returns the targeted amount of input data, in bytes, per shuffle partition of group by, order by and join
+     * clauses. 0 means that the number of shuffle partitions is not adjusted.
+     *
+     * @return the partition size in bytes.
+     */
+    public long getShufflePartitionSize() {
+        if (this.arguments.containsKey("shuffle-partition-size")) {
+            return Long.parseLong(this.arguments.get("shuffle-partition-size"));
+        }
+        return 67108864;
+    }
+
+    /**
+     * Returns the share of the rows, estimated on a sample, above which a single grouping key makes a group by
+     * clause aggregate in two phases over salted keys. 0 (the default) means that grouping keys are never checked for
+     * skew, as the check runs an additional Spark job on every group by clause.
+     *
+     * @return the threshold, between 0 and 1.
+     */
+    public double getGroupBySkewThreshold() {
+        if (this.arguments.containsKey("group-by-skew-threshold")) {
+            return Double.parseDouble(this.arguments.get("group-by-skew-threshold"));
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the storage level with which big sequences bound to variables referenced several times are persisted.
+     * NONE means that they are not persisted.
+     *
+     * @return the name of the storage level.
+     */
+    public String getPersistStorageLevel() {
+        if (this.arguments.containsKey("persist-storage-level")) {
+            return this.arguments.get("persist-storage-level");
+        }
+        return "MEMORY_AND_DISK_SER";
+    }
+
+    /**
+     * Returns the names of the rewrite rules that are not applied to the expression tree, separated with semicolons
+     * on the command line.
+     *
+     * @return the names of the deactivated rules.
+     */
+    public List<String> getDisabledRewriteRules() {
+        if (this.arguments.containsKey("disabled-rewrite-rules")) {
+            return Arrays.asList(this.arguments.get("disabled-rewrite-rules").split(";"));
+        }
+        return Collections.emptyList();
+    }
+
+    public boolean printRewrites() {
+        return this.arguments.containsKey("print-rewrites")
+            && this.arguments.get("print-rewrites").equals("yes");
+    }
+
+    /**
+     * Returns the number of items from which a range expression that is the input of a FLWOR expression is generated
+     * in parallel with Spark rather than locally. 0 means that ranges are always generated locally.
+     *
+     * @return the threshold, in number of items.
+     */
+    public long getRangeDistributionThreshold() {
+        if (this.arguments.containsKey("range-distribution-threshold")) {
+            return Long.parseLong(this.arguments.get("range-distribution-threshold"));
+        }
+        return 10000000;
+    }
+
+    /**
+     * Says whether range expressions with bounds only known at runtime, that are the input of a FLWOR expression, are
+     * generated in parallel with Spark.
+     *
+     * @return true if they are, false if they are generated locally.
+     */
+    public boolean distributeDynamicRanges() {
+        return this.arguments.containsKey("distribute-dynamic-ranges")
+            && this.arguments.get("distribute-dynamic-ranges").equals("yes");
+    }
+
+    /**
+     * Returns the number of partitions of ranges generated with Spark. 0 means the default parallelism.
+     *
+     * @return the number of partitions.
+     */
+    public int getRangePartitions() {
+        if (this.arguments.containsKey("range-partitions")) {
+            return Integer.parseInt(this.arguments.get("range-partitions"));
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the number of lines sampled from the files read with json-file() to infer a JSound schema, with which
+     * they are read into DataFrames rather than RDDs of items. 0 means that no schema is inferred.
+     *
+     * @return the number of sampled lines.
+     */
+    public int getJSONSchemaInferenceSampleSize() {
+        if (this.arguments.containsKey("infer-json-schema")) {
+            return Integer.parseInt(this.arguments.get("infer-json-schema"));
+        }
+        return 0;
+    }
+
+    public boolean compileUDFExpressions() {
+        return !this.arguments.containsKey("compile-udf-expressions")
+            || this.arguments.get("compile-udf-expressions").equals("yes");
+    }
+
+    /**
+     * Returns the size, in bytes, under which files read with json-file() or text-file() are read locally rather
+     * than with Spark. 0 means that these files are always read with Spark.
+     *
+     * @return the threshold in bytes.
+     */
+    public long getLocalExecutionThreshold() {
+        if (this.arguments.containsKey("local-execution-threshold")) {
+            return Long.parseLong(this.arguments.get("local-execution-threshold"));
+        }
+        return 1048576;
+    }
+
     public boolean dateWithTimezone() {
         return this.datesWithTimeZone;
     }
@@ -576,7 +717,7 @@ public class RumbleRuntimeConfiguration implements Serializable, KryoSerializabl
     }
 
     public boolean isLocal() {
-        String masterConfig = SparkSessionManager.getInstance().getJavaSparkContext().getConf().get("spark.master");
+        String masterConfig = SparkSessionManager.getInstance().getConfiguration().get("spark.master");
         return masterConfig.contains("local");
     }
 
@@ -585,51 +726,46 @@ public class RumbleRuntimeConfiguration implements Serializable, KryoSerializabl
         StringBuffer sb = new StringBuffer();
         sb.append(
             "App name: "
-                + SparkSessionManager.getInstance().getJavaSparkContext().getConf().get("spark.app.name", "(not set)")
+                + SparkSessionManager.getInstance().getConfiguration().get("spark.app.name", "(not set)")
                 + "\n"
         );
         sb.append(
             "Master: "
-                + SparkSessionManager.getInstance().getJavaSparkContext().getConf().get("spark.master", "(not set)")
+                + SparkSessionManager.getInstance().getConfiguration().get("spark.master", "(not set)")
                 + "\n"
         );
         sb.append(
             "Driver's memory: "
                 + SparkSessionManager.getInstance()
-                    .getJavaSparkContext()
-                    .getConf()
+                    .getConfiguration()
                     .get("spark.driver.memory", "(not set)")
                 + "\n"
         );
         sb.append(
             "Number of executors (only applies if running on a cluster): "
                 + SparkSessionManager.getInstance()
-                    .getJavaSparkContext()
-                    .getConf()
+                    .getConfiguration()
                     .get("spark.executor.instances", "(not set)")
                 + "\n"
         );
         sb.append(
             "Cores per executor (only applies if running on a cluster): "
                 + SparkSessionManager.getInstance()
-                    .getJavaSparkContext()
-                    .getConf()
+                    .getConfiguration()
                     .get("spark.executor.cores", "(not set)")
                 + "\n"
         );
         sb.append(
             "Memory per executor (only applies if running on a cluster): "
                 + SparkSessionManager.getInstance()
-                    .getJavaSparkContext()
-                    .getConf()
+                    .getConfiguration()
                     .get("spark.executor.memory", "(not set)")
                 + "\n"
         );
         sb.append(
             "Dynamic allocation: "
                 + SparkSessionManager.getInstance()
-                    .getJavaSparkContext()
-                    .getConf()
+                    .getConfiguration()
                     .get("spark.dynamicAllocation.enabled", "(not set)")
                 + "\n"
         );
@@ -56,6 +56,7 @@ import org.rumbledb.runtime.functions.input.ParallelizeFunctionIterator;
 import org.rumbledb.runtime.functions.input.ParquetFileFunctionIterator;
 import org.rumbledb.runtime.functions.input.RootFileFunctionIterator;
 import org.rumbledb.runtime.functions.input.StructuredJsonFileFunctionIterator;
+import org.rumbledb.runtime.functions.input.StructuredJsonStreamFunctionIterator;
 import org.rumbledb.runtime.functions.input.UnparsedTextLinesFunctionIterator;
 import org.rumbledb.runtime.functions.io.JsonDocFunctionIterator;
 import org.rumbledb.runtime.functions.io.LocalTextFileFunctionIterator;
@@ -367,6 +368,16 @@ public class BuiltinFunctionCatalogue {
         StructuredJsonFileFunctionIterator.class,
         BuiltinFunction.BuiltinFunctionExecutionMode.DATAFRAME
     );
+    /**
+     * function that watches a directory of structured JSON lines files as a streaming DataFrame
+     */
+    static final BuiltinFunction structured_json_stream = createBuiltinFunction(
+        new Name(Name.JN_NS, "jn", "structured-json-stream"),
+        "string",
+        "item*",
+        StructuredJsonStreamFunctionIterator.class,
+        BuiltinFunction.BuiltinFunctionExecutionMode.DATAFRAME
+    );
     /**
      * function that parses a libSVM formatted file into a DataFrame
      */
@@ -2551,6 +2562,7 @@ public class BuiltinFunctionCatalogue {
         builtinFunctions.put(json_file1.getIdentifier(), json_file1);
         builtinFunctions.put(json_file2.getIdentifier(), json_file2);
         builtinFunctions.put(structured_json_file.getIdentifier(), structured_json_file);
+        builtinFunctions.put(structured_json_stream.getIdentifier(), structured_json_stream);
         builtinFunctions.put(libsvm_file.getIdentifier(), libsvm_file);
         builtinFunctions.put(json_doc.getIdentifier(), json_doc);
         builtinFunctions.put(unparsed_text.getIdentifier(), unparsed_text);
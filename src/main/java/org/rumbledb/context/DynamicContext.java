@@ -30,6 +30,7 @@ import org.rumbledb.api.Item;
 import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.exceptions.OurBadException;
 import org.rumbledb.items.structured.JSoundDataFrame;
+import org.rumbledb.runtime.PersistedSequences;
 
 import java.io.Serializable;
 import java.util.List;
@@ -44,6 +45,7 @@ public class DynamicContext implements Serializable, KryoSerializable {
     private NamedFunctions namedFunctions;
     private InScopeSchemaTypes inScopeSchemaTypes;
     private DateTime currentDateTime;
+    private transient PersistedSequences persistedSequences;
 
     /**
      * The default constructor is for Kryo deserialization purposes.
@@ -69,6 +71,7 @@ public class DynamicContext implements Serializable, KryoSerializable {
         this.namedFunctions = new NamedFunctions();
         this.inScopeSchemaTypes = new InScopeSchemaTypes();
         this.currentDateTime = new DateTime();
+        this.persistedSequences = new PersistedSequences();
     }
 
     public DynamicContext(DynamicContext parent) {
@@ -191,6 +194,30 @@ public class DynamicContext implements Serializable, KryoSerializable {
         throw new OurBadException("Known functions are not set up properly in dynamic context.");
     }
 
+    public void setPersistedSequences(PersistedSequences persistedSequences) {
+        if (this.parent != null) {
+            throw new OurBadException("Persisted sequences can only be stored in the module context.");
+        }
+        this.persistedSequences = persistedSequences;
+    }
+
+    /**
+     * Returns the sequences persisted by the query evaluated in this context.
+     *
+     * @return the persisted sequences of the query.
+     */
+    public PersistedSequences getPersistedSequences() {
+        if (this.persistedSequences != null) {
+            return this.persistedSequences;
+        }
+        if (this.parent != null) {
+            return this.parent.getPersistedSequences();
+        }
+        // e.g., a module context deserialized on an executor.
+        this.persistedSequences = new PersistedSequences();
+        return this.persistedSequences;
+    }
+
     public DynamicContext getModuleContext() {
         if (this.parent != null) {
             return this.parent.getModuleContext();
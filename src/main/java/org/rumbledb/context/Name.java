@@ -232,6 +232,9 @@ public class Name implements Comparable<Name>, Serializable, KryoSerializable {
 
     @Override
     public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
         if (!(o instanceof Name)) {
             return false;
         }
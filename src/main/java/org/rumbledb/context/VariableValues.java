@@ -40,6 +40,7 @@ import sparksoniq.spark.SparkSessionManager;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -56,6 +57,9 @@ public class VariableValues implements Serializable, KryoSerializable {
     private Map<Name, JSoundDataFrame> dataFrameVariableValues;
     private boolean nestedQuery;
     private VariableValues parent;
+    // tuple whose variables are bound in this scope without being copied to the maps above.
+    // Variables in the maps take precedence over the tuple.
+    private FlworTuple tuple;
 
     public VariableValues() {
         this.parent = null;
@@ -95,27 +99,87 @@ public class VariableValues implements Serializable, KryoSerializable {
         this.nestedQuery = false;
     }
 
+    /**
+     * Binds the variables of a tuple in this scope. The tuple is referenced rather than copied, so that binding
+     * does not depend on the number of variables in the tuple. Clauses call this once per tuple.
+     *
+     * @param tuple the tuple.
+     * @param metadata the metadata.
+     */
     public void setBindingsFromTuple(FlworTuple tuple, ExceptionMetadata metadata) {
+        if (this.tuple != null) {
+            unbindTuple();
+        }
+        if (
+            !this.localVariableValues.isEmpty()
+                || !this.rddVariableValues.isEmpty()
+                || !this.dataFrameVariableValues.isEmpty()
+        ) {
+            // bindings from the tuple replace any previous binding of the same variable.
+            for (Name key : tuple.getLocalKeys()) {
+                this.removeVariable(key);
+            }
+            for (Name key : tuple.getRDDKeys()) {
+                this.removeVariable(key);
+            }
+            for (Name key : tuple.getDataFrameKeys()) {
+                this.removeVariable(key);
+            }
+        }
+        this.tuple = tuple;
+    }
+
+    /**
+     * Copies the variables of the bound tuple, if any, to the maps of this scope.
+     */
+    private void unbindTuple() {
+        FlworTuple tuple = this.tuple;
+        this.tuple = null;
         for (Name key : tuple.getLocalKeys()) {
-            this.addVariableValue(key, tuple.getLocalValue(key, metadata));
+            if (!isBoundInMaps(key)) {
+                this.addVariableValue(key, tuple.getLocalValue(key, ExceptionMetadata.EMPTY_METADATA));
+            }
         }
         for (Name key : tuple.getRDDKeys()) {
-            this.addVariableValue(key, tuple.getRDDValue(key, metadata));
+            if (!isBoundInMaps(key)) {
+                this.addVariableValue(key, tuple.getRDDValue(key, ExceptionMetadata.EMPTY_METADATA));
+            }
         }
         for (Name key : tuple.getDataFrameKeys()) {
-            this.addVariableValue(key, tuple.getDataFrameValue(key, metadata));
+            if (!isBoundInMaps(key)) {
+                this.addVariableValue(key, tuple.getDataFrameValue(key, ExceptionMetadata.EMPTY_METADATA));
+            }
         }
     }
 
+    private boolean isBoundInMaps(Name varName) {
+        return this.localVariableValues.containsKey(varName)
+            || this.rddVariableValues.containsKey(varName)
+            || this.dataFrameVariableValues.containsKey(varName);
+    }
+
+    private boolean isBoundInTuple(Name varName) {
+        return this.tuple != null && this.tuple.contains(varName);
+    }
+
     public Set<Name> getLocalVariableNames() {
+        if (this.tuple != null) {
+            unbindTuple();
+        }
         return this.localVariableValues.keySet();
     }
 
     public Set<Name> getRDDVariableNames() {
+        if (this.tuple != null) {
+            unbindTuple();
+        }
         return this.rddVariableValues.keySet();
     }
 
     public Set<Name> getDataFrameVariableNames() {
+        if (this.tuple != null) {
+            unbindTuple();
+        }
         return this.dataFrameVariableValues.keySet();
     }
 
@@ -130,7 +194,8 @@ public class VariableValues implements Serializable, KryoSerializable {
     public boolean contains(Name varName) {
         boolean localContains = this.localVariableValues.containsKey(varName)
             || this.rddVariableValues.containsKey(varName)
-            || this.dataFrameVariableValues.containsKey(varName);
+            || this.dataFrameVariableValues.containsKey(varName)
+            || isBoundInTuple(varName);
         if (localContains) {
             return true;
         }
@@ -147,8 +212,13 @@ public class VariableValues implements Serializable, KryoSerializable {
                     metadata
             );
         }
-        return this.rddVariableValues.containsKey(varName)
-            || this.dataFrameVariableValues.containsKey(varName);
+        if (this.localVariableValues.containsKey(varName)) {
+            return false;
+        }
+        if (this.rddVariableValues.containsKey(varName) || this.dataFrameVariableValues.containsKey(varName)) {
+            return true;
+        }
+        return isBoundInTuple(varName) && this.tuple.isRDD(varName, metadata);
     }
 
     public boolean isDataFrame(Name varName, ExceptionMetadata metadata) {
@@ -158,7 +228,13 @@ public class VariableValues implements Serializable, KryoSerializable {
                     metadata
             );
         }
-        return this.dataFrameVariableValues.containsKey(varName);
+        if (this.localVariableValues.containsKey(varName) || this.rddVariableValues.containsKey(varName)) {
+            return false;
+        }
+        if (this.dataFrameVariableValues.containsKey(varName)) {
+            return true;
+        }
+        return isBoundInTuple(varName) && this.tuple.isDataFrame(varName, metadata);
     }
 
     public void addVariableValue(Name varName, List<Item> value) {
@@ -190,6 +266,13 @@ public class VariableValues implements Serializable, KryoSerializable {
             return SparkSessionManager.collectRDDwithLimit(rdd, metadata);
         }
 
+        if (isBoundInTuple(varName)) {
+            if (this.nestedQuery && this.tuple.isRDD(varName, metadata)) {
+                throw new JobWithinAJobException(metadata);
+            }
+            return this.tuple.getLocalValue(varName, metadata);
+        }
+
         if (this.parent != null) {
             return this.parent.getLocalVariableValue(varName, metadata);
         }
@@ -224,6 +307,13 @@ public class VariableValues implements Serializable, KryoSerializable {
             return rowRDD.map(new RowToItemMapper(metadata, df.getItemType()));
         }
 
+        if (isBoundInTuple(varName)) {
+            if (this.nestedQuery) {
+                throw new JobWithinAJobException(metadata);
+            }
+            return this.tuple.getRDDValue(varName, metadata);
+        }
+
         if (this.parent != null) {
             return this.parent.getRDDVariableValue(varName, metadata);
         }
@@ -242,6 +332,13 @@ public class VariableValues implements Serializable, KryoSerializable {
             return this.dataFrameVariableValues.get(varName);
         }
 
+        if (isBoundInTuple(varName)) {
+            if (this.nestedQuery) {
+                throw new JobWithinAJobException(metadata);
+            }
+            return this.tuple.getDataFrameValue(varName, metadata);
+        }
+
         if (this.parent != null) {
             return this.parent.getDataFrameVariableValue(varName, metadata);
         }
@@ -272,6 +369,22 @@ public class VariableValues implements Serializable, KryoSerializable {
         if (this.localVariableValues.containsKey(varName)) {
             return ItemFactory.getInstance().createIntItem(this.localVariableValues.get(varName).size());
         }
+        if (isBoundInTuple(varName)) {
+            if (this.tuple.isDataFrame(varName, metadata)) {
+                if (this.nestedQuery) {
+                    throw new JobWithinAJobException(metadata);
+                }
+                return ItemFactory.getInstance()
+                    .createLongItem(this.tuple.getDataFrameValue(varName, metadata).count());
+            }
+            if (this.tuple.isRDD(varName, metadata)) {
+                if (this.nestedQuery) {
+                    throw new JobWithinAJobException(metadata);
+                }
+                return ItemFactory.getInstance().createLongItem(this.tuple.getRDDValue(varName, metadata).count());
+            }
+            return ItemFactory.getInstance().createIntItem(this.tuple.getLocalValue(varName, metadata).size());
+        }
         if (this.parent != null) {
             return this.parent.getVariableCount(varName, metadata);
         }
@@ -279,6 +392,9 @@ public class VariableValues implements Serializable, KryoSerializable {
     }
 
     public void removeVariable(Name varName) {
+        if (isBoundInTuple(varName)) {
+            unbindTuple();
+        }
         this.localVariableValues.remove(varName);
         this.localVariableCounts.remove(varName);
         this.rddVariableValues.remove(varName);
@@ -291,14 +407,25 @@ public class VariableValues implements Serializable, KryoSerializable {
         this.localVariableCounts.clear();
         this.rddVariableValues.clear();
         this.dataFrameVariableValues.clear();
+        this.tuple = null;
     }
 
     @Override
     public void write(Kryo kryo, Output output) {
+        if (this.tuple != null) {
+            unbindTuple();
+        }
         kryo.writeObjectOrNull(output, this.parent, VariableValues.class);
         kryo.writeObject(output, this.localVariableValues);
     }
 
+    private void writeObject(ObjectOutputStream oos) throws IOException {
+        if (this.tuple != null) {
+            unbindTuple();
+        }
+        oos.defaultWriteObject();
+    }
+
     private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
         ois.defaultReadObject();
         this.nestedQuery = true;
@@ -345,6 +472,11 @@ public class VariableValues implements Serializable, KryoSerializable {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
+        if (this.tuple != null) {
+            sb.append("  Tuple:\n");
+            sb.append(this.tuple.toString());
+            sb.append("\n");
+        }
         sb.append("  Local:\n");
         for (Name name : this.localVariableValues.keySet()) {
             sb.append("    " + name + " (" + this.localVariableValues.get(name).size() + " items)\n");
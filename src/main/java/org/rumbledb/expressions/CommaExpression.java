@@ -29,7 +29,7 @@ import java.util.List;
 
 public class CommaExpression extends Expression {
 
-    private final List<Expression> expressions;
+    private List<Expression> expressions;
 
     public CommaExpression(List<Expression> expressions, ExceptionMetadata metadata) {
         super(metadata);
@@ -59,6 +59,11 @@ public class CommaExpression extends Expression {
         return result;
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        return replaceInList(this.expressions, oldChild, newChild);
+    }
+
     @Override
     public void serializeToJSONiq(StringBuffer sb, int indent) {
         indentIt(sb, indent);
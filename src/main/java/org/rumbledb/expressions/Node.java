@@ -129,6 +129,36 @@ public abstract class Node {
      */
     public abstract List<Node> getChildren();
 
+    /**
+     * Replaces a child of this node with another expression, for rewriting the tree. Nodes whose children cannot be
+     * replaced keep this default implementation.
+     *
+     * @param oldChild the child to replace, as returned by getChildren().
+     * @param newChild the new child.
+     * @return true if the child was replaced, false if it is not a replaceable child of this node.
+     */
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        return false;
+    }
+
+    /**
+     * Replaces an expression with another one in a list of children.
+     *
+     * @param children the children, which must be modifiable.
+     * @param oldChild the child to replace.
+     * @param newChild the new child.
+     * @return true if the child was found and replaced.
+     */
+    protected static boolean replaceInList(List<Expression> children, Node oldChild, Expression newChild) {
+        for (int i = 0; i < children.size(); ++i) {
+            if (children.get(i) == oldChild) {
+                children.set(i, newChild);
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * For gathering descendant nodes, as a depth-first search. The list is new and can be modified at will by the
      * caller.
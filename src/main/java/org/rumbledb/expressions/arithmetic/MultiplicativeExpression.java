@@ -92,6 +92,19 @@ public class MultiplicativeExpression extends Expression {
         return Arrays.asList(this.leftExpression, this.rightExpression);
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.leftExpression == oldChild) {
+            this.leftExpression = newChild;
+            return true;
+        }
+        if (this.rightExpression == oldChild) {
+            this.rightExpression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     public Expression getLeftExpression() {
         return this.leftExpression;
     }
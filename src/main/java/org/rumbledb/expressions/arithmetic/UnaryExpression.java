@@ -63,6 +63,15 @@ public class UnaryExpression extends Expression {
         return Collections.singletonList(this.mainExpression);
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.mainExpression == oldChild) {
+            this.mainExpression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     public void print(StringBuffer buffer, int indent) {
         for (int i = 0; i < indent; ++i) {
             buffer.append("  ");
@@ -140,6 +140,19 @@ public class ComparisonExpression extends Expression {
         return Arrays.asList(this.leftExpression, this.rightExpression);
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.leftExpression == oldChild) {
+            this.leftExpression = newChild;
+            return true;
+        }
+        if (this.rightExpression == oldChild) {
+            this.rightExpression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     public ComparisonOperator getComparisonOperator() {
         return this.comparisonOperator;
     }
@@ -33,9 +33,9 @@ import java.util.List;
 
 public class ConditionalExpression extends Expression {
 
-    private final Expression conditionExpression;
-    private final Expression thenExpression;
-    private final Expression elseExpression;
+    private Expression conditionExpression;
+    private Expression thenExpression;
+    private Expression elseExpression;
 
     public ConditionalExpression(
             Expression condition,
@@ -71,6 +71,23 @@ public class ConditionalExpression extends Expression {
         return result;
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.conditionExpression == oldChild) {
+            this.conditionExpression = newChild;
+            return true;
+        }
+        if (this.thenExpression == oldChild) {
+            this.thenExpression = newChild;
+            return true;
+        }
+        if (this.elseExpression == oldChild) {
+            this.elseExpression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public void serializeToJSONiq(StringBuffer sb, int indent) {
         indentIt(sb, indent);
@@ -22,6 +22,7 @@ package org.rumbledb.expressions.control;
 
 
 import org.rumbledb.expressions.Expression;
+import org.rumbledb.expressions.Node;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -34,7 +35,7 @@ import java.util.List;
 public class SwitchCase {
 
     private final List<Expression> conditionExpressions;
-    private final Expression returnExpression;
+    private Expression returnExpression;
 
     public SwitchCase(
             List<Expression> conditionExpressions,
@@ -55,6 +56,20 @@ public class SwitchCase {
         return this.returnExpression;
     }
 
+    public boolean replaceExpression(Node oldChild, Expression newChild) {
+        if (this.returnExpression == oldChild) {
+            this.returnExpression = newChild;
+            return true;
+        }
+        for (int i = 0; i < this.conditionExpressions.size(); ++i) {
+            if (this.conditionExpressions.get(i) == oldChild) {
+                this.conditionExpressions.set(i, newChild);
+                return true;
+            }
+        }
+        return false;
+    }
+
     public List<Expression> getConditionExpressions() {
         return this.conditionExpressions;
     }
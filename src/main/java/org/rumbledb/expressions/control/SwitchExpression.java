@@ -33,9 +33,9 @@ import java.util.List;
 
 public class SwitchExpression extends Expression {
 
-    private final Expression testCondition;
+    private Expression testCondition;
     private final List<SwitchCase> cases;
-    private final Expression defaultExpression;
+    private Expression defaultExpression;
 
     public SwitchExpression(
             Expression testCondition,
@@ -72,6 +72,24 @@ public class SwitchExpression extends Expression {
         return result;
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.testCondition == oldChild) {
+            this.testCondition = newChild;
+            return true;
+        }
+        if (this.defaultExpression == oldChild) {
+            this.defaultExpression = newChild;
+            return true;
+        }
+        for (SwitchCase c : this.cases) {
+            if (c.replaceExpression(oldChild, newChild)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void serializeToJSONiq(StringBuffer sb, int indent) {
         indentIt(sb, indent);
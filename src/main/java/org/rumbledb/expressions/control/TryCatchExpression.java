@@ -32,9 +32,9 @@ import org.rumbledb.expressions.Node;
 
 public class TryCatchExpression extends Expression {
 
-    private final Expression tryExpression;
+    private Expression tryExpression;
     private final Map<String, Expression> catchExpressions;
-    private final Expression catchAllExpression;
+    private Expression catchAllExpression;
 
     public TryCatchExpression(
             Expression tryExpression,
@@ -83,6 +83,25 @@ public class TryCatchExpression extends Expression {
         return result;
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.tryExpression == oldChild) {
+            this.tryExpression = newChild;
+            return true;
+        }
+        if (this.catchAllExpression == oldChild) {
+            this.catchAllExpression = newChild;
+            return true;
+        }
+        for (Map.Entry<String, Expression> entry : this.catchExpressions.entrySet()) {
+            if (entry.getValue() == oldChild) {
+                entry.setValue(newChild);
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void serializeToJSONiq(StringBuffer sb, int indent) {
         indentIt(sb, indent);
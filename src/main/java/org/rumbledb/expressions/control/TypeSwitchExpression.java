@@ -13,7 +13,7 @@ import java.util.List;
 
 public class TypeSwitchExpression extends Expression {
 
-    private final Expression testCondition;
+    private Expression testCondition;
     private final List<TypeswitchCase> cases;
     private final TypeswitchCase defaultCase;
 
@@ -53,6 +53,20 @@ public class TypeSwitchExpression extends Expression {
         return result;
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.testCondition == oldChild) {
+            this.testCondition = newChild;
+            return true;
+        }
+        for (TypeswitchCase c : this.cases) {
+            if (c.replaceReturnExpression(oldChild, newChild)) {
+                return true;
+            }
+        }
+        return this.defaultCase.replaceReturnExpression(oldChild, newChild);
+    }
+
     @Override
     public void serializeToJSONiq(StringBuffer sb, int indent) {
         indentIt(sb, indent);
@@ -3,6 +3,7 @@ package org.rumbledb.expressions.control;
 
 import org.rumbledb.context.Name;
 import org.rumbledb.expressions.Expression;
+import org.rumbledb.expressions.Node;
 import org.rumbledb.types.SequenceType;
 
 import java.util.ArrayList;
@@ -17,7 +18,7 @@ public class TypeswitchCase {
 
     private Name variableName;
     private List<SequenceType> union;
-    private final Expression returnExpression;
+    private Expression returnExpression;
 
     public TypeswitchCase(
             Name variableName,
@@ -50,4 +51,12 @@ public class TypeswitchCase {
         return this.returnExpression;
     }
 
+    public boolean replaceReturnExpression(Node oldChild, Expression newChild) {
+        if (this.returnExpression == oldChild) {
+            this.returnExpression = newChild;
+            return true;
+        }
+        return false;
+    }
+
 }
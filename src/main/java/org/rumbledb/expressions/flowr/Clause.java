@@ -95,6 +95,38 @@ public abstract class Clause extends Node {
         otherClause.previousClause = this;
     }
 
+    /**
+     * Removes this clause from the list of clauses it is chained in, linking its previous and next clauses together.
+     */
+    public void unchain() {
+        if (this.nextClause == null) {
+            throw new OurBadException("The last clause of a FLWOR expression cannot be unchained");
+        }
+        if (this.previousClause != null) {
+            this.previousClause.nextClause = this.nextClause;
+        }
+        this.nextClause.previousClause = this.previousClause;
+        this.previousClause = null;
+        this.nextClause = null;
+    }
+
+    /**
+     * Chains an unchained clause right before this clause.
+     *
+     * @param otherClause the clause to insert.
+     */
+    public void chainBefore(Clause otherClause) {
+        if (otherClause.previousClause != null || otherClause.nextClause != null) {
+            throw new OurBadException("Inserted clause already chained!");
+        }
+        if (this.previousClause != null) {
+            this.previousClause.nextClause = otherClause;
+            otherClause.previousClause = this.previousClause;
+        }
+        otherClause.nextClause = this;
+        this.previousClause = otherClause;
+    }
+
     public ReturnClause detachInitialLetClauses() {
         if (this.nextClause != null) {
             throw new OurBadException("Detaching a let clause can only be done from the last clause");
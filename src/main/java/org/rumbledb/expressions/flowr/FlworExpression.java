@@ -41,10 +41,12 @@ public class FlworExpression extends Expression {
         Clause startClause = returnClause.getFirstClause();
         if (
             startClause.getClauseType() != FLWOR_CLAUSES.FOR
+                &&
+                startClause.getClauseType() != FLWOR_CLAUSES.WINDOW
                 &&
                 startClause.getClauseType() != FLWOR_CLAUSES.LET
         ) {
-            throw new SemanticException("FLOWR clause must starts with a FOR or a LET\n", this.getMetadata());
+            throw new SemanticException("FLOWR clause must starts with a FOR, a WINDOW or a LET\n", this.getMetadata());
         }
 
         this.returnClause = returnClause;
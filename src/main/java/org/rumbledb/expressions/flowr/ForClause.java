@@ -117,6 +117,15 @@ public class ForClause extends Clause {
         return Collections.singletonList(this.expression);
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.expression == oldChild) {
+            this.expression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public <T> T accept(AbstractNodeVisitor<T> visitor, T argument) {
         return visitor.visitForClause(this, argument);
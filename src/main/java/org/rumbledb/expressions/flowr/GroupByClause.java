@@ -24,6 +24,7 @@ import org.rumbledb.compiler.VisitorConfig;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.exceptions.SemanticException;
 import org.rumbledb.expressions.AbstractNodeVisitor;
+import org.rumbledb.expressions.Expression;
 import org.rumbledb.expressions.Node;
 
 
@@ -62,6 +63,16 @@ public class GroupByClause extends Clause {
         return result;
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        for (GroupByVariableDeclaration variable : this.variables) {
+            if (variable != null && variable.replaceExpression(oldChild, newChild)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public <T> T accept(AbstractNodeVisitor<T> visitor, T argument) {
         return visitor.visitGroupByClause(this, argument);
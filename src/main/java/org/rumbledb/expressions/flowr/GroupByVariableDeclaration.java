@@ -22,6 +22,7 @@ package org.rumbledb.expressions.flowr;
 
 import org.rumbledb.context.Name;
 import org.rumbledb.expressions.Expression;
+import org.rumbledb.expressions.Node;
 import org.rumbledb.types.SequenceType;
 
 public class GroupByVariableDeclaration {
@@ -51,6 +52,14 @@ public class GroupByVariableDeclaration {
         return this.expression;
     }
 
+    public boolean replaceExpression(Node oldChild, Expression newChild) {
+        if (this.expression == oldChild) {
+            this.expression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     public SequenceType getSequenceType() {
         return this.sequenceType == null ? SequenceType.ITEM_STAR : this.sequenceType;
     }
@@ -43,6 +43,9 @@ public class LetClause extends Clause {
     // Holds whether the let variable will be stored in materialized(local) or native/spark(RDD or DF) format in a tuple
     protected ExecutionMode variableHighestStorageMode = ExecutionMode.UNSET;
 
+    // Holds whether the big sequence bound to the variable is persisted
+    private boolean persisted = false;
+
     public LetClause(
             Name variableName,
             SequenceType sequenceType,
@@ -74,6 +77,19 @@ public class LetClause extends Clause {
         return this.expression;
     }
 
+    /**
+     * Says whether the big sequence bound to the variable is persisted, because it is referenced several times.
+     *
+     * @return true if the sequence is persisted.
+     */
+    public boolean isPersisted() {
+        return this.persisted;
+    }
+
+    public void setPersisted(boolean persisted) {
+        this.persisted = persisted;
+    }
+
     @Override
     public void initHighestExecutionMode(VisitorConfig visitorConfig) {
         this.highestExecutionMode =
@@ -104,6 +120,15 @@ public class LetClause extends Clause {
         return Collections.singletonList(this.expression);
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.expression == oldChild) {
+            this.expression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public <T> T accept(AbstractNodeVisitor<T> visitor, T argument) {
         return visitor.visitLetClause(this, argument);
@@ -124,6 +149,9 @@ public class LetClause extends Clause {
         );
         buffer.append(")");
         buffer.append(" | " + this.highestExecutionMode);
+        if (this.persisted) {
+            buffer.append(" | persisted");
+        }
         buffer.append("\n");
         for (Node iterator : getChildren()) {
             iterator.print(buffer, indent + 1);
@@ -24,6 +24,7 @@ package org.rumbledb.expressions.flowr;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.exceptions.SemanticException;
 import org.rumbledb.expressions.AbstractNodeVisitor;
+import org.rumbledb.expressions.Expression;
 import org.rumbledb.expressions.Node;
 
 import java.util.ArrayList;
@@ -55,6 +56,16 @@ public class OrderByClause extends Clause {
         return result;
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        for (OrderByClauseSortingKey sortingKey : this.sortingKeys) {
+            if (sortingKey != null && sortingKey.replaceExpression(oldChild, newChild)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void serializeToJSONiq(StringBuffer sb, int indent) {
         indentIt(sb, indent);
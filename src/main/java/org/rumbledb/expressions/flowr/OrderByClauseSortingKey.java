@@ -21,9 +21,10 @@
 package org.rumbledb.expressions.flowr;
 
 import org.rumbledb.expressions.Expression;
+import org.rumbledb.expressions.Node;
 
 public class OrderByClauseSortingKey {
-    private final Expression expression;
+    private Expression expression;
     private final boolean ascending;
     private final EMPTY_ORDER emptyOrder;
     private final String collationURI;
@@ -45,6 +46,14 @@ public class OrderByClauseSortingKey {
         return this.expression;
     }
 
+    public boolean replaceExpression(Node oldChild, Expression newChild) {
+        if (this.expression == oldChild) {
+            this.expression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     public boolean isAscending() {
         return this.ascending;
     }
@@ -31,7 +31,7 @@ import java.util.List;
 public class ReturnClause extends Clause {
 
 
-    private final Expression returnExpr;
+    private Expression returnExpr;
 
     public ReturnClause(Expression expr, ExceptionMetadata metadata) {
         super(FLWOR_CLAUSES.RETURN, metadata);
@@ -51,6 +51,15 @@ public class ReturnClause extends Clause {
         return result;
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.returnExpr == oldChild) {
+            this.returnExpr = newChild;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public void serializeToJSONiq(StringBuffer sb, int indent) {
         indentIt(sb, indent);
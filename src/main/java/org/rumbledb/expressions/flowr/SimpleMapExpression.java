@@ -59,6 +59,19 @@ public class SimpleMapExpression extends Expression {
         return Arrays.asList(this.leftExpression, this.rightExpression);
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.leftExpression == oldChild) {
+            this.leftExpression = newChild;
+            return true;
+        }
+        if (this.rightExpression == oldChild) {
+            this.rightExpression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     public void print(StringBuffer buffer, int indent) {
         for (int i = 0; i < indent; ++i) {
             buffer.append("  ");
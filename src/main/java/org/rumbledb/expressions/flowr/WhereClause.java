@@ -31,7 +31,7 @@ import java.util.List;
 
 public class WhereClause extends Clause {
 
-    private final Expression whereExpression;
+    private Expression whereExpression;
 
     public WhereClause(Expression expr, ExceptionMetadata metadata) {
         super(FLWOR_CLAUSES.WHERE, metadata);
@@ -56,6 +56,15 @@ public class WhereClause extends Clause {
         return result;
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.whereExpression == oldChild) {
+            this.whereExpression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public void serializeToJSONiq(StringBuffer sb, int indent) {
         indentIt(sb, indent);
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.expressions.flowr;
+
+import org.rumbledb.compiler.VisitorConfig;
+import org.rumbledb.context.Name;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.SemanticException;
+import org.rumbledb.expressions.AbstractNodeVisitor;
+import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.expressions.Expression;
+import org.rumbledb.expressions.Node;
+import org.rumbledb.types.SequenceType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A tumbling or sliding window clause. Each window is a contiguous subsequence of the input sequence delimited by
+ * a start condition and an optional end condition, and the clause binds one tuple per window.
+ */
+public class WindowClause extends Clause {
+
+    private final boolean sliding;
+    private final Name variableName;
+    protected SequenceType sequenceType;
+    protected Expression expression;
+    private final WindowCondition startCondition;
+    private final WindowCondition endCondition;
+
+    public WindowClause(
+            boolean sliding,
+            Name variableName,
+            SequenceType sequenceType,
+            Expression expression,
+            WindowCondition startCondition,
+            WindowCondition endCondition,
+            ExceptionMetadata metadata
+    ) {
+        super(FLWOR_CLAUSES.WINDOW, metadata);
+        if (variableName == null) {
+            throw new SemanticException("Window clause must have a variable", metadata);
+        }
+        if (startCondition == null) {
+            throw new SemanticException("Window clause must have a start condition", metadata);
+        }
+        if (sliding && endCondition == null) {
+            throw new SemanticException("Sliding window clause must have an end condition", metadata);
+        }
+        this.sliding = sliding;
+        this.variableName = variableName;
+        this.sequenceType = sequenceType;
+        this.expression = expression;
+        this.startCondition = startCondition;
+        this.endCondition = endCondition;
+    }
+
+    public boolean isSliding() {
+        return this.sliding;
+    }
+
+    public Name getVariableName() {
+        return this.variableName;
+    }
+
+    public SequenceType getSequenceType() {
+        return this.sequenceType == null ? SequenceType.ITEM_STAR : this.sequenceType;
+    }
+
+    public SequenceType getActualSequenceType() {
+        return this.sequenceType;
+    }
+
+    public Expression getExpression() {
+        return this.expression;
+    }
+
+    public WindowCondition getStartCondition() {
+        return this.startCondition;
+    }
+
+    public WindowCondition getEndCondition() {
+        return this.endCondition;
+    }
+
+    /**
+     * Windows are computed on a single, ordered stream of items, so this clause is always executed locally.
+     */
+    @Override
+    public void initHighestExecutionMode(VisitorConfig visitorConfig) {
+        this.highestExecutionMode = ExecutionMode.LOCAL;
+    }
+
+    @Override
+    public List<Node> getChildren() {
+        List<Node> result = new ArrayList<>();
+        result.add(this.expression);
+        result.add(this.startCondition.getExpression());
+        if (this.endCondition != null) {
+            result.add(this.endCondition.getExpression());
+        }
+        return result;
+    }
+
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.expression == oldChild) {
+            this.expression = newChild;
+            return true;
+        }
+        return this.startCondition.replaceExpression(oldChild, newChild)
+            || (this.endCondition != null && this.endCondition.replaceExpression(oldChild, newChild));
+    }
+
+    @Override
+    public <T> T accept(AbstractNodeVisitor<T> visitor, T argument) {
+        return visitor.visitWindowClause(this, argument);
+    }
+
+    public void print(StringBuffer buffer, int indent) {
+        for (int i = 0; i < indent; ++i) {
+            buffer.append("  ");
+        }
+        buffer.append(getClass().getSimpleName());
+        buffer.append(
+            " ("
+                + (this.sliding ? "sliding" : "tumbling")
+                + ", "
+                + (this.variableName)
+                + ", "
+                + this.getSequenceType().toString()
+                + (this.getSequenceType().isResolved() ? " (resolved)" : " (unresolved)")
+                + ") "
+        );
+        buffer.append(" | " + this.highestExecutionMode);
+        buffer.append("\n");
+        for (Node iterator : getChildren()) {
+            iterator.print(buffer, indent + 1);
+        }
+        if (this.previousClause != null) {
+            this.previousClause.print(buffer, indent + 1);
+        }
+    }
+
+    @Override
+    public void serializeToJSONiq(StringBuffer sb, int indent) {
+        indentIt(sb, indent);
+        sb.append(this.sliding ? "for sliding window $" : "for tumbling window $");
+        sb.append(this.variableName.toString());
+        if (this.sequenceType != null)
+            sb.append(" as " + this.sequenceType.toString());
+        sb.append(" in (");
+        this.expression.serializeToJSONiq(sb, 0);
+        sb.append(")");
+        this.startCondition.serializeToJSONiq(sb, true);
+        if (this.endCondition != null) {
+            this.endCondition.serializeToJSONiq(sb, false);
+        }
+        sb.append("\n");
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.expressions.flowr;
+
+import org.rumbledb.context.Name;
+import org.rumbledb.expressions.Expression;
+import org.rumbledb.expressions.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The start or end condition of a window clause, together with the variables it binds: the boundary item, its
+ * position, and the items immediately before and after it in the input sequence.
+ */
+public class WindowCondition {
+
+    private final boolean only;
+    private final Name currentItemName;
+    private final Name positionalVariableName;
+    private final Name previousItemName;
+    private final Name nextItemName;
+    private Expression expression;
+
+    public WindowCondition(
+            boolean only,
+            Name currentItemName,
+            Name positionalVariableName,
+            Name previousItemName,
+            Name nextItemName,
+            Expression expression
+    ) {
+        if (expression == null) {
+            throw new IllegalArgumentException("Window conditions must have a when expression");
+        }
+        this.only = only;
+        this.currentItemName = currentItemName;
+        this.positionalVariableName = positionalVariableName;
+        this.previousItemName = previousItemName;
+        this.nextItemName = nextItemName;
+        this.expression = expression;
+    }
+
+    public boolean isOnly() {
+        return this.only;
+    }
+
+    public Name getCurrentItemName() {
+        return this.currentItemName;
+    }
+
+    public Name getPositionalVariableName() {
+        return this.positionalVariableName;
+    }
+
+    public Name getPreviousItemName() {
+        return this.previousItemName;
+    }
+
+    public Name getNextItemName() {
+        return this.nextItemName;
+    }
+
+    public Expression getExpression() {
+        return this.expression;
+    }
+
+    public boolean replaceExpression(Node oldChild, Expression newChild) {
+        if (this.expression == oldChild) {
+            this.expression = newChild;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the names of all variables bound by this condition, in declaration order.
+     */
+    public List<Name> getVariableNames() {
+        List<Name> result = new ArrayList<>();
+        if (this.currentItemName != null) {
+            result.add(this.currentItemName);
+        }
+        if (this.positionalVariableName != null) {
+            result.add(this.positionalVariableName);
+        }
+        if (this.previousItemName != null) {
+            result.add(this.previousItemName);
+        }
+        if (this.nextItemName != null) {
+            result.add(this.nextItemName);
+        }
+        return result;
+    }
+
+    public void serializeToJSONiq(StringBuffer sb, boolean isStart) {
+        if (this.only) {
+            sb.append(" only");
+        }
+        sb.append(isStart ? " start" : " end");
+        if (this.currentItemName != null) {
+            sb.append(" $" + this.currentItemName.toString());
+        }
+        if (this.positionalVariableName != null) {
+            sb.append(" at $" + this.positionalVariableName.toString());
+        }
+        if (this.previousItemName != null) {
+            sb.append(" previous $" + this.previousItemName.toString());
+        }
+        if (this.nextItemName != null) {
+            sb.append(" next $" + this.nextItemName.toString());
+        }
+        sb.append(" when (");
+        this.expression.serializeToJSONiq(sb, 0);
+        sb.append(")");
+    }
+}
@@ -52,6 +52,19 @@ public class AndExpression extends Expression {
         return Arrays.asList(this.leftExpression, this.rightExpression);
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.leftExpression == oldChild) {
+            this.leftExpression = newChild;
+            return true;
+        }
+        if (this.rightExpression == oldChild) {
+            this.rightExpression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public void serializeToJSONiq(StringBuffer sb, int indent) {
         indentIt(sb, indent);
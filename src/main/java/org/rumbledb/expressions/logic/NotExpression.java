@@ -56,6 +56,15 @@ public class NotExpression extends Expression {
         return Collections.singletonList(this.mainExpression);
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.mainExpression == oldChild) {
+            this.mainExpression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public void serializeToJSONiq(StringBuffer sb, int indent) {
         indentIt(sb, indent);
@@ -35,7 +35,7 @@ public class MainModule extends Module {
 
     protected StaticContext staticContext;
     private final Prolog prolog;
-    private final Expression expression;
+    private Expression expression;
 
     public MainModule(Prolog prolog, Expression expression, ExceptionMetadata metadata) {
         super(metadata);
@@ -72,6 +72,15 @@ public class MainModule extends Module {
         return result;
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.expression == oldChild) {
+            this.expression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public void serializeToJSONiq(StringBuffer sb, int indent) {
         this.prolog.serializeToJSONiq(sb, indent);
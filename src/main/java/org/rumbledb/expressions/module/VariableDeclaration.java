@@ -43,6 +43,8 @@ public class VariableDeclaration extends Node {
 
     protected ExecutionMode variableHighestStorageMode = ExecutionMode.UNSET;
 
+    private boolean persisted = false;
+
     public VariableDeclaration(
             Name variableName,
             boolean external,
@@ -88,6 +90,19 @@ public class VariableDeclaration extends Node {
         return this.expression;
     }
 
+    /**
+     * Says whether the big sequence bound to the variable is persisted, because it is referenced several times.
+     *
+     * @return true if the sequence is persisted.
+     */
+    public boolean isPersisted() {
+        return this.persisted;
+    }
+
+    public void setPersisted(boolean persisted) {
+        this.persisted = persisted;
+    }
+
     @Override
     public List<Node> getChildren() {
         if (this.expression != null) {
@@ -96,6 +111,15 @@ public class VariableDeclaration extends Node {
         return Collections.emptyList();
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.expression == oldChild) {
+            this.expression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public <T> T accept(AbstractNodeVisitor<T> visitor, T argument) {
         return visitor.visitVariableDeclaration(this, argument);
@@ -131,6 +155,9 @@ public class VariableDeclaration extends Node {
                 + ") "
         );
         buffer.append(" | " + this.highestExecutionMode);
+        if (this.persisted) {
+            buffer.append(" | persisted");
+        }
         buffer.append("\n");
         for (Node iterator : getChildren()) {
             iterator.print(buffer, indent + 1);
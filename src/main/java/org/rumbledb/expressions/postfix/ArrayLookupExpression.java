@@ -53,6 +53,19 @@ public class ArrayLookupExpression extends Expression {
         return result;
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.mainExpression == oldChild) {
+            this.mainExpression = newChild;
+            return true;
+        }
+        if (this.lookupExpression == oldChild) {
+            this.lookupExpression = newChild;
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public void serializeToJSONiq(StringBuffer sb, int indent) {
         indentIt(sb, indent);
@@ -66,6 +66,15 @@ public class DynamicFunctionCallExpression extends Expression {
         return result;
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.mainExpression == oldChild) {
+            this.mainExpression = newChild;
+            return true;
+        }
+        return replaceInList(this.arguments, oldChild, newChild);
+    }
+
     /**
      * DynamicFunctionCall is always locally evaluated as execution mode cannot be determined at static analysis phase.
      * This behavior is different from all other postfix extensions, hence no override is required.
@@ -41,7 +41,7 @@ import java.util.stream.Collectors;
 public class FunctionCallExpression extends Expression {
 
     private final FunctionIdentifier identifier;
-    private final List<Expression> arguments; // null for placeholder
+    private List<Expression> arguments; // null for placeholder
     private final boolean isPartialApplication;
 
     public FunctionCallExpression(
@@ -77,6 +77,11 @@ public class FunctionCallExpression extends Expression {
         return result;
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        return replaceInList(this.arguments, oldChild, newChild);
+    }
+
     public boolean isPartialApplication() {
         return this.isPartialApplication;
     }
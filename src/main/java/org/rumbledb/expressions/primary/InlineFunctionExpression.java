@@ -40,7 +40,7 @@ public class InlineFunctionExpression extends Expression {
     private final FunctionIdentifier functionIdentifier;
     private final Map<Name, SequenceType> params;
     private final SequenceType returnType;
-    private final Expression body;
+    private Expression body;
 
     public InlineFunctionExpression(
             Name name,
@@ -86,6 +86,15 @@ public class InlineFunctionExpression extends Expression {
         return Arrays.asList(this.body);
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.body == oldChild) {
+            this.body = newChild;
+            return true;
+        }
+        return false;
+    }
+
     public void registerUserDefinedFunctionExecutionMode(
             VisitorConfig visitorConfig
     ) {
@@ -76,6 +76,16 @@ public class ObjectConstructorExpression extends Expression {
         return result;
     }
 
+    @Override
+    public boolean replaceChild(Node oldChild, Expression newChild) {
+        if (this.childExpression == oldChild) {
+            this.childExpression = newChild;
+            return true;
+        }
+        return !this.isMergedConstructor
+            && (replaceInList(this.keys, oldChild, newChild) || replaceInList(this.values, oldChild, newChild));
+    }
+
     @Override
     public void serializeToJSONiq(StringBuffer sb, int indent) {
         if (this.isMergedConstructor) {
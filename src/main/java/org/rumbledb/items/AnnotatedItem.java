@@ -127,6 +127,11 @@ public class AnnotatedItem implements Item {
         return this.itemToAnnotate.isInt();
     }
 
+    @Override
+    public boolean isLong() {
+        return this.itemToAnnotate.isLong();
+    }
+
     @Override
     public boolean isDouble() {
         return this.itemToAnnotate.isDouble();
@@ -242,6 +247,11 @@ public class AnnotatedItem implements Item {
         return this.itemToAnnotate.getIntValue();
     }
 
+    @Override
+    public long getLongValue() {
+        return this.itemToAnnotate.getLongValue();
+    }
+
     @Override
     public BigInteger getIntegerValue() {
         return this.itemToAnnotate.getIntegerValue();
@@ -95,13 +95,19 @@ public class ArrayItem implements Item {
 
     @Override
     public void write(Kryo kryo, Output output) {
-        kryo.writeObject(output, this.arrayItems);
+        output.writeInt(this.arrayItems.size(), true);
+        for (Item item : this.arrayItems) {
+            kryo.writeClassAndObject(output, item);
+        }
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public void read(Kryo kryo, Input input) {
-        this.arrayItems = kryo.readObject(input, ArrayList.class);
+        int size = input.readInt(true);
+        this.arrayItems = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            this.arrayItems.add((Item) kryo.readClassAndObject(input));
+        }
     }
 
     public int hashCode() {
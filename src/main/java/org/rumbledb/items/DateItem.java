@@ -30,10 +30,7 @@ public class DateItem implements Item {
 
     DateItem(String dateTimeString) {
         this.value = DateTimeItem.parseDateTime(dateTimeString, BuiltinTypesCatalogue.dateItem);
-        if (!dateTimeString.endsWith("Z") && this.value.getZone() == DateTimeZone.getDefault()) {
-            this.hasTimeZone = false;
-            this.value = this.value.withZoneRetainFields(DateTimeZone.UTC);
-        }
+        this.hasTimeZone = DateTimeLexicalParser.hasTimeZone(dateTimeString);
     }
 
     @Override
@@ -94,16 +91,16 @@ public class DateItem implements Item {
 
     @Override
     public void write(Kryo kryo, Output output) {
-        output.writeLong(this.getDateTimeValue().getMillis(), true);
+        output.writeLong(this.getDateTimeValue().getMillis(), false);
         output.writeBoolean(this.hasTimeZone);
-        output.writeString(this.getDateTimeValue().getZone().getID());
+        DateTimeItem.writeTimeZone(output, this.getDateTimeValue().getZone());
     }
 
     @Override
     public void read(Kryo kryo, Input input) {
-        Long millis = input.readLong(true);
+        long millis = input.readLong(false);
         this.hasTimeZone = input.readBoolean();
-        DateTimeZone zone = DateTimeZone.forID(input.readString());
+        DateTimeZone zone = DateTimeItem.readTimeZone(input);
         this.value = new DateTime(millis, zone);
     }
 
@@ -5,10 +5,6 @@ import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
-import org.joda.time.format.DateTimeFormatter;
-import org.joda.time.format.DateTimeFormatterBuilder;
-import org.joda.time.format.DateTimeParser;
-import org.joda.time.format.ISODateTimeFormat;
 import org.rumbledb.api.Item;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.expressions.comparison.ComparisonExpression.ComparisonOperator;
@@ -16,43 +12,12 @@ import org.rumbledb.types.BuiltinTypesCatalogue;
 import org.rumbledb.runtime.misc.ComparisonIterator;
 import org.rumbledb.types.ItemType;
 
-import java.util.regex.Pattern;
-
-import static org.joda.time.format.ISODateTimeFormat.dateElementParser;
-
 public class DateTimeItem implements Item {
 
-    private static final String yearFrag = "((-)?(([1-9]\\d\\d(\\d)+)|(0\\d\\d\\d)))";
-    private static final String monthFrag = "((0[1-9])|(1[0-2]))";
-    private static final String dayFrag = "((0[1-9])|([1-2]\\d)|(3[0-1]))";
-    private static final String hourFrag = "(([0-1]\\d)|(2[0-3]))";
-    private static final String minuteFrag = "([0-5]\\d)";
-    private static final String secondFrag = "(([0-5]\\d)(\\.(\\d)+)?)";
-    private static final String endOfDayFrag = "(24:00:00(\\.(0)+)?)";
-    private static final String timezoneFrag = "(Z|([+\\-])(((0\\d|1[0-3]):" + minuteFrag + ")|(14:00)))";
-    private static final String dateFrag = "(" + yearFrag + '-' + monthFrag + '-' + dayFrag + ")";
-    private static final String timeFrag = "(("
-        + hourFrag
-        + ":"
-        + minuteFrag
-        + ":"
-        + secondFrag
-        + ")|("
-        + endOfDayFrag
-        + "))";
-
-    private static final String dateTimeLexicalRep = dateFrag + "T" + timeFrag + "(" + timezoneFrag + ")?";
-    private static final String dateTimeStampLexicalRep = dateFrag + "T" + timeFrag + timezoneFrag;
-    private static final String dateLexicalRep = "(" + dateFrag + "(" + timezoneFrag + ")?)";
-    private static final String timeLexicalRep = "(" + timeFrag + "(" + timezoneFrag + ")?)";
-
-    private static final Pattern dateTimePattern = Pattern.compile(dateTimeLexicalRep);
-    private static final Pattern dateTimeStampPattern = Pattern.compile(dateTimeStampLexicalRep);
-    private static final Pattern datePattern = Pattern.compile(dateLexicalRep);
-    private static final Pattern timePattern = Pattern.compile(timeLexicalRep);
-
-
     private static final long serialVersionUID = 1L;
+    private static final byte UTC_ZONE = 0;
+    private static final byte FIXED_OFFSET_ZONE = 1;
+    private static final byte NAMED_ZONE = 2;
     private DateTime value;
     private boolean hasTimeZone = true;
 
@@ -68,10 +33,7 @@ public class DateTimeItem implements Item {
 
     DateTimeItem(String dateTimeString) {
         this.value = parseDateTime(dateTimeString, BuiltinTypesCatalogue.dateTimeItem);
-        if (!dateTimeString.endsWith("Z") && this.value.getZone() == DateTimeZone.getDefault()) {
-            this.hasTimeZone = false;
-            this.value = this.value.withZoneRetainFields(DateTimeZone.UTC);
-        }
+        this.hasTimeZone = DateTimeLexicalParser.hasTimeZone(dateTimeString);
     }
 
     @Override
@@ -133,95 +95,72 @@ public class DateTimeItem implements Item {
 
     @Override
     public void write(Kryo kryo, Output output) {
-        output.writeLong(this.value.getMillis(), true);
+        output.writeLong(this.value.getMillis(), false);
         output.writeBoolean(this.hasTimeZone);
-        output.writeString(this.value.getZone().getID());
+        writeTimeZone(output, this.value.getZone());
     }
 
     @Override
     public void read(Kryo kryo, Input input) {
-        Long millis = input.readLong(true);
+        long millis = input.readLong(false);
         this.hasTimeZone = input.readBoolean();
-        DateTimeZone zone = DateTimeZone.forID(input.readString());
+        DateTimeZone zone = readTimeZone(input);
         this.value = new DateTime(millis, zone);
     }
 
-    static DateTimeFormatter getDateTimeFormatter(ItemType dateTimeType) {
-        if (dateTimeType.equals(BuiltinTypesCatalogue.dateTimeStampItem)) {
-            return ISODateTimeFormat.dateTimeParser().withOffsetParsed();
-        }
-        if (dateTimeType.equals(BuiltinTypesCatalogue.dateTimeItem)) {
-            return ISODateTimeFormat.dateTimeParser().withOffsetParsed();
-        }
-        if (dateTimeType.equals(BuiltinTypesCatalogue.dateItem)) {
-            DateTimeParser dtParser = new DateTimeFormatterBuilder().appendOptional(
-                ((new DateTimeFormatterBuilder()).appendTimeZoneOffset("Z", true, 2, 4).toFormatter()).getParser()
-            ).toParser();
-            return (new DateTimeFormatterBuilder()).append(dateElementParser())
-                .appendOptional(dtParser)
-                .toFormatter()
-                .withOffsetParsed();
-        }
-        if (dateTimeType.equals(BuiltinTypesCatalogue.timeItem)) {
-            return ISODateTimeFormat.timeParser().withOffsetParsed();
-        }
-        throw new IllegalArgumentException();
-    }
-
-    static boolean checkInvalidDateTimeFormat(String dateTime, ItemType dateTimeType) {
-        if (dateTimeType.equals(BuiltinTypesCatalogue.dateTimeStampItem)) {
-            return dateTimeStampPattern.matcher(dateTime).matches();
+    /**
+     * Writes a time zone for Kryo serialization. UTC and fixed offsets, which are the zones obtained when parsing
+     * lexical values, are written without their ID.
+     *
+     * @param output the Kryo output.
+     * @param zone the time zone.
+     */
+    static void writeTimeZone(Output output, DateTimeZone zone) {
+        if (zone.equals(DateTimeZone.UTC)) {
+            output.writeByte(UTC_ZONE);
+            return;
         }
-        if (dateTimeType.equals(BuiltinTypesCatalogue.dateTimeItem)) {
-            return dateTimePattern.matcher(dateTime).matches();
-        }
-        if (dateTimeType.equals(BuiltinTypesCatalogue.dateItem)) {
-            return datePattern.matcher(dateTime).matches();
-        }
-        if (dateTimeType.equals(BuiltinTypesCatalogue.timeItem)) {
-            return timePattern.matcher(dateTime).matches();
-        }
-        return false;
-    }
-
-    private static String fixEndOfDay(String dateTime) {
-        String endOfDay = "24:00:00";
-        String startOfDay = "00:00:00";
-        if (dateTime.contains(endOfDay)) {
-            if (dateTime.indexOf(endOfDay) == 0) {
-                return startOfDay;
-            }
-            int indexOfT = dateTime.indexOf('T');
-            if (
-                indexOfT < 1
-                    || indexOfT != dateTime.indexOf(endOfDay) - 1
-                    || !Character.isDigit(dateTime.charAt(indexOfT - 1))
-            ) {
-                throw new IllegalArgumentException();
-            }
-            int dayValue;
-            try {
-                dayValue = Character.getNumericValue(dateTime.charAt(indexOfT - 1));
-            } catch (Exception e) {
-                throw new IllegalArgumentException();
+        if (zone.isFixed()) {
+            int offset = zone.getOffset(0);
+            if (zone.equals(DateTimeZone.forOffsetMillis(offset))) {
+                output.writeByte(FIXED_OFFSET_ZONE);
+                output.writeInt(offset, false);
+                return;
             }
-            return dateTime.substring(0, indexOfT - 1)
-                +
-                (dayValue + 1)
-                + "T"
-                + startOfDay
-                +
-                dateTime.substring(indexOfT + endOfDay.length() + 1);
         }
-        return dateTime;
+        output.writeByte(NAMED_ZONE);
+        output.writeString(zone.getID());
+    }
+
+    /**
+     * Reads a time zone written with writeTimeZone.
+     *
+     * @param input the Kryo input.
+     * @return the time zone.
+     */
+    static DateTimeZone readTimeZone(Input input) {
+        byte kind = input.readByte();
+        switch (kind) {
+            case UTC_ZONE:
+                return DateTimeZone.UTC;
+            case FIXED_OFFSET_ZONE:
+                return DateTimeZone.forOffsetMillis(input.readInt(false));
+            default:
+                return DateTimeZone.forID(input.readString());
+        }
     }
 
+    /**
+     * Parses the lexical value of a date, time, dateTime or dateTimeStamp. Values without a time zone are returned in
+     * UTC.
+     *
+     * @param dateTime the lexical value.
+     * @param dateTimeType the type.
+     * @return the parsed value.
+     * @throws IllegalArgumentException if the lexical value is invalid.
+     */
     static DateTime parseDateTime(String dateTime, ItemType dateTimeType) throws IllegalArgumentException {
-        if (!checkInvalidDateTimeFormat(dateTime, dateTimeType)) {
-            throw new IllegalArgumentException();
-        }
-        dateTime = fixEndOfDay(dateTime);
-        return DateTime.parse(dateTime, getDateTimeFormatter(dateTimeType));
+        return DateTimeLexicalParser.parseDateTime(dateTime, dateTimeType);
     }
 
     @Override
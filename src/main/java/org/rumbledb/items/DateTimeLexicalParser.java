@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.items;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Period;
+import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.types.ItemType;
+
+/**
+ * Parses the lexical representations of dates, times, dateTimes and durations (ISO 8601, as restricted by XML Schema)
+ * in a single pass over the string, without regular expressions or Joda formatters. Invalid lexical values throw an
+ * IllegalArgumentException.
+ */
+class DateTimeLexicalParser {
+
+    private final String lexicalValue;
+    private int position;
+
+    private DateTimeLexicalParser(String lexicalValue) {
+        this.lexicalValue = lexicalValue;
+        this.position = 0;
+    }
+
+    /**
+     * Parses a date, time, dateTime or dateTimeStamp. Values without a time zone are returned in UTC.
+     *
+     * @param lexicalValue the lexical value.
+     * @param type the type, among date, time, dateTime and dateTimeStamp.
+     * @return the parsed value.
+     */
+    static DateTime parseDateTime(String lexicalValue, ItemType type) {
+        return new DateTimeLexicalParser(lexicalValue).parseDateTime(type);
+    }
+
+    /**
+     * Says whether a valid lexical value of a date, time, dateTime or dateTimeStamp has a time zone.
+     *
+     * @param lexicalValue the lexical value.
+     * @return true if it ends with a time zone, false otherwise.
+     */
+    static boolean hasTimeZone(String lexicalValue) {
+        int length = lexicalValue.length();
+        if (lexicalValue.charAt(length - 1) == 'Z') {
+            return true;
+        }
+        return length >= 6
+            && (lexicalValue.charAt(length - 6) == '+' || lexicalValue.charAt(length - 6) == '-')
+            && lexicalValue.charAt(length - 3) == ':';
+    }
+
+    /**
+     * Parses a duration, yearMonthDuration or dayTimeDuration into a period that is not normalized yet.
+     *
+     * @param lexicalValue the lexical value.
+     * @param type the type, among duration, yearMonthDuration and dayTimeDuration.
+     * @return the parsed value.
+     */
+    static Period parseDuration(String lexicalValue, ItemType type) {
+        return new DateTimeLexicalParser(lexicalValue).parseDuration(type);
+    }
+
+    private DateTime parseDateTime(ItemType type) {
+        boolean hasDate = !type.equals(BuiltinTypesCatalogue.timeItem);
+        boolean hasTime = !type.equals(BuiltinTypesCatalogue.dateItem);
+        int year = 1970;
+        int month = 1;
+        int day = 1;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int millis = 0;
+        boolean isEndOfDay = false;
+        if (hasDate) {
+            year = parseYear();
+            expect('-');
+            month = parseTwoDigits();
+            expect('-');
+            day = parseTwoDigits();
+            if (month < 1 || month > 12 || day < 1 || day > 31) {
+                throw new IllegalArgumentException();
+            }
+            if (hasTime) {
+                expect('T');
+            }
+        }
+        if (hasTime) {
+            hour = parseTwoDigits();
+            expect(':');
+            minute = parseTwoDigits();
+            expect(':');
+            second = parseTwoDigits();
+            boolean hasNonZeroFraction = false;
+            if (hasNext() && this.lexicalValue.charAt(this.position) == '.') {
+                this.position++;
+                int start = this.position;
+                millis = parseFractionInMillis();
+                for (int i = start; i < this.position; ++i) {
+                    hasNonZeroFraction = hasNonZeroFraction || this.lexicalValue.charAt(i) != '0';
+                }
+            }
+            // 24:00:00 denotes the end of the day, that is, the start of the next day.
+            if (hour == 24 && minute == 0 && second == 0 && !hasNonZeroFraction) {
+                isEndOfDay = true;
+                hour = 0;
+            }
+            if (hour > 23 || minute > 59 || second > 59) {
+                throw new IllegalArgumentException();
+            }
+        }
+        DateTimeZone zone = DateTimeZone.UTC;
+        if (hasNext()) {
+            zone = parseTimeZone();
+        } else if (type.equals(BuiltinTypesCatalogue.dateTimeStampItem)) {
+            throw new IllegalArgumentException();
+        }
+        if (hasNext()) {
+            throw new IllegalArgumentException();
+        }
+        DateTime result = new DateTime(year, month, day, hour, minute, second, millis, zone);
+        return isEndOfDay && hasDate ? result.plusDays(1) : result;
+    }
+
+    private int parseYear() {
+        boolean isNegative = false;
+        if (hasNext() && this.lexicalValue.charAt(this.position) == '-') {
+            isNegative = true;
+            this.position++;
+        }
+        int start = this.position;
+        long year = 0;
+        while (hasNext() && isDigit(this.lexicalValue.charAt(this.position))) {
+            year = year * 10 + (this.lexicalValue.charAt(this.position) - '0');
+            if (year > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException();
+            }
+            this.position++;
+        }
+        int digits = this.position - start;
+        // Years have at least four digits, and no leading zero if they have more.
+        if (digits < 4 || (digits > 4 && this.lexicalValue.charAt(start) == '0')) {
+            throw new IllegalArgumentException();
+        }
+        return isNegative ? (int) -year : (int) year;
+    }
+
+    private int parseTwoDigits() {
+        if (this.position + 2 > this.lexicalValue.length()) {
+            throw new IllegalArgumentException();
+        }
+        char first = this.lexicalValue.charAt(this.position);
+        char second = this.lexicalValue.charAt(this.position + 1);
+        if (!isDigit(first) || !isDigit(second)) {
+            throw new IllegalArgumentException();
+        }
+        this.position += 2;
+        return (first - '0') * 10 + (second - '0');
+    }
+
+    /**
+     * Parses the digits of a fraction of a second, of which only milliseconds are kept.
+     */
+    private int parseFractionInMillis() {
+        int start = this.position;
+        int millis = 0;
+        while (hasNext() && isDigit(this.lexicalValue.charAt(this.position))) {
+            if (this.position - start < 3) {
+                millis = millis * 10 + (this.lexicalValue.charAt(this.position) - '0');
+            }
+            this.position++;
+        }
+        int digits = this.position - start;
+        if (digits == 0) {
+            throw new IllegalArgumentException();
+        }
+        for (int i = digits; i < 3; ++i) {
+            millis *= 10;
+        }
+        return millis;
+    }
+
+    private DateTimeZone parseTimeZone() {
+        char sign = this.lexicalValue.charAt(this.position++);
+        if (sign == 'Z') {
+            return DateTimeZone.UTC;
+        }
+        if (sign != '+' && sign != '-') {
+            throw new IllegalArgumentException();
+        }
+        int hours = parseTwoDigits();
+        expect(':');
+        int minutes = parseTwoDigits();
+        if (minutes > 59 || hours > 14 || (hours == 14 && minutes != 0)) {
+            throw new IllegalArgumentException();
+        }
+        int offset = (hours * 60 + minutes) * 60000;
+        return DateTimeZone.forOffsetMillis(sign == '-' ? -offset : offset);
+    }
+
+    private Period parseDuration(ItemType type) {
+        boolean allowsYearMonth = !type.equals(BuiltinTypesCatalogue.dayTimeDurationItem);
+        boolean allowsDayTime = !type.equals(BuiltinTypesCatalogue.yearMonthDurationItem);
+        boolean isNegative = false;
+        if (hasNext() && this.lexicalValue.charAt(this.position) == '-') {
+            isNegative = true;
+            this.position++;
+        }
+        expect('P');
+        // Components are Y, M, D, then (after T) H, M, S, each at most once and in this order.
+        int[] values = new int[6];
+        int millis = 0;
+        int nextComponent = 0;
+        boolean isInTime = false;
+        boolean hasComponent = false;
+        while (hasNext()) {
+            if (this.lexicalValue.charAt(this.position) == 'T') {
+                if (isInTime || !allowsDayTime) {
+                    throw new IllegalArgumentException();
+                }
+                this.position++;
+                isInTime = true;
+                hasComponent = false;
+                nextComponent = 3;
+                continue;
+            }
+            int start = this.position;
+            while (hasNext() && isDigit(this.lexicalValue.charAt(this.position))) {
+                this.position++;
+            }
+            String digits = this.lexicalValue.substring(start, this.position);
+            boolean hasFraction = hasNext() && this.lexicalValue.charAt(this.position) == '.';
+            if (hasFraction) {
+                this.position++;
+                millis = parseFractionInMillis();
+            } else if (digits.isEmpty()) {
+                throw new IllegalArgumentException();
+            }
+            if (!hasNext()) {
+                throw new IllegalArgumentException();
+            }
+            int component = getDurationComponent(this.lexicalValue.charAt(this.position++), isInTime);
+            if (
+                component < nextComponent
+                    || (hasFraction && component != 5)
+                    || (component < 2 ? !allowsYearMonth : !allowsDayTime)
+            ) {
+                throw new IllegalArgumentException();
+            }
+            values[component] = digits.isEmpty() ? 0 : Integer.parseInt(digits);
+            nextComponent = component + 1;
+            hasComponent = true;
+        }
+        if (!hasComponent) {
+            throw new IllegalArgumentException();
+        }
+        Period period = new Period(values[0], values[1], 0, values[2], values[3], values[4], values[5], millis);
+        return isNegative ? period.negated() : period;
+    }
+
+    private static int getDurationComponent(char designator, boolean isInTime) {
+        if (isInTime) {
+            switch (designator) {
+                case 'H':
+                    return 3;
+                case 'M':
+                    return 4;
+                case 'S':
+                    return 5;
+                default:
+                    throw new IllegalArgumentException();
+            }
+        }
+        switch (designator) {
+            case 'Y':
+                return 0;
+            case 'M':
+                return 1;
+            case 'D':
+                return 2;
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    private void expect(char c) {
+        if (!hasNext() || this.lexicalValue.charAt(this.position) != c) {
+            throw new IllegalArgumentException();
+        }
+        this.position++;
+    }
+
+    private boolean hasNext() {
+        return this.position < this.lexicalValue.length();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
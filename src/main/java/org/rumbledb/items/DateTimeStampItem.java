@@ -98,14 +98,14 @@ public class DateTimeStampItem implements Item {
 
     @Override
     public void write(Kryo kryo, Output output) {
-        output.writeLong(this.value.getMillis(), true);
-        output.writeString(this.value.getZone().getID());
+        output.writeLong(this.value.getMillis(), false);
+        DateTimeItem.writeTimeZone(output, this.value.getZone());
     }
 
     @Override
     public void read(Kryo kryo, Input input) {
-        Long millis = input.readLong(true);
-        DateTimeZone zone = DateTimeZone.forID(input.readString());
+        long millis = input.readLong(false);
+        DateTimeZone zone = DateTimeItem.readTimeZone(input);
         this.value = new DateTime(millis, zone);
     }
 
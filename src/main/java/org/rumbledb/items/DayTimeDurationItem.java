@@ -43,10 +43,7 @@ public class DayTimeDurationItem extends DurationItem {
 
     @Override
     public void read(Kryo kryo, Input input) {
-        this.value = getDurationFromString(input.readString(), BuiltinTypesCatalogue.dayTimeDurationItem)
-            .normalizedStandard(
-                PeriodType.dayTime()
-            );
+        this.value = readPeriod(input).normalizedStandard(PeriodType.dayTime());
         this.isNegative = this.value.toString().contains("-");
     }
 
@@ -109,12 +109,30 @@ public class DecimalItem implements Item {
 
     @Override
     public void write(Kryo kryo, Output output) {
-        kryo.writeObject(output, this.getValue());
+        // the scale is written with a flag saying whether the unscaled value fits in a long,
+        // in which case it is written as a variable-length long rather than as a byte array.
+        BigInteger unscaledValue = this.value.unscaledValue();
+        boolean isLong = unscaledValue.bitLength() < 64;
+        output.writeInt(this.value.scale(), false);
+        output.writeBoolean(isLong);
+        if (isLong) {
+            output.writeLong(unscaledValue.longValue(), false);
+        } else {
+            byte[] bytes = unscaledValue.toByteArray();
+            output.writeInt(bytes.length, true);
+            output.writeBytes(bytes);
+        }
     }
 
     @Override
     public void read(Kryo kryo, Input input) {
-        this.value = kryo.readObject(input, BigDecimal.class);
+        int scale = input.readInt(false);
+        if (input.readBoolean()) {
+            this.value = BigDecimal.valueOf(input.readLong(false), scale);
+        } else {
+            byte[] bytes = input.readBytes(input.readInt(true));
+            this.value = new BigDecimal(new BigInteger(bytes), scale);
+        }
     }
 
     public int hashCode() {
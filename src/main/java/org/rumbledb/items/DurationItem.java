@@ -7,9 +7,6 @@ import org.joda.time.DurationFieldType;
 import org.joda.time.Instant;
 import org.joda.time.Period;
 import org.joda.time.PeriodType;
-import org.joda.time.format.ISOPeriodFormat;
-import org.joda.time.format.PeriodFormatter;
-import org.joda.time.format.PeriodFormatterBuilder;
 import org.rumbledb.api.Item;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.expressions.comparison.ComparisonExpression.ComparisonOperator;
@@ -17,51 +14,8 @@ import org.rumbledb.types.BuiltinTypesCatalogue;
 import org.rumbledb.runtime.misc.ComparisonIterator;
 import org.rumbledb.types.ItemType;
 
-import java.util.regex.Pattern;
-
 public class DurationItem implements Item {
 
-    private static final String prefix = "(-)?P";
-    private static final String duYearFrag = "(\\d)+Y";
-    private static final String duMonthFrag = "(\\d)+M";
-    private static final String duDayFrag = "(\\d)+D";
-    private static final String duHourFrag = "(\\d)+H";
-    private static final String duMinuteFrag = "(\\d)+M";
-    private static final String duSecondFrag = "(((\\d)+)|(\\.(\\d)+)|((\\d)+\\.(\\d)+))S";
-
-    private static final String duYearMonthFrag = "((" + duYearFrag + "(" + duMonthFrag + ")?)|" + duMonthFrag + ")";
-    private static final String duTimeFrag = "T(("
-        + duHourFrag
-        + "("
-        + duMinuteFrag
-        + ")?"
-        + "("
-        + duSecondFrag
-        + ")?)|"
-        +
-        "("
-        + duMinuteFrag
-        + "("
-        + duSecondFrag
-        + ")?)|"
-        + duSecondFrag
-        + ")";
-    private static final String duDayTimeFrag = "((" + duDayFrag + "(" + duTimeFrag + ")?)|" + duTimeFrag + ")";
-    private static final String durationLiteral = prefix
-        + "(("
-        + duYearMonthFrag
-        + "("
-        + duDayTimeFrag
-        + ")?)|"
-        + duDayTimeFrag
-        + ")";
-    private static final String yearMonthDurationLiteral = prefix + duYearMonthFrag;
-    private static final String dayTimeDurationLiteral = prefix + duDayTimeFrag;
-    private static final Pattern durationPattern = Pattern.compile(durationLiteral);
-    private static final Pattern yearMonthDurationPattern = Pattern.compile(yearMonthDurationLiteral);
-    private static final Pattern dayTimeDurationPattern = Pattern.compile(dayTimeDurationLiteral);
-
-
     private static final long serialVersionUID = 1L;
     protected Period value;
     boolean isNegative;
@@ -128,44 +82,47 @@ public class DurationItem implements Item {
 
     @Override
     public void write(Kryo kryo, Output output) {
-        output.writeString(this.getStringValue());
+        writePeriod(output, this.getValue());
     }
 
     @Override
     public void read(Kryo kryo, Input input) {
-        this.value = getDurationFromString(input.readString(), BuiltinTypesCatalogue.durationItem).normalizedStandard(
-            PeriodType.yearMonthDayTime()
-        );
+        this.value = readPeriod(input).normalizedStandard(PeriodType.yearMonthDayTime());
         this.isNegative = this.value.toString().contains("-");
     }
 
-    private static PeriodFormatter getPeriodFormatter(ItemType durationType) {
-        if (durationType.equals(BuiltinTypesCatalogue.durationItem)) {
-            return ISOPeriodFormat.standard();
-        }
-        if (durationType.equals(BuiltinTypesCatalogue.yearMonthDurationItem)) {
-            return new PeriodFormatterBuilder().appendLiteral("P")
-                .appendYears()
-                .appendSuffix("Y")
-                .appendMonths()
-                .appendSuffix("M")
-                .toFormatter();
-        }
-
-        if (durationType.equals(BuiltinTypesCatalogue.dayTimeDurationItem)) {
-            return new PeriodFormatterBuilder().appendLiteral("P")
-                .appendDays()
-                .appendSuffix("D")
-                .appendSeparatorIfFieldsAfter("T")
-                .appendHours()
-                .appendSuffix("H")
-                .appendMinutes()
-                .appendSuffix("M")
-                .appendSecondsWithOptionalMillis()
-                .appendSuffix("S")
-                .toFormatter();
-        }
-        throw new IllegalArgumentException();
+    /**
+     * Writes the fields of a period for Kryo serialization, rather than its lexical value that would need to be parsed
+     * again.
+     *
+     * @param output the Kryo output.
+     * @param period the period.
+     */
+    static void writePeriod(Output output, Period period) {
+        output.writeInt(period.getYears(), false);
+        output.writeInt(period.getMonths(), false);
+        output.writeInt(period.getDays(), false);
+        output.writeInt(period.getHours(), false);
+        output.writeInt(period.getMinutes(), false);
+        output.writeInt(period.getSeconds(), false);
+        output.writeInt(period.getMillis(), false);
+    }
+
+    /**
+     * Reads a period written with writePeriod.
+     *
+     * @param input the Kryo input.
+     * @return the period, which is not normalized yet.
+     */
+    static Period readPeriod(Input input) {
+        int years = input.readInt(false);
+        int months = input.readInt(false);
+        int days = input.readInt(false);
+        int hours = input.readInt(false);
+        int minutes = input.readInt(false);
+        int seconds = input.readInt(false);
+        int millis = input.readInt(false);
+        return new Period(years, months, 0, days, hours, minutes, seconds, millis);
     }
 
     private static PeriodType getPeriodType(ItemType durationType) {
@@ -183,34 +140,22 @@ public class DurationItem implements Item {
         throw new IllegalArgumentException();
     }
 
-    private static boolean checkInvalidDurationFormat(String duration, ItemType durationType) {
-        if (durationType.equals(BuiltinTypesCatalogue.durationItem)) {
-            return durationPattern.matcher(duration).matches();
-        }
-        if (durationType.equals(BuiltinTypesCatalogue.yearMonthDurationItem)) {
-            return yearMonthDurationPattern.matcher(duration).matches();
-        }
-        if (durationType.equals(BuiltinTypesCatalogue.dayTimeDurationItem)) {
-            return dayTimeDurationPattern.matcher(duration).matches();
-        }
-        return false;
-    }
-
+    /**
+     * Parses the lexical value of a duration, yearMonthDuration or dayTimeDuration.
+     *
+     * @param duration the lexical value.
+     * @param durationType the type.
+     * @return the parsed value, normalized for the type.
+     * @throws IllegalArgumentException if the lexical value is invalid.
+     */
     public static Period getDurationFromString(String duration, ItemType durationType)
             throws UnsupportedOperationException,
                 IllegalArgumentException {
-        if (durationType == null || !checkInvalidDurationFormat(duration, durationType)) {
+        if (durationType == null) {
             throw new IllegalArgumentException();
         }
-        boolean isNegative = duration.charAt(0) == '-';
-        if (isNegative) {
-            duration = duration.substring(1);
-        }
-        PeriodFormatter pf = getPeriodFormatter(durationType);
-        Period period = Period.parse(duration, pf);
-        return isNegative
-            ? period.negated().normalizedStandard(getPeriodType(durationType))
-            : period.normalizedStandard(getPeriodType(durationType));
+        return DateTimeLexicalParser.parseDuration(duration, durationType)
+            .normalizedStandard(getPeriodType(durationType));
     }
 
     @Override
@@ -307,9 +307,10 @@ public class FunctionItem implements Item {
 
     public void populateClosureFromDynamicContext(DynamicContext dynamicContext, ExceptionMetadata metadata) {
         for (Name variable : dynamicContext.getVariableValues().getLocalVariableNames()) {
+            // copied, as the value may be a lazily deserialized view that cannot be serialized with the closure.
             this.localVariablesInClosure.put(
                 variable,
-                dynamicContext.getVariableValues().getLocalVariableValue(variable, metadata)
+                new ArrayList<>(dynamicContext.getVariableValues().getLocalVariableValue(variable, metadata))
             );
         }
         for (Name variable : dynamicContext.getVariableValues().getRDDVariableNames()) {
@@ -68,6 +68,11 @@ public class IntItem implements Item {
         return this.value;
     }
 
+    @Override
+    public long getLongValue() {
+        return this.value;
+    }
+
     @Override
     public BigInteger getIntegerValue() {
         return BigInteger.valueOf(this.value);
@@ -123,6 +128,11 @@ public class IntItem implements Item {
         return true;
     }
 
+    @Override
+    public boolean isLong() {
+        return true;
+    }
+
     @Override
     public boolean isDouble() {
         return false;
@@ -59,6 +59,9 @@ public class ItemFactory {
     }
 
     public Item createIntegerItem(BigInteger i) {
+        if (i.bitLength() < Long.SIZE) {
+            return new LongItem(i.longValue());
+        }
         return new IntegerItem(i);
     }
 
@@ -76,12 +79,15 @@ public class ItemFactory {
         if (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE) {
             return new IntItem((int) l);
         }
-        return new IntegerItem(BigInteger.valueOf(l));
+        return new LongItem(l);
     }
 
     public Item createIntegerItem(String lexicalValue) {
+        if (lexicalValue.length() >= 19) {
+            return createIntegerItem(new BigInteger(lexicalValue));
+        }
         if (lexicalValue.length() >= 10) {
-            return new IntegerItem(new BigInteger(lexicalValue));
+            return new LongItem(Long.parseLong(lexicalValue));
         }
         return new IntItem(Integer.parseInt(lexicalValue));
     }
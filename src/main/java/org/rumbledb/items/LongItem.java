@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.items;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+
+import org.rumbledb.api.Item;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.expressions.comparison.ComparisonExpression.ComparisonOperator;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
+import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.runtime.misc.ComparisonIterator;
+import org.rumbledb.types.ItemType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * An xs:integer whose value fits in a primitive long. Integers outside of this range are represented with an
+ * IntegerItem backed by a BigInteger.
+ */
+public class LongItem implements Item {
+
+
+    private static final long serialVersionUID = 1L;
+    private long value;
+
+    public LongItem() {
+        super();
+    }
+
+    public LongItem(long value) {
+        super();
+        this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object otherItem) {
+        if (otherItem instanceof Item) {
+            long c = ComparisonIterator.compareItems(
+                this,
+                (Item) otherItem,
+                ComparisonOperator.VC_EQ,
+                ExceptionMetadata.EMPTY_METADATA
+            );
+            return c == 0;
+        }
+        return false;
+    }
+
+    @Override
+    public long getLongValue() {
+        return this.value;
+    }
+
+    @Override
+    public BigInteger getIntegerValue() {
+        return BigInteger.valueOf(this.value);
+    }
+
+    @Override
+    public BigDecimal getDecimalValue() {
+        return BigDecimal.valueOf(this.value);
+    }
+
+    @Override
+    public boolean getEffectiveBooleanValue() {
+        return this.value != 0;
+    }
+
+    @Override
+    public String getStringValue() {
+        return String.valueOf(this.value);
+    }
+
+    @Override
+    public double castToDoubleValue() {
+        return (double) this.value;
+    }
+
+    @Override
+    public float castToFloatValue() {
+        return (float) this.value;
+    }
+
+    @Override
+    public BigDecimal castToDecimalValue() {
+        return BigDecimal.valueOf(this.value);
+    }
+
+    @Override
+    public BigInteger castToIntegerValue() {
+        return BigInteger.valueOf(this.value);
+    }
+
+    @Override
+    public int castToIntValue() {
+        return (int) this.value;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return true;
+    }
+
+    @Override
+    public boolean isDecimal() {
+        return true;
+    }
+
+    @Override
+    public boolean isLong() {
+        return true;
+    }
+
+    @Override
+    public void write(Kryo kryo, Output output) {
+        output.writeLong(this.value);
+    }
+
+    @Override
+    public void read(Kryo kryo, Input input) {
+        this.value = input.readLong();
+    }
+
+    /**
+     * Same hash code as the equivalent BigInteger, so that equal IntItems, LongItems and IntegerItems collide.
+     */
+    public int hashCode() {
+        long magnitude = Math.abs(this.value);
+        int high = (int) (magnitude >>> 32);
+        int low = (int) magnitude;
+        int hash = high == 0 ? low : 31 * high + low;
+        return this.value < 0 ? -hash : hash;
+    }
+
+    @Override
+    public ItemType getDynamicType() {
+        return BuiltinTypesCatalogue.integerItem;
+    }
+
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext context) {
+        return new NativeClauseContext(context, "" + this.value, BuiltinTypesCatalogue.integerItem);
+    }
+
+    public boolean isNumeric() {
+        return true;
+    }
+
+    @Override
+    public boolean isAtomic() {
+        return true;
+    }
+}
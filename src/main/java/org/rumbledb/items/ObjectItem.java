@@ -159,15 +159,27 @@ public class ObjectItem implements Item {
 
     @Override
     public void write(Kryo kryo, Output output) {
-        kryo.writeObject(output, this.keys);
-        kryo.writeObject(output, this.values);
+        // keys are written as plain strings, without the class header that a serialized list would add to each.
+        output.writeInt(this.keys.size(), true);
+        for (String key : this.keys) {
+            output.writeString(key);
+        }
+        for (Item value : this.values) {
+            kryo.writeClassAndObject(output, value);
+        }
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public void read(Kryo kryo, Input input) {
-        this.keys = kryo.readObject(input, ArrayList.class);
-        this.values = kryo.readObject(input, ArrayList.class);
+        int size = input.readInt(true);
+        this.keys = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            this.keys.add(input.readString());
+        }
+        this.values = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            this.values.add((Item) kryo.readClassAndObject(input));
+        }
     }
 
     public int hashCode() {
@@ -31,10 +31,7 @@ public class TimeItem implements Item {
 
     TimeItem(String dateTimeString) {
         this.value = DateTimeItem.parseDateTime(dateTimeString, BuiltinTypesCatalogue.timeItem);
-        if (!dateTimeString.endsWith("Z") && this.value.getZone() == DateTimeZone.getDefault()) {
-            this.hasTimeZone = false;
-            this.value = this.value.withZoneRetainFields(DateTimeZone.UTC);
-        }
+        this.hasTimeZone = DateTimeLexicalParser.hasTimeZone(dateTimeString);
     }
 
     @Override
@@ -93,16 +90,16 @@ public class TimeItem implements Item {
 
     @Override
     public void write(Kryo kryo, Output output) {
-        output.writeLong(this.value.getMillis(), true);
+        output.writeLong(this.value.getMillis(), false);
         output.writeBoolean(this.hasTimeZone);
-        output.writeString(this.value.getZone().getID());
+        DateTimeItem.writeTimeZone(output, this.value.getZone());
     }
 
     @Override
     public void read(Kryo kryo, Input input) {
-        Long millis = input.readLong(true);
+        long millis = input.readLong(false);
         this.hasTimeZone = input.readBoolean();
-        DateTimeZone zone = DateTimeZone.forID(input.readString());
+        DateTimeZone zone = DateTimeItem.readTimeZone(input);
         this.value = new DateTime(millis, zone);
     }
 
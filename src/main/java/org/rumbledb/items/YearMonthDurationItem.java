@@ -45,10 +45,7 @@ public class YearMonthDurationItem extends DurationItem {
 
     @Override
     public void read(Kryo kryo, Input input) {
-        this.value = getDurationFromString(input.readString(), BuiltinTypesCatalogue.yearMonthDurationItem)
-            .normalizedStandard(
-                yearMonthPeriodType
-            );
+        this.value = readPeriod(input).normalizedStandard(yearMonthPeriodType);
         this.isNegative = this.value.toString().contains("-");
     }
 
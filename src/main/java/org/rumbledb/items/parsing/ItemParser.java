@@ -66,6 +66,8 @@ public class ItemParser implements Serializable {
     private static final long serialVersionUID = 1L;
     private static final DataType vectorType = new VectorUDT();
     public static final DataType decimalType = new DecimalType(30, 15); // 30 and 15 are arbitrary
+    public static final String MALFORMED_JSON_MESSAGE =
+        "An error happened while parsing JSON. JSON is not well-formed! Hint: if you use json-file(), it must be in the JSON Lines format, with one value per line. If this is not the case, consider using json-doc().";
 
     /**
      * Parses a JSON string to an item.
@@ -136,10 +138,7 @@ public class ItemParser implements Serializable {
             }
             throw new ParsingException("Invalid value found while parsing. JSON is not well-formed!", metadata);
         } catch (Exception e) {
-            RumbleException r = new ParsingException(
-                    "An error happened while parsing JSON. JSON is not well-formed! Hint: if you use json-file(), it must be in the JSON Lines format, with one value per line. If this is not the case, consider using json-doc().",
-                    metadata
-            );
+            RumbleException r = new ParsingException(MALFORMED_JSON_MESSAGE, metadata);
             r.initCause(e);
             throw r;
         }
@@ -164,6 +163,16 @@ public class ItemParser implements Serializable {
             return convertValueToItem(row, 0, null, fields[0].dataType(), metadata, itemType);
         }
 
+        // Lines of JSON files that do not conform to an inferred schema are kept verbatim in an overflow column.
+        int overflowIndex = fields.length - 1;
+        if (
+            overflowIndex >= 0
+                && fieldnames[overflowIndex].equals(SparkSessionManager.overflowJSONiqItemColumnName)
+                && !row.isNullAt(overflowIndex)
+        ) {
+            return getItemFromObject(new JsonReader(new StringReader(row.getString(overflowIndex))), metadata);
+        }
+
         Map<String, FieldDescriptor> content = null;
 
         if (itemType != null && !itemType.equals(BuiltinTypesCatalogue.item)) {
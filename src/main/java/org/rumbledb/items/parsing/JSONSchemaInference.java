@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.items.parsing;
+
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.types.StructField;
+import org.apache.spark.sql.types.StructType;
+import org.rumbledb.api.Item;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.ParsingException;
+import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.types.FieldDescriptor;
+import org.rumbledb.types.ItemType;
+import org.rumbledb.types.ItemTypeFactory;
+
+import com.google.gson.stream.JsonReader;
+
+import sparksoniq.spark.SparkSessionManager;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Infers a JSound object type from a sample of JSON Lines, so that heterogeneous files read with json-file() can
+ * nevertheless be processed as DataFrames.
+ *
+ * Only the fields whose sampled values are all strings, booleans, doubles or integers fitting in an xs:int get a
+ * column. Lines in which any other value is found (nulls, decimals, nested objects and arrays, values of another
+ * type than inferred, or keys that were not sampled), as well as lines that are not objects, are additionally kept
+ * verbatim in an overflow column, from which they are parsed back when converted to items, so that no value is ever
+ * altered.
+ */
+public class JSONSchemaInference {
+
+    private static final int INT_BIT_LENGTH = 31;
+
+    /**
+     * Infers an object type from a sample of lines.
+     *
+     * @param lines the sampled lines.
+     * @param metadata the metadata used for parsing errors.
+     * @return the inferred type, or null if a line is not well-formed JSON.
+     */
+    public static ItemType inferItemType(List<String> lines, ExceptionMetadata metadata) {
+        Map<String, ItemType> fieldTypes = new LinkedHashMap<>();
+        Set<String> inconsistentFields = new HashSet<>();
+        for (String line : lines) {
+            Item item;
+            try {
+                item = ItemParser.getItemFromObject(new JsonReader(new StringReader(line)), metadata);
+            } catch (ParsingException e) {
+                return null;
+            }
+            if (!item.isObject()) {
+                continue;
+            }
+            for (String key : item.getKeys()) {
+                if (inconsistentFields.contains(key)) {
+                    continue;
+                }
+                ItemType type = getColumnType(item.getItemByKey(key));
+                ItemType previousType = fieldTypes.get(key);
+                if (type == null || (previousType != null && !previousType.equals(type))) {
+                    fieldTypes.remove(key);
+                    inconsistentFields.add(key);
+                    continue;
+                }
+                fieldTypes.put(key, type);
+            }
+        }
+        return ItemTypeFactory.createOpenObjectItemType(fieldTypes);
+    }
+
+    /**
+     * Returns the type of the column in which a value can be stored without altering it.
+     *
+     * @param value the value.
+     * @return the type of the column, or null if the value must be kept in the overflow column.
+     */
+    public static ItemType getColumnType(Item value) {
+        if (value.isString()) {
+            return BuiltinTypesCatalogue.stringItem;
+        }
+        if (value.isBoolean()) {
+            return BuiltinTypesCatalogue.booleanItem;
+        }
+        if (value.isDouble()) {
+            return BuiltinTypesCatalogue.doubleItem;
+        }
+        if (value.isInteger() && value.getIntegerValue().bitLength() <= INT_BIT_LENGTH) {
+            return BuiltinTypesCatalogue.intItem;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the DataFrame schema for an inferred type, which has an additional overflow column.
+     *
+     * @param itemType the inferred type.
+     * @return the DataFrame schema.
+     */
+    public static StructType getDataFrameSchema(ItemType itemType) {
+        List<StructField> fields = new ArrayList<>();
+        for (Map.Entry<String, FieldDescriptor> entry : itemType.getObjectContentFacet().entrySet()) {
+            fields.add(
+                DataTypes.createStructField(
+                    entry.getKey(),
+                    ItemParser.getDataFrameDataTypeFromItemType(entry.getValue().getType()),
+                    true
+                )
+            );
+        }
+        fields.add(
+            DataTypes.createStructField(SparkSessionManager.overflowJSONiqItemColumnName, DataTypes.StringType, true)
+        );
+        return DataTypes.createStructType(fields);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.items.parsing;
+
+import org.apache.spark.api.java.function.FlatMapFunction;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.RowFactory;
+import org.apache.spark.sql.types.StructType;
+import org.rumbledb.api.Item;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.types.BuiltinTypesCatalogue;
+import org.rumbledb.types.FieldDescriptor;
+import org.rumbledb.types.ItemType;
+
+import com.google.gson.stream.JsonReader;
+
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Parses JSON Lines into the rows of a DataFrame with the schema of a type inferred with JSONSchemaInference. The
+ * values that conform to the inferred type of their field are stored in its column, and the lines that contain any
+ * other value, or whose keys are not in the order of the columns, are also stored verbatim in the overflow column.
+ */
+public class JSONSyntaxToInferredRowMapper implements FlatMapFunction<Iterator<String>, Row> {
+
+    private static final long serialVersionUID = 1L;
+    private final ItemType itemType;
+    private final StructType schema;
+    private final ExceptionMetadata metadata;
+
+    public JSONSyntaxToInferredRowMapper(ItemType itemType, StructType schema, ExceptionMetadata metadata) {
+        this.itemType = itemType;
+        this.schema = schema;
+        this.metadata = metadata;
+    }
+
+    @Override
+    public Iterator<Row> call(Iterator<String> stringIterator) throws Exception {
+        return new Iterator<Row>() {
+            @Override
+            public boolean hasNext() {
+                return stringIterator.hasNext();
+            }
+
+            @Override
+            public Row next() {
+                return parseLine(stringIterator.next());
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private Row parseLine(String line) {
+        Item item = ItemParser.getItemFromObject(new JsonReader(new StringReader(line)), this.metadata);
+        Object[] values = new Object[this.schema.fields().length];
+        int overflowIndex = values.length - 1;
+        if (!item.isObject()) {
+            values[overflowIndex] = line;
+            return RowFactory.create(values);
+        }
+        Map<String, FieldDescriptor> facets = this.itemType.getObjectContentFacet();
+        int previousIndex = -1;
+        for (String key : item.getKeys()) {
+            Item value = item.getItemByKey(key);
+            FieldDescriptor facet = facets.get(key);
+            if (facet == null || !facet.getType().equals(JSONSchemaInference.getColumnType(value))) {
+                values[overflowIndex] = line;
+                continue;
+            }
+            int index = this.schema.fieldIndex(key);
+            if (index < previousIndex) {
+                // rebuilding the object from its columns would not preserve the order of its keys.
+                values[overflowIndex] = line;
+            }
+            previousIndex = index;
+            values[index] = getColumnValue(value, facet.getType());
+        }
+        return RowFactory.create(values);
+    }
+
+    private static Object getColumnValue(Item value, ItemType type) {
+        if (type.isSubtypeOf(BuiltinTypesCatalogue.stringItem)) {
+            return value.getStringValue();
+        }
+        if (type.isSubtypeOf(BuiltinTypesCatalogue.booleanItem)) {
+            return value.getBooleanValue();
+        }
+        if (type.isSubtypeOf(BuiltinTypesCatalogue.doubleItem)) {
+            return value.getDoubleValue();
+        }
+        return value.getIntegerValue().intValue();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.items.parsing;
+
+import org.apache.spark.api.java.function.FlatMapFunction;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.RowFactory;
+import org.apache.spark.sql.types.ArrayType;
+import org.apache.spark.sql.types.DataType;
+import org.apache.spark.sql.types.StructField;
+import org.apache.spark.sql.types.StructType;
+import org.rumbledb.api.Item;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.InvalidInstanceException;
+import org.rumbledb.exceptions.ParsingException;
+import org.rumbledb.exceptions.RumbleException;
+import org.rumbledb.runtime.typing.ValidateTypeIterator;
+import org.rumbledb.types.FieldDescriptor;
+import org.rumbledb.types.ItemType;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses JSON Lines directly into the rows of a DataFrame with the schema of a JSound type, validating the values
+ * while reading them. Objects and arrays are read token by token into rows and arrays, without building items, so
+ * that only atomic values are materialized as items to be validated (or cast) and converted to column values exactly
+ * like ValidateTypeIterator does for items.
+ */
+public class JSONSyntaxToRowMapper implements FlatMapFunction<Iterator<String>, Row> {
+
+    private static final long serialVersionUID = 1L;
+    private final ItemType itemType;
+    private final StructType schema;
+    private final DynamicContext context;
+    private final ExceptionMetadata metadata;
+
+    public JSONSyntaxToRowMapper(
+            ItemType itemType,
+            StructType schema,
+            DynamicContext context,
+            ExceptionMetadata metadata
+    ) {
+        this.itemType = itemType;
+        this.schema = schema;
+        this.context = context;
+        this.metadata = metadata;
+    }
+
+    @Override
+    public Iterator<Row> call(Iterator<String> stringIterator) throws Exception {
+        return new Iterator<Row>() {
+            @Override
+            public boolean hasNext() {
+                return stringIterator.hasNext();
+            }
+
+            @Override
+            public Row next() {
+                return parseLine(stringIterator.next());
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private Row parseLine(String line) {
+        if (line.trim().isEmpty()) {
+            throw new ParsingException(
+                    "An empty line was found in a JSON Lines file, which must contain exactly one value per line.",
+                    this.metadata
+            );
+        }
+        JsonReader reader = new JsonReader(new StringReader(line));
+        try {
+            Row result;
+            if (this.itemType.isAtomicItemType()) {
+                result = RowFactory.create(readValue(reader, this.itemType, this.schema.fields()[0].dataType()));
+            } else {
+                result = (Row) readValue(reader, this.itemType, this.schema);
+            }
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                // the line contains more than one value.
+                throw new ParsingException(ItemParser.MALFORMED_JSON_MESSAGE, this.metadata);
+            }
+            return result;
+        } catch (IOException | IllegalStateException e) {
+            RumbleException r = new ParsingException(ItemParser.MALFORMED_JSON_MESSAGE, this.metadata);
+            r.initCause(e);
+            throw r;
+        }
+    }
+
+    private Object readValue(JsonReader reader, ItemType type, DataType dataType) throws IOException {
+        JsonToken token = reader.peek();
+        if (type.isObjectItemType() && token == JsonToken.BEGIN_OBJECT) {
+            return readObject(reader, type, (StructType) dataType);
+        }
+        if (type.isArrayItemType() && token == JsonToken.BEGIN_ARRAY) {
+            return readArray(reader, type, (ArrayType) dataType);
+        }
+        // Atomic values, as well as values of the wrong kind (which fail validation), are handled as items.
+        Item item = ItemParser.getItemFromObject(reader, this.metadata);
+        return ValidateTypeIterator.getRowColumnFromItemUsingDataType(
+            ValidateTypeIterator.validate(item, type, this.metadata),
+            dataType,
+            this.context
+        );
+    }
+
+    private Row readObject(JsonReader reader, ItemType type, StructType struct) throws IOException {
+        Map<String, FieldDescriptor> facets = type.getObjectContentFacet();
+        StructField[] fields = struct.fields();
+        Object[] values = new Object[fields.length];
+        boolean[] present = new boolean[fields.length];
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            if (facets.containsKey(key)) {
+                int index = struct.fieldIndex(key);
+                values[index] = readValue(reader, facets.get(key).getType(), fields[index].dataType());
+                present[index] = true;
+            } else {
+                if (type.getClosedFacet()) {
+                    throw new InvalidInstanceException(
+                            "Unexpected key in closed object type + "
+                                + type.getIdentifierString()
+                                + " : "
+                                + key
+                    );
+                }
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        for (Map.Entry<String, FieldDescriptor> facet : facets.entrySet()) {
+            int index = struct.fieldIndex(facet.getKey());
+            if (present[index]) {
+                continue;
+            }
+            Item defaultValue = facet.getValue().getDefaultValue();
+            if (defaultValue != null) {
+                values[index] = ValidateTypeIterator.getRowColumnFromItemUsingDataType(
+                    defaultValue,
+                    fields[index].dataType(),
+                    this.context
+                );
+            }
+            if (facet.getValue().isRequired()) {
+                throw new InvalidInstanceException(
+                        "Missing required key in object type + "
+                            + type.getIdentifierString()
+                            + " : "
+                            + facet.getKey()
+                );
+            }
+        }
+        return RowFactory.create(values);
+    }
+
+    private Object[] readArray(JsonReader reader, ItemType type, ArrayType arrayType) throws IOException {
+        List<Object> members = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            members.add(readValue(reader, type.getArrayContentFacet(), arrayType.elementType()));
+        }
+        reader.endArray();
+        Integer minLength = type.getMinLengthFacet();
+        Integer maxLength = type.getMaxLengthFacet();
+        if (minLength != null && members.size() < minLength) {
+            throw new InvalidInstanceException(
+                    "Array has " + members.size() + " members but the type requires at least " + minLength
+            );
+        }
+        if (maxLength != null && members.size() > maxLength) {
+            throw new InvalidInstanceException(
+                    "Array has " + members.size() + " members but the type requires at most " + maxLength
+            );
+        }
+        return members.toArray();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.optimizations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.rumbledb.context.Name;
+import org.rumbledb.context.StaticContext;
+import org.rumbledb.expressions.Expression;
+import org.rumbledb.expressions.Node;
+import org.rumbledb.expressions.flowr.Clause;
+import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
+import org.rumbledb.expressions.flowr.FlworExpression;
+import org.rumbledb.expressions.flowr.LetClause;
+import org.rumbledb.expressions.module.Module;
+import org.rumbledb.expressions.primary.VariableReferenceExpression;
+
+/**
+ * Evaluates identical sub-expressions that appear several times in the same clause of a FLWOR expression only once
+ * per tuple, by binding them with a let clause inserted before the clause:
+ *
+ * for $o in $orders where string-length($o.name) gt 3 and string-length($o.name) lt 10 return $o
+ *
+ * becomes
+ *
+ * for $o in $orders let $common1 := string-length($o.name) where $common1 gt 3 and $common1 lt 10 return $o
+ *
+ * Only sub-expressions that call a function are bound, and one of their occurrences must be evaluated each time the
+ * clause is (see ExpressionTrees.getAlwaysEvaluatedChildren()), so that the let clause does not evaluate an
+ * expression the clause would skip. The other occurrences must not be in the scope of variables bound within the
+ * clause. Group by, count and window clauses, as well as the first clause (evaluated once), are left unchanged.
+ */
+public class CommonSubexpressionRule implements RewriteRule {
+
+    private int counter = 0;
+
+    @Override
+    public String getName() {
+        return "common-subexpression-elimination";
+    }
+
+    @Override
+    public boolean rewrite(Module module) {
+        boolean changed = false;
+        for (FlworExpression expression : ExpressionTrees.getFlworExpressions(module)) {
+            for (Clause clause : ExpressionTrees.getClauses(expression)) {
+                FLWOR_CLAUSES clauseType = clause.getClauseType();
+                if (
+                    clause.getPreviousClause() != null
+                        && (clauseType.equals(FLWOR_CLAUSES.LET)
+                            || clauseType.equals(FLWOR_CLAUSES.FOR)
+                            || clauseType.equals(FLWOR_CLAUSES.WHERE)
+                            || clauseType.equals(FLWOR_CLAUSES.ORDER_BY)
+                            || clauseType.equals(FLWOR_CLAUSES.RETURN))
+                        && eliminate(clause)
+                ) {
+                    changed = true;
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Binds the first sub-expression of a clause that appears several times with a let clause inserted before it.
+     */
+    private boolean eliminate(Clause clause) {
+        StaticContext context = clause.getStaticContext();
+        List<Expression> candidates = new ArrayList<>();
+        for (Node child : clause.getChildren()) {
+            collectCandidates(child, context, candidates);
+        }
+        for (Expression candidate : candidates) {
+            List<Expression> occurrences = new ArrayList<>();
+            for (Node child : clause.getChildren()) {
+                collectOccurrences(child, candidate, context, occurrences);
+            }
+            if (occurrences.size() > 1 && replaceOccurrences(clause, candidate, occurrences)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean replaceOccurrences(Clause clause, Expression candidate, List<Expression> occurrences) {
+        // All replacements are checked before the tree is modified.
+        Map<Node, Node> parents = ExpressionTrees.getParents(clause);
+        Name name = createVariableName();
+        List<VariableReferenceExpression> references = new ArrayList<>();
+        for (Expression occurrence : occurrences) {
+            VariableReferenceExpression reference = new VariableReferenceExpression(name, occurrence.getMetadata());
+            if (!ExpressionTrees.canReplaceChild(parents.get(occurrence), occurrence)) {
+                return false;
+            }
+            references.add(reference);
+        }
+        LetClause letClause = new LetClause(name, null, candidate, candidate.getMetadata());
+        StaticContext context = clause.getStaticContext();
+        letClause.setStaticContext(context);
+        StaticContext result = new StaticContext(context);
+        result.addVariable(name, null, letClause.getMetadata());
+        for (int i = 0; i < occurrences.size(); ++i) {
+            ExpressionTrees.replaceChild(parents.get(occurrences.get(i)), occurrences.get(i), references.get(i));
+            references.get(i).setStaticContext(result);
+        }
+        clause.chainBefore(letClause);
+        clause.setStaticContext(result);
+        return true;
+    }
+
+    private Name createVariableName() {
+        ++this.counter;
+        return Name.createVariableInNoNamespace("$common" + this.counter);
+    }
+
+    /**
+     * Collects the sub-expressions of a node that are evaluated each time it is and that could be bound before the
+     * clause, larger ones first.
+     */
+    private static void collectCandidates(Node node, StaticContext context, List<Expression> candidates) {
+        if (node instanceof Expression && isCandidate((Expression) node, context)) {
+            candidates.add((Expression) node);
+        }
+        for (Node child : ExpressionTrees.getAlwaysEvaluatedChildren(node)) {
+            collectCandidates(child, context, candidates);
+        }
+    }
+
+    /**
+     * Collects the occurrences of an expression in a node (anywhere in the node, even if they are evaluated
+     * conditionally), except those that are nested in another occurrence.
+     */
+    private static void collectOccurrences(
+            Node node,
+            Expression expression,
+            StaticContext context,
+            List<Expression> occurrences
+    ) {
+        if (
+            node instanceof Expression
+                && ExpressionTrees.isSameExpression(node, expression)
+                && ExpressionTrees.canBeEvaluatedIn((Expression) node, context)
+        ) {
+            occurrences.add((Expression) node);
+            return;
+        }
+        for (Node child : node.getChildren()) {
+            collectOccurrences(child, expression, context, occurrences);
+        }
+    }
+
+    private static boolean isCandidate(Expression expression, StaticContext context) {
+        return ExpressionTrees.isWorthCaching(expression)
+            && ExpressionTrees.canBeEvaluatedIn(expression, context)
+            && !ExpressionTrees.mayReturnBigSequence(expression);
+    }
+}
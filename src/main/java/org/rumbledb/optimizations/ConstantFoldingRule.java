@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.optimizations;
+
+import java.util.Map;
+
+import org.rumbledb.api.Item;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.expressions.Expression;
+import org.rumbledb.expressions.Node;
+import org.rumbledb.expressions.arithmetic.AdditiveExpression;
+import org.rumbledb.expressions.arithmetic.MultiplicativeExpression;
+import org.rumbledb.expressions.arithmetic.UnaryExpression;
+import org.rumbledb.expressions.miscellaneous.StringConcatExpression;
+import org.rumbledb.expressions.module.Module;
+import org.rumbledb.expressions.primary.DecimalLiteralExpression;
+import org.rumbledb.expressions.primary.DoubleLiteralExpression;
+import org.rumbledb.expressions.primary.IntegerLiteralExpression;
+import org.rumbledb.expressions.primary.StringLiteralExpression;
+import org.rumbledb.items.ItemFactory;
+import org.rumbledb.runtime.arithmetics.AdditiveOperationIterator;
+import org.rumbledb.runtime.arithmetics.MultiplicativeOperationIterator;
+
+/**
+ * Replaces arithmetic expressions on numeric literals, and concatenations of string literals, with the literal they
+ * evaluate to, so that they are not evaluated again for each tuple or item. Operations that fail, such as divisions by
+ * zero, are left as they are so that the error is raised at runtime.
+ */
+public class ConstantFoldingRule implements RewriteRule {
+
+    @Override
+    public String getName() {
+        return "constant-folding";
+    }
+
+    @Override
+    public boolean rewrite(Module module) {
+        Map<Node, Node> parents = ExpressionTrees.getParents(module);
+        boolean changed = false;
+        // Children come first, so that nested operations are folded bottom up in a single pass.
+        for (Node node : ExpressionTrees.getNodesInPostOrder(module)) {
+            Expression folded = fold(node);
+            if (folded == null || !parents.containsKey(node)) {
+                continue;
+            }
+            folded.setStaticContext(((Expression) node).getStaticContext());
+            if (ExpressionTrees.replaceChild(parents.get(node), node, folded)) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private static Expression fold(Node node) {
+        try {
+            if (node instanceof AdditiveExpression) {
+                AdditiveExpression expression = (AdditiveExpression) node;
+                Item left = getNumericLiteral(expression.getLeftExpression());
+                Item right = getNumericLiteral(expression.getRightExpression());
+                if (left == null || right == null) {
+                    return null;
+                }
+                return toLiteral(
+                    AdditiveOperationIterator.processItem(left, right, expression.isMinus()),
+                    expression.getMetadata()
+                );
+            }
+            if (node instanceof MultiplicativeExpression) {
+                MultiplicativeExpression expression = (MultiplicativeExpression) node;
+                Item left = getNumericLiteral(expression.getLeftExpression());
+                Item right = getNumericLiteral(expression.getRightExpression());
+                if (left == null || right == null) {
+                    return null;
+                }
+                return toLiteral(
+                    MultiplicativeOperationIterator.processItem(
+                        left,
+                        right,
+                        expression.getMultiplicativeOperator(),
+                        expression.getMetadata()
+                    ),
+                    expression.getMetadata()
+                );
+            }
+            if (node instanceof UnaryExpression) {
+                UnaryExpression expression = (UnaryExpression) node;
+                Item operand = getNumericLiteral(expression.getMainExpression());
+                if (operand == null) {
+                    return null;
+                }
+                if (!expression.isNegated()) {
+                    return toLiteral(operand, expression.getMetadata());
+                }
+                return toLiteral(
+                    MultiplicativeOperationIterator.processItem(
+                        ItemFactory.getInstance().createIntItem(-1),
+                        operand,
+                        MultiplicativeExpression.MultiplicativeOperator.MUL,
+                        expression.getMetadata()
+                    ),
+                    expression.getMetadata()
+                );
+            }
+            if (node instanceof StringConcatExpression) {
+                StringConcatExpression expression = (StringConcatExpression) node;
+                if (
+                    expression.getLeftExpression() instanceof StringLiteralExpression
+                        && expression.getRightExpression() instanceof StringLiteralExpression
+                ) {
+                    return new StringLiteralExpression(
+                            ((StringLiteralExpression) expression.getLeftExpression()).getValue()
+                                + ((StringLiteralExpression) expression.getRightExpression()).getValue(),
+                            expression.getMetadata()
+                    );
+                }
+            }
+        } catch (RuntimeException e) {
+            // The operation fails: the error is left to the runtime.
+        }
+        return null;
+    }
+
+    private static Item getNumericLiteral(Expression expression) {
+        if (expression instanceof IntegerLiteralExpression) {
+            return ItemFactory.getInstance()
+                .createIntegerItem(((IntegerLiteralExpression) expression).getLexicalValue());
+        }
+        if (expression instanceof DecimalLiteralExpression) {
+            return ItemFactory.getInstance().createDecimalItem(((DecimalLiteralExpression) expression).getValue());
+        }
+        if (expression instanceof DoubleLiteralExpression) {
+            return ItemFactory.getInstance().createDoubleItem(((DoubleLiteralExpression) expression).getValue());
+        }
+        return null;
+    }
+
+    private static Expression toLiteral(Item item, ExceptionMetadata metadata) {
+        if (item == null) {
+            return null;
+        }
+        if (item.isInteger()) {
+            return new IntegerLiteralExpression(item.getIntegerValue().toString(), metadata);
+        }
+        if (item.isDecimal()) {
+            return new DecimalLiteralExpression(item.getDecimalValue(), metadata);
+        }
+        if (item.isDouble() && !Double.isNaN(item.getDoubleValue()) && !Double.isInfinite(item.getDoubleValue())) {
+            return new DoubleLiteralExpression(item.getDoubleValue(), metadata);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.optimizations;
+
+import org.rumbledb.expressions.flowr.Clause;
+import org.rumbledb.expressions.flowr.FlworExpression;
+import org.rumbledb.expressions.flowr.LetClause;
+import org.rumbledb.expressions.module.Module;
+
+/**
+ * Removes let clauses whose variable is not referenced by any of the following clauses, so that their expression is
+ * neither evaluated nor stored in the tuples. Let clauses with a declared type are kept, as the type check may fail.
+ */
+public class DeadLetEliminationRule implements RewriteRule {
+
+    @Override
+    public String getName() {
+        return "dead-let-elimination";
+    }
+
+    @Override
+    public boolean rewrite(Module module) {
+        boolean changed = false;
+        for (FlworExpression expression : ExpressionTrees.getFlworExpressions(module)) {
+            for (Clause clause : ExpressionTrees.getClauses(expression)) {
+                if (!(clause instanceof LetClause)) {
+                    continue;
+                }
+                LetClause letClause = (LetClause) clause;
+                if (
+                    letClause.getActualSequenceType() == null
+                        && ExpressionTrees.countReferencesInFollowingClauses(letClause) == 0
+                        && ExpressionTrees.canBeUnchained(letClause)
+                ) {
+                    letClause.unchain();
+                    changed = true;
+                }
+            }
+        }
+        return changed;
+    }
+}
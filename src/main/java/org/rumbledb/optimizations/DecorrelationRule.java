@@ -0,0 +1,343 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.optimizations;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.rumbledb.context.Name;
+import org.rumbledb.context.StaticContext;
+import org.rumbledb.expressions.Expression;
+import org.rumbledb.expressions.Node;
+import org.rumbledb.expressions.comparison.ComparisonExpression;
+import org.rumbledb.expressions.control.ConditionalExpression;
+import org.rumbledb.expressions.control.SwitchExpression;
+import org.rumbledb.expressions.control.TryCatchExpression;
+import org.rumbledb.expressions.control.TypeSwitchExpression;
+import org.rumbledb.expressions.flowr.Clause;
+import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
+import org.rumbledb.expressions.flowr.FlworExpression;
+import org.rumbledb.expressions.flowr.ForClause;
+import org.rumbledb.expressions.flowr.LetClause;
+import org.rumbledb.expressions.flowr.ReturnClause;
+import org.rumbledb.expressions.flowr.SimpleMapExpression;
+import org.rumbledb.expressions.flowr.WhereClause;
+import org.rumbledb.expressions.logic.AndExpression;
+import org.rumbledb.expressions.logic.OrExpression;
+import org.rumbledb.expressions.module.Module;
+import org.rumbledb.expressions.postfix.FilterExpression;
+import org.rumbledb.expressions.primary.ContextItemExpression;
+import org.rumbledb.expressions.primary.FunctionCallExpression;
+import org.rumbledb.expressions.primary.InlineFunctionExpression;
+import org.rumbledb.expressions.primary.VariableReferenceExpression;
+
+/**
+ * Rewrites nested FLWOR expressions of the form
+ *
+ * for $i in $sequence where $i.foo eq $outer.bar ... return ...
+ *
+ * that appear in the return clause (or as the expression of a let clause) of another FLWOR expression, and that are
+ * correlated with it through the where clause, into let clauses of the outer FLWOR expression:
+ *
+ * let $matches := $sequence[$$.foo eq $outer.bar]
+ * let $nested := for $i in $matches ... return ...
+ *
+ * When the outer FLWOR expression runs on DataFrames and the sequence is big, the let clause binding the predicate
+ * expression is evaluated as an equi-join followed by a grouping of the matches of each tuple, instead of a subquery
+ * per tuple (which would fail or collect the sequence). The second let clause only processes the matches of each
+ * tuple, and is not needed if the nested FLWOR expression just returns $i.
+ *
+ * Nested FLWOR expressions are not moved out of expressions evaluating them conditionally or changing the focus, nor
+ * after an order by clause, as the join does not preserve the order of the tuples.
+ */
+public class DecorrelationRule implements RewriteRule {
+
+    private int counter = 0;
+
+    @Override
+    public String getName() {
+        return "flwor-decorrelation";
+    }
+
+    @Override
+    public boolean rewrite(Module module) {
+        boolean changed = false;
+        for (FlworExpression expression : ExpressionTrees.getFlworExpressions(module)) {
+            for (Clause clause : ExpressionTrees.getClauses(expression)) {
+                if (clause.getClauseType().equals(FLWOR_CLAUSES.ORDER_BY)) {
+                    break;
+                }
+                if (clause instanceof LetClause) {
+                    LetClause letClause = (LetClause) clause;
+                    if (
+                        letClause.getExpression() instanceof FlworExpression
+                            && isCorrelatedSubquery((FlworExpression) letClause.getExpression())
+                            && decorrelate(letClause, (FlworExpression) letClause.getExpression(), null)
+                    ) {
+                        changed = true;
+                    }
+                }
+                if (clause instanceof ReturnClause) {
+                    Expression returnExpression = ((ReturnClause) clause).getReturnExpr();
+                    FlworExpression nested = findCorrelatedSubquery(returnExpression);
+                    if (nested != null) {
+                        Node parent = nested == returnExpression
+                            ? clause
+                            : ExpressionTrees.getParents(returnExpression).get(nested);
+                        if (decorrelate(clause, nested, parent)) {
+                            changed = true;
+                        }
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Moves a nested FLWOR expression to let clauses inserted before a clause.
+     *
+     * @param clause the clause in which the nested FLWOR expression appears.
+     * @param nested the nested FLWOR expression.
+     * @param parent the parent of the nested FLWOR expression, or null if it is the expression of a let clause, which
+     *        is then kept as the second let clause.
+     * @return true if the rewrite was applied.
+     */
+    private boolean decorrelate(Clause clause, FlworExpression nested, Node parent) {
+        List<Clause> nestedClauses = ExpressionTrees.getClauses(nested);
+        ForClause forClause = (ForClause) nestedClauses.get(0);
+        WhereClause whereClause = (WhereClause) nestedClauses.get(1);
+        Expression condition = whereClause.getWhereExpression();
+        Name variableName = forClause.getVariableName();
+        boolean returnsVariable = nestedClauses.size() == 3
+            && nested.getReturnClause().getReturnExpr() instanceof VariableReferenceExpression
+            && ((VariableReferenceExpression) nested.getReturnClause().getReturnExpr()).getVariableName()
+                .equals(variableName);
+
+        // All replacements are checked before the tree is modified.
+        Map<Node, Node> conditionParents = ExpressionTrees.getParents(condition);
+        List<VariableReferenceExpression> references = new ArrayList<>();
+        for (Node node : ExpressionTrees.getNodesInPostOrder(condition)) {
+            if (
+                node instanceof VariableReferenceExpression
+                    && ((VariableReferenceExpression) node).getVariableName().equals(variableName)
+            ) {
+                references.add((VariableReferenceExpression) node);
+            }
+        }
+        List<ContextItemExpression> contextItems = new ArrayList<>();
+        for (VariableReferenceExpression reference : references) {
+            ContextItemExpression contextItem = new ContextItemExpression(reference.getMetadata());
+            contextItem.setStaticContext(condition.getStaticContext());
+            if (!ExpressionTrees.canReplaceChild(conditionParents.get(reference), reference)) {
+                return false;
+            }
+            contextItems.add(contextItem);
+        }
+        FilterExpression matches = new FilterExpression(
+                forClause.getExpression(),
+                condition,
+                whereClause.getMetadata()
+        );
+        matches.setStaticContext(forClause.getExpression().getStaticContext());
+        VariableReferenceExpression matchesReference = null;
+        if (!returnsVariable) {
+            matchesReference = new VariableReferenceExpression(createVariableName(), forClause.getMetadata());
+            if (!ExpressionTrees.canReplaceChild(forClause, forClause.getExpression())) {
+                return false;
+            }
+        }
+        VariableReferenceExpression nestedReference = null;
+        if (parent != null) {
+            nestedReference = new VariableReferenceExpression(createVariableName(), nested.getMetadata());
+            if (!ExpressionTrees.canReplaceChild(parent, nested)) {
+                return false;
+            }
+        } else if (returnsVariable && !ExpressionTrees.canReplaceChild(clause, nested)) {
+            return false;
+        }
+
+        for (int i = 0; i < references.size(); ++i) {
+            VariableReferenceExpression reference = references.get(i);
+            ExpressionTrees.replaceChild(conditionParents.get(reference), reference, contextItems.get(i));
+        }
+        if (returnsVariable) {
+            if (parent == null) {
+                ExpressionTrees.replaceChild(clause, nested, matches);
+            } else {
+                insertLetClause(
+                    clause,
+                    new LetClause(nestedReference.getVariableName(), null, matches, matches.getMetadata())
+                );
+            }
+        } else {
+            LetClause matchesClause = new LetClause(
+                    matchesReference.getVariableName(),
+                    null,
+                    matches,
+                    matches.getMetadata()
+            );
+            insertLetClause(clause, matchesClause);
+            ExpressionTrees.replaceChild(forClause, forClause.getExpression(), matchesReference);
+            matchesReference.setStaticContext(clause.getStaticContext());
+            whereClause.unchain();
+            if (parent != null) {
+                insertLetClause(
+                    clause,
+                    new LetClause(nestedReference.getVariableName(), null, nested, nested.getMetadata())
+                );
+            }
+        }
+        if (parent != null) {
+            ExpressionTrees.replaceChild(parent, nested, nestedReference);
+            nestedReference.setStaticContext(clause.getStaticContext());
+        }
+        return true;
+    }
+
+    private Name createVariableName() {
+        ++this.counter;
+        return Name.createVariableInNoNamespace("$decorrelated" + this.counter);
+    }
+
+    /**
+     * Chains a new let clause before a clause, in the static context of which the let variable is added.
+     */
+    private static void insertLetClause(Clause clause, LetClause letClause) {
+        StaticContext context = clause.getStaticContext();
+        letClause.setStaticContext(context);
+        StaticContext result = new StaticContext(context);
+        result.addVariable(letClause.getVariableName(), null, letClause.getMetadata());
+        clause.chainBefore(letClause);
+        clause.setStaticContext(result);
+    }
+
+    /**
+     * Looks for a correlated nested FLWOR expression that is evaluated exactly once each time an expression is.
+     */
+    private static FlworExpression findCorrelatedSubquery(Node node) {
+        if (node instanceof FlworExpression) {
+            return isCorrelatedSubquery((FlworExpression) node) ? (FlworExpression) node : null;
+        }
+        if (node instanceof FilterExpression) {
+            return findCorrelatedSubquery(((FilterExpression) node).getMainExpression());
+        }
+        if (
+            node instanceof InlineFunctionExpression
+                || node instanceof SimpleMapExpression
+                || node instanceof ConditionalExpression
+                || node instanceof SwitchExpression
+                || node instanceof TypeSwitchExpression
+                || node instanceof TryCatchExpression
+                || node instanceof AndExpression
+                || node instanceof OrExpression
+        ) {
+            return null;
+        }
+        for (Node child : node.getChildren()) {
+            FlworExpression result = findCorrelatedSubquery(child);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Tells whether a FLWOR expression starts with a for clause followed by a where clause, the condition of which is
+     * a value equality between an expression of the for variable only and an expression of other variables. This is
+     * the predicate that the let clause can evaluate as an equi-join.
+     */
+    private static boolean isCorrelatedSubquery(FlworExpression expression) {
+        List<Clause> clauses = ExpressionTrees.getClauses(expression);
+        if (
+            clauses.size() < 3
+                || !(clauses.get(0) instanceof ForClause)
+                || !(clauses.get(1) instanceof WhereClause)
+        ) {
+            return false;
+        }
+        ForClause forClause = (ForClause) clauses.get(0);
+        if (
+            forClause.isAllowEmpty()
+                || forClause.getPositionalVariableName() != null
+                || forClause.getActualSequenceType() != null
+        ) {
+            return false;
+        }
+        Expression condition = ((WhereClause) clauses.get(1)).getWhereExpression();
+        if (
+            !(condition instanceof ComparisonExpression)
+                || !((ComparisonExpression) condition).getComparisonOperator()
+                    .equals(ComparisonExpression.ComparisonOperator.VC_EQ)
+        ) {
+            return false;
+        }
+        Set<Name> leftVariables = getReferencedVariables(condition.getChildren().get(0));
+        Set<Name> rightVariables = getReferencedVariables(condition.getChildren().get(1));
+        if (leftVariables == null || rightVariables == null) {
+            return false;
+        }
+        Name variableName = forClause.getVariableName();
+        if (leftVariables.equals(Collections.singleton(variableName))) {
+            return !rightVariables.isEmpty() && !rightVariables.contains(variableName);
+        }
+        if (rightVariables.equals(Collections.singleton(variableName))) {
+            return !leftVariables.isEmpty() && !leftVariables.contains(variableName);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the variables referenced by a side of the comparison.
+     *
+     * @param side the side of the comparison.
+     * @return the names of the variables, or null if the side cannot be part of a predicate.
+     */
+    private static Set<Name> getReferencedVariables(Node side) {
+        Set<Name> result = new HashSet<>();
+        for (Node node : ExpressionTrees.getNodesInPostOrder(side)) {
+            if (
+                node instanceof ContextItemExpression
+                    || node instanceof FilterExpression
+                    || node instanceof SimpleMapExpression
+                    || node instanceof InlineFunctionExpression
+                    || node instanceof FlworExpression
+            ) {
+                return null;
+            }
+            if (node instanceof FunctionCallExpression) {
+                String functionName = ((FunctionCallExpression) node).getFunctionName().getLocalName();
+                if (functionName.equals("position") || functionName.equals("last")) {
+                    return null;
+                }
+            }
+            if (node instanceof VariableReferenceExpression) {
+                result.add(((VariableReferenceExpression) node).getVariableName());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,442 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.optimizations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.rumbledb.context.BuiltinFunctionCatalogue;
+import org.rumbledb.context.FunctionIdentifier;
+import org.rumbledb.context.Name;
+import org.rumbledb.context.StaticContext;
+import org.rumbledb.expressions.Expression;
+import org.rumbledb.expressions.Node;
+import org.rumbledb.expressions.control.ConditionalExpression;
+import org.rumbledb.expressions.control.SwitchExpression;
+import org.rumbledb.expressions.control.TryCatchExpression;
+import org.rumbledb.expressions.control.TypeSwitchExpression;
+import org.rumbledb.expressions.flowr.Clause;
+import org.rumbledb.expressions.flowr.CountClause;
+import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
+import org.rumbledb.expressions.flowr.FlworExpression;
+import org.rumbledb.expressions.flowr.ForClause;
+import org.rumbledb.expressions.flowr.GroupByClause;
+import org.rumbledb.expressions.flowr.GroupByVariableDeclaration;
+import org.rumbledb.expressions.flowr.LetClause;
+import org.rumbledb.expressions.flowr.SimpleMapExpression;
+import org.rumbledb.expressions.flowr.WindowClause;
+import org.rumbledb.expressions.logic.AndExpression;
+import org.rumbledb.expressions.logic.OrExpression;
+import org.rumbledb.expressions.postfix.DynamicFunctionCallExpression;
+import org.rumbledb.expressions.postfix.FilterExpression;
+import org.rumbledb.expressions.primary.ContextItemExpression;
+import org.rumbledb.expressions.primary.FunctionCallExpression;
+import org.rumbledb.expressions.primary.InlineFunctionExpression;
+import org.rumbledb.expressions.primary.StringLiteralExpression;
+import org.rumbledb.expressions.primary.VariableReferenceExpression;
+
+/**
+ * Helpers for navigating and modifying the expression tree in rewrite rules.
+ */
+final class ExpressionTrees {
+
+    private static final Set<String> FOCUS_INDEPENDENT_FUNCTIONS = new HashSet<>(
+            Arrays.asList("current-dateTime", "current-date", "current-time", "implicit-timezone")
+    );
+
+    private ExpressionTrees() {
+    }
+
+    /**
+     * Returns all the nodes of a tree, children before their parents. Unlike Node.getDescendants(), this includes all
+     * the clauses of FLWOR expressions.
+     *
+     * @param root the root of the tree.
+     * @return the nodes, in post order.
+     */
+    static List<Node> getNodesInPostOrder(Node root) {
+        List<Node> result = new ArrayList<>();
+        addNodesInPostOrder(root, result);
+        return result;
+    }
+
+    private static void addNodesInPostOrder(Node node, List<Node> result) {
+        if (node instanceof Clause && ((Clause) node).getPreviousClause() != null) {
+            addNodesInPostOrder(((Clause) node).getPreviousClause(), result);
+        }
+        for (Node child : node.getChildren()) {
+            addNodesInPostOrder(child, result);
+        }
+        result.add(node);
+    }
+
+    /**
+     * Maps every node of a tree to its parent, i.e., the node whose getChildren() contains it.
+     *
+     * @param root the root of the tree.
+     * @return the parents of the nodes.
+     */
+    static Map<Node, Node> getParents(Node root) {
+        Map<Node, Node> result = new IdentityHashMap<>();
+        for (Node node : getNodesInPostOrder(root)) {
+            for (Node child : node.getChildren()) {
+                result.put(child, node);
+            }
+        }
+        return result;
+    }
+
+    static List<FlworExpression> getFlworExpressions(Node root) {
+        List<FlworExpression> result = new ArrayList<>();
+        for (Node node : getNodesInPostOrder(root)) {
+            if (node instanceof FlworExpression) {
+                result.add((FlworExpression) node);
+            }
+        }
+        return result;
+    }
+
+    static List<Clause> getClauses(FlworExpression expression) {
+        List<Clause> result = new ArrayList<>();
+        Clause clause = expression.getReturnClause().getFirstClause();
+        while (clause != null) {
+            result.add(clause);
+            clause = clause.getNextClause();
+        }
+        return result;
+    }
+
+    /**
+     * Counts the references to a variable in a node and its descendants, regardless of shadowing.
+     *
+     * @param node the node.
+     * @param name the name of the variable.
+     * @return the number of references.
+     */
+    static int countReferences(Node node, Name name) {
+        int result = 0;
+        if (
+            node instanceof VariableReferenceExpression
+                && ((VariableReferenceExpression) node).getVariableName().equals(name)
+        ) {
+            ++result;
+        }
+        for (Node child : node.getChildren()) {
+            result += countReferences(child, name);
+        }
+        return result;
+    }
+
+    /**
+     * Counts the references to the variable bound by a let clause in the following clauses, until the variable is
+     * bound again. References in nested expressions that shadow the variable are counted as well, so that the result
+     * is never lower than the actual number of references.
+     *
+     * @param letClause the let clause.
+     * @return the number of references.
+     */
+    static int countReferencesInFollowingClauses(LetClause letClause) {
+        Name name = letClause.getVariableName();
+        int result = 0;
+        for (Clause clause = letClause.getNextClause(); clause != null; clause = clause.getNextClause()) {
+            if (clause instanceof GroupByClause) {
+                for (GroupByVariableDeclaration variable : ((GroupByClause) clause).getGroupVariables()) {
+                    if (variable.getExpression() == null) {
+                        if (variable.getVariableName().equals(name)) {
+                            ++result;
+                        }
+                    } else {
+                        result += countReferences(variable.getExpression(), name);
+                    }
+                }
+            } else {
+                for (Node child : clause.getChildren()) {
+                    result += countReferences(child, name);
+                }
+            }
+            if (bindsVariable(clause, name)) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tells whether a clause (re)binds a variable for the clauses that follow it.
+     *
+     * @param clause the clause.
+     * @param name the name of the variable.
+     * @return true if the clause binds the variable.
+     */
+    static boolean bindsVariable(Clause clause, Name name) {
+        if (clause instanceof LetClause) {
+            return ((LetClause) clause).getVariableName().equals(name);
+        }
+        if (clause instanceof ForClause) {
+            return ((ForClause) clause).getVariableName().equals(name)
+                || name.equals(((ForClause) clause).getPositionalVariableName());
+        }
+        if (clause instanceof WindowClause) {
+            return ((WindowClause) clause).getVariableName().equals(name);
+        }
+        if (clause instanceof CountClause) {
+            return ((CountClause) clause).getCountVariable().getVariableName().equals(name);
+        }
+        if (clause instanceof GroupByClause) {
+            for (GroupByVariableDeclaration variable : ((GroupByClause) clause).getGroupVariables()) {
+                if (variable.getVariableName().equals(name)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tells whether a clause can be removed from its FLWOR expression, which must still start with a for or let
+     * clause and contain at least one clause besides the return clause.
+     *
+     * @param clause the clause to remove.
+     * @return true if the clause can be removed.
+     */
+    static boolean canBeUnchained(Clause clause) {
+        if (clause.getPreviousClause() != null) {
+            return true;
+        }
+        FLWOR_CLAUSES nextClauseType = clause.getNextClause().getClauseType();
+        return nextClauseType.equals(FLWOR_CLAUSES.FOR) || nextClauseType.equals(FLWOR_CLAUSES.LET);
+    }
+
+    /**
+     * Returns the children of a node that are evaluated each time the node is. Branches of conditional expressions,
+     * operands of and/or expressions that may be skipped, predicates and the right-hand side of simple maps
+     * (evaluated once per item), as well as the bodies of functions and nested FLWOR expressions, are left out.
+     *
+     * @param node the node.
+     * @return the children always evaluated with the node.
+     */
+    static List<Node> getAlwaysEvaluatedChildren(Node node) {
+        if (node instanceof ConditionalExpression) {
+            return Collections.singletonList(((ConditionalExpression) node).getCondition());
+        }
+        if (node instanceof SwitchExpression) {
+            return Collections.singletonList(((SwitchExpression) node).getTestCondition());
+        }
+        if (node instanceof TypeSwitchExpression) {
+            return Collections.singletonList(((TypeSwitchExpression) node).getTestCondition());
+        }
+        if (node instanceof FilterExpression) {
+            return Collections.singletonList(((FilterExpression) node).getMainExpression());
+        }
+        if (node instanceof AndExpression || node instanceof OrExpression || node instanceof SimpleMapExpression) {
+            return Collections.singletonList(node.getChildren().get(0));
+        }
+        if (
+            node instanceof TryCatchExpression
+                || node instanceof FlworExpression
+                || node instanceof InlineFunctionExpression
+        ) {
+            return Collections.emptyList();
+        }
+        return node.getChildren();
+    }
+
+    /**
+     * Tells whether an expression is worth evaluating only once instead of each time it appears: it must call a
+     * function, which must not be fn:error or fn:trace (evaluated for their effect), nor a function without arguments
+     * that depends on the focus (such as position() or string()).
+     *
+     * @param expression the expression.
+     * @return true if the expression calls functions that can be evaluated once.
+     */
+    static boolean isWorthCaching(Expression expression) {
+        boolean callsFunction = false;
+        for (Node node : getNodesInPostOrder(expression)) {
+            if (node instanceof DynamicFunctionCallExpression) {
+                callsFunction = true;
+            }
+            if (node instanceof FunctionCallExpression) {
+                FunctionCallExpression call = (FunctionCallExpression) node;
+                String localName = call.getFunctionName().getLocalName();
+                if (localName.equals("error") || localName.equals("trace")) {
+                    return false;
+                }
+                if (
+                    call.getArguments() != null
+                        && call.getArguments().isEmpty()
+                        && !FOCUS_INDEPENDENT_FUNCTIONS.contains(localName)
+                ) {
+                    return false;
+                }
+                callsFunction = true;
+            }
+        }
+        return callsFunction;
+    }
+
+    /**
+     * Tells whether an expression only depends on variables that are in scope in a given static context, so that
+     * evaluating it there gives the same result. The expression must not depend on the focus, nor bind variables
+     * itself, and none of its variables may be bound in a context that is not an ancestor of the given one.
+     *
+     * @param expression the expression.
+     * @param context the static context in which the expression would be evaluated.
+     * @return true if the expression can be evaluated in the given context.
+     */
+    static boolean canBeEvaluatedIn(Expression expression, StaticContext context) {
+        Set<StaticContext> ancestors = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (StaticContext ancestor = context; ancestor != null; ancestor = ancestor.getParent()) {
+            ancestors.add(ancestor);
+        }
+        for (Node node : getNodesInPostOrder(expression)) {
+            if (
+                node instanceof ContextItemExpression
+                    || node instanceof FlworExpression
+                    || node instanceof InlineFunctionExpression
+                    || node instanceof TypeSwitchExpression
+            ) {
+                return false;
+            }
+            if (node instanceof VariableReferenceExpression) {
+                Name name = ((VariableReferenceExpression) node).getVariableName();
+                StaticContext binding = ((VariableReferenceExpression) node).getStaticContext();
+                while (binding != null && !ancestors.contains(binding)) {
+                    if (binding.getInScopeVariables().containsKey(name)) {
+                        return false;
+                    }
+                    binding = binding.getParent();
+                }
+                if (binding == null) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tells whether an expression may return a sequence evaluated with Spark (an RDD or a DataFrame), which cannot be
+     * bound to a variable used within Spark jobs. Calls to functions that return a local result, such as count(),
+     * hide the sequences of their arguments.
+     *
+     * @param node the expression.
+     * @return true if the expression may return a big sequence.
+     */
+    static boolean mayReturnBigSequence(Node node) {
+        if (node instanceof FunctionCallExpression) {
+            FunctionIdentifier identifier = ((FunctionCallExpression) node).getFunctionIdentifier();
+            List<Expression> arguments = ((FunctionCallExpression) node).getArguments();
+            if (BuiltinFunctionCatalogue.exists(identifier)) {
+                switch (BuiltinFunctionCatalogue.getBuiltinFunction(identifier).getBuiltinFunctionExecutionMode()) {
+                    case LOCAL:
+                        return false;
+                    case RDD:
+                    case DATAFRAME:
+                        return true;
+                    default:
+                        return arguments != null
+                            && !arguments.isEmpty()
+                            && arguments.get(0) != null
+                            && mayReturnBigSequence(arguments.get(0));
+                }
+            }
+        }
+        for (Node child : node.getChildren()) {
+            if (mayReturnBigSequence(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tells whether two expressions are identical, i.e., are made of the same nodes with the same literals, operators,
+     * names and variables.
+     *
+     * @param first the first expression.
+     * @param second the second expression.
+     * @return true if the expressions are identical.
+     */
+    static boolean isSameExpression(Node first, Node second) {
+        return serialize(first).equals(serialize(second)) && haveSameLiterals(first, second);
+    }
+
+    private static String serialize(Node node) {
+        StringBuffer sb = new StringBuffer();
+        node.serializeToJSONiq(sb, 0);
+        return sb.toString();
+    }
+
+    // String literals are serialized without escaping, which the serialization alone does not disambiguate.
+    private static boolean haveSameLiterals(Node first, Node second) {
+        if (!first.getClass().equals(second.getClass())) {
+            return false;
+        }
+        if (
+            first instanceof StringLiteralExpression
+                && !((StringLiteralExpression) first).getValue().equals(((StringLiteralExpression) second).getValue())
+        ) {
+            return false;
+        }
+        List<Node> firstChildren = first.getChildren();
+        List<Node> secondChildren = second.getChildren();
+        if (firstChildren.size() != secondChildren.size()) {
+            return false;
+        }
+        for (int i = 0; i < firstChildren.size(); ++i) {
+            if (!haveSameLiterals(firstChildren.get(i), secondChildren.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces a child of a node with another expression.
+     *
+     * @param parent the parent node.
+     * @param oldChild the child to replace.
+     * @param newChild the new child.
+     * @return true if the child was replaced, false if it is not a replaceable child of the parent.
+     */
+    static boolean replaceChild(Node parent, Node oldChild, Expression newChild) {
+        return parent.replaceChild(oldChild, newChild);
+    }
+
+    /**
+     * Tells whether replaceChild() would succeed, without modifying the tree. This allows rules that perform several
+     * replacements to check that all of them are possible first.
+     *
+     * @param parent the parent node.
+     * @param oldChild the child to replace.
+     * @return true if the child can be replaced.
+     */
+    static boolean canReplaceChild(Node parent, Node oldChild) {
+        // All the replaceable children are expressions: replacing the child with itself leaves the tree unchanged.
+        return oldChild instanceof Expression && parent.replaceChild(oldChild, (Expression) oldChild);
+    }
+}
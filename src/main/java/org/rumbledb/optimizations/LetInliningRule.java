@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.optimizations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.rumbledb.context.Name;
+import org.rumbledb.expressions.Node;
+import org.rumbledb.expressions.control.TryCatchExpression;
+import org.rumbledb.expressions.control.TypeSwitchExpression;
+import org.rumbledb.expressions.flowr.Clause;
+import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
+import org.rumbledb.expressions.flowr.FlworExpression;
+import org.rumbledb.expressions.flowr.LetClause;
+import org.rumbledb.expressions.flowr.SimpleMapExpression;
+import org.rumbledb.expressions.module.Module;
+import org.rumbledb.expressions.postfix.FilterExpression;
+import org.rumbledb.expressions.primary.InlineFunctionExpression;
+import org.rumbledb.expressions.primary.VariableReferenceExpression;
+
+/**
+ * Replaces the only reference to the variable of a let clause with the let expression, and removes the let clause,
+ * so that the value is not materialized into the tuples (or serialized into a DataFrame column).
+ *
+ * The expression is only moved if it is evaluated at most as many times, with the same variables in scope: there
+ * must not be any for, window, group by, order by or count clause between the let clause and the reference, nor any
+ * let clause rebinding a variable the expression uses, and the reference must not be nested in a FLWOR expression,
+ * a function, a predicate, a simple map, a typeswitch or a try/catch expression.
+ *
+ * Let clauses bound to a predicate or FLWOR expression are kept, as they may be evaluated as a join when the FLWOR
+ * expression runs on DataFrames (see DecorrelationRule).
+ */
+public class LetInliningRule implements RewriteRule {
+
+    @Override
+    public String getName() {
+        return "let-inlining";
+    }
+
+    @Override
+    public boolean rewrite(Module module) {
+        boolean changed = false;
+        for (FlworExpression expression : ExpressionTrees.getFlworExpressions(module)) {
+            for (Clause clause : ExpressionTrees.getClauses(expression)) {
+                if (clause instanceof LetClause && inline((LetClause) clause)) {
+                    changed = true;
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static boolean inline(LetClause letClause) {
+        if (
+            letClause.getActualSequenceType() != null
+                || letClause.getExpression() instanceof FilterExpression
+                || letClause.getExpression() instanceof FlworExpression
+                || !ExpressionTrees.canBeUnchained(letClause)
+                || ExpressionTrees.countReferencesInFollowingClauses(letClause) != 1
+        ) {
+            return false;
+        }
+        List<Name> usedVariables = new ArrayList<>();
+        for (Node node : ExpressionTrees.getNodesInPostOrder(letClause.getExpression())) {
+            if (node instanceof VariableReferenceExpression) {
+                usedVariables.add(((VariableReferenceExpression) node).getVariableName());
+            }
+        }
+        Name name = letClause.getVariableName();
+        for (Clause clause = letClause.getNextClause(); clause != null; clause = clause.getNextClause()) {
+            FLWOR_CLAUSES clauseType = clause.getClauseType();
+            if (
+                clauseType.equals(FLWOR_CLAUSES.LET)
+                    || clauseType.equals(FLWOR_CLAUSES.FOR)
+                    || clauseType.equals(FLWOR_CLAUSES.WHERE)
+                    || clauseType.equals(FLWOR_CLAUSES.ORDER_BY)
+                    || clauseType.equals(FLWOR_CLAUSES.RETURN)
+            ) {
+                for (Node child : clause.getChildren()) {
+                    Node parent = findParentOfReference(child, clause, name);
+                    if (parent != null) {
+                        VariableReferenceExpression reference = getReference(parent, name);
+                        if (!ExpressionTrees.replaceChild(parent, reference, letClause.getExpression())) {
+                            return false;
+                        }
+                        letClause.unchain();
+                        return true;
+                    }
+                }
+            }
+            if (
+                (!clauseType.equals(FLWOR_CLAUSES.LET) && !clauseType.equals(FLWOR_CLAUSES.WHERE))
+                    || ExpressionTrees.bindsVariable(clause, name)
+            ) {
+                return false;
+            }
+            for (Name usedVariable : usedVariables) {
+                if (ExpressionTrees.bindsVariable(clause, usedVariable)) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Looks for a reference to a variable that is not nested in an expression changing the focus, binding variables
+     * or catching errors.
+     *
+     * @param node the node to search in.
+     * @param parent the parent of the node.
+     * @param name the name of the variable.
+     * @return the parent of the reference, or null if there is none.
+     */
+    private static Node findParentOfReference(Node node, Node parent, Name name) {
+        if (node instanceof VariableReferenceExpression) {
+            return ((VariableReferenceExpression) node).getVariableName().equals(name) ? parent : null;
+        }
+        if (node instanceof FilterExpression) {
+            // The predicate changes the focus, but the filtered expression does not.
+            return findParentOfReference(((FilterExpression) node).getMainExpression(), node, name);
+        }
+        if (
+            node instanceof FlworExpression
+                || node instanceof InlineFunctionExpression
+                || node instanceof SimpleMapExpression
+                || node instanceof TypeSwitchExpression
+                || node instanceof TryCatchExpression
+        ) {
+            return null;
+        }
+        for (Node child : node.getChildren()) {
+            Node result = findParentOfReference(child, node, name);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    private static VariableReferenceExpression getReference(Node parent, Name name) {
+        for (Node child : parent.getChildren()) {
+            if (
+                child instanceof VariableReferenceExpression
+                    && ((VariableReferenceExpression) child).getVariableName().equals(name)
+            ) {
+                return (VariableReferenceExpression) child;
+            }
+        }
+        return null;
+    }
+}
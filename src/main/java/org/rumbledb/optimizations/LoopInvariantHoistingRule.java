@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.optimizations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.rumbledb.context.Name;
+import org.rumbledb.context.StaticContext;
+import org.rumbledb.expressions.Expression;
+import org.rumbledb.expressions.Node;
+import org.rumbledb.expressions.flowr.Clause;
+import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
+import org.rumbledb.expressions.flowr.FlworExpression;
+import org.rumbledb.expressions.flowr.LetClause;
+import org.rumbledb.expressions.flowr.ReturnClause;
+import org.rumbledb.expressions.module.Module;
+import org.rumbledb.expressions.primary.VariableReferenceExpression;
+
+/**
+ * Moves the sub-expressions of a FLWOR expression that are evaluated once per tuple, but do not depend on any
+ * variable bound by the FLWOR expression, to let clauses of an enclosing FLWOR expression:
+ *
+ * for $o in $orders where $o.date lt current-dateTime() return $o.id
+ *
+ * becomes
+ *
+ * let $invariant1 := current-dateTime() return for $o in $orders where $o.date lt $invariant1 return $o.id
+ *
+ * so that they are evaluated once, before the tuples are produced, rather than by each call of the closures that
+ * evaluate the clauses on the tuples. When the FLWOR expression runs on DataFrames, the values are shipped to the
+ * executors with these closures, like any other variable bound outside of the FLWOR expression. Identical
+ * sub-expressions share the same let clause.
+ *
+ * Only sub-expressions that call a function, that are evaluated each time the clause is (see
+ * ExpressionTrees.getAlwaysEvaluatedChildren()) and that do not return a big sequence are moved. Clauses that precede
+ * the first for or window clause are evaluated once anyway and are left unchanged.
+ */
+public class LoopInvariantHoistingRule implements RewriteRule {
+
+    private int counter = 0;
+
+    @Override
+    public String getName() {
+        return "loop-invariant-hoisting";
+    }
+
+    @Override
+    public boolean rewrite(Module module) {
+        boolean changed = false;
+        for (FlworExpression expression : ExpressionTrees.getFlworExpressions(module)) {
+            List<Expression> invariants = new ArrayList<>();
+            List<Node> parents = new ArrayList<>();
+            boolean iterating = false;
+            for (Clause clause : ExpressionTrees.getClauses(expression)) {
+                if (iterating && !clause.getClauseType().equals(FLWOR_CLAUSES.WINDOW)) {
+                    for (Node child : clause.getChildren()) {
+                        collectInvariants(child, clause, expression.getStaticContext(), invariants, parents);
+                    }
+                }
+                if (
+                    clause.getClauseType().equals(FLWOR_CLAUSES.FOR)
+                        || clause.getClauseType().equals(FLWOR_CLAUSES.WINDOW)
+                ) {
+                    iterating = true;
+                }
+            }
+            if (!invariants.isEmpty() && hoist(module, expression, invariants, parents)) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Wraps a FLWOR expression into a FLWOR expression that binds its invariant sub-expressions with let clauses, and
+     * replaces them with references to these variables.
+     */
+    private boolean hoist(Module module, FlworExpression expression, List<Expression> invariants, List<Node> parents) {
+        Node expressionParent = ExpressionTrees.getParents(module).get(expression);
+        if (expressionParent == null) {
+            return false;
+        }
+        // All replacements are checked before the tree is modified.
+        List<LetClause> letClauses = new ArrayList<>();
+        List<VariableReferenceExpression> references = new ArrayList<>();
+        for (int i = 0; i < invariants.size(); ++i) {
+            Expression invariant = invariants.get(i);
+            LetClause letClause = null;
+            for (LetClause existing : letClauses) {
+                if (ExpressionTrees.isSameExpression(existing.getExpression(), invariant)) {
+                    letClause = existing;
+                    break;
+                }
+            }
+            if (letClause == null) {
+                letClause = new LetClause(createVariableName(), null, invariant, invariant.getMetadata());
+                letClauses.add(letClause);
+            }
+            VariableReferenceExpression reference = new VariableReferenceExpression(
+                    letClause.getVariableName(),
+                    invariant.getMetadata()
+            );
+            if (!ExpressionTrees.canReplaceChild(parents.get(i), invariant)) {
+                return false;
+            }
+            references.add(reference);
+        }
+        ReturnClause returnClause = new ReturnClause(expression, expression.getMetadata());
+        for (int i = 1; i < letClauses.size(); ++i) {
+            letClauses.get(i - 1).chainWith(letClauses.get(i));
+        }
+        letClauses.get(letClauses.size() - 1).chainWith(returnClause);
+        FlworExpression wrapper = new FlworExpression(returnClause, expression.getMetadata());
+        if (!ExpressionTrees.canReplaceChild(expressionParent, expression)) {
+            return false;
+        }
+
+        StaticContext context = expression.getStaticContext();
+        wrapper.setStaticContext(context);
+        for (LetClause letClause : letClauses) {
+            letClause.setStaticContext(context);
+            context = new StaticContext(context);
+            context.addVariable(letClause.getVariableName(), null, letClause.getMetadata());
+        }
+        returnClause.setStaticContext(context);
+        ExpressionTrees.replaceChild(expressionParent, expression, wrapper);
+        for (int i = 0; i < invariants.size(); ++i) {
+            ExpressionTrees.replaceChild(parents.get(i), invariants.get(i), references.get(i));
+            references.get(i).setStaticContext(context);
+        }
+        // The FLWOR expression is now evaluated with the new variables in scope.
+        expression.setStaticContext(context);
+        return true;
+    }
+
+    private Name createVariableName() {
+        ++this.counter;
+        return Name.createVariableInNoNamespace("$invariant" + this.counter);
+    }
+
+    /**
+     * Collects the largest invariant sub-expressions of a node that are evaluated each time it is.
+     */
+    private static void collectInvariants(
+            Node node,
+            Node parent,
+            StaticContext context,
+            List<Expression> invariants,
+            List<Node> parents
+    ) {
+        if (node instanceof Expression && isInvariant((Expression) node, context)) {
+            invariants.add((Expression) node);
+            parents.add(parent);
+            return;
+        }
+        for (Node child : ExpressionTrees.getAlwaysEvaluatedChildren(node)) {
+            collectInvariants(child, node, context, invariants, parents);
+        }
+    }
+
+    private static boolean isInvariant(Expression expression, StaticContext context) {
+        return ExpressionTrees.isWorthCaching(expression)
+            && ExpressionTrees.canBeEvaluatedIn(expression, context)
+            && !ExpressionTrees.mayReturnBigSequence(expression);
+    }
+}
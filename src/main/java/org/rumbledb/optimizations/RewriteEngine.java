@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.optimizations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.rumbledb.config.RumbleRuntimeConfiguration;
+import org.rumbledb.expressions.module.Module;
+
+/**
+ * Applies rewrite rules to the expression tree of a module until none of them modifies it any more (or a maximum
+ * number of passes is reached). Rules can be deactivated by name with the disabled-rewrite-rules parameter.
+ */
+public class RewriteEngine {
+
+    private static final int MAX_PASSES = 10;
+
+    private final List<RewriteRule> rules;
+    private final RumbleRuntimeConfiguration configuration;
+
+    public RewriteEngine(RumbleRuntimeConfiguration configuration) {
+        this.configuration = configuration;
+        this.rules = new ArrayList<>();
+        List<String> disabledRules = configuration.getDisabledRewriteRules();
+        for (RewriteRule rule : getDefaultRules()) {
+            if (!disabledRules.contains(rule.getName())) {
+                this.rules.add(rule);
+            }
+        }
+    }
+
+    /**
+     * Returns the rules available by default, in the order in which they are applied within a pass.
+     *
+     * @return the rules.
+     */
+    public static List<RewriteRule> getDefaultRules() {
+        return Arrays.asList(
+            new ConstantFoldingRule(),
+            new DecorrelationRule(),
+            new WhereHoistingRule(),
+            new LoopInvariantHoistingRule(),
+            new CommonSubexpressionRule(),
+            new LetInliningRule(),
+            new DeadLetEliminationRule()
+        );
+    }
+
+    /**
+     * Rewrites the expression tree of a module.
+     *
+     * @param module the module to rewrite.
+     * @return true if the tree was modified, false otherwise.
+     */
+    public boolean rewrite(Module module) {
+        if (this.rules.isEmpty()) {
+            return false;
+        }
+        String before = this.configuration.printRewrites() ? serialize(module) : null;
+        Set<String> appliedRules = new LinkedHashSet<>();
+        for (int pass = 0; pass < MAX_PASSES; ++pass) {
+            boolean changed = false;
+            for (RewriteRule rule : this.rules) {
+                if (rule.rewrite(module)) {
+                    appliedRules.add(rule.getName());
+                    changed = true;
+                }
+            }
+            if (!changed) {
+                break;
+            }
+        }
+        if (this.configuration.printRewrites()) {
+            System.err.println("****************************");
+            System.err.println("Query before rewrites");
+            System.err.println("****************************");
+            System.err.println(before);
+            System.err.println("****************************");
+            System.err.println("Query after rewrites");
+            System.err.println("****************************");
+            System.err.println(appliedRules.isEmpty() ? "No rule applied." : "Applied rules: " + appliedRules);
+            System.err.println(serialize(module));
+        }
+        return !appliedRules.isEmpty();
+    }
+
+    private static String serialize(Module module) {
+        StringBuffer sb = new StringBuffer();
+        module.serializeToJSONiq(sb, 0);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.optimizations;
+
+import org.rumbledb.expressions.module.Module;
+
+/**
+ * A rule that rewrites the expression tree of a module into an equivalent, cheaper one. Rules are applied by the
+ * RewriteEngine after the static context is populated, and before types are inferred and execution modes are set.
+ */
+public interface RewriteRule {
+
+    /**
+     * The name under which the rule is shown and can be deactivated.
+     *
+     * @return the name of the rule.
+     */
+    String getName();
+
+    /**
+     * Applies the rule everywhere in the expression tree of a module.
+     *
+     * @param module the module to rewrite.
+     * @return true if the tree was modified, false otherwise.
+     */
+    boolean rewrite(Module module);
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.optimizations;
+
+import org.rumbledb.expressions.flowr.Clause;
+import org.rumbledb.expressions.flowr.FlworExpression;
+import org.rumbledb.expressions.flowr.LetClause;
+import org.rumbledb.expressions.flowr.WhereClause;
+import org.rumbledb.expressions.module.Module;
+
+/**
+ * Moves where clauses before the let clauses they do not depend on, so that tuples are filtered out before the let
+ * expressions are evaluated for them. A where clause is never moved before the first clause.
+ */
+public class WhereHoistingRule implements RewriteRule {
+
+    @Override
+    public String getName() {
+        return "where-hoisting";
+    }
+
+    @Override
+    public boolean rewrite(Module module) {
+        boolean changed = false;
+        for (FlworExpression expression : ExpressionTrees.getFlworExpressions(module)) {
+            for (Clause clause : ExpressionTrees.getClauses(expression)) {
+                if (!(clause instanceof WhereClause)) {
+                    continue;
+                }
+                WhereClause whereClause = (WhereClause) clause;
+                while (canBeHoisted(whereClause)) {
+                    Clause letClause = whereClause.getPreviousClause();
+                    whereClause.unchain();
+                    letClause.chainBefore(whereClause);
+                    changed = true;
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static boolean canBeHoisted(WhereClause whereClause) {
+        Clause previousClause = whereClause.getPreviousClause();
+        return previousClause instanceof LetClause
+            && previousClause.getPreviousClause() != null
+            && ExpressionTrees.countReferences(
+                whereClause.getWhereExpression(),
+                ((LetClause) previousClause).getVariableName()
+            ) == 0;
+    }
+}
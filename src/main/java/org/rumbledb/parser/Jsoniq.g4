@@ -85,8 +85,8 @@ exprSingle              : flowrExpr
                         | tryCatchExpr
                         | orExpr;
 
-flowrExpr               : (start_for=forClause| start_let=letClause)
-                          (forClause | whereClause | letClause | groupByClause | orderByClause | countClause)*
+flowrExpr               : (start_for=forClause| start_window=windowClause | start_let=letClause)
+                          (forClause | windowClause | whereClause | letClause | groupByClause | orderByClause | countClause)*
                           Kreturn return_expr=exprSingle;
 
 forClause               : Kfor vars+=forVar (',' vars+=forVar)*;
@@ -97,6 +97,28 @@ forVar                  : var_ref=varRef
                           (Kat at=varRef)?
                           Kin ex=exprSingle;
 
+// window, tumbling, sliding, start, end, only, previous, next and when are not reserved, so that they can
+// still be used as names (e.g., unquoted object keys).
+windowClause            : Kfor kind=windowKind {_input.LT(1).getText().equals("window")}? NCName
+                          var_ref=varRef (Kas seq=sequenceType)?
+                          Kin ex=exprSingle
+                          start_cond=windowStartCondition
+                          end_cond=windowEndCondition?;
+
+windowKind              : {_input.LT(1).getText().equals("tumbling") || _input.LT(1).getText().equals("sliding")}? NCName;
+
+windowStartCondition    : {_input.LT(1).getText().equals("start")}? NCName vars=windowVars
+                          {_input.LT(1).getText().equals("when")}? NCName ex=exprSingle;
+
+windowEndCondition      : ({_input.LT(1).getText().equals("only")}? only=NCName)?
+                          {_input.LT(1).getText().equals("end")}? NCName vars=windowVars
+                          {_input.LT(1).getText().equals("when")}? NCName ex=exprSingle;
+
+windowVars              : (current=varRef)?
+                          (Kat position=varRef)?
+                          ({_input.LT(1).getText().equals("previous")}? NCName previous=varRef)?
+                          ({_input.LT(1).getText().equals("next")}? NCName next=varRef)?;
+
 letClause               : Klet vars+=letVar (',' vars+=letVar)*;
 
 letVar                  : var_ref=varRef (Kas seq=sequenceType)? ':=' ex=exprSingle ;
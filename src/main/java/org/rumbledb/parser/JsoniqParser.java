@@ -6,10 +6,12 @@ package org.rumbledb.parser;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.antlr.v4.runtime.FailedPredicateException;
 import org.antlr.v4.runtime.NoViableAltException;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.RuleContext;
 import org.antlr.v4.runtime.RuntimeMetaData;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.TokenStream;
@@ -58,27 +60,29 @@ public class JsoniqParser extends Parser {
 		RULE_moduleImport = 14, RULE_varDecl = 15, RULE_contextItemDecl = 16, 
 		RULE_functionDecl = 17, RULE_typeDecl = 18, RULE_schemaLanguage = 19, 
 		RULE_paramList = 20, RULE_param = 21, RULE_expr = 22, RULE_exprSingle = 23, 
-		RULE_flowrExpr = 24, RULE_forClause = 25, RULE_forVar = 26, RULE_letClause = 27, 
-		RULE_letVar = 28, RULE_whereClause = 29, RULE_groupByClause = 30, RULE_groupByVar = 31, 
-		RULE_orderByClause = 32, RULE_orderByExpr = 33, RULE_countClause = 34, 
-		RULE_quantifiedExpr = 35, RULE_quantifiedExprVar = 36, RULE_switchExpr = 37, 
-		RULE_switchCaseClause = 38, RULE_typeSwitchExpr = 39, RULE_caseClause = 40, 
-		RULE_ifExpr = 41, RULE_tryCatchExpr = 42, RULE_catchClause = 43, RULE_orExpr = 44, 
-		RULE_andExpr = 45, RULE_notExpr = 46, RULE_comparisonExpr = 47, RULE_stringConcatExpr = 48, 
-		RULE_rangeExpr = 49, RULE_additiveExpr = 50, RULE_multiplicativeExpr = 51, 
-		RULE_instanceOfExpr = 52, RULE_isStaticallyExpr = 53, RULE_treatExpr = 54, 
-		RULE_castableExpr = 55, RULE_castExpr = 56, RULE_arrowExpr = 57, RULE_arrowFunctionSpecifier = 58, 
-		RULE_unaryExpr = 59, RULE_valueExpr = 60, RULE_validateExpr = 61, RULE_simpleMapExpr = 62, 
-		RULE_postFixExpr = 63, RULE_arrayLookup = 64, RULE_arrayUnboxing = 65, 
-		RULE_predicate = 66, RULE_objectLookup = 67, RULE_primaryExpr = 68, RULE_varRef = 69, 
-		RULE_parenthesizedExpr = 70, RULE_contextItemExpr = 71, RULE_orderedExpr = 72, 
-		RULE_unorderedExpr = 73, RULE_functionCall = 74, RULE_argumentList = 75, 
-		RULE_argument = 76, RULE_functionItemExpr = 77, RULE_namedFunctionRef = 78, 
-		RULE_inlineFunctionExpr = 79, RULE_sequenceType = 80, RULE_objectConstructor = 81, 
-		RULE_itemType = 82, RULE_functionTest = 83, RULE_anyFunctionTest = 84, 
-		RULE_typedFunctionTest = 85, RULE_singleType = 86, RULE_pairConstructor = 87, 
-		RULE_arrayConstructor = 88, RULE_uriLiteral = 89, RULE_stringLiteral = 90, 
-		RULE_keyWords = 91;
+		RULE_flowrExpr = 24, RULE_forClause = 25, RULE_forVar = 26, RULE_windowClause = 27, 
+		RULE_windowKind = 28, RULE_windowStartCondition = 29, RULE_windowEndCondition = 30, 
+		RULE_windowVars = 31, RULE_letClause = 32, RULE_letVar = 33, RULE_whereClause = 34, 
+		RULE_groupByClause = 35, RULE_groupByVar = 36, RULE_orderByClause = 37, 
+		RULE_orderByExpr = 38, RULE_countClause = 39, RULE_quantifiedExpr = 40, 
+		RULE_quantifiedExprVar = 41, RULE_switchExpr = 42, RULE_switchCaseClause = 43, 
+		RULE_typeSwitchExpr = 44, RULE_caseClause = 45, RULE_ifExpr = 46, RULE_tryCatchExpr = 47, 
+		RULE_catchClause = 48, RULE_orExpr = 49, RULE_andExpr = 50, RULE_notExpr = 51, 
+		RULE_comparisonExpr = 52, RULE_stringConcatExpr = 53, RULE_rangeExpr = 54, 
+		RULE_additiveExpr = 55, RULE_multiplicativeExpr = 56, RULE_instanceOfExpr = 57, 
+		RULE_isStaticallyExpr = 58, RULE_treatExpr = 59, RULE_castableExpr = 60, 
+		RULE_castExpr = 61, RULE_arrowExpr = 62, RULE_arrowFunctionSpecifier = 63, 
+		RULE_unaryExpr = 64, RULE_valueExpr = 65, RULE_validateExpr = 66, RULE_simpleMapExpr = 67, 
+		RULE_postFixExpr = 68, RULE_arrayLookup = 69, RULE_arrayUnboxing = 70, 
+		RULE_predicate = 71, RULE_objectLookup = 72, RULE_primaryExpr = 73, RULE_varRef = 74, 
+		RULE_parenthesizedExpr = 75, RULE_contextItemExpr = 76, RULE_orderedExpr = 77, 
+		RULE_unorderedExpr = 78, RULE_functionCall = 79, RULE_argumentList = 80, 
+		RULE_argument = 81, RULE_functionItemExpr = 82, RULE_namedFunctionRef = 83, 
+		RULE_inlineFunctionExpr = 84, RULE_sequenceType = 85, RULE_objectConstructor = 86, 
+		RULE_itemType = 87, RULE_functionTest = 88, RULE_anyFunctionTest = 89, 
+		RULE_typedFunctionTest = 90, RULE_singleType = 91, RULE_pairConstructor = 92, 
+		RULE_arrayConstructor = 93, RULE_uriLiteral = 94, RULE_stringLiteral = 95, 
+		RULE_keyWords = 96;
 	private static String[] makeRuleNames() {
 		return new String[] {
 			"moduleAndThisIsIt", "module", "mainModule", "libraryModule", "prolog", 
@@ -86,19 +90,21 @@ public class JsoniqParser extends Parser {
 			"emptyOrderDecl", "decimalFormatDecl", "qname", "dfPropertyName", "moduleImport", 
 			"varDecl", "contextItemDecl", "functionDecl", "typeDecl", "schemaLanguage", 
 			"paramList", "param", "expr", "exprSingle", "flowrExpr", "forClause", 
-			"forVar", "letClause", "letVar", "whereClause", "groupByClause", "groupByVar", 
-			"orderByClause", "orderByExpr", "countClause", "quantifiedExpr", "quantifiedExprVar", 
-			"switchExpr", "switchCaseClause", "typeSwitchExpr", "caseClause", "ifExpr", 
-			"tryCatchExpr", "catchClause", "orExpr", "andExpr", "notExpr", "comparisonExpr", 
-			"stringConcatExpr", "rangeExpr", "additiveExpr", "multiplicativeExpr", 
-			"instanceOfExpr", "isStaticallyExpr", "treatExpr", "castableExpr", "castExpr", 
-			"arrowExpr", "arrowFunctionSpecifier", "unaryExpr", "valueExpr", "validateExpr", 
-			"simpleMapExpr", "postFixExpr", "arrayLookup", "arrayUnboxing", "predicate", 
-			"objectLookup", "primaryExpr", "varRef", "parenthesizedExpr", "contextItemExpr", 
-			"orderedExpr", "unorderedExpr", "functionCall", "argumentList", "argument", 
-			"functionItemExpr", "namedFunctionRef", "inlineFunctionExpr", "sequenceType", 
-			"objectConstructor", "itemType", "functionTest", "anyFunctionTest", "typedFunctionTest", 
-			"singleType", "pairConstructor", "arrayConstructor", "uriLiteral", "stringLiteral", 
+			"forVar", "windowClause", "windowKind", "windowStartCondition", "windowEndCondition", 
+			"windowVars", "letClause", "letVar", "whereClause", "groupByClause", 
+			"groupByVar", "orderByClause", "orderByExpr", "countClause", "quantifiedExpr", 
+			"quantifiedExprVar", "switchExpr", "switchCaseClause", "typeSwitchExpr", 
+			"caseClause", "ifExpr", "tryCatchExpr", "catchClause", "orExpr", "andExpr", 
+			"notExpr", "comparisonExpr", "stringConcatExpr", "rangeExpr", "additiveExpr", 
+			"multiplicativeExpr", "instanceOfExpr", "isStaticallyExpr", "treatExpr", 
+			"castableExpr", "castExpr", "arrowExpr", "arrowFunctionSpecifier", "unaryExpr", 
+			"valueExpr", "validateExpr", "simpleMapExpr", "postFixExpr", "arrayLookup", 
+			"arrayUnboxing", "predicate", "objectLookup", "primaryExpr", "varRef", 
+			"parenthesizedExpr", "contextItemExpr", "orderedExpr", "unorderedExpr", 
+			"functionCall", "argumentList", "argument", "functionItemExpr", "namedFunctionRef", 
+			"inlineFunctionExpr", "sequenceType", "objectConstructor", "itemType", 
+			"functionTest", "anyFunctionTest", "typedFunctionTest", "singleType", 
+			"pairConstructor", "arrayConstructor", "uriLiteral", "stringLiteral", 
 			"keyWords"
 		};
 	}
@@ -218,9 +224,9 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(184);
+			setState(194);
 			module();
-			setState(185);
+			setState(195);
 			match(EOF);
 			}
 		}
@@ -266,28 +272,28 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(192);
+			setState(202);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,0,_ctx) ) {
 			case 1:
 				{
-				setState(187);
+				setState(197);
 				match(Kjsoniq);
-				setState(188);
+				setState(198);
 				match(Kversion);
-				setState(189);
+				setState(199);
 				((ModuleContext)_localctx).vers = stringLiteral();
-				setState(190);
+				setState(200);
 				match(T__0);
 				}
 				break;
 			}
-			setState(196);
+			setState(206);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__1:
 				{
-				setState(194);
+				setState(204);
 				libraryModule();
 				}
 				break;
@@ -360,7 +366,7 @@ public class JsoniqParser extends Parser {
 			case Literal:
 			case NCName:
 				{
-				setState(195);
+				setState(205);
 				((ModuleContext)_localctx).main = mainModule();
 				}
 				break;
@@ -404,9 +410,9 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(198);
+			setState(208);
 			prolog();
-			setState(199);
+			setState(209);
 			expr();
 			}
 		}
@@ -446,19 +452,19 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(201);
+			setState(211);
 			match(T__1);
-			setState(202);
+			setState(212);
 			match(T__2);
-			setState(203);
+			setState(213);
 			match(NCName);
-			setState(204);
+			setState(214);
 			match(T__3);
-			setState(205);
+			setState(215);
 			uriLiteral();
-			setState(206);
+			setState(216);
 			match(T__0);
-			setState(207);
+			setState(217);
 			prolog();
 			}
 		}
@@ -516,59 +522,59 @@ public class JsoniqParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(218);
+			setState(228);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(212);
+					setState(222);
 					_errHandler.sync(this);
 					switch ( getInterpreter().adaptivePredict(_input,2,_ctx) ) {
 					case 1:
 						{
-						setState(209);
+						setState(219);
 						setter();
 						}
 						break;
 					case 2:
 						{
-						setState(210);
+						setState(220);
 						namespaceDecl();
 						}
 						break;
 					case 3:
 						{
-						setState(211);
+						setState(221);
 						moduleImport();
 						}
 						break;
 					}
-					setState(214);
+					setState(224);
 					match(T__0);
 					}
 					} 
 				}
-				setState(220);
+				setState(230);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,3,_ctx);
 			}
-			setState(226);
+			setState(236);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(221);
+					setState(231);
 					annotatedDecl();
-					setState(222);
+					setState(232);
 					match(T__0);
 					}
 					} 
 				}
-				setState(228);
+				setState(238);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
 			}
@@ -613,34 +619,34 @@ public class JsoniqParser extends Parser {
 		SetterContext _localctx = new SetterContext(_ctx, getState());
 		enterRule(_localctx, 10, RULE_setter);
 		try {
-			setState(233);
+			setState(243);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(229);
+				setState(239);
 				defaultCollationDecl();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(230);
+				setState(240);
 				orderingModeDecl();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(231);
+				setState(241);
 				emptyOrderDecl();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(232);
+				setState(242);
 				decimalFormatDecl();
 				}
 				break;
@@ -680,15 +686,15 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(235);
+			setState(245);
 			match(Kdeclare);
-			setState(236);
+			setState(246);
 			match(T__2);
-			setState(237);
+			setState(247);
 			match(NCName);
-			setState(238);
+			setState(248);
 			match(T__3);
-			setState(239);
+			setState(249);
 			uriLiteral();
 			}
 		}
@@ -731,34 +737,34 @@ public class JsoniqParser extends Parser {
 		AnnotatedDeclContext _localctx = new AnnotatedDeclContext(_ctx, getState());
 		enterRule(_localctx, 14, RULE_annotatedDecl);
 		try {
-			setState(245);
+			setState(255);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,6,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(241);
+				setState(251);
 				functionDecl();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(242);
+				setState(252);
 				varDecl();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(243);
+				setState(253);
 				typeDecl();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(244);
+				setState(254);
 				contextItemDecl();
 				}
 				break;
@@ -799,13 +805,13 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(247);
+			setState(257);
 			match(Kdeclare);
-			setState(248);
+			setState(258);
 			match(Kdefault);
-			setState(249);
+			setState(259);
 			match(Kcollation);
-			setState(250);
+			setState(260);
 			uriLiteral();
 			}
 		}
@@ -841,11 +847,11 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(252);
+			setState(262);
 			match(Kdeclare);
-			setState(253);
+			setState(263);
 			match(T__4);
-			setState(254);
+			setState(264);
 			_la = _input.LA(1);
 			if ( !(_la==T__5 || _la==Kunordered) ) {
 			_errHandler.recoverInline(this);
@@ -894,16 +900,16 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(256);
+			setState(266);
 			match(Kdeclare);
-			setState(257);
+			setState(267);
 			match(Kdefault);
-			setState(258);
+			setState(268);
 			match(Korder);
-			setState(259);
+			setState(269);
 			match(Kempty);
 			{
-			setState(260);
+			setState(270);
 			((EmptyOrderDeclContext)_localctx).emptySequenceOrder = _input.LT(1);
 			_la = _input.LA(1);
 			if ( !(_la==Kgreatest || _la==Kleast) ) {
@@ -964,17 +970,17 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(262);
+			setState(272);
 			match(Kdeclare);
-			setState(267);
+			setState(277);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__6:
 				{
 				{
-				setState(263);
+				setState(273);
 				match(T__6);
-				setState(264);
+				setState(274);
 				qname();
 				}
 				}
@@ -982,9 +988,9 @@ public class JsoniqParser extends Parser {
 			case Kdefault:
 				{
 				{
-				setState(265);
+				setState(275);
 				match(Kdefault);
-				setState(266);
+				setState(276);
 				match(T__6);
 				}
 				}
@@ -992,21 +998,21 @@ public class JsoniqParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(275);
+			setState(285);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__8) | (1L << T__9) | (1L << T__10) | (1L << T__11) | (1L << T__12) | (1L << T__13) | (1L << T__14) | (1L << T__15) | (1L << T__16) | (1L << T__17))) != 0)) {
 				{
 				{
-				setState(269);
+				setState(279);
 				dfPropertyName();
-				setState(270);
+				setState(280);
 				match(T__3);
-				setState(271);
+				setState(281);
 				stringLiteral();
 				}
 				}
-				setState(277);
+				setState(287);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1055,17 +1061,17 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(283);
+			setState(293);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
 			case 1:
 				{
-				setState(280);
+				setState(290);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case NCName:
 					{
-					setState(278);
+					setState(288);
 					((QnameContext)_localctx).ns = match(NCName);
 					}
 					break;
@@ -1123,24 +1129,24 @@ public class JsoniqParser extends Parser {
 				case Kvariable:
 				case NullLiteral:
 					{
-					setState(279);
+					setState(289);
 					((QnameContext)_localctx).nskw = keyWords();
 					}
 					break;
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(282);
+				setState(292);
 				match(T__7);
 				}
 				break;
 			}
-			setState(287);
+			setState(297);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case NCName:
 				{
-				setState(285);
+				setState(295);
 				((QnameContext)_localctx).local_name = match(NCName);
 				}
 				break;
@@ -1198,7 +1204,7 @@ public class JsoniqParser extends Parser {
 			case Kvariable:
 			case NullLiteral:
 				{
-				setState(286);
+				setState(296);
 				((QnameContext)_localctx).local_namekw = keyWords();
 				}
 				break;
@@ -1237,7 +1243,7 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(289);
+			setState(299);
 			_la = _input.LA(1);
 			if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__8) | (1L << T__9) | (1L << T__10) | (1L << T__11) | (1L << T__12) | (1L << T__13) | (1L << T__14) | (1L << T__15) | (1L << T__16) | (1L << T__17))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -1289,48 +1295,48 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(291);
+			setState(301);
 			match(T__18);
-			setState(292);
+			setState(302);
 			match(T__1);
-			setState(296);
+			setState(306);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__2) {
 				{
-				setState(293);
+				setState(303);
 				match(T__2);
-				setState(294);
+				setState(304);
 				((ModuleImportContext)_localctx).prefix = match(NCName);
-				setState(295);
+				setState(305);
 				match(T__3);
 				}
 			}
 
-			setState(298);
-			((ModuleImportContext)_localctx).targetNamespace = uriLiteral();
 			setState(308);
+			((ModuleImportContext)_localctx).targetNamespace = uriLiteral();
+			setState(318);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kat) {
 				{
-				setState(299);
+				setState(309);
 				match(Kat);
-				setState(300);
+				setState(310);
 				uriLiteral();
-				setState(305);
+				setState(315);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__19) {
 					{
 					{
-					setState(301);
+					setState(311);
 					match(T__19);
-					setState(302);
+					setState(312);
 					uriLiteral();
 					}
 					}
-					setState(307);
+					setState(317);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -1382,33 +1388,33 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(310);
+			setState(320);
 			match(Kdeclare);
-			setState(311);
+			setState(321);
 			match(Kvariable);
-			setState(312);
+			setState(322);
 			varRef();
-			setState(315);
+			setState(325);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(313);
+				setState(323);
 				match(Kas);
-				setState(314);
+				setState(324);
 				sequenceType();
 				}
 			}
 
-			setState(324);
+			setState(334);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__20:
 				{
 				{
-				setState(317);
+				setState(327);
 				match(T__20);
-				setState(318);
+				setState(328);
 				exprSingle();
 				}
 				}
@@ -1416,16 +1422,16 @@ public class JsoniqParser extends Parser {
 			case T__21:
 				{
 				{
-				setState(319);
+				setState(329);
 				((VarDeclContext)_localctx).external = match(T__21);
-				setState(322);
+				setState(332);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==T__20) {
 					{
-					setState(320);
+					setState(330);
 					match(T__20);
-					setState(321);
+					setState(331);
 					exprSingle();
 					}
 				}
@@ -1479,33 +1485,33 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(326);
+			setState(336);
 			match(Kdeclare);
-			setState(327);
+			setState(337);
 			match(Kcontext);
-			setState(328);
+			setState(338);
 			match(Kitem);
-			setState(331);
+			setState(341);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(329);
+				setState(339);
 				match(Kas);
-				setState(330);
+				setState(340);
 				sequenceType();
 				}
 			}
 
-			setState(340);
+			setState(350);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__20:
 				{
 				{
-				setState(333);
+				setState(343);
 				match(T__20);
-				setState(334);
+				setState(344);
 				exprSingle();
 				}
 				}
@@ -1513,16 +1519,16 @@ public class JsoniqParser extends Parser {
 			case T__21:
 				{
 				{
-				setState(335);
+				setState(345);
 				((ContextItemDeclContext)_localctx).external = match(T__21);
-				setState(338);
+				setState(348);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==T__20) {
 					{
-					setState(336);
+					setState(346);
 					match(T__20);
-					setState(337);
+					setState(347);
 					exprSingle();
 					}
 				}
@@ -1582,62 +1588,62 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(342);
+			setState(352);
 			match(Kdeclare);
-			setState(343);
+			setState(353);
 			match(T__22);
-			setState(344);
+			setState(354);
 			((FunctionDeclContext)_localctx).fn_name = qname();
-			setState(345);
+			setState(355);
 			match(T__23);
-			setState(347);
+			setState(357);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__32) {
 				{
-				setState(346);
+				setState(356);
 				paramList();
 				}
 			}
 
-			setState(349);
+			setState(359);
 			match(T__24);
-			setState(352);
+			setState(362);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(350);
+				setState(360);
 				match(Kas);
-				setState(351);
+				setState(361);
 				((FunctionDeclContext)_localctx).return_type = sequenceType();
 				}
 			}
 
-			setState(360);
+			setState(370);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__25:
 				{
-				setState(354);
+				setState(364);
 				match(T__25);
-				setState(356);
+				setState(366);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__5) | (1L << T__22) | (1L << T__23) | (1L << T__25) | (1L << T__32) | (1L << T__47) | (1L << T__48) | (1L << T__52) | (1L << T__54) | (1L << T__57) | (1L << T__59) | (1L << Kfor) | (1L << Klet))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (Kwhere - 64)) | (1L << (Kgroup - 64)) | (1L << (Kby - 64)) | (1L << (Korder - 64)) | (1L << (Kreturn - 64)) | (1L << (Kif - 64)) | (1L << (Kin - 64)) | (1L << (Kas - 64)) | (1L << (Kat - 64)) | (1L << (Kallowing - 64)) | (1L << (Kempty - 64)) | (1L << (Kcount - 64)) | (1L << (Kstable - 64)) | (1L << (Kascending - 64)) | (1L << (Kdescending - 64)) | (1L << (Ksome - 64)) | (1L << (Kevery - 64)) | (1L << (Ksatisfies - 64)) | (1L << (Kcollation - 64)) | (1L << (Kgreatest - 64)) | (1L << (Kleast - 64)) | (1L << (Kswitch - 64)) | (1L << (Kcase - 64)) | (1L << (Ktry - 64)) | (1L << (Kcatch - 64)) | (1L << (Kdefault - 64)) | (1L << (Kthen - 64)) | (1L << (Kelse - 64)) | (1L << (Ktypeswitch - 64)) | (1L << (Kor - 64)) | (1L << (Kand - 64)) | (1L << (Knot - 64)) | (1L << (Kto - 64)) | (1L << (Kinstance - 64)) | (1L << (Kof - 64)) | (1L << (Kstatically - 64)) | (1L << (Kis - 64)) | (1L << (Ktreat - 64)) | (1L << (Kcast - 64)) | (1L << (Kcastable - 64)) | (1L << (Kversion - 64)) | (1L << (Kjsoniq - 64)) | (1L << (Kunordered - 64)) | (1L << (Ktrue - 64)) | (1L << (Kfalse - 64)) | (1L << (Ktype - 64)) | (1L << (Kdeclare - 64)) | (1L << (Kcontext - 64)) | (1L << (Kitem - 64)) | (1L << (Kvariable - 64)) | (1L << (STRING - 64)) | (1L << (NullLiteral - 64)) | (1L << (Literal - 64)) | (1L << (NCName - 64)))) != 0)) {
 					{
-					setState(355);
+					setState(365);
 					((FunctionDeclContext)_localctx).fn_body = expr();
 					}
 				}
 
-				setState(358);
+				setState(368);
 				match(T__26);
 				}
 				break;
 			case T__21:
 				{
-				setState(359);
+				setState(369);
 				match(T__21);
 				}
 				break;
@@ -1691,25 +1697,25 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(362);
+			setState(372);
 			match(Kdeclare);
-			setState(363);
+			setState(373);
 			match(Ktype);
-			setState(364);
+			setState(374);
 			((TypeDeclContext)_localctx).type_name = qname();
-			setState(365);
+			setState(375);
 			match(Kas);
-			setState(367);
+			setState(377);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__27 || _la==T__30) {
 				{
-				setState(366);
+				setState(376);
 				((TypeDeclContext)_localctx).schema = schemaLanguage();
 				}
 			}
 
-			setState(369);
+			setState(379);
 			((TypeDeclContext)_localctx).type_definition = exprSingle();
 			}
 		}
@@ -1740,33 +1746,33 @@ public class JsoniqParser extends Parser {
 		SchemaLanguageContext _localctx = new SchemaLanguageContext(_ctx, getState());
 		enterRule(_localctx, 38, RULE_schemaLanguage);
 		try {
-			setState(377);
+			setState(387);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(371);
+				setState(381);
 				match(T__27);
-				setState(372);
+				setState(382);
 				match(T__28);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(373);
+				setState(383);
 				match(T__27);
-				setState(374);
+				setState(384);
 				match(T__29);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(375);
+				setState(385);
 				match(T__30);
-				setState(376);
+				setState(386);
 				match(T__31);
 				}
 				break;
@@ -1808,21 +1814,21 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(379);
+			setState(389);
 			param();
-			setState(384);
+			setState(394);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__19) {
 				{
 				{
-				setState(380);
+				setState(390);
 				match(T__19);
-				setState(381);
+				setState(391);
 				param();
 				}
 				}
-				setState(386);
+				setState(396);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1865,18 +1871,18 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(387);
+			setState(397);
 			match(T__32);
-			setState(388);
+			setState(398);
 			qname();
-			setState(391);
+			setState(401);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(389);
+				setState(399);
 				match(Kas);
-				setState(390);
+				setState(400);
 				sequenceType();
 				}
 			}
@@ -1919,21 +1925,21 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(393);
+			setState(403);
 			exprSingle();
-			setState(398);
+			setState(408);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__19) {
 				{
 				{
-				setState(394);
+				setState(404);
 				match(T__19);
-				setState(395);
+				setState(405);
 				exprSingle();
 				}
 				}
-				setState(400);
+				setState(410);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -1987,55 +1993,55 @@ public class JsoniqParser extends Parser {
 		ExprSingleContext _localctx = new ExprSingleContext(_ctx, getState());
 		enterRule(_localctx, 46, RULE_exprSingle);
 		try {
-			setState(408);
+			setState(418);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(401);
+				setState(411);
 				flowrExpr();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(402);
+				setState(412);
 				quantifiedExpr();
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(403);
+				setState(413);
 				switchExpr();
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(404);
+				setState(414);
 				typeSwitchExpr();
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(405);
+				setState(415);
 				ifExpr();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(406);
+				setState(416);
 				tryCatchExpr();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(407);
+				setState(417);
 				orExpr();
 				}
 				break;
@@ -2054,6 +2060,7 @@ public class JsoniqParser extends Parser {
 
 	public static class FlowrExprContext extends ParserRuleContext {
 		public ForClauseContext start_for;
+		public WindowClauseContext start_window;
 		public LetClauseContext start_let;
 		public ExprSingleContext return_expr;
 		public TerminalNode Kreturn() { return getToken(JsoniqParser.Kreturn, 0); }
@@ -2066,6 +2073,12 @@ public class JsoniqParser extends Parser {
 		public ForClauseContext forClause(int i) {
 			return getRuleContext(ForClauseContext.class,i);
 		}
+		public List<WindowClauseContext> windowClause() {
+			return getRuleContexts(WindowClauseContext.class);
+		}
+		public WindowClauseContext windowClause(int i) {
+			return getRuleContext(WindowClauseContext.class,i);
+		}
 		public List<LetClauseContext> letClause() {
 			return getRuleContexts(LetClauseContext.class);
 		}
@@ -2114,80 +2127,87 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(412);
+			setState(423);
 			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case Kfor:
+			switch ( getInterpreter().adaptivePredict(_input,31,_ctx) ) {
+			case 1:
 				{
-				setState(410);
+				setState(420);
 				((FlowrExprContext)_localctx).start_for = forClause();
 				}
 				break;
-			case Klet:
+			case 2:
 				{
-				setState(411);
+				setState(421);
+				((FlowrExprContext)_localctx).start_window = windowClause();
+				}
+				break;
+			case 3:
+				{
+				setState(422);
 				((FlowrExprContext)_localctx).start_let = letClause();
 				}
 				break;
-			default:
-				throw new NoViableAltException(this);
 			}
-			setState(422);
+			setState(434);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (((((_la - 62)) & ~0x3f) == 0 && ((1L << (_la - 62)) & ((1L << (Kfor - 62)) | (1L << (Klet - 62)) | (1L << (Kwhere - 62)) | (1L << (Kgroup - 62)) | (1L << (Korder - 62)) | (1L << (Kcount - 62)) | (1L << (Kstable - 62)))) != 0)) {
 				{
-				setState(420);
+				setState(432);
 				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case Kfor:
+				switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
+				case 1:
 					{
-					setState(414);
+					setState(425);
 					forClause();
 					}
 					break;
-				case Kwhere:
+				case 2:
 					{
-					setState(415);
+					setState(426);
+					windowClause();
+					}
+					break;
+				case 3:
+					{
+					setState(427);
 					whereClause();
 					}
 					break;
-				case Klet:
+				case 4:
 					{
-					setState(416);
+					setState(428);
 					letClause();
 					}
 					break;
-				case Kgroup:
+				case 5:
 					{
-					setState(417);
+					setState(429);
 					groupByClause();
 					}
 					break;
-				case Korder:
-				case Kstable:
+				case 6:
 					{
-					setState(418);
+					setState(430);
 					orderByClause();
 					}
 					break;
-				case Kcount:
+				case 7:
 					{
-					setState(419);
+					setState(431);
 					countClause();
 					}
 					break;
-				default:
-					throw new NoViableAltException(this);
 				}
 				}
-				setState(424);
+				setState(436);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(425);
+			setState(437);
 			match(Kreturn);
-			setState(426);
+			setState(438);
 			((FlowrExprContext)_localctx).return_expr = exprSingle();
 			}
 		}
@@ -2230,25 +2250,25 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(428);
+			setState(440);
 			match(Kfor);
-			setState(429);
+			setState(441);
 			((ForClauseContext)_localctx).forVar = forVar();
 			((ForClauseContext)_localctx).vars.add(((ForClauseContext)_localctx).forVar);
-			setState(434);
+			setState(446);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__19) {
 				{
 				{
-				setState(430);
+				setState(442);
 				match(T__19);
-				setState(431);
+				setState(443);
 				((ForClauseContext)_localctx).forVar = forVar();
 				((ForClauseContext)_localctx).vars.add(((ForClauseContext)_localctx).forVar);
 				}
 				}
-				setState(436);
+				setState(448);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2306,47 +2326,47 @@ public class JsoniqParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(437);
+			setState(449);
 			((ForVarContext)_localctx).var_ref = varRef();
-			setState(440);
+			setState(452);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(438);
+				setState(450);
 				match(Kas);
-				setState(439);
+				setState(451);
 				((ForVarContext)_localctx).seq = sequenceType();
 				}
 			}
 
-			setState(444);
+			setState(456);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kallowing) {
 				{
-				setState(442);
+				setState(454);
 				((ForVarContext)_localctx).flag = match(Kallowing);
-				setState(443);
+				setState(455);
 				match(Kempty);
 				}
 			}
 
-			setState(448);
+			setState(460);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kat) {
 				{
-				setState(446);
+				setState(458);
 				match(Kat);
-				setState(447);
+				setState(459);
 				((ForVarContext)_localctx).at = varRef();
 				}
 			}
 
-			setState(450);
+			setState(462);
 			match(Kin);
-			setState(451);
+			setState(463);
 			((ForVarContext)_localctx).ex = exprSingle();
 			}
 		}
@@ -2361,6 +2381,359 @@ public class JsoniqParser extends Parser {
 		return _localctx;
 	}
 
+	public static class WindowClauseContext extends ParserRuleContext {
+		public WindowKindContext kind;
+		public VarRefContext var_ref;
+		public SequenceTypeContext seq;
+		public ExprSingleContext ex;
+		public WindowStartConditionContext start_cond;
+		public WindowEndConditionContext end_cond;
+		public TerminalNode Kfor() { return getToken(JsoniqParser.Kfor, 0); }
+		public TerminalNode NCName() { return getToken(JsoniqParser.NCName, 0); }
+		public TerminalNode Kin() { return getToken(JsoniqParser.Kin, 0); }
+		public WindowKindContext windowKind() {
+			return getRuleContext(WindowKindContext.class,0);
+		}
+		public VarRefContext varRef() {
+			return getRuleContext(VarRefContext.class,0);
+		}
+		public ExprSingleContext exprSingle() {
+			return getRuleContext(ExprSingleContext.class,0);
+		}
+		public WindowStartConditionContext windowStartCondition() {
+			return getRuleContext(WindowStartConditionContext.class,0);
+		}
+		public TerminalNode Kas() { return getToken(JsoniqParser.Kas, 0); }
+		public SequenceTypeContext sequenceType() {
+			return getRuleContext(SequenceTypeContext.class,0);
+		}
+		public WindowEndConditionContext windowEndCondition() {
+			return getRuleContext(WindowEndConditionContext.class,0);
+		}
+		public WindowClauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_windowClause; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JsoniqVisitor ) return ((JsoniqVisitor<? extends T>)visitor).visitWindowClause(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WindowClauseContext windowClause() throws RecognitionException {
+		WindowClauseContext _localctx = new WindowClauseContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_windowClause);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(465);
+			match(Kfor);
+			setState(466);
+			((WindowClauseContext)_localctx).kind = windowKind();
+			setState(467);
+			if (!(_input.LT(1).getText().equals("window"))) throw new FailedPredicateException(this, "_input.LT(1).getText().equals(\"window\")");
+			setState(468);
+			match(NCName);
+			setState(469);
+			((WindowClauseContext)_localctx).var_ref = varRef();
+			setState(472);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			if (_la==Kas) {
+				{
+				setState(470);
+				match(Kas);
+				setState(471);
+				((WindowClauseContext)_localctx).seq = sequenceType();
+				}
+			}
+
+			setState(474);
+			match(Kin);
+			setState(475);
+			((WindowClauseContext)_localctx).ex = exprSingle();
+			setState(476);
+			((WindowClauseContext)_localctx).start_cond = windowStartCondition();
+			setState(478);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
+			case 1:
+				{
+				setState(477);
+				((WindowClauseContext)_localctx).end_cond = windowEndCondition();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WindowKindContext extends ParserRuleContext {
+		public TerminalNode NCName() { return getToken(JsoniqParser.NCName, 0); }
+		public WindowKindContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_windowKind; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JsoniqVisitor ) return ((JsoniqVisitor<? extends T>)visitor).visitWindowKind(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WindowKindContext windowKind() throws RecognitionException {
+		WindowKindContext _localctx = new WindowKindContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_windowKind);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(480);
+			if (!(_input.LT(1).getText().equals("tumbling") || _input.LT(1).getText().equals("sliding"))) throw new FailedPredicateException(this, "_input.LT(1).getText().equals(\"tumbling\") || _input.LT(1).getText().equals(\"sliding\")");
+			setState(481);
+			match(NCName);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WindowStartConditionContext extends ParserRuleContext {
+		public WindowVarsContext vars;
+		public ExprSingleContext ex;
+		public List<TerminalNode> NCName() { return getTokens(JsoniqParser.NCName); }
+		public TerminalNode NCName(int i) {
+			return getToken(JsoniqParser.NCName, i);
+		}
+		public WindowVarsContext windowVars() {
+			return getRuleContext(WindowVarsContext.class,0);
+		}
+		public ExprSingleContext exprSingle() {
+			return getRuleContext(ExprSingleContext.class,0);
+		}
+		public WindowStartConditionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_windowStartCondition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JsoniqVisitor ) return ((JsoniqVisitor<? extends T>)visitor).visitWindowStartCondition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WindowStartConditionContext windowStartCondition() throws RecognitionException {
+		WindowStartConditionContext _localctx = new WindowStartConditionContext(_ctx, getState());
+		enterRule(_localctx, 58, RULE_windowStartCondition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(483);
+			if (!(_input.LT(1).getText().equals("start"))) throw new FailedPredicateException(this, "_input.LT(1).getText().equals(\"start\")");
+			setState(484);
+			match(NCName);
+			setState(485);
+			((WindowStartConditionContext)_localctx).vars = windowVars();
+			setState(486);
+			if (!(_input.LT(1).getText().equals("when"))) throw new FailedPredicateException(this, "_input.LT(1).getText().equals(\"when\")");
+			setState(487);
+			match(NCName);
+			setState(488);
+			((WindowStartConditionContext)_localctx).ex = exprSingle();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WindowEndConditionContext extends ParserRuleContext {
+		public Token only;
+		public WindowVarsContext vars;
+		public ExprSingleContext ex;
+		public List<TerminalNode> NCName() { return getTokens(JsoniqParser.NCName); }
+		public TerminalNode NCName(int i) {
+			return getToken(JsoniqParser.NCName, i);
+		}
+		public WindowVarsContext windowVars() {
+			return getRuleContext(WindowVarsContext.class,0);
+		}
+		public ExprSingleContext exprSingle() {
+			return getRuleContext(ExprSingleContext.class,0);
+		}
+		public WindowEndConditionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_windowEndCondition; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JsoniqVisitor ) return ((JsoniqVisitor<? extends T>)visitor).visitWindowEndCondition(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WindowEndConditionContext windowEndCondition() throws RecognitionException {
+		WindowEndConditionContext _localctx = new WindowEndConditionContext(_ctx, getState());
+		enterRule(_localctx, 60, RULE_windowEndCondition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(492);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,40,_ctx) ) {
+			case 1:
+				{
+				setState(490);
+				if (!(_input.LT(1).getText().equals("only"))) throw new FailedPredicateException(this, "_input.LT(1).getText().equals(\"only\")");
+				setState(491);
+				((WindowEndConditionContext)_localctx).only = match(NCName);
+				}
+				break;
+			}
+			setState(494);
+			if (!(_input.LT(1).getText().equals("end"))) throw new FailedPredicateException(this, "_input.LT(1).getText().equals(\"end\")");
+			setState(495);
+			match(NCName);
+			setState(496);
+			((WindowEndConditionContext)_localctx).vars = windowVars();
+			setState(497);
+			if (!(_input.LT(1).getText().equals("when"))) throw new FailedPredicateException(this, "_input.LT(1).getText().equals(\"when\")");
+			setState(498);
+			match(NCName);
+			setState(499);
+			((WindowEndConditionContext)_localctx).ex = exprSingle();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WindowVarsContext extends ParserRuleContext {
+		public VarRefContext current;
+		public VarRefContext position;
+		public VarRefContext previous;
+		public VarRefContext next;
+		public TerminalNode Kat() { return getToken(JsoniqParser.Kat, 0); }
+		public List<TerminalNode> NCName() { return getTokens(JsoniqParser.NCName); }
+		public TerminalNode NCName(int i) {
+			return getToken(JsoniqParser.NCName, i);
+		}
+		public List<VarRefContext> varRef() {
+			return getRuleContexts(VarRefContext.class);
+		}
+		public VarRefContext varRef(int i) {
+			return getRuleContext(VarRefContext.class,i);
+		}
+		public WindowVarsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_windowVars; }
+		@Override
+		public <T> T accept(ParseTreeVisitor<? extends T> visitor) {
+			if ( visitor instanceof JsoniqVisitor ) return ((JsoniqVisitor<? extends T>)visitor).visitWindowVars(this);
+			else return visitor.visitChildren(this);
+		}
+	}
+
+	public final WindowVarsContext windowVars() throws RecognitionException {
+		WindowVarsContext _localctx = new WindowVarsContext(_ctx, getState());
+		enterRule(_localctx, 62, RULE_windowVars);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(502);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,41,_ctx) ) {
+			case 1:
+				{
+				setState(501);
+				((WindowVarsContext)_localctx).current = varRef();
+				}
+				break;
+			}
+			setState(506);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,42,_ctx) ) {
+			case 1:
+				{
+				setState(504);
+				match(Kat);
+				setState(505);
+				((WindowVarsContext)_localctx).position = varRef();
+				}
+				break;
+			}
+			setState(511);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
+			case 1:
+				{
+				setState(508);
+				if (!(_input.LT(1).getText().equals("previous"))) throw new FailedPredicateException(this, "_input.LT(1).getText().equals(\"previous\")");
+				setState(509);
+				match(NCName);
+				setState(510);
+				((WindowVarsContext)_localctx).previous = varRef();
+				}
+				break;
+			}
+			setState(516);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,44,_ctx) ) {
+			case 1:
+				{
+				setState(513);
+				if (!(_input.LT(1).getText().equals("next"))) throw new FailedPredicateException(this, "_input.LT(1).getText().equals(\"next\")");
+				setState(514);
+				match(NCName);
+				setState(515);
+				((WindowVarsContext)_localctx).next = varRef();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
 	public static class LetClauseContext extends ParserRuleContext {
 		public LetVarContext letVar;
 		public List<LetVarContext> vars = new ArrayList<LetVarContext>();
@@ -2384,30 +2757,30 @@ public class JsoniqParser extends Parser {
 
 	public final LetClauseContext letClause() throws RecognitionException {
 		LetClauseContext _localctx = new LetClauseContext(_ctx, getState());
-		enterRule(_localctx, 54, RULE_letClause);
+		enterRule(_localctx, 64, RULE_letClause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(453);
+			setState(518);
 			match(Klet);
-			setState(454);
+			setState(519);
 			((LetClauseContext)_localctx).letVar = letVar();
 			((LetClauseContext)_localctx).vars.add(((LetClauseContext)_localctx).letVar);
-			setState(459);
+			setState(524);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__19) {
 				{
 				{
-				setState(455);
+				setState(520);
 				match(T__19);
-				setState(456);
+				setState(521);
 				((LetClauseContext)_localctx).letVar = letVar();
 				((LetClauseContext)_localctx).vars.add(((LetClauseContext)_localctx).letVar);
 				}
 				}
-				setState(461);
+				setState(526);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2451,28 +2824,28 @@ public class JsoniqParser extends Parser {
 
 	public final LetVarContext letVar() throws RecognitionException {
 		LetVarContext _localctx = new LetVarContext(_ctx, getState());
-		enterRule(_localctx, 56, RULE_letVar);
+		enterRule(_localctx, 66, RULE_letVar);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(462);
+			setState(527);
 			((LetVarContext)_localctx).var_ref = varRef();
-			setState(465);
+			setState(530);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(463);
+				setState(528);
 				match(Kas);
-				setState(464);
+				setState(529);
 				((LetVarContext)_localctx).seq = sequenceType();
 				}
 			}
 
-			setState(467);
+			setState(532);
 			match(T__20);
-			setState(468);
+			setState(533);
 			((LetVarContext)_localctx).ex = exprSingle();
 			}
 		}
@@ -2505,13 +2878,13 @@ public class JsoniqParser extends Parser {
 
 	public final WhereClauseContext whereClause() throws RecognitionException {
 		WhereClauseContext _localctx = new WhereClauseContext(_ctx, getState());
-		enterRule(_localctx, 58, RULE_whereClause);
+		enterRule(_localctx, 68, RULE_whereClause);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(470);
+			setState(535);
 			match(Kwhere);
-			setState(471);
+			setState(536);
 			exprSingle();
 			}
 		}
@@ -2550,32 +2923,32 @@ public class JsoniqParser extends Parser {
 
 	public final GroupByClauseContext groupByClause() throws RecognitionException {
 		GroupByClauseContext _localctx = new GroupByClauseContext(_ctx, getState());
-		enterRule(_localctx, 60, RULE_groupByClause);
+		enterRule(_localctx, 70, RULE_groupByClause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(473);
+			setState(538);
 			match(Kgroup);
-			setState(474);
+			setState(539);
 			match(Kby);
-			setState(475);
+			setState(540);
 			((GroupByClauseContext)_localctx).groupByVar = groupByVar();
 			((GroupByClauseContext)_localctx).vars.add(((GroupByClauseContext)_localctx).groupByVar);
-			setState(480);
+			setState(545);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__19) {
 				{
 				{
-				setState(476);
+				setState(541);
 				match(T__19);
-				setState(477);
+				setState(542);
 				((GroupByClauseContext)_localctx).groupByVar = groupByVar();
 				((GroupByClauseContext)_localctx).vars.add(((GroupByClauseContext)_localctx).groupByVar);
 				}
 				}
-				setState(482);
+				setState(547);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2625,45 +2998,45 @@ public class JsoniqParser extends Parser {
 
 	public final GroupByVarContext groupByVar() throws RecognitionException {
 		GroupByVarContext _localctx = new GroupByVarContext(_ctx, getState());
-		enterRule(_localctx, 62, RULE_groupByVar);
+		enterRule(_localctx, 72, RULE_groupByVar);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(483);
+			setState(548);
 			((GroupByVarContext)_localctx).var_ref = varRef();
-			setState(490);
+			setState(555);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__20 || _la==Kas) {
 				{
-				setState(486);
+				setState(551);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==Kas) {
 					{
-					setState(484);
+					setState(549);
 					match(Kas);
-					setState(485);
+					setState(550);
 					((GroupByVarContext)_localctx).seq = sequenceType();
 					}
 				}
 
-				setState(488);
+				setState(553);
 				((GroupByVarContext)_localctx).decl = match(T__20);
-				setState(489);
+				setState(554);
 				((GroupByVarContext)_localctx).ex = exprSingle();
 				}
 			}
 
-			setState(494);
+			setState(559);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kcollation) {
 				{
-				setState(492);
+				setState(557);
 				match(Kcollation);
-				setState(493);
+				setState(558);
 				((GroupByVarContext)_localctx).uri = uriLiteral();
 				}
 			}
@@ -2705,20 +3078,20 @@ public class JsoniqParser extends Parser {
 
 	public final OrderByClauseContext orderByClause() throws RecognitionException {
 		OrderByClauseContext _localctx = new OrderByClauseContext(_ctx, getState());
-		enterRule(_localctx, 64, RULE_orderByClause);
+		enterRule(_localctx, 74, RULE_orderByClause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(501);
+			setState(566);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Korder:
 				{
 				{
-				setState(496);
+				setState(561);
 				match(Korder);
-				setState(497);
+				setState(562);
 				match(Kby);
 				}
 				}
@@ -2726,11 +3099,11 @@ public class JsoniqParser extends Parser {
 			case Kstable:
 				{
 				{
-				setState(498);
+				setState(563);
 				((OrderByClauseContext)_localctx).stb = match(Kstable);
-				setState(499);
+				setState(564);
 				match(Korder);
-				setState(500);
+				setState(565);
 				match(Kby);
 				}
 				}
@@ -2738,21 +3111,21 @@ public class JsoniqParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(503);
+			setState(568);
 			orderByExpr();
-			setState(508);
+			setState(573);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__19) {
 				{
 				{
-				setState(504);
+				setState(569);
 				match(T__19);
-				setState(505);
+				setState(570);
 				orderByExpr();
 				}
 				}
-				setState(510);
+				setState(575);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2800,25 +3173,25 @@ public class JsoniqParser extends Parser {
 
 	public final OrderByExprContext orderByExpr() throws RecognitionException {
 		OrderByExprContext _localctx = new OrderByExprContext(_ctx, getState());
-		enterRule(_localctx, 66, RULE_orderByExpr);
+		enterRule(_localctx, 76, RULE_orderByExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(511);
+			setState(576);
 			((OrderByExprContext)_localctx).ex = exprSingle();
-			setState(514);
+			setState(579);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Kascending:
 				{
-				setState(512);
+				setState(577);
 				match(Kascending);
 				}
 				break;
 			case Kdescending:
 				{
-				setState(513);
+				setState(578);
 				((OrderByExprContext)_localctx).desc = match(Kdescending);
 				}
 				break;
@@ -2837,25 +3210,25 @@ public class JsoniqParser extends Parser {
 			default:
 				break;
 			}
-			setState(521);
+			setState(586);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kempty) {
 				{
-				setState(516);
+				setState(581);
 				match(Kempty);
-				setState(519);
+				setState(584);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case Kgreatest:
 					{
-					setState(517);
+					setState(582);
 					((OrderByExprContext)_localctx).gr = match(Kgreatest);
 					}
 					break;
 				case Kleast:
 					{
-					setState(518);
+					setState(583);
 					((OrderByExprContext)_localctx).ls = match(Kleast);
 					}
 					break;
@@ -2865,14 +3238,14 @@ public class JsoniqParser extends Parser {
 				}
 			}
 
-			setState(525);
+			setState(590);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kcollation) {
 				{
-				setState(523);
+				setState(588);
 				match(Kcollation);
-				setState(524);
+				setState(589);
 				((OrderByExprContext)_localctx).uril = uriLiteral();
 				}
 			}
@@ -2908,13 +3281,13 @@ public class JsoniqParser extends Parser {
 
 	public final CountClauseContext countClause() throws RecognitionException {
 		CountClauseContext _localctx = new CountClauseContext(_ctx, getState());
-		enterRule(_localctx, 68, RULE_countClause);
+		enterRule(_localctx, 78, RULE_countClause);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(527);
+			setState(592);
 			match(Kcount);
-			setState(528);
+			setState(593);
 			varRef();
 			}
 		}
@@ -2959,52 +3332,52 @@ public class JsoniqParser extends Parser {
 
 	public final QuantifiedExprContext quantifiedExpr() throws RecognitionException {
 		QuantifiedExprContext _localctx = new QuantifiedExprContext(_ctx, getState());
-		enterRule(_localctx, 70, RULE_quantifiedExpr);
+		enterRule(_localctx, 80, RULE_quantifiedExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(532);
+			setState(597);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Ksome:
 				{
-				setState(530);
+				setState(595);
 				((QuantifiedExprContext)_localctx).so = match(Ksome);
 				}
 				break;
 			case Kevery:
 				{
-				setState(531);
+				setState(596);
 				((QuantifiedExprContext)_localctx).ev = match(Kevery);
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(534);
+			setState(599);
 			((QuantifiedExprContext)_localctx).quantifiedExprVar = quantifiedExprVar();
 			((QuantifiedExprContext)_localctx).vars.add(((QuantifiedExprContext)_localctx).quantifiedExprVar);
-			setState(539);
+			setState(604);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__19) {
 				{
 				{
-				setState(535);
+				setState(600);
 				match(T__19);
-				setState(536);
+				setState(601);
 				((QuantifiedExprContext)_localctx).quantifiedExprVar = quantifiedExprVar();
 				((QuantifiedExprContext)_localctx).vars.add(((QuantifiedExprContext)_localctx).quantifiedExprVar);
 				}
 				}
-				setState(541);
+				setState(606);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(542);
+			setState(607);
 			match(Ksatisfies);
-			setState(543);
+			setState(608);
 			exprSingle();
 			}
 		}
@@ -3044,28 +3417,28 @@ public class JsoniqParser extends Parser {
 
 	public final QuantifiedExprVarContext quantifiedExprVar() throws RecognitionException {
 		QuantifiedExprVarContext _localctx = new QuantifiedExprVarContext(_ctx, getState());
-		enterRule(_localctx, 72, RULE_quantifiedExprVar);
+		enterRule(_localctx, 82, RULE_quantifiedExprVar);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(545);
+			setState(610);
 			varRef();
-			setState(548);
+			setState(613);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(546);
+				setState(611);
 				match(Kas);
-				setState(547);
+				setState(612);
 				sequenceType();
 				}
 			}
 
-			setState(550);
+			setState(615);
 			match(Kin);
-			setState(551);
+			setState(616);
 			exprSingle();
 			}
 		}
@@ -3113,39 +3486,39 @@ public class JsoniqParser extends Parser {
 
 	public final SwitchExprContext switchExpr() throws RecognitionException {
 		SwitchExprContext _localctx = new SwitchExprContext(_ctx, getState());
-		enterRule(_localctx, 74, RULE_switchExpr);
+		enterRule(_localctx, 84, RULE_switchExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(553);
+			setState(618);
 			match(Kswitch);
-			setState(554);
+			setState(619);
 			match(T__23);
-			setState(555);
+			setState(620);
 			((SwitchExprContext)_localctx).cond = expr();
-			setState(556);
+			setState(621);
 			match(T__24);
-			setState(558); 
+			setState(623); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(557);
+				setState(622);
 				((SwitchExprContext)_localctx).switchCaseClause = switchCaseClause();
 				((SwitchExprContext)_localctx).cases.add(((SwitchExprContext)_localctx).switchCaseClause);
 				}
 				}
-				setState(560); 
+				setState(625); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==Kcase );
-			setState(562);
+			setState(627);
 			match(Kdefault);
-			setState(563);
+			setState(628);
 			match(Kreturn);
-			setState(564);
+			setState(629);
 			((SwitchExprContext)_localctx).def = exprSingle();
 			}
 		}
@@ -3188,31 +3561,31 @@ public class JsoniqParser extends Parser {
 
 	public final SwitchCaseClauseContext switchCaseClause() throws RecognitionException {
 		SwitchCaseClauseContext _localctx = new SwitchCaseClauseContext(_ctx, getState());
-		enterRule(_localctx, 76, RULE_switchCaseClause);
+		enterRule(_localctx, 86, RULE_switchCaseClause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(568); 
+			setState(633); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(566);
+				setState(631);
 				match(Kcase);
-				setState(567);
+				setState(632);
 				((SwitchCaseClauseContext)_localctx).exprSingle = exprSingle();
 				((SwitchCaseClauseContext)_localctx).cond.add(((SwitchCaseClauseContext)_localctx).exprSingle);
 				}
 				}
-				setState(570); 
+				setState(635); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==Kcase );
-			setState(572);
+			setState(637);
 			match(Kreturn);
-			setState(573);
+			setState(638);
 			((SwitchCaseClauseContext)_localctx).ret = exprSingle();
 			}
 		}
@@ -3264,49 +3637,49 @@ public class JsoniqParser extends Parser {
 
 	public final TypeSwitchExprContext typeSwitchExpr() throws RecognitionException {
 		TypeSwitchExprContext _localctx = new TypeSwitchExprContext(_ctx, getState());
-		enterRule(_localctx, 78, RULE_typeSwitchExpr);
+		enterRule(_localctx, 88, RULE_typeSwitchExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(575);
+			setState(640);
 			match(Ktypeswitch);
-			setState(576);
+			setState(641);
 			match(T__23);
-			setState(577);
+			setState(642);
 			((TypeSwitchExprContext)_localctx).cond = expr();
-			setState(578);
+			setState(643);
 			match(T__24);
-			setState(580); 
+			setState(645); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(579);
+				setState(644);
 				((TypeSwitchExprContext)_localctx).caseClause = caseClause();
 				((TypeSwitchExprContext)_localctx).cses.add(((TypeSwitchExprContext)_localctx).caseClause);
 				}
 				}
-				setState(582); 
+				setState(647); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==Kcase );
-			setState(584);
+			setState(649);
 			match(Kdefault);
-			setState(586);
+			setState(651);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__32) {
 				{
-				setState(585);
+				setState(650);
 				((TypeSwitchExprContext)_localctx).var_ref = varRef();
 				}
 			}
 
-			setState(588);
+			setState(653);
 			match(Kreturn);
-			setState(589);
+			setState(654);
 			((TypeSwitchExprContext)_localctx).def = exprSingle();
 			}
 		}
@@ -3354,48 +3727,48 @@ public class JsoniqParser extends Parser {
 
 	public final CaseClauseContext caseClause() throws RecognitionException {
 		CaseClauseContext _localctx = new CaseClauseContext(_ctx, getState());
-		enterRule(_localctx, 80, RULE_caseClause);
+		enterRule(_localctx, 90, RULE_caseClause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(591);
+			setState(656);
 			match(Kcase);
-			setState(595);
+			setState(660);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__32) {
 				{
-				setState(592);
+				setState(657);
 				((CaseClauseContext)_localctx).var_ref = varRef();
-				setState(593);
+				setState(658);
 				match(Kas);
 				}
 			}
 
-			setState(597);
+			setState(662);
 			((CaseClauseContext)_localctx).sequenceType = sequenceType();
 			((CaseClauseContext)_localctx).union.add(((CaseClauseContext)_localctx).sequenceType);
-			setState(602);
+			setState(667);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__33) {
 				{
 				{
-				setState(598);
+				setState(663);
 				match(T__33);
-				setState(599);
+				setState(664);
 				((CaseClauseContext)_localctx).sequenceType = sequenceType();
 				((CaseClauseContext)_localctx).union.add(((CaseClauseContext)_localctx).sequenceType);
 				}
 				}
-				setState(604);
+				setState(669);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(605);
+			setState(670);
 			match(Kreturn);
-			setState(606);
+			setState(671);
 			((CaseClauseContext)_localctx).ret = exprSingle();
 			}
 		}
@@ -3439,25 +3812,25 @@ public class JsoniqParser extends Parser {
 
 	public final IfExprContext ifExpr() throws RecognitionException {
 		IfExprContext _localctx = new IfExprContext(_ctx, getState());
-		enterRule(_localctx, 82, RULE_ifExpr);
+		enterRule(_localctx, 92, RULE_ifExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(608);
+			setState(673);
 			match(Kif);
-			setState(609);
+			setState(674);
 			match(T__23);
-			setState(610);
+			setState(675);
 			((IfExprContext)_localctx).test_condition = expr();
-			setState(611);
+			setState(676);
 			match(T__24);
-			setState(612);
+			setState(677);
 			match(Kthen);
-			setState(613);
+			setState(678);
 			((IfExprContext)_localctx).branch = exprSingle();
-			setState(614);
+			setState(679);
 			match(Kelse);
-			setState(615);
+			setState(680);
 			((IfExprContext)_localctx).else_branch = exprSingle();
 			}
 		}
@@ -3499,20 +3872,20 @@ public class JsoniqParser extends Parser {
 
 	public final TryCatchExprContext tryCatchExpr() throws RecognitionException {
 		TryCatchExprContext _localctx = new TryCatchExprContext(_ctx, getState());
-		enterRule(_localctx, 84, RULE_tryCatchExpr);
+		enterRule(_localctx, 94, RULE_tryCatchExpr);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(617);
+			setState(682);
 			match(Ktry);
-			setState(618);
+			setState(683);
 			match(T__25);
-			setState(619);
+			setState(684);
 			((TryCatchExprContext)_localctx).try_expression = expr();
-			setState(620);
+			setState(685);
 			match(T__26);
-			setState(622); 
+			setState(687); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
@@ -3520,7 +3893,7 @@ public class JsoniqParser extends Parser {
 				case 1:
 					{
 					{
-					setState(621);
+					setState(686);
 					((TryCatchExprContext)_localctx).catchClause = catchClause();
 					((TryCatchExprContext)_localctx).catches.add(((TryCatchExprContext)_localctx).catchClause);
 					}
@@ -3529,9 +3902,9 @@ public class JsoniqParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(624); 
+				setState(689); 
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,59,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,66,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
 			}
 		}
@@ -3575,19 +3948,19 @@ public class JsoniqParser extends Parser {
 
 	public final CatchClauseContext catchClause() throws RecognitionException {
 		CatchClauseContext _localctx = new CatchClauseContext(_ctx, getState());
-		enterRule(_localctx, 86, RULE_catchClause);
+		enterRule(_localctx, 96, RULE_catchClause);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(626);
+			setState(691);
 			match(Kcatch);
-			setState(629);
+			setState(694);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__34:
 				{
-				setState(627);
+				setState(692);
 				((CatchClauseContext)_localctx).s35 = match(T__34);
 				((CatchClauseContext)_localctx).jokers.add(((CatchClauseContext)_localctx).s35);
 				}
@@ -3647,7 +4020,7 @@ public class JsoniqParser extends Parser {
 			case NullLiteral:
 			case NCName:
 				{
-				setState(628);
+				setState(693);
 				((CatchClauseContext)_localctx).qname = qname();
 				((CatchClauseContext)_localctx).errors.add(((CatchClauseContext)_localctx).qname);
 				}
@@ -3655,20 +4028,20 @@ public class JsoniqParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(638);
+			setState(703);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__33) {
 				{
 				{
-				setState(631);
+				setState(696);
 				match(T__33);
-				setState(634);
+				setState(699);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case T__34:
 					{
-					setState(632);
+					setState(697);
 					((CatchClauseContext)_localctx).s35 = match(T__34);
 					((CatchClauseContext)_localctx).jokers.add(((CatchClauseContext)_localctx).s35);
 					}
@@ -3728,7 +4101,7 @@ public class JsoniqParser extends Parser {
 				case NullLiteral:
 				case NCName:
 					{
-					setState(633);
+					setState(698);
 					((CatchClauseContext)_localctx).qname = qname();
 					((CatchClauseContext)_localctx).errors.add(((CatchClauseContext)_localctx).qname);
 					}
@@ -3738,15 +4111,15 @@ public class JsoniqParser extends Parser {
 				}
 				}
 				}
-				setState(640);
+				setState(705);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(641);
+			setState(706);
 			match(T__25);
-			setState(642);
+			setState(707);
 			((CatchClauseContext)_localctx).catch_expression = expr();
-			setState(643);
+			setState(708);
 			match(T__26);
 			}
 		}
@@ -3788,31 +4161,31 @@ public class JsoniqParser extends Parser {
 
 	public final OrExprContext orExpr() throws RecognitionException {
 		OrExprContext _localctx = new OrExprContext(_ctx, getState());
-		enterRule(_localctx, 88, RULE_orExpr);
+		enterRule(_localctx, 98, RULE_orExpr);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(645);
+			setState(710);
 			((OrExprContext)_localctx).main_expr = andExpr();
-			setState(650);
+			setState(715);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,70,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(646);
+					setState(711);
 					match(Kor);
-					setState(647);
+					setState(712);
 					((OrExprContext)_localctx).andExpr = andExpr();
 					((OrExprContext)_localctx).rhs.add(((OrExprContext)_localctx).andExpr);
 					}
 					} 
 				}
-				setState(652);
+				setState(717);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,70,_ctx);
 			}
 			}
 		}
@@ -3854,31 +4227,31 @@ public class JsoniqParser extends Parser {
 
 	public final AndExprContext andExpr() throws RecognitionException {
 		AndExprContext _localctx = new AndExprContext(_ctx, getState());
-		enterRule(_localctx, 90, RULE_andExpr);
+		enterRule(_localctx, 100, RULE_andExpr);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(653);
+			setState(718);
 			((AndExprContext)_localctx).main_expr = notExpr();
-			setState(658);
+			setState(723);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,64,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,71,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(654);
+					setState(719);
 					match(Kand);
-					setState(655);
+					setState(720);
 					((AndExprContext)_localctx).notExpr = notExpr();
 					((AndExprContext)_localctx).rhs.add(((AndExprContext)_localctx).notExpr);
 					}
 					} 
 				}
-				setState(660);
+				setState(725);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,64,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,71,_ctx);
 			}
 			}
 		}
@@ -3914,22 +4287,22 @@ public class JsoniqParser extends Parser {
 
 	public final NotExprContext notExpr() throws RecognitionException {
 		NotExprContext _localctx = new NotExprContext(_ctx, getState());
-		enterRule(_localctx, 92, RULE_notExpr);
+		enterRule(_localctx, 102, RULE_notExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(662);
+			setState(727);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,65,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,72,_ctx) ) {
 			case 1:
 				{
-				setState(661);
+				setState(726);
 				((NotExprContext)_localctx).Knot = match(Knot);
 				((NotExprContext)_localctx).op.add(((NotExprContext)_localctx).Knot);
 				}
 				break;
 			}
-			setState(664);
+			setState(729);
 			((NotExprContext)_localctx).main_expr = comparisonExpr();
 			}
 		}
@@ -3959,7 +4332,7 @@ public class JsoniqParser extends Parser {
 		public Token s44;
 		public Token s45;
 		public Token s46;
-		public Token _tset1256;
+		public Token _tset1416;
 		public StringConcatExprContext stringConcatExpr;
 		public List<StringConcatExprContext> rhs = new ArrayList<StringConcatExprContext>();
 		public List<StringConcatExprContext> stringConcatExpr() {
@@ -3981,36 +4354,36 @@ public class JsoniqParser extends Parser {
 
 	public final ComparisonExprContext comparisonExpr() throws RecognitionException {
 		ComparisonExprContext _localctx = new ComparisonExprContext(_ctx, getState());
-		enterRule(_localctx, 94, RULE_comparisonExpr);
+		enterRule(_localctx, 104, RULE_comparisonExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(666);
+			setState(731);
 			((ComparisonExprContext)_localctx).main_expr = stringConcatExpr();
-			setState(669);
+			setState(734);
 			_errHandler.sync(this);
-			_la = _input.LA(1);
-			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__35) | (1L << T__36) | (1L << T__37) | (1L << T__38) | (1L << T__39) | (1L << T__40) | (1L << T__41) | (1L << T__42) | (1L << T__43) | (1L << T__44) | (1L << T__45))) != 0)) {
+			switch ( getInterpreter().adaptivePredict(_input,73,_ctx) ) {
+			case 1:
 				{
-				setState(667);
-				((ComparisonExprContext)_localctx)._tset1256 = _input.LT(1);
+				setState(732);
+				((ComparisonExprContext)_localctx)._tset1416 = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__3) | (1L << T__35) | (1L << T__36) | (1L << T__37) | (1L << T__38) | (1L << T__39) | (1L << T__40) | (1L << T__41) | (1L << T__42) | (1L << T__43) | (1L << T__44) | (1L << T__45))) != 0)) ) {
-					((ComparisonExprContext)_localctx)._tset1256 = (Token)_errHandler.recoverInline(this);
+					((ComparisonExprContext)_localctx)._tset1416 = (Token)_errHandler.recoverInline(this);
 				}
 				else {
 					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				((ComparisonExprContext)_localctx).op.add(((ComparisonExprContext)_localctx)._tset1256);
-				setState(668);
+				((ComparisonExprContext)_localctx).op.add(((ComparisonExprContext)_localctx)._tset1416);
+				setState(733);
 				((ComparisonExprContext)_localctx).stringConcatExpr = stringConcatExpr();
 				((ComparisonExprContext)_localctx).rhs.add(((ComparisonExprContext)_localctx).stringConcatExpr);
 				}
+				break;
 			}
-
 			}
 		}
 		catch (RecognitionException re) {
@@ -4047,29 +4420,31 @@ public class JsoniqParser extends Parser {
 
 	public final StringConcatExprContext stringConcatExpr() throws RecognitionException {
 		StringConcatExprContext _localctx = new StringConcatExprContext(_ctx, getState());
-		enterRule(_localctx, 96, RULE_stringConcatExpr);
-		int _la;
+		enterRule(_localctx, 106, RULE_stringConcatExpr);
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(671);
+			setState(736);
 			((StringConcatExprContext)_localctx).main_expr = rangeExpr();
-			setState(676);
+			setState(741);
 			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==T__46) {
-				{
-				{
-				setState(672);
-				match(T__46);
-				setState(673);
-				((StringConcatExprContext)_localctx).rangeExpr = rangeExpr();
-				((StringConcatExprContext)_localctx).rhs.add(((StringConcatExprContext)_localctx).rangeExpr);
-				}
+			_alt = getInterpreter().adaptivePredict(_input,74,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(737);
+					match(T__46);
+					setState(738);
+					((StringConcatExprContext)_localctx).rangeExpr = rangeExpr();
+					((StringConcatExprContext)_localctx).rhs.add(((StringConcatExprContext)_localctx).rangeExpr);
+					}
+					} 
 				}
-				setState(678);
+				setState(743);
 				_errHandler.sync(this);
-				_la = _input.LA(1);
+				_alt = getInterpreter().adaptivePredict(_input,74,_ctx);
 			}
 			}
 		}
@@ -4108,20 +4483,20 @@ public class JsoniqParser extends Parser {
 
 	public final RangeExprContext rangeExpr() throws RecognitionException {
 		RangeExprContext _localctx = new RangeExprContext(_ctx, getState());
-		enterRule(_localctx, 98, RULE_rangeExpr);
+		enterRule(_localctx, 108, RULE_rangeExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(679);
+			setState(744);
 			((RangeExprContext)_localctx).main_expr = additiveExpr();
-			setState(682);
+			setState(747);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,68,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,75,_ctx) ) {
 			case 1:
 				{
-				setState(680);
+				setState(745);
 				match(Kto);
-				setState(681);
+				setState(746);
 				((RangeExprContext)_localctx).additiveExpr = additiveExpr();
 				((RangeExprContext)_localctx).rhs.add(((RangeExprContext)_localctx).additiveExpr);
 				}
@@ -4145,7 +4520,7 @@ public class JsoniqParser extends Parser {
 		public Token s48;
 		public List<Token> op = new ArrayList<Token>();
 		public Token s49;
-		public Token _tset1365;
+		public Token _tset1525;
 		public MultiplicativeExprContext multiplicativeExpr;
 		public List<MultiplicativeExprContext> rhs = new ArrayList<MultiplicativeExprContext>();
 		public List<MultiplicativeExprContext> multiplicativeExpr() {
@@ -4167,42 +4542,42 @@ public class JsoniqParser extends Parser {
 
 	public final AdditiveExprContext additiveExpr() throws RecognitionException {
 		AdditiveExprContext _localctx = new AdditiveExprContext(_ctx, getState());
-		enterRule(_localctx, 100, RULE_additiveExpr);
+		enterRule(_localctx, 110, RULE_additiveExpr);
 		int _la;
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(684);
+			setState(749);
 			((AdditiveExprContext)_localctx).main_expr = multiplicativeExpr();
-			setState(689);
+			setState(754);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,69,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,76,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
-					setState(685);
-					((AdditiveExprContext)_localctx)._tset1365 = _input.LT(1);
+					setState(750);
+					((AdditiveExprContext)_localctx)._tset1525 = _input.LT(1);
 					_la = _input.LA(1);
 					if ( !(_la==T__47 || _la==T__48) ) {
-						((AdditiveExprContext)_localctx)._tset1365 = (Token)_errHandler.recoverInline(this);
+						((AdditiveExprContext)_localctx)._tset1525 = (Token)_errHandler.recoverInline(this);
 					}
 					else {
 						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
 						_errHandler.reportMatch(this);
 						consume();
 					}
-					((AdditiveExprContext)_localctx).op.add(((AdditiveExprContext)_localctx)._tset1365);
-					setState(686);
+					((AdditiveExprContext)_localctx).op.add(((AdditiveExprContext)_localctx)._tset1525);
+					setState(751);
 					((AdditiveExprContext)_localctx).multiplicativeExpr = multiplicativeExpr();
 					((AdditiveExprContext)_localctx).rhs.add(((AdditiveExprContext)_localctx).multiplicativeExpr);
 					}
 					} 
 				}
-				setState(691);
+				setState(756);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,69,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,76,_ctx);
 			}
 			}
 		}
@@ -4224,7 +4599,7 @@ public class JsoniqParser extends Parser {
 		public Token s50;
 		public Token s51;
 		public Token s52;
-		public Token _tset1393;
+		public Token _tset1553;
 		public InstanceOfExprContext instanceOfExpr;
 		public List<InstanceOfExprContext> rhs = new ArrayList<InstanceOfExprContext>();
 		public List<InstanceOfExprContext> instanceOfExpr() {
@@ -4246,39 +4621,42 @@ public class JsoniqParser extends Parser {
 
 	public final MultiplicativeExprContext multiplicativeExpr() throws RecognitionException {
 		MultiplicativeExprContext _localctx = new MultiplicativeExprContext(_ctx, getState());
-		enterRule(_localctx, 102, RULE_multiplicativeExpr);
+		enterRule(_localctx, 112, RULE_multiplicativeExpr);
 		int _la;
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(692);
+			setState(757);
 			((MultiplicativeExprContext)_localctx).main_expr = instanceOfExpr();
-			setState(697);
+			setState(762);
 			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__34) | (1L << T__49) | (1L << T__50) | (1L << T__51))) != 0)) {
-				{
-				{
-				setState(693);
-				((MultiplicativeExprContext)_localctx)._tset1393 = _input.LT(1);
-				_la = _input.LA(1);
-				if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__34) | (1L << T__49) | (1L << T__50) | (1L << T__51))) != 0)) ) {
-					((MultiplicativeExprContext)_localctx)._tset1393 = (Token)_errHandler.recoverInline(this);
-				}
-				else {
-					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
-					_errHandler.reportMatch(this);
-					consume();
-				}
-				((MultiplicativeExprContext)_localctx).op.add(((MultiplicativeExprContext)_localctx)._tset1393);
-				setState(694);
-				((MultiplicativeExprContext)_localctx).instanceOfExpr = instanceOfExpr();
-				((MultiplicativeExprContext)_localctx).rhs.add(((MultiplicativeExprContext)_localctx).instanceOfExpr);
-				}
+			_alt = getInterpreter().adaptivePredict(_input,77,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(758);
+					((MultiplicativeExprContext)_localctx)._tset1553 = _input.LT(1);
+					_la = _input.LA(1);
+					if ( !((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__34) | (1L << T__49) | (1L << T__50) | (1L << T__51))) != 0)) ) {
+						((MultiplicativeExprContext)_localctx)._tset1553 = (Token)_errHandler.recoverInline(this);
+					}
+					else {
+						if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+						_errHandler.reportMatch(this);
+						consume();
+					}
+					((MultiplicativeExprContext)_localctx).op.add(((MultiplicativeExprContext)_localctx)._tset1553);
+					setState(759);
+					((MultiplicativeExprContext)_localctx).instanceOfExpr = instanceOfExpr();
+					((MultiplicativeExprContext)_localctx).rhs.add(((MultiplicativeExprContext)_localctx).instanceOfExpr);
+					}
+					} 
 				}
-				setState(699);
+				setState(764);
 				_errHandler.sync(this);
-				_la = _input.LA(1);
+				_alt = getInterpreter().adaptivePredict(_input,77,_ctx);
 			}
 			}
 		}
@@ -4317,22 +4695,22 @@ public class JsoniqParser extends Parser {
 
 	public final InstanceOfExprContext instanceOfExpr() throws RecognitionException {
 		InstanceOfExprContext _localctx = new InstanceOfExprContext(_ctx, getState());
-		enterRule(_localctx, 104, RULE_instanceOfExpr);
+		enterRule(_localctx, 114, RULE_instanceOfExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(700);
+			setState(765);
 			((InstanceOfExprContext)_localctx).main_expr = isStaticallyExpr();
-			setState(704);
+			setState(769);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,71,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,78,_ctx) ) {
 			case 1:
 				{
-				setState(701);
+				setState(766);
 				match(Kinstance);
-				setState(702);
+				setState(767);
 				match(Kof);
-				setState(703);
+				setState(768);
 				((InstanceOfExprContext)_localctx).seq = sequenceType();
 				}
 				break;
@@ -4374,22 +4752,22 @@ public class JsoniqParser extends Parser {
 
 	public final IsStaticallyExprContext isStaticallyExpr() throws RecognitionException {
 		IsStaticallyExprContext _localctx = new IsStaticallyExprContext(_ctx, getState());
-		enterRule(_localctx, 106, RULE_isStaticallyExpr);
+		enterRule(_localctx, 116, RULE_isStaticallyExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(706);
+			setState(771);
 			((IsStaticallyExprContext)_localctx).main_expr = treatExpr();
-			setState(710);
+			setState(775);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,72,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,79,_ctx) ) {
 			case 1:
 				{
-				setState(707);
+				setState(772);
 				match(Kis);
-				setState(708);
+				setState(773);
 				match(Kstatically);
-				setState(709);
+				setState(774);
 				((IsStaticallyExprContext)_localctx).seq = sequenceType();
 				}
 				break;
@@ -4431,22 +4809,22 @@ public class JsoniqParser extends Parser {
 
 	public final TreatExprContext treatExpr() throws RecognitionException {
 		TreatExprContext _localctx = new TreatExprContext(_ctx, getState());
-		enterRule(_localctx, 108, RULE_treatExpr);
+		enterRule(_localctx, 118, RULE_treatExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(712);
+			setState(777);
 			((TreatExprContext)_localctx).main_expr = castableExpr();
-			setState(716);
+			setState(781);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,73,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,80,_ctx) ) {
 			case 1:
 				{
-				setState(713);
+				setState(778);
 				match(Ktreat);
-				setState(714);
+				setState(779);
 				match(Kas);
-				setState(715);
+				setState(780);
 				((TreatExprContext)_localctx).seq = sequenceType();
 				}
 				break;
@@ -4488,22 +4866,22 @@ public class JsoniqParser extends Parser {
 
 	public final CastableExprContext castableExpr() throws RecognitionException {
 		CastableExprContext _localctx = new CastableExprContext(_ctx, getState());
-		enterRule(_localctx, 110, RULE_castableExpr);
+		enterRule(_localctx, 120, RULE_castableExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(718);
+			setState(783);
 			((CastableExprContext)_localctx).main_expr = castExpr();
-			setState(722);
+			setState(787);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,74,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,81,_ctx) ) {
 			case 1:
 				{
-				setState(719);
+				setState(784);
 				match(Kcastable);
-				setState(720);
+				setState(785);
 				match(Kas);
-				setState(721);
+				setState(786);
 				((CastableExprContext)_localctx).single = singleType();
 				}
 				break;
@@ -4545,22 +4923,22 @@ public class JsoniqParser extends Parser {
 
 	public final CastExprContext castExpr() throws RecognitionException {
 		CastExprContext _localctx = new CastExprContext(_ctx, getState());
-		enterRule(_localctx, 112, RULE_castExpr);
+		enterRule(_localctx, 122, RULE_castExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(724);
+			setState(789);
 			((CastExprContext)_localctx).main_expr = arrowExpr();
-			setState(728);
+			setState(793);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,75,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,82,_ctx) ) {
 			case 1:
 				{
-				setState(725);
+				setState(790);
 				match(Kcast);
-				setState(726);
+				setState(791);
 				match(Kas);
-				setState(727);
+				setState(792);
 				((CastExprContext)_localctx).single = singleType();
 				}
 				break;
@@ -4612,38 +4990,38 @@ public class JsoniqParser extends Parser {
 
 	public final ArrowExprContext arrowExpr() throws RecognitionException {
 		ArrowExprContext _localctx = new ArrowExprContext(_ctx, getState());
-		enterRule(_localctx, 114, RULE_arrowExpr);
+		enterRule(_localctx, 124, RULE_arrowExpr);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(730);
+			setState(795);
 			((ArrowExprContext)_localctx).main_expr = unaryExpr();
-			setState(739);
+			setState(804);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,76,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,83,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
 					{
 					{
-					setState(731);
+					setState(796);
 					match(T__3);
-					setState(732);
+					setState(797);
 					match(T__44);
 					}
-					setState(734);
+					setState(799);
 					((ArrowExprContext)_localctx).arrowFunctionSpecifier = arrowFunctionSpecifier();
 					((ArrowExprContext)_localctx).function.add(((ArrowExprContext)_localctx).arrowFunctionSpecifier);
-					setState(735);
+					setState(800);
 					((ArrowExprContext)_localctx).argumentList = argumentList();
 					((ArrowExprContext)_localctx).arguments.add(((ArrowExprContext)_localctx).argumentList);
 					}
 					} 
 				}
-				setState(741);
+				setState(806);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,76,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,83,_ctx);
 			}
 			}
 		}
@@ -4681,9 +5059,9 @@ public class JsoniqParser extends Parser {
 
 	public final ArrowFunctionSpecifierContext arrowFunctionSpecifier() throws RecognitionException {
 		ArrowFunctionSpecifierContext _localctx = new ArrowFunctionSpecifierContext(_ctx, getState());
-		enterRule(_localctx, 116, RULE_arrowFunctionSpecifier);
+		enterRule(_localctx, 126, RULE_arrowFunctionSpecifier);
 		try {
-			setState(745);
+			setState(810);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Kfor:
@@ -4742,21 +5120,21 @@ public class JsoniqParser extends Parser {
 			case NCName:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(742);
+				setState(807);
 				qname();
 				}
 				break;
 			case T__32:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(743);
+				setState(808);
 				varRef();
 				}
 				break;
 			case T__23:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(744);
+				setState(809);
 				parenthesizedExpr();
 				}
 				break;
@@ -4779,7 +5157,7 @@ public class JsoniqParser extends Parser {
 		public Token s49;
 		public List<Token> op = new ArrayList<Token>();
 		public Token s48;
-		public Token _tset1572;
+		public Token _tset1732;
 		public ValueExprContext main_expr;
 		public ValueExprContext valueExpr() {
 			return getRuleContext(ValueExprContext.class,0);
@@ -4797,36 +5175,36 @@ public class JsoniqParser extends Parser {
 
 	public final UnaryExprContext unaryExpr() throws RecognitionException {
 		UnaryExprContext _localctx = new UnaryExprContext(_ctx, getState());
-		enterRule(_localctx, 118, RULE_unaryExpr);
+		enterRule(_localctx, 128, RULE_unaryExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(750);
+			setState(815);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==T__47 || _la==T__48) {
 				{
 				{
-				setState(747);
-				((UnaryExprContext)_localctx)._tset1572 = _input.LT(1);
+				setState(812);
+				((UnaryExprContext)_localctx)._tset1732 = _input.LT(1);
 				_la = _input.LA(1);
 				if ( !(_la==T__47 || _la==T__48) ) {
-					((UnaryExprContext)_localctx)._tset1572 = (Token)_errHandler.recoverInline(this);
+					((UnaryExprContext)_localctx)._tset1732 = (Token)_errHandler.recoverInline(this);
 				}
 				else {
 					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
 					_errHandler.reportMatch(this);
 					consume();
 				}
-				((UnaryExprContext)_localctx).op.add(((UnaryExprContext)_localctx)._tset1572);
+				((UnaryExprContext)_localctx).op.add(((UnaryExprContext)_localctx)._tset1732);
 				}
 				}
-				setState(752);
+				setState(817);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(753);
+			setState(818);
 			((UnaryExprContext)_localctx).main_expr = valueExpr();
 			}
 		}
@@ -4863,9 +5241,9 @@ public class JsoniqParser extends Parser {
 
 	public final ValueExprContext valueExpr() throws RecognitionException {
 		ValueExprContext _localctx = new ValueExprContext(_ctx, getState());
-		enterRule(_localctx, 120, RULE_valueExpr);
+		enterRule(_localctx, 130, RULE_valueExpr);
 		try {
-			setState(757);
+			setState(822);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__5:
@@ -4934,14 +5312,14 @@ public class JsoniqParser extends Parser {
 			case NCName:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(755);
+				setState(820);
 				((ValueExprContext)_localctx).simpleMap_expr = simpleMapExpr();
 				}
 				break;
 			case T__52:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(756);
+				setState(821);
 				((ValueExprContext)_localctx).validate_expr = validateExpr();
 				}
 				break;
@@ -4981,21 +5359,21 @@ public class JsoniqParser extends Parser {
 
 	public final ValidateExprContext validateExpr() throws RecognitionException {
 		ValidateExprContext _localctx = new ValidateExprContext(_ctx, getState());
-		enterRule(_localctx, 122, RULE_validateExpr);
+		enterRule(_localctx, 132, RULE_validateExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(759);
+			setState(824);
 			match(T__52);
-			setState(760);
+			setState(825);
 			match(Ktype);
-			setState(761);
+			setState(826);
 			sequenceType();
-			setState(762);
+			setState(827);
 			match(T__25);
-			setState(763);
+			setState(828);
 			expr();
-			setState(764);
+			setState(829);
 			match(T__26);
 			}
 		}
@@ -5033,29 +5411,31 @@ public class JsoniqParser extends Parser {
 
 	public final SimpleMapExprContext simpleMapExpr() throws RecognitionException {
 		SimpleMapExprContext _localctx = new SimpleMapExprContext(_ctx, getState());
-		enterRule(_localctx, 124, RULE_simpleMapExpr);
-		int _la;
+		enterRule(_localctx, 134, RULE_simpleMapExpr);
 		try {
+			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(766);
+			setState(831);
 			((SimpleMapExprContext)_localctx).main_expr = postFixExpr();
-			setState(771);
+			setState(836);
 			_errHandler.sync(this);
-			_la = _input.LA(1);
-			while (_la==T__53) {
-				{
-				{
-				setState(767);
-				match(T__53);
-				setState(768);
-				((SimpleMapExprContext)_localctx).postFixExpr = postFixExpr();
-				((SimpleMapExprContext)_localctx).map_expr.add(((SimpleMapExprContext)_localctx).postFixExpr);
-				}
+			_alt = getInterpreter().adaptivePredict(_input,87,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(832);
+					match(T__53);
+					setState(833);
+					((SimpleMapExprContext)_localctx).postFixExpr = postFixExpr();
+					((SimpleMapExprContext)_localctx).map_expr.add(((SimpleMapExprContext)_localctx).postFixExpr);
+					}
+					} 
 				}
-				setState(773);
+				setState(838);
 				_errHandler.sync(this);
-				_la = _input.LA(1);
+				_alt = getInterpreter().adaptivePredict(_input,87,_ctx);
 			}
 			}
 		}
@@ -5118,58 +5498,58 @@ public class JsoniqParser extends Parser {
 
 	public final PostFixExprContext postFixExpr() throws RecognitionException {
 		PostFixExprContext _localctx = new PostFixExprContext(_ctx, getState());
-		enterRule(_localctx, 126, RULE_postFixExpr);
+		enterRule(_localctx, 136, RULE_postFixExpr);
 		try {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(774);
+			setState(839);
 			((PostFixExprContext)_localctx).main_expr = primaryExpr();
-			setState(782);
+			setState(847);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,82,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,89,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(780);
+					setState(845);
 					_errHandler.sync(this);
-					switch ( getInterpreter().adaptivePredict(_input,81,_ctx) ) {
+					switch ( getInterpreter().adaptivePredict(_input,88,_ctx) ) {
 					case 1:
 						{
-						setState(775);
+						setState(840);
 						arrayLookup();
 						}
 						break;
 					case 2:
 						{
-						setState(776);
+						setState(841);
 						predicate();
 						}
 						break;
 					case 3:
 						{
-						setState(777);
+						setState(842);
 						objectLookup();
 						}
 						break;
 					case 4:
 						{
-						setState(778);
+						setState(843);
 						arrayUnboxing();
 						}
 						break;
 					case 5:
 						{
-						setState(779);
+						setState(844);
 						argumentList();
 						}
 						break;
 					}
 					} 
 				}
-				setState(784);
+				setState(849);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,82,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,89,_ctx);
 			}
 			}
 		}
@@ -5201,19 +5581,19 @@ public class JsoniqParser extends Parser {
 
 	public final ArrayLookupContext arrayLookup() throws RecognitionException {
 		ArrayLookupContext _localctx = new ArrayLookupContext(_ctx, getState());
-		enterRule(_localctx, 128, RULE_arrayLookup);
+		enterRule(_localctx, 138, RULE_arrayLookup);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(785);
+			setState(850);
 			match(T__54);
-			setState(786);
+			setState(851);
 			match(T__54);
-			setState(787);
+			setState(852);
 			expr();
-			setState(788);
+			setState(853);
 			match(T__55);
-			setState(789);
+			setState(854);
 			match(T__55);
 			}
 		}
@@ -5242,13 +5622,13 @@ public class JsoniqParser extends Parser {
 
 	public final ArrayUnboxingContext arrayUnboxing() throws RecognitionException {
 		ArrayUnboxingContext _localctx = new ArrayUnboxingContext(_ctx, getState());
-		enterRule(_localctx, 130, RULE_arrayUnboxing);
+		enterRule(_localctx, 140, RULE_arrayUnboxing);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(791);
+			setState(856);
 			match(T__54);
-			setState(792);
+			setState(857);
 			match(T__55);
 			}
 		}
@@ -5280,15 +5660,15 @@ public class JsoniqParser extends Parser {
 
 	public final PredicateContext predicate() throws RecognitionException {
 		PredicateContext _localctx = new PredicateContext(_ctx, getState());
-		enterRule(_localctx, 132, RULE_predicate);
+		enterRule(_localctx, 142, RULE_predicate);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(794);
+			setState(859);
 			match(T__54);
-			setState(795);
+			setState(860);
 			expr();
-			setState(796);
+			setState(861);
 			match(T__55);
 			}
 		}
@@ -5339,13 +5719,13 @@ public class JsoniqParser extends Parser {
 
 	public final ObjectLookupContext objectLookup() throws RecognitionException {
 		ObjectLookupContext _localctx = new ObjectLookupContext(_ctx, getState());
-		enterRule(_localctx, 134, RULE_objectLookup);
+		enterRule(_localctx, 144, RULE_objectLookup);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(798);
+			setState(863);
 			match(T__56);
-			setState(805);
+			setState(870);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Kfor:
@@ -5402,37 +5782,37 @@ public class JsoniqParser extends Parser {
 			case Kvariable:
 			case NullLiteral:
 				{
-				setState(799);
+				setState(864);
 				((ObjectLookupContext)_localctx).kw = keyWords();
 				}
 				break;
 			case STRING:
 				{
-				setState(800);
+				setState(865);
 				((ObjectLookupContext)_localctx).lt = stringLiteral();
 				}
 				break;
 			case NCName:
 				{
-				setState(801);
+				setState(866);
 				((ObjectLookupContext)_localctx).nc = match(NCName);
 				}
 				break;
 			case T__23:
 				{
-				setState(802);
+				setState(867);
 				((ObjectLookupContext)_localctx).pe = parenthesizedExpr();
 				}
 				break;
 			case T__32:
 				{
-				setState(803);
+				setState(868);
 				((ObjectLookupContext)_localctx).vr = varRef();
 				}
 				break;
 			case T__57:
 				{
-				setState(804);
+				setState(869);
 				((ObjectLookupContext)_localctx).ci = contextItemExpr();
 				}
 				break;
@@ -5500,106 +5880,106 @@ public class JsoniqParser extends Parser {
 
 	public final PrimaryExprContext primaryExpr() throws RecognitionException {
 		PrimaryExprContext _localctx = new PrimaryExprContext(_ctx, getState());
-		enterRule(_localctx, 136, RULE_primaryExpr);
+		enterRule(_localctx, 146, RULE_primaryExpr);
 		try {
-			setState(821);
+			setState(886);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,84,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,91,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(807);
+				setState(872);
 				match(NullLiteral);
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(808);
+				setState(873);
 				match(Ktrue);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(809);
+				setState(874);
 				match(Kfalse);
 				}
 				break;
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(810);
+				setState(875);
 				match(Literal);
 				}
 				break;
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(811);
+				setState(876);
 				stringLiteral();
 				}
 				break;
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(812);
+				setState(877);
 				varRef();
 				}
 				break;
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(813);
+				setState(878);
 				parenthesizedExpr();
 				}
 				break;
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(814);
+				setState(879);
 				contextItemExpr();
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(815);
+				setState(880);
 				objectConstructor();
 				}
 				break;
 			case 10:
 				enterOuterAlt(_localctx, 10);
 				{
-				setState(816);
+				setState(881);
 				functionCall();
 				}
 				break;
 			case 11:
 				enterOuterAlt(_localctx, 11);
 				{
-				setState(817);
+				setState(882);
 				orderedExpr();
 				}
 				break;
 			case 12:
 				enterOuterAlt(_localctx, 12);
 				{
-				setState(818);
+				setState(883);
 				unorderedExpr();
 				}
 				break;
 			case 13:
 				enterOuterAlt(_localctx, 13);
 				{
-				setState(819);
+				setState(884);
 				arrayConstructor();
 				}
 				break;
 			case 14:
 				enterOuterAlt(_localctx, 14);
 				{
-				setState(820);
+				setState(885);
 				functionItemExpr();
 				}
 				break;
@@ -5634,13 +6014,13 @@ public class JsoniqParser extends Parser {
 
 	public final VarRefContext varRef() throws RecognitionException {
 		VarRefContext _localctx = new VarRefContext(_ctx, getState());
-		enterRule(_localctx, 138, RULE_varRef);
+		enterRule(_localctx, 148, RULE_varRef);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(823);
+			setState(888);
 			match(T__32);
-			setState(824);
+			setState(889);
 			((VarRefContext)_localctx).var_name = qname();
 			}
 		}
@@ -5672,24 +6052,24 @@ public class JsoniqParser extends Parser {
 
 	public final ParenthesizedExprContext parenthesizedExpr() throws RecognitionException {
 		ParenthesizedExprContext _localctx = new ParenthesizedExprContext(_ctx, getState());
-		enterRule(_localctx, 140, RULE_parenthesizedExpr);
+		enterRule(_localctx, 150, RULE_parenthesizedExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(826);
+			setState(891);
 			match(T__23);
-			setState(828);
+			setState(893);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__5) | (1L << T__22) | (1L << T__23) | (1L << T__25) | (1L << T__32) | (1L << T__47) | (1L << T__48) | (1L << T__52) | (1L << T__54) | (1L << T__57) | (1L << T__59) | (1L << Kfor) | (1L << Klet))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (Kwhere - 64)) | (1L << (Kgroup - 64)) | (1L << (Kby - 64)) | (1L << (Korder - 64)) | (1L << (Kreturn - 64)) | (1L << (Kif - 64)) | (1L << (Kin - 64)) | (1L << (Kas - 64)) | (1L << (Kat - 64)) | (1L << (Kallowing - 64)) | (1L << (Kempty - 64)) | (1L << (Kcount - 64)) | (1L << (Kstable - 64)) | (1L << (Kascending - 64)) | (1L << (Kdescending - 64)) | (1L << (Ksome - 64)) | (1L << (Kevery - 64)) | (1L << (Ksatisfies - 64)) | (1L << (Kcollation - 64)) | (1L << (Kgreatest - 64)) | (1L << (Kleast - 64)) | (1L << (Kswitch - 64)) | (1L << (Kcase - 64)) | (1L << (Ktry - 64)) | (1L << (Kcatch - 64)) | (1L << (Kdefault - 64)) | (1L << (Kthen - 64)) | (1L << (Kelse - 64)) | (1L << (Ktypeswitch - 64)) | (1L << (Kor - 64)) | (1L << (Kand - 64)) | (1L << (Knot - 64)) | (1L << (Kto - 64)) | (1L << (Kinstance - 64)) | (1L << (Kof - 64)) | (1L << (Kstatically - 64)) | (1L << (Kis - 64)) | (1L << (Ktreat - 64)) | (1L << (Kcast - 64)) | (1L << (Kcastable - 64)) | (1L << (Kversion - 64)) | (1L << (Kjsoniq - 64)) | (1L << (Kunordered - 64)) | (1L << (Ktrue - 64)) | (1L << (Kfalse - 64)) | (1L << (Ktype - 64)) | (1L << (Kdeclare - 64)) | (1L << (Kcontext - 64)) | (1L << (Kitem - 64)) | (1L << (Kvariable - 64)) | (1L << (STRING - 64)) | (1L << (NullLiteral - 64)) | (1L << (Literal - 64)) | (1L << (NCName - 64)))) != 0)) {
 				{
-				setState(827);
+				setState(892);
 				expr();
 				}
 			}
 
-			setState(830);
+			setState(895);
 			match(T__24);
 			}
 		}
@@ -5718,11 +6098,11 @@ public class JsoniqParser extends Parser {
 
 	public final ContextItemExprContext contextItemExpr() throws RecognitionException {
 		ContextItemExprContext _localctx = new ContextItemExprContext(_ctx, getState());
-		enterRule(_localctx, 142, RULE_contextItemExpr);
+		enterRule(_localctx, 152, RULE_contextItemExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(832);
+			setState(897);
 			match(T__57);
 			}
 		}
@@ -5754,17 +6134,17 @@ public class JsoniqParser extends Parser {
 
 	public final OrderedExprContext orderedExpr() throws RecognitionException {
 		OrderedExprContext _localctx = new OrderedExprContext(_ctx, getState());
-		enterRule(_localctx, 144, RULE_orderedExpr);
+		enterRule(_localctx, 154, RULE_orderedExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(834);
+			setState(899);
 			match(T__5);
-			setState(835);
+			setState(900);
 			match(T__25);
-			setState(836);
+			setState(901);
 			expr();
-			setState(837);
+			setState(902);
 			match(T__26);
 			}
 		}
@@ -5797,17 +6177,17 @@ public class JsoniqParser extends Parser {
 
 	public final UnorderedExprContext unorderedExpr() throws RecognitionException {
 		UnorderedExprContext _localctx = new UnorderedExprContext(_ctx, getState());
-		enterRule(_localctx, 146, RULE_unorderedExpr);
+		enterRule(_localctx, 156, RULE_unorderedExpr);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(839);
+			setState(904);
 			match(Kunordered);
-			setState(840);
+			setState(905);
 			match(T__25);
-			setState(841);
+			setState(906);
 			expr();
-			setState(842);
+			setState(907);
 			match(T__26);
 			}
 		}
@@ -5843,13 +6223,13 @@ public class JsoniqParser extends Parser {
 
 	public final FunctionCallContext functionCall() throws RecognitionException {
 		FunctionCallContext _localctx = new FunctionCallContext(_ctx, getState());
-		enterRule(_localctx, 148, RULE_functionCall);
+		enterRule(_localctx, 158, RULE_functionCall);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(844);
+			setState(909);
 			((FunctionCallContext)_localctx).fn_name = qname();
-			setState(845);
+			setState(910);
 			argumentList();
 			}
 		}
@@ -5886,39 +6266,39 @@ public class JsoniqParser extends Parser {
 
 	public final ArgumentListContext argumentList() throws RecognitionException {
 		ArgumentListContext _localctx = new ArgumentListContext(_ctx, getState());
-		enterRule(_localctx, 150, RULE_argumentList);
+		enterRule(_localctx, 160, RULE_argumentList);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(847);
+			setState(912);
 			match(T__23);
-			setState(854);
+			setState(919);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__5) | (1L << T__22) | (1L << T__23) | (1L << T__25) | (1L << T__32) | (1L << T__47) | (1L << T__48) | (1L << T__52) | (1L << T__54) | (1L << T__57) | (1L << T__59) | (1L << Kfor) | (1L << Klet))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (Kwhere - 64)) | (1L << (Kgroup - 64)) | (1L << (Kby - 64)) | (1L << (Korder - 64)) | (1L << (Kreturn - 64)) | (1L << (Kif - 64)) | (1L << (Kin - 64)) | (1L << (Kas - 64)) | (1L << (Kat - 64)) | (1L << (Kallowing - 64)) | (1L << (Kempty - 64)) | (1L << (Kcount - 64)) | (1L << (Kstable - 64)) | (1L << (Kascending - 64)) | (1L << (Kdescending - 64)) | (1L << (Ksome - 64)) | (1L << (Kevery - 64)) | (1L << (Ksatisfies - 64)) | (1L << (Kcollation - 64)) | (1L << (Kgreatest - 64)) | (1L << (Kleast - 64)) | (1L << (Kswitch - 64)) | (1L << (Kcase - 64)) | (1L << (Ktry - 64)) | (1L << (Kcatch - 64)) | (1L << (Kdefault - 64)) | (1L << (Kthen - 64)) | (1L << (Kelse - 64)) | (1L << (Ktypeswitch - 64)) | (1L << (Kor - 64)) | (1L << (Kand - 64)) | (1L << (Knot - 64)) | (1L << (Kto - 64)) | (1L << (Kinstance - 64)) | (1L << (Kof - 64)) | (1L << (Kstatically - 64)) | (1L << (Kis - 64)) | (1L << (Ktreat - 64)) | (1L << (Kcast - 64)) | (1L << (Kcastable - 64)) | (1L << (Kversion - 64)) | (1L << (Kjsoniq - 64)) | (1L << (Kunordered - 64)) | (1L << (Ktrue - 64)) | (1L << (Kfalse - 64)) | (1L << (Ktype - 64)) | (1L << (Kdeclare - 64)) | (1L << (Kcontext - 64)) | (1L << (Kitem - 64)) | (1L << (Kvariable - 64)) | (1L << (STRING - 64)) | (1L << (ArgumentPlaceholder - 64)) | (1L << (NullLiteral - 64)) | (1L << (Literal - 64)) | (1L << (NCName - 64)))) != 0)) {
 				{
 				{
-				setState(848);
+				setState(913);
 				((ArgumentListContext)_localctx).argument = argument();
 				((ArgumentListContext)_localctx).args.add(((ArgumentListContext)_localctx).argument);
-				setState(850);
+				setState(915);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==T__19) {
 					{
-					setState(849);
+					setState(914);
 					match(T__19);
 					}
 				}
 
 				}
 				}
-				setState(856);
+				setState(921);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(857);
+			setState(922);
 			match(T__24);
 			}
 		}
@@ -5951,9 +6331,9 @@ public class JsoniqParser extends Parser {
 
 	public final ArgumentContext argument() throws RecognitionException {
 		ArgumentContext _localctx = new ArgumentContext(_ctx, getState());
-		enterRule(_localctx, 152, RULE_argument);
+		enterRule(_localctx, 162, RULE_argument);
 		try {
-			setState(861);
+			setState(926);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__5:
@@ -6025,14 +6405,14 @@ public class JsoniqParser extends Parser {
 			case NCName:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(859);
+				setState(924);
 				exprSingle();
 				}
 				break;
 			case ArgumentPlaceholder:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(860);
+				setState(925);
 				match(ArgumentPlaceholder);
 				}
 				break;
@@ -6071,9 +6451,9 @@ public class JsoniqParser extends Parser {
 
 	public final FunctionItemExprContext functionItemExpr() throws RecognitionException {
 		FunctionItemExprContext _localctx = new FunctionItemExprContext(_ctx, getState());
-		enterRule(_localctx, 154, RULE_functionItemExpr);
+		enterRule(_localctx, 164, RULE_functionItemExpr);
 		try {
-			setState(865);
+			setState(930);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case Kfor:
@@ -6132,14 +6512,14 @@ public class JsoniqParser extends Parser {
 			case NCName:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(863);
+				setState(928);
 				namedFunctionRef();
 				}
 				break;
 			case T__22:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(864);
+				setState(929);
 				inlineFunctionExpr();
 				}
 				break;
@@ -6178,15 +6558,15 @@ public class JsoniqParser extends Parser {
 
 	public final NamedFunctionRefContext namedFunctionRef() throws RecognitionException {
 		NamedFunctionRefContext _localctx = new NamedFunctionRefContext(_ctx, getState());
-		enterRule(_localctx, 156, RULE_namedFunctionRef);
+		enterRule(_localctx, 166, RULE_namedFunctionRef);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(867);
+			setState(932);
 			((NamedFunctionRefContext)_localctx).fn_name = qname();
-			setState(868);
+			setState(933);
 			match(T__58);
-			setState(869);
+			setState(934);
 			((NamedFunctionRefContext)_localctx).arity = match(Literal);
 			}
 		}
@@ -6227,53 +6607,53 @@ public class JsoniqParser extends Parser {
 
 	public final InlineFunctionExprContext inlineFunctionExpr() throws RecognitionException {
 		InlineFunctionExprContext _localctx = new InlineFunctionExprContext(_ctx, getState());
-		enterRule(_localctx, 158, RULE_inlineFunctionExpr);
+		enterRule(_localctx, 168, RULE_inlineFunctionExpr);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(871);
+			setState(936);
 			match(T__22);
-			setState(872);
+			setState(937);
 			match(T__23);
-			setState(874);
+			setState(939);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==T__32) {
 				{
-				setState(873);
+				setState(938);
 				paramList();
 				}
 			}
 
-			setState(876);
+			setState(941);
 			match(T__24);
-			setState(879);
+			setState(944);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==Kas) {
 				{
-				setState(877);
+				setState(942);
 				match(Kas);
-				setState(878);
+				setState(943);
 				((InlineFunctionExprContext)_localctx).return_type = sequenceType();
 				}
 			}
 
 			{
-			setState(881);
+			setState(946);
 			match(T__25);
-			setState(883);
+			setState(948);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__5) | (1L << T__22) | (1L << T__23) | (1L << T__25) | (1L << T__32) | (1L << T__47) | (1L << T__48) | (1L << T__52) | (1L << T__54) | (1L << T__57) | (1L << T__59) | (1L << Kfor) | (1L << Klet))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (Kwhere - 64)) | (1L << (Kgroup - 64)) | (1L << (Kby - 64)) | (1L << (Korder - 64)) | (1L << (Kreturn - 64)) | (1L << (Kif - 64)) | (1L << (Kin - 64)) | (1L << (Kas - 64)) | (1L << (Kat - 64)) | (1L << (Kallowing - 64)) | (1L << (Kempty - 64)) | (1L << (Kcount - 64)) | (1L << (Kstable - 64)) | (1L << (Kascending - 64)) | (1L << (Kdescending - 64)) | (1L << (Ksome - 64)) | (1L << (Kevery - 64)) | (1L << (Ksatisfies - 64)) | (1L << (Kcollation - 64)) | (1L << (Kgreatest - 64)) | (1L << (Kleast - 64)) | (1L << (Kswitch - 64)) | (1L << (Kcase - 64)) | (1L << (Ktry - 64)) | (1L << (Kcatch - 64)) | (1L << (Kdefault - 64)) | (1L << (Kthen - 64)) | (1L << (Kelse - 64)) | (1L << (Ktypeswitch - 64)) | (1L << (Kor - 64)) | (1L << (Kand - 64)) | (1L << (Knot - 64)) | (1L << (Kto - 64)) | (1L << (Kinstance - 64)) | (1L << (Kof - 64)) | (1L << (Kstatically - 64)) | (1L << (Kis - 64)) | (1L << (Ktreat - 64)) | (1L << (Kcast - 64)) | (1L << (Kcastable - 64)) | (1L << (Kversion - 64)) | (1L << (Kjsoniq - 64)) | (1L << (Kunordered - 64)) | (1L << (Ktrue - 64)) | (1L << (Kfalse - 64)) | (1L << (Ktype - 64)) | (1L << (Kdeclare - 64)) | (1L << (Kcontext - 64)) | (1L << (Kitem - 64)) | (1L << (Kvariable - 64)) | (1L << (STRING - 64)) | (1L << (NullLiteral - 64)) | (1L << (Literal - 64)) | (1L << (NCName - 64)))) != 0)) {
 				{
-				setState(882);
+				setState(947);
 				((InlineFunctionExprContext)_localctx).fn_body = expr();
 				}
 			}
 
-			setState(885);
+			setState(950);
 			match(T__26);
 			}
 			}
@@ -6314,17 +6694,17 @@ public class JsoniqParser extends Parser {
 
 	public final SequenceTypeContext sequenceType() throws RecognitionException {
 		SequenceTypeContext _localctx = new SequenceTypeContext(_ctx, getState());
-		enterRule(_localctx, 160, RULE_sequenceType);
+		enterRule(_localctx, 170, RULE_sequenceType);
 		try {
-			setState(895);
+			setState(960);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__23:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(887);
+				setState(952);
 				match(T__23);
-				setState(888);
+				setState(953);
 				match(T__24);
 				}
 				break;
@@ -6385,28 +6765,28 @@ public class JsoniqParser extends Parser {
 			case NCName:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(889);
+				setState(954);
 				((SequenceTypeContext)_localctx).item = itemType();
-				setState(893);
+				setState(958);
 				_errHandler.sync(this);
-				switch ( getInterpreter().adaptivePredict(_input,93,_ctx) ) {
+				switch ( getInterpreter().adaptivePredict(_input,100,_ctx) ) {
 				case 1:
 					{
-					setState(890);
+					setState(955);
 					((SequenceTypeContext)_localctx).s115 = match(ArgumentPlaceholder);
 					((SequenceTypeContext)_localctx).question.add(((SequenceTypeContext)_localctx).s115);
 					}
 					break;
 				case 2:
 					{
-					setState(891);
+					setState(956);
 					((SequenceTypeContext)_localctx).s35 = match(T__34);
 					((SequenceTypeContext)_localctx).star.add(((SequenceTypeContext)_localctx).s35);
 					}
 					break;
 				case 3:
 					{
-					setState(892);
+					setState(957);
 					((SequenceTypeContext)_localctx).s48 = match(T__47);
 					((SequenceTypeContext)_localctx).plus.add(((SequenceTypeContext)_localctx).s48);
 					}
@@ -6454,56 +6834,56 @@ public class JsoniqParser extends Parser {
 
 	public final ObjectConstructorContext objectConstructor() throws RecognitionException {
 		ObjectConstructorContext _localctx = new ObjectConstructorContext(_ctx, getState());
-		enterRule(_localctx, 162, RULE_objectConstructor);
+		enterRule(_localctx, 172, RULE_objectConstructor);
 		int _la;
 		try {
-			setState(913);
+			setState(978);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case T__25:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(897);
+				setState(962);
 				match(T__25);
-				setState(906);
+				setState(971);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__5) | (1L << T__22) | (1L << T__23) | (1L << T__25) | (1L << T__32) | (1L << T__47) | (1L << T__48) | (1L << T__52) | (1L << T__54) | (1L << T__57) | (1L << T__59) | (1L << Kfor) | (1L << Klet))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (Kwhere - 64)) | (1L << (Kgroup - 64)) | (1L << (Kby - 64)) | (1L << (Korder - 64)) | (1L << (Kreturn - 64)) | (1L << (Kif - 64)) | (1L << (Kin - 64)) | (1L << (Kas - 64)) | (1L << (Kat - 64)) | (1L << (Kallowing - 64)) | (1L << (Kempty - 64)) | (1L << (Kcount - 64)) | (1L << (Kstable - 64)) | (1L << (Kascending - 64)) | (1L << (Kdescending - 64)) | (1L << (Ksome - 64)) | (1L << (Kevery - 64)) | (1L << (Ksatisfies - 64)) | (1L << (Kcollation - 64)) | (1L << (Kgreatest - 64)) | (1L << (Kleast - 64)) | (1L << (Kswitch - 64)) | (1L << (Kcase - 64)) | (1L << (Ktry - 64)) | (1L << (Kcatch - 64)) | (1L << (Kdefault - 64)) | (1L << (Kthen - 64)) | (1L << (Kelse - 64)) | (1L << (Ktypeswitch - 64)) | (1L << (Kor - 64)) | (1L << (Kand - 64)) | (1L << (Knot - 64)) | (1L << (Kto - 64)) | (1L << (Kinstance - 64)) | (1L << (Kof - 64)) | (1L << (Kstatically - 64)) | (1L << (Kis - 64)) | (1L << (Ktreat - 64)) | (1L << (Kcast - 64)) | (1L << (Kcastable - 64)) | (1L << (Kversion - 64)) | (1L << (Kjsoniq - 64)) | (1L << (Kunordered - 64)) | (1L << (Ktrue - 64)) | (1L << (Kfalse - 64)) | (1L << (Ktype - 64)) | (1L << (Kdeclare - 64)) | (1L << (Kcontext - 64)) | (1L << (Kitem - 64)) | (1L << (Kvariable - 64)) | (1L << (STRING - 64)) | (1L << (NullLiteral - 64)) | (1L << (Literal - 64)) | (1L << (NCName - 64)))) != 0)) {
 					{
-					setState(898);
+					setState(963);
 					pairConstructor();
-					setState(903);
+					setState(968);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					while (_la==T__19) {
 						{
 						{
-						setState(899);
+						setState(964);
 						match(T__19);
-						setState(900);
+						setState(965);
 						pairConstructor();
 						}
 						}
-						setState(905);
+						setState(970);
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					}
 					}
 				}
 
-				setState(908);
+				setState(973);
 				match(T__26);
 				}
 				break;
 			case T__59:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(909);
+				setState(974);
 				((ObjectConstructorContext)_localctx).s60 = match(T__59);
 				((ObjectConstructorContext)_localctx).merge_operator.add(((ObjectConstructorContext)_localctx).s60);
-				setState(910);
+				setState(975);
 				expr();
-				setState(911);
+				setState(976);
 				match(T__60);
 				}
 				break;
@@ -6543,29 +6923,29 @@ public class JsoniqParser extends Parser {
 
 	public final ItemTypeContext itemType() throws RecognitionException {
 		ItemTypeContext _localctx = new ItemTypeContext(_ctx, getState());
-		enterRule(_localctx, 164, RULE_itemType);
+		enterRule(_localctx, 174, RULE_itemType);
 		try {
-			setState(918);
+			setState(983);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,98,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,105,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(915);
+				setState(980);
 				qname();
 				}
 				break;
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(916);
+				setState(981);
 				match(NullLiteral);
 				}
 				break;
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(917);
+				setState(982);
 				functionTest();
 				}
 				break;
@@ -6602,22 +6982,22 @@ public class JsoniqParser extends Parser {
 
 	public final FunctionTestContext functionTest() throws RecognitionException {
 		FunctionTestContext _localctx = new FunctionTestContext(_ctx, getState());
-		enterRule(_localctx, 166, RULE_functionTest);
+		enterRule(_localctx, 176, RULE_functionTest);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(922);
+			setState(987);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,99,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,106,_ctx) ) {
 			case 1:
 				{
-				setState(920);
+				setState(985);
 				anyFunctionTest();
 				}
 				break;
 			case 2:
 				{
-				setState(921);
+				setState(986);
 				typedFunctionTest();
 				}
 				break;
@@ -6649,17 +7029,17 @@ public class JsoniqParser extends Parser {
 
 	public final AnyFunctionTestContext anyFunctionTest() throws RecognitionException {
 		AnyFunctionTestContext _localctx = new AnyFunctionTestContext(_ctx, getState());
-		enterRule(_localctx, 168, RULE_anyFunctionTest);
+		enterRule(_localctx, 178, RULE_anyFunctionTest);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(924);
+			setState(989);
 			match(T__22);
-			setState(925);
+			setState(990);
 			match(T__23);
-			setState(926);
+			setState(991);
 			match(T__34);
-			setState(927);
+			setState(992);
 			match(T__24);
 			}
 		}
@@ -6698,48 +7078,48 @@ public class JsoniqParser extends Parser {
 
 	public final TypedFunctionTestContext typedFunctionTest() throws RecognitionException {
 		TypedFunctionTestContext _localctx = new TypedFunctionTestContext(_ctx, getState());
-		enterRule(_localctx, 170, RULE_typedFunctionTest);
+		enterRule(_localctx, 180, RULE_typedFunctionTest);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(929);
+			setState(994);
 			match(T__22);
-			setState(930);
+			setState(995);
 			match(T__23);
-			setState(939);
+			setState(1004);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__22) | (1L << T__23) | (1L << Kfor) | (1L << Klet))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (Kwhere - 64)) | (1L << (Kgroup - 64)) | (1L << (Kby - 64)) | (1L << (Korder - 64)) | (1L << (Kreturn - 64)) | (1L << (Kif - 64)) | (1L << (Kin - 64)) | (1L << (Kas - 64)) | (1L << (Kat - 64)) | (1L << (Kallowing - 64)) | (1L << (Kempty - 64)) | (1L << (Kcount - 64)) | (1L << (Kstable - 64)) | (1L << (Kascending - 64)) | (1L << (Kdescending - 64)) | (1L << (Ksome - 64)) | (1L << (Kevery - 64)) | (1L << (Ksatisfies - 64)) | (1L << (Kcollation - 64)) | (1L << (Kgreatest - 64)) | (1L << (Kleast - 64)) | (1L << (Kswitch - 64)) | (1L << (Kcase - 64)) | (1L << (Ktry - 64)) | (1L << (Kcatch - 64)) | (1L << (Kdefault - 64)) | (1L << (Kthen - 64)) | (1L << (Kelse - 64)) | (1L << (Ktypeswitch - 64)) | (1L << (Kor - 64)) | (1L << (Kand - 64)) | (1L << (Knot - 64)) | (1L << (Kto - 64)) | (1L << (Kinstance - 64)) | (1L << (Kof - 64)) | (1L << (Kstatically - 64)) | (1L << (Kis - 64)) | (1L << (Ktreat - 64)) | (1L << (Kcast - 64)) | (1L << (Kcastable - 64)) | (1L << (Kversion - 64)) | (1L << (Kjsoniq - 64)) | (1L << (Kunordered - 64)) | (1L << (Ktrue - 64)) | (1L << (Kfalse - 64)) | (1L << (Ktype - 64)) | (1L << (Kdeclare - 64)) | (1L << (Kcontext - 64)) | (1L << (Kitem - 64)) | (1L << (Kvariable - 64)) | (1L << (NullLiteral - 64)) | (1L << (NCName - 64)))) != 0)) {
 				{
-				setState(931);
+				setState(996);
 				((TypedFunctionTestContext)_localctx).sequenceType = sequenceType();
 				((TypedFunctionTestContext)_localctx).st.add(((TypedFunctionTestContext)_localctx).sequenceType);
-				setState(936);
+				setState(1001);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==T__19) {
 					{
 					{
-					setState(932);
+					setState(997);
 					match(T__19);
-					setState(933);
+					setState(998);
 					((TypedFunctionTestContext)_localctx).sequenceType = sequenceType();
 					((TypedFunctionTestContext)_localctx).st.add(((TypedFunctionTestContext)_localctx).sequenceType);
 					}
 					}
-					setState(938);
+					setState(1003);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 			}
 
-			setState(941);
+			setState(1006);
 			match(T__24);
-			setState(942);
+			setState(1007);
 			match(Kas);
-			setState(943);
+			setState(1008);
 			((TypedFunctionTestContext)_localctx).rt = sequenceType();
 			}
 		}
@@ -6775,18 +7155,18 @@ public class JsoniqParser extends Parser {
 
 	public final SingleTypeContext singleType() throws RecognitionException {
 		SingleTypeContext _localctx = new SingleTypeContext(_ctx, getState());
-		enterRule(_localctx, 172, RULE_singleType);
+		enterRule(_localctx, 182, RULE_singleType);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(945);
+			setState(1010);
 			((SingleTypeContext)_localctx).item = itemType();
-			setState(947);
+			setState(1012);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,102,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,109,_ctx) ) {
 			case 1:
 				{
-				setState(946);
+				setState(1011);
 				((SingleTypeContext)_localctx).s115 = match(ArgumentPlaceholder);
 				((SingleTypeContext)_localctx).question.add(((SingleTypeContext)_localctx).s115);
 				}
@@ -6830,28 +7210,28 @@ public class JsoniqParser extends Parser {
 
 	public final PairConstructorContext pairConstructor() throws RecognitionException {
 		PairConstructorContext _localctx = new PairConstructorContext(_ctx, getState());
-		enterRule(_localctx, 174, RULE_pairConstructor);
+		enterRule(_localctx, 184, RULE_pairConstructor);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(951);
+			setState(1016);
 			_errHandler.sync(this);
-			switch ( getInterpreter().adaptivePredict(_input,103,_ctx) ) {
+			switch ( getInterpreter().adaptivePredict(_input,110,_ctx) ) {
 			case 1:
 				{
-				setState(949);
+				setState(1014);
 				((PairConstructorContext)_localctx).lhs = exprSingle();
 				}
 				break;
 			case 2:
 				{
-				setState(950);
+				setState(1015);
 				((PairConstructorContext)_localctx).name = match(NCName);
 				}
 				break;
 			}
-			setState(953);
+			setState(1018);
 			_la = _input.LA(1);
 			if ( !(_la==T__7 || _la==ArgumentPlaceholder) ) {
 			_errHandler.recoverInline(this);
@@ -6861,7 +7241,7 @@ public class JsoniqParser extends Parser {
 				_errHandler.reportMatch(this);
 				consume();
 			}
-			setState(954);
+			setState(1019);
 			((PairConstructorContext)_localctx).rhs = exprSingle();
 			}
 		}
@@ -6893,24 +7273,24 @@ public class JsoniqParser extends Parser {
 
 	public final ArrayConstructorContext arrayConstructor() throws RecognitionException {
 		ArrayConstructorContext _localctx = new ArrayConstructorContext(_ctx, getState());
-		enterRule(_localctx, 176, RULE_arrayConstructor);
+		enterRule(_localctx, 186, RULE_arrayConstructor);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(956);
+			setState(1021);
 			match(T__54);
-			setState(958);
+			setState(1023);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__5) | (1L << T__22) | (1L << T__23) | (1L << T__25) | (1L << T__32) | (1L << T__47) | (1L << T__48) | (1L << T__52) | (1L << T__54) | (1L << T__57) | (1L << T__59) | (1L << Kfor) | (1L << Klet))) != 0) || ((((_la - 64)) & ~0x3f) == 0 && ((1L << (_la - 64)) & ((1L << (Kwhere - 64)) | (1L << (Kgroup - 64)) | (1L << (Kby - 64)) | (1L << (Korder - 64)) | (1L << (Kreturn - 64)) | (1L << (Kif - 64)) | (1L << (Kin - 64)) | (1L << (Kas - 64)) | (1L << (Kat - 64)) | (1L << (Kallowing - 64)) | (1L << (Kempty - 64)) | (1L << (Kcount - 64)) | (1L << (Kstable - 64)) | (1L << (Kascending - 64)) | (1L << (Kdescending - 64)) | (1L << (Ksome - 64)) | (1L << (Kevery - 64)) | (1L << (Ksatisfies - 64)) | (1L << (Kcollation - 64)) | (1L << (Kgreatest - 64)) | (1L << (Kleast - 64)) | (1L << (Kswitch - 64)) | (1L << (Kcase - 64)) | (1L << (Ktry - 64)) | (1L << (Kcatch - 64)) | (1L << (Kdefault - 64)) | (1L << (Kthen - 64)) | (1L << (Kelse - 64)) | (1L << (Ktypeswitch - 64)) | (1L << (Kor - 64)) | (1L << (Kand - 64)) | (1L << (Knot - 64)) | (1L << (Kto - 64)) | (1L << (Kinstance - 64)) | (1L << (Kof - 64)) | (1L << (Kstatically - 64)) | (1L << (Kis - 64)) | (1L << (Ktreat - 64)) | (1L << (Kcast - 64)) | (1L << (Kcastable - 64)) | (1L << (Kversion - 64)) | (1L << (Kjsoniq - 64)) | (1L << (Kunordered - 64)) | (1L << (Ktrue - 64)) | (1L << (Kfalse - 64)) | (1L << (Ktype - 64)) | (1L << (Kdeclare - 64)) | (1L << (Kcontext - 64)) | (1L << (Kitem - 64)) | (1L << (Kvariable - 64)) | (1L << (STRING - 64)) | (1L << (NullLiteral - 64)) | (1L << (Literal - 64)) | (1L << (NCName - 64)))) != 0)) {
 				{
-				setState(957);
+				setState(1022);
 				expr();
 				}
 			}
 
-			setState(960);
+			setState(1025);
 			match(T__55);
 			}
 		}
@@ -6942,11 +7322,11 @@ public class JsoniqParser extends Parser {
 
 	public final UriLiteralContext uriLiteral() throws RecognitionException {
 		UriLiteralContext _localctx = new UriLiteralContext(_ctx, getState());
-		enterRule(_localctx, 178, RULE_uriLiteral);
+		enterRule(_localctx, 188, RULE_uriLiteral);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(962);
+			setState(1027);
 			stringLiteral();
 			}
 		}
@@ -6976,11 +7356,11 @@ public class JsoniqParser extends Parser {
 
 	public final StringLiteralContext stringLiteral() throws RecognitionException {
 		StringLiteralContext _localctx = new StringLiteralContext(_ctx, getState());
-		enterRule(_localctx, 180, RULE_stringLiteral);
+		enterRule(_localctx, 190, RULE_stringLiteral);
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(964);
+			setState(1029);
 			match(STRING);
 			}
 		}
@@ -7062,12 +7442,12 @@ public class JsoniqParser extends Parser {
 
 	public final KeyWordsContext keyWords() throws RecognitionException {
 		KeyWordsContext _localctx = new KeyWordsContext(_ctx, getState());
-		enterRule(_localctx, 182, RULE_keyWords);
+		enterRule(_localctx, 192, RULE_keyWords);
 		int _la;
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(966);
+			setState(1031);
 			_la = _input.LA(1);
 			if ( !(((((_la - 62)) & ~0x3f) == 0 && ((1L << (_la - 62)) & ((1L << (Kfor - 62)) | (1L << (Klet - 62)) | (1L << (Kwhere - 62)) | (1L << (Kgroup - 62)) | (1L << (Kby - 62)) | (1L << (Korder - 62)) | (1L << (Kreturn - 62)) | (1L << (Kif - 62)) | (1L << (Kin - 62)) | (1L << (Kas - 62)) | (1L << (Kat - 62)) | (1L << (Kallowing - 62)) | (1L << (Kempty - 62)) | (1L << (Kcount - 62)) | (1L << (Kstable - 62)) | (1L << (Kascending - 62)) | (1L << (Kdescending - 62)) | (1L << (Ksome - 62)) | (1L << (Kevery - 62)) | (1L << (Ksatisfies - 62)) | (1L << (Kcollation - 62)) | (1L << (Kgreatest - 62)) | (1L << (Kleast - 62)) | (1L << (Kswitch - 62)) | (1L << (Kcase - 62)) | (1L << (Ktry - 62)) | (1L << (Kcatch - 62)) | (1L << (Kdefault - 62)) | (1L << (Kthen - 62)) | (1L << (Kelse - 62)) | (1L << (Ktypeswitch - 62)) | (1L << (Kor - 62)) | (1L << (Kand - 62)) | (1L << (Knot - 62)) | (1L << (Kto - 62)) | (1L << (Kinstance - 62)) | (1L << (Kof - 62)) | (1L << (Kstatically - 62)) | (1L << (Kis - 62)) | (1L << (Ktreat - 62)) | (1L << (Kcast - 62)) | (1L << (Kcastable - 62)) | (1L << (Kversion - 62)) | (1L << (Kjsoniq - 62)) | (1L << (Kunordered - 62)) | (1L << (Ktrue - 62)) | (1L << (Kfalse - 62)) | (1L << (Ktype - 62)) | (1L << (Kdeclare - 62)) | (1L << (Kcontext - 62)) | (1L << (Kitem - 62)) | (1L << (Kvariable - 62)) | (1L << (NullLiteral - 62)))) != 0)) ) {
 			_errHandler.recoverInline(this);
@@ -7090,8 +7470,67 @@ public class JsoniqParser extends Parser {
 		return _localctx;
 	}
 
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 27:
+			return windowClause_sempred((WindowClauseContext)_localctx, predIndex);
+		case 28:
+			return windowKind_sempred((WindowKindContext)_localctx, predIndex);
+		case 29:
+			return windowStartCondition_sempred((WindowStartConditionContext)_localctx, predIndex);
+		case 30:
+			return windowEndCondition_sempred((WindowEndConditionContext)_localctx, predIndex);
+		case 31:
+			return windowVars_sempred((WindowVarsContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean windowClause_sempred(WindowClauseContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return _input.LT(1).getText().equals("window");
+		}
+		return true;
+	}
+	private boolean windowKind_sempred(WindowKindContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 1:
+			return _input.LT(1).getText().equals("tumbling") || _input.LT(1).getText().equals("sliding");
+		}
+		return true;
+	}
+	private boolean windowStartCondition_sempred(WindowStartConditionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 2:
+			return _input.LT(1).getText().equals("start");
+		case 3:
+			return _input.LT(1).getText().equals("when");
+		}
+		return true;
+	}
+	private boolean windowEndCondition_sempred(WindowEndConditionContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 4:
+			return _input.LT(1).getText().equals("only");
+		case 5:
+			return _input.LT(1).getText().equals("end");
+		case 6:
+			return _input.LT(1).getText().equals("when");
+		}
+		return true;
+	}
+	private boolean windowVars_sempred(WindowVarsContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 7:
+			return _input.LT(1).getText().equals("previous");
+		case 8:
+			return _input.LT(1).getText().equals("next");
+		}
+		return true;
+	}
+
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\177\u03cb\4\2\t\2"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\177\u040c\4\2\t\2"+
 		"\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
 		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -7101,359 +7540,385 @@ public class JsoniqParser extends Parser {
 		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
 		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
 		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
-		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\3\2\3\2\3\2\3"+
-		"\3\3\3\3\3\3\3\3\3\5\3\u00c3\n\3\3\3\3\3\5\3\u00c7\n\3\3\4\3\4\3\4\3\5"+
-		"\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6\3\6\5\6\u00d7\n\6\3\6\3\6\7\6\u00db"+
-		"\n\6\f\6\16\6\u00de\13\6\3\6\3\6\3\6\7\6\u00e3\n\6\f\6\16\6\u00e6\13\6"+
-		"\3\7\3\7\3\7\3\7\5\7\u00ec\n\7\3\b\3\b\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t"+
-		"\5\t\u00f8\n\t\3\n\3\n\3\n\3\n\3\n\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3\f"+
-		"\3\f\3\f\3\r\3\r\3\r\3\r\3\r\5\r\u010e\n\r\3\r\3\r\3\r\3\r\7\r\u0114\n"+
-		"\r\f\r\16\r\u0117\13\r\3\16\3\16\5\16\u011b\n\16\3\16\5\16\u011e\n\16"+
-		"\3\16\3\16\5\16\u0122\n\16\3\17\3\17\3\20\3\20\3\20\3\20\3\20\5\20\u012b"+
-		"\n\20\3\20\3\20\3\20\3\20\3\20\7\20\u0132\n\20\f\20\16\20\u0135\13\20"+
-		"\5\20\u0137\n\20\3\21\3\21\3\21\3\21\3\21\5\21\u013e\n\21\3\21\3\21\3"+
-		"\21\3\21\3\21\5\21\u0145\n\21\5\21\u0147\n\21\3\22\3\22\3\22\3\22\3\22"+
-		"\5\22\u014e\n\22\3\22\3\22\3\22\3\22\3\22\5\22\u0155\n\22\5\22\u0157\n"+
-		"\22\3\23\3\23\3\23\3\23\3\23\5\23\u015e\n\23\3\23\3\23\3\23\5\23\u0163"+
-		"\n\23\3\23\3\23\5\23\u0167\n\23\3\23\3\23\5\23\u016b\n\23\3\24\3\24\3"+
-		"\24\3\24\3\24\5\24\u0172\n\24\3\24\3\24\3\25\3\25\3\25\3\25\3\25\3\25"+
-		"\5\25\u017c\n\25\3\26\3\26\3\26\7\26\u0181\n\26\f\26\16\26\u0184\13\26"+
-		"\3\27\3\27\3\27\3\27\5\27\u018a\n\27\3\30\3\30\3\30\7\30\u018f\n\30\f"+
-		"\30\16\30\u0192\13\30\3\31\3\31\3\31\3\31\3\31\3\31\3\31\5\31\u019b\n"+
-		"\31\3\32\3\32\5\32\u019f\n\32\3\32\3\32\3\32\3\32\3\32\3\32\7\32\u01a7"+
-		"\n\32\f\32\16\32\u01aa\13\32\3\32\3\32\3\32\3\33\3\33\3\33\3\33\7\33\u01b3"+
-		"\n\33\f\33\16\33\u01b6\13\33\3\34\3\34\3\34\5\34\u01bb\n\34\3\34\3\34"+
-		"\5\34\u01bf\n\34\3\34\3\34\5\34\u01c3\n\34\3\34\3\34\3\34\3\35\3\35\3"+
-		"\35\3\35\7\35\u01cc\n\35\f\35\16\35\u01cf\13\35\3\36\3\36\3\36\5\36\u01d4"+
-		"\n\36\3\36\3\36\3\36\3\37\3\37\3\37\3 \3 \3 \3 \3 \7 \u01e1\n \f \16 "+
-		"\u01e4\13 \3!\3!\3!\5!\u01e9\n!\3!\3!\5!\u01ed\n!\3!\3!\5!\u01f1\n!\3"+
-		"\"\3\"\3\"\3\"\3\"\5\"\u01f8\n\"\3\"\3\"\3\"\7\"\u01fd\n\"\f\"\16\"\u0200"+
-		"\13\"\3#\3#\3#\5#\u0205\n#\3#\3#\3#\5#\u020a\n#\5#\u020c\n#\3#\3#\5#\u0210"+
-		"\n#\3$\3$\3$\3%\3%\5%\u0217\n%\3%\3%\3%\7%\u021c\n%\f%\16%\u021f\13%\3"+
-		"%\3%\3%\3&\3&\3&\5&\u0227\n&\3&\3&\3&\3\'\3\'\3\'\3\'\3\'\6\'\u0231\n"+
-		"\'\r\'\16\'\u0232\3\'\3\'\3\'\3\'\3(\3(\6(\u023b\n(\r(\16(\u023c\3(\3"+
-		"(\3(\3)\3)\3)\3)\3)\6)\u0247\n)\r)\16)\u0248\3)\3)\5)\u024d\n)\3)\3)\3"+
-		")\3*\3*\3*\3*\5*\u0256\n*\3*\3*\3*\7*\u025b\n*\f*\16*\u025e\13*\3*\3*"+
-		"\3*\3+\3+\3+\3+\3+\3+\3+\3+\3+\3,\3,\3,\3,\3,\6,\u0271\n,\r,\16,\u0272"+
-		"\3-\3-\3-\5-\u0278\n-\3-\3-\3-\5-\u027d\n-\7-\u027f\n-\f-\16-\u0282\13"+
-		"-\3-\3-\3-\3-\3.\3.\3.\7.\u028b\n.\f.\16.\u028e\13.\3/\3/\3/\7/\u0293"+
-		"\n/\f/\16/\u0296\13/\3\60\5\60\u0299\n\60\3\60\3\60\3\61\3\61\3\61\5\61"+
-		"\u02a0\n\61\3\62\3\62\3\62\7\62\u02a5\n\62\f\62\16\62\u02a8\13\62\3\63"+
-		"\3\63\3\63\5\63\u02ad\n\63\3\64\3\64\3\64\7\64\u02b2\n\64\f\64\16\64\u02b5"+
-		"\13\64\3\65\3\65\3\65\7\65\u02ba\n\65\f\65\16\65\u02bd\13\65\3\66\3\66"+
-		"\3\66\3\66\5\66\u02c3\n\66\3\67\3\67\3\67\3\67\5\67\u02c9\n\67\38\38\3"+
-		"8\38\58\u02cf\n8\39\39\39\39\59\u02d5\n9\3:\3:\3:\3:\5:\u02db\n:\3;\3"+
-		";\3;\3;\3;\3;\3;\7;\u02e4\n;\f;\16;\u02e7\13;\3<\3<\3<\5<\u02ec\n<\3="+
-		"\7=\u02ef\n=\f=\16=\u02f2\13=\3=\3=\3>\3>\5>\u02f8\n>\3?\3?\3?\3?\3?\3"+
-		"?\3?\3@\3@\3@\7@\u0304\n@\f@\16@\u0307\13@\3A\3A\3A\3A\3A\3A\7A\u030f"+
-		"\nA\fA\16A\u0312\13A\3B\3B\3B\3B\3B\3B\3C\3C\3C\3D\3D\3D\3D\3E\3E\3E\3"+
-		"E\3E\3E\3E\5E\u0328\nE\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\3F\5F\u0338"+
-		"\nF\3G\3G\3G\3H\3H\5H\u033f\nH\3H\3H\3I\3I\3J\3J\3J\3J\3J\3K\3K\3K\3K"+
-		"\3K\3L\3L\3L\3M\3M\3M\5M\u0355\nM\7M\u0357\nM\fM\16M\u035a\13M\3M\3M\3"+
-		"N\3N\5N\u0360\nN\3O\3O\5O\u0364\nO\3P\3P\3P\3P\3Q\3Q\3Q\5Q\u036d\nQ\3"+
-		"Q\3Q\3Q\5Q\u0372\nQ\3Q\3Q\5Q\u0376\nQ\3Q\3Q\3R\3R\3R\3R\3R\3R\5R\u0380"+
-		"\nR\5R\u0382\nR\3S\3S\3S\3S\7S\u0388\nS\fS\16S\u038b\13S\5S\u038d\nS\3"+
-		"S\3S\3S\3S\3S\5S\u0394\nS\3T\3T\3T\5T\u0399\nT\3U\3U\5U\u039d\nU\3V\3"+
-		"V\3V\3V\3V\3W\3W\3W\3W\3W\7W\u03a9\nW\fW\16W\u03ac\13W\5W\u03ae\nW\3W"+
-		"\3W\3W\3W\3X\3X\5X\u03b6\nX\3Y\3Y\5Y\u03ba\nY\3Y\3Y\3Y\3Z\3Z\5Z\u03c1"+
-		"\nZ\3Z\3Z\3[\3[\3\\\3\\\3]\3]\3]\2\2^\2\4\6\b\n\f\16\20\22\24\26\30\32"+
-		"\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080"+
-		"\u0082\u0084\u0086\u0088\u008a\u008c\u008e\u0090\u0092\u0094\u0096\u0098"+
-		"\u009a\u009c\u009e\u00a0\u00a2\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0"+
-		"\u00b2\u00b4\u00b6\u00b8\2\n\4\2\b\bll\3\2UV\3\2\13\24\4\2\6\6&\60\3\2"+
-		"\62\63\4\2%%\64\66\4\2\n\nuu\4\2@svv\2\u03fe\2\u00ba\3\2\2\2\4\u00c2\3"+
-		"\2\2\2\6\u00c8\3\2\2\2\b\u00cb\3\2\2\2\n\u00dc\3\2\2\2\f\u00eb\3\2\2\2"+
-		"\16\u00ed\3\2\2\2\20\u00f7\3\2\2\2\22\u00f9\3\2\2\2\24\u00fe\3\2\2\2\26"+
-		"\u0102\3\2\2\2\30\u0108\3\2\2\2\32\u011d\3\2\2\2\34\u0123\3\2\2\2\36\u0125"+
-		"\3\2\2\2 \u0138\3\2\2\2\"\u0148\3\2\2\2$\u0158\3\2\2\2&\u016c\3\2\2\2"+
-		"(\u017b\3\2\2\2*\u017d\3\2\2\2,\u0185\3\2\2\2.\u018b\3\2\2\2\60\u019a"+
-		"\3\2\2\2\62\u019e\3\2\2\2\64\u01ae\3\2\2\2\66\u01b7\3\2\2\28\u01c7\3\2"+
-		"\2\2:\u01d0\3\2\2\2<\u01d8\3\2\2\2>\u01db\3\2\2\2@\u01e5\3\2\2\2B\u01f7"+
-		"\3\2\2\2D\u0201\3\2\2\2F\u0211\3\2\2\2H\u0216\3\2\2\2J\u0223\3\2\2\2L"+
-		"\u022b\3\2\2\2N\u023a\3\2\2\2P\u0241\3\2\2\2R\u0251\3\2\2\2T\u0262\3\2"+
-		"\2\2V\u026b\3\2\2\2X\u0274\3\2\2\2Z\u0287\3\2\2\2\\\u028f\3\2\2\2^\u0298"+
-		"\3\2\2\2`\u029c\3\2\2\2b\u02a1\3\2\2\2d\u02a9\3\2\2\2f\u02ae\3\2\2\2h"+
-		"\u02b6\3\2\2\2j\u02be\3\2\2\2l\u02c4\3\2\2\2n\u02ca\3\2\2\2p\u02d0\3\2"+
-		"\2\2r\u02d6\3\2\2\2t\u02dc\3\2\2\2v\u02eb\3\2\2\2x\u02f0\3\2\2\2z\u02f7"+
-		"\3\2\2\2|\u02f9\3\2\2\2~\u0300\3\2\2\2\u0080\u0308\3\2\2\2\u0082\u0313"+
-		"\3\2\2\2\u0084\u0319\3\2\2\2\u0086\u031c\3\2\2\2\u0088\u0320\3\2\2\2\u008a"+
-		"\u0337\3\2\2\2\u008c\u0339\3\2\2\2\u008e\u033c\3\2\2\2\u0090\u0342\3\2"+
-		"\2\2\u0092\u0344\3\2\2\2\u0094\u0349\3\2\2\2\u0096\u034e\3\2\2\2\u0098"+
-		"\u0351\3\2\2\2\u009a\u035f\3\2\2\2\u009c\u0363\3\2\2\2\u009e\u0365\3\2"+
-		"\2\2\u00a0\u0369\3\2\2\2\u00a2\u0381\3\2\2\2\u00a4\u0393\3\2\2\2\u00a6"+
-		"\u0398\3\2\2\2\u00a8\u039c\3\2\2\2\u00aa\u039e\3\2\2\2\u00ac\u03a3\3\2"+
-		"\2\2\u00ae\u03b3\3\2\2\2\u00b0\u03b9\3\2\2\2\u00b2\u03be\3\2\2\2\u00b4"+
-		"\u03c4\3\2\2\2\u00b6\u03c6\3\2\2\2\u00b8\u03c8\3\2\2\2\u00ba\u00bb\5\4"+
-		"\3\2\u00bb\u00bc\7\2\2\3\u00bc\3\3\2\2\2\u00bd\u00be\7k\2\2\u00be\u00bf"+
-		"\7j\2\2\u00bf\u00c0\5\u00b6\\\2\u00c0\u00c1\7\3\2\2\u00c1\u00c3\3\2\2"+
-		"\2\u00c2\u00bd\3\2\2\2\u00c2\u00c3\3\2\2\2\u00c3\u00c6\3\2\2\2\u00c4\u00c7"+
-		"\5\b\5\2\u00c5\u00c7\5\6\4\2\u00c6\u00c4\3\2\2\2\u00c6\u00c5\3\2\2\2\u00c7"+
-		"\5\3\2\2\2\u00c8\u00c9\5\n\6\2\u00c9\u00ca\5.\30\2\u00ca\7\3\2\2\2\u00cb"+
-		"\u00cc\7\4\2\2\u00cc\u00cd\7\5\2\2\u00cd\u00ce\7}\2\2\u00ce\u00cf\7\6"+
-		"\2\2\u00cf\u00d0\5\u00b4[\2\u00d0\u00d1\7\3\2\2\u00d1\u00d2\5\n\6\2\u00d2"+
-		"\t\3\2\2\2\u00d3\u00d7\5\f\7\2\u00d4\u00d7\5\16\b\2\u00d5\u00d7\5\36\20"+
-		"\2\u00d6\u00d3\3\2\2\2\u00d6\u00d4\3\2\2\2\u00d6\u00d5\3\2\2\2\u00d7\u00d8"+
-		"\3\2\2\2\u00d8\u00d9\7\3\2\2\u00d9\u00db\3\2\2\2\u00da\u00d6\3\2\2\2\u00db"+
-		"\u00de\3\2\2\2\u00dc\u00da\3\2\2\2\u00dc\u00dd\3\2\2\2\u00dd\u00e4\3\2"+
-		"\2\2\u00de\u00dc\3\2\2\2\u00df\u00e0\5\20\t\2\u00e0\u00e1\7\3\2\2\u00e1"+
-		"\u00e3\3\2\2\2\u00e2\u00df\3\2\2\2\u00e3\u00e6\3\2\2\2\u00e4\u00e2\3\2"+
-		"\2\2\u00e4\u00e5\3\2\2\2\u00e5\13\3\2\2\2\u00e6\u00e4\3\2\2\2\u00e7\u00ec"+
-		"\5\22\n\2\u00e8\u00ec\5\24\13\2\u00e9\u00ec\5\26\f\2\u00ea\u00ec\5\30"+
-		"\r\2\u00eb\u00e7\3\2\2\2\u00eb\u00e8\3\2\2\2\u00eb\u00e9\3\2\2\2\u00eb"+
-		"\u00ea\3\2\2\2\u00ec\r\3\2\2\2\u00ed\u00ee\7p\2\2\u00ee\u00ef\7\5\2\2"+
-		"\u00ef\u00f0\7}\2\2\u00f0\u00f1\7\6\2\2\u00f1\u00f2\5\u00b4[\2\u00f2\17"+
-		"\3\2\2\2\u00f3\u00f8\5$\23\2\u00f4\u00f8\5 \21\2\u00f5\u00f8\5&\24\2\u00f6"+
-		"\u00f8\5\"\22\2\u00f7\u00f3\3\2\2\2\u00f7\u00f4\3\2\2\2\u00f7\u00f5\3"+
-		"\2\2\2\u00f7\u00f6\3\2\2\2\u00f8\21\3\2\2\2\u00f9\u00fa\7p\2\2\u00fa\u00fb"+
-		"\7[\2\2\u00fb\u00fc\7T\2\2\u00fc\u00fd\5\u00b4[\2\u00fd\23\3\2\2\2\u00fe"+
-		"\u00ff\7p\2\2\u00ff\u0100\7\7\2\2\u0100\u0101\t\2\2\2\u0101\25\3\2\2\2"+
-		"\u0102\u0103\7p\2\2\u0103\u0104\7[\2\2\u0104\u0105\7E\2\2\u0105\u0106"+
-		"\7L\2\2\u0106\u0107\t\3\2\2\u0107\27\3\2\2\2\u0108\u010d\7p\2\2\u0109"+
-		"\u010a\7\t\2\2\u010a\u010e\5\32\16\2\u010b\u010c\7[\2\2\u010c\u010e\7"+
-		"\t\2\2\u010d\u0109\3\2\2\2\u010d\u010b\3\2\2\2\u010e\u0115\3\2\2\2\u010f"+
-		"\u0110\5\34\17\2\u0110\u0111\7\6\2\2\u0111\u0112\5\u00b6\\\2\u0112\u0114"+
-		"\3\2\2\2\u0113\u010f\3\2\2\2\u0114\u0117\3\2\2\2\u0115\u0113\3\2\2\2\u0115"+
-		"\u0116\3\2\2\2\u0116\31\3\2\2\2\u0117\u0115\3\2\2\2\u0118\u011b\7}\2\2"+
-		"\u0119\u011b\5\u00b8]\2\u011a\u0118\3\2\2\2\u011a\u0119\3\2\2\2\u011b"+
-		"\u011c\3\2\2\2\u011c\u011e\7\n\2\2\u011d\u011a\3\2\2\2\u011d\u011e\3\2"+
-		"\2\2\u011e\u0121\3\2\2\2\u011f\u0122\7}\2\2\u0120\u0122\5\u00b8]\2\u0121"+
-		"\u011f\3\2\2\2\u0121\u0120\3\2\2\2\u0122\33\3\2\2\2\u0123\u0124\t\4\2"+
-		"\2\u0124\35\3\2\2\2\u0125\u0126\7\25\2\2\u0126\u012a\7\4\2\2\u0127\u0128"+
-		"\7\5\2\2\u0128\u0129\7}\2\2\u0129\u012b\7\6\2\2\u012a\u0127\3\2\2\2\u012a"+
-		"\u012b\3\2\2\2\u012b\u012c\3\2\2\2\u012c\u0136\5\u00b4[\2\u012d\u012e"+
-		"\7J\2\2\u012e\u0133\5\u00b4[\2\u012f\u0130\7\26\2\2\u0130\u0132\5\u00b4"+
-		"[\2\u0131\u012f\3\2\2\2\u0132\u0135\3\2\2\2\u0133\u0131\3\2\2\2\u0133"+
-		"\u0134\3\2\2\2\u0134\u0137\3\2\2\2\u0135\u0133\3\2\2\2\u0136\u012d\3\2"+
-		"\2\2\u0136\u0137\3\2\2\2\u0137\37\3\2\2\2\u0138\u0139\7p\2\2\u0139\u013a"+
-		"\7s\2\2\u013a\u013d\5\u008cG\2\u013b\u013c\7I\2\2\u013c\u013e\5\u00a2"+
-		"R\2\u013d\u013b\3\2\2\2\u013d\u013e\3\2\2\2\u013e\u0146\3\2\2\2\u013f"+
-		"\u0140\7\27\2\2\u0140\u0147\5\60\31\2\u0141\u0144\7\30\2\2\u0142\u0143"+
-		"\7\27\2\2\u0143\u0145\5\60\31\2\u0144\u0142\3\2\2\2\u0144\u0145\3\2\2"+
-		"\2\u0145\u0147\3\2\2\2\u0146\u013f\3\2\2\2\u0146\u0141\3\2\2\2\u0147!"+
-		"\3\2\2\2\u0148\u0149\7p\2\2\u0149\u014a\7q\2\2\u014a\u014d\7r\2\2\u014b"+
-		"\u014c\7I\2\2\u014c\u014e\5\u00a2R\2\u014d\u014b\3\2\2\2\u014d\u014e\3"+
-		"\2\2\2\u014e\u0156\3\2\2\2\u014f\u0150\7\27\2\2\u0150\u0157\5\60\31\2"+
-		"\u0151\u0154\7\30\2\2\u0152\u0153\7\27\2\2\u0153\u0155\5\60\31\2\u0154"+
-		"\u0152\3\2\2\2\u0154\u0155\3\2\2\2\u0155\u0157\3\2\2\2\u0156\u014f\3\2"+
-		"\2\2\u0156\u0151\3\2\2\2\u0157#\3\2\2\2\u0158\u0159\7p\2\2\u0159\u015a"+
-		"\7\31\2\2\u015a\u015b\5\32\16\2\u015b\u015d\7\32\2\2\u015c\u015e\5*\26"+
-		"\2\u015d\u015c\3\2\2\2\u015d\u015e\3\2\2\2\u015e\u015f\3\2\2\2\u015f\u0162"+
-		"\7\33\2\2\u0160\u0161\7I\2\2\u0161\u0163\5\u00a2R\2\u0162\u0160\3\2\2"+
-		"\2\u0162\u0163\3\2\2\2\u0163\u016a\3\2\2\2\u0164\u0166\7\34\2\2\u0165"+
-		"\u0167\5.\30\2\u0166\u0165\3\2\2\2\u0166\u0167\3\2\2\2\u0167\u0168\3\2"+
-		"\2\2\u0168\u016b\7\35\2\2\u0169\u016b\7\30\2\2\u016a\u0164\3\2\2\2\u016a"+
-		"\u0169\3\2\2\2\u016b%\3\2\2\2\u016c\u016d\7p\2\2\u016d\u016e\7o\2\2\u016e"+
-		"\u016f\5\32\16\2\u016f\u0171\7I\2\2\u0170\u0172\5(\25\2\u0171\u0170\3"+
-		"\2\2\2\u0171\u0172\3\2\2\2\u0172\u0173\3\2\2\2\u0173\u0174\5\60\31\2\u0174"+
-		"\'\3\2\2\2\u0175\u0176\7\36\2\2\u0176\u017c\7\37\2\2\u0177\u0178\7\36"+
-		"\2\2\u0178\u017c\7 \2\2\u0179\u017a\7!\2\2\u017a\u017c\7\"\2\2\u017b\u0175"+
-		"\3\2\2\2\u017b\u0177\3\2\2\2\u017b\u0179\3\2\2\2\u017c)\3\2\2\2\u017d"+
-		"\u0182\5,\27\2\u017e\u017f\7\26\2\2\u017f\u0181\5,\27\2\u0180\u017e\3"+
-		"\2\2\2\u0181\u0184\3\2\2\2\u0182\u0180\3\2\2\2\u0182\u0183\3\2\2\2\u0183"+
-		"+\3\2\2\2\u0184\u0182\3\2\2\2\u0185\u0186\7#\2\2\u0186\u0189\5\32\16\2"+
-		"\u0187\u0188\7I\2\2\u0188\u018a\5\u00a2R\2\u0189\u0187\3\2\2\2\u0189\u018a"+
-		"\3\2\2\2\u018a-\3\2\2\2\u018b\u0190\5\60\31\2\u018c\u018d\7\26\2\2\u018d"+
-		"\u018f\5\60\31\2\u018e\u018c\3\2\2\2\u018f\u0192\3\2\2\2\u0190\u018e\3"+
-		"\2\2\2\u0190\u0191\3\2\2\2\u0191/\3\2\2\2\u0192\u0190\3\2\2\2\u0193\u019b"+
-		"\5\62\32\2\u0194\u019b\5H%\2\u0195\u019b\5L\'\2\u0196\u019b\5P)\2\u0197"+
-		"\u019b\5T+\2\u0198\u019b\5V,\2\u0199\u019b\5Z.\2\u019a\u0193\3\2\2\2\u019a"+
-		"\u0194\3\2\2\2\u019a\u0195\3\2\2\2\u019a\u0196\3\2\2\2\u019a\u0197\3\2"+
-		"\2\2\u019a\u0198\3\2\2\2\u019a\u0199\3\2\2\2\u019b\61\3\2\2\2\u019c\u019f"+
-		"\5\64\33\2\u019d\u019f\58\35\2\u019e\u019c\3\2\2\2\u019e\u019d\3\2\2\2"+
-		"\u019f\u01a8\3\2\2\2\u01a0\u01a7\5\64\33\2\u01a1\u01a7\5<\37\2\u01a2\u01a7"+
-		"\58\35\2\u01a3\u01a7\5> \2\u01a4\u01a7\5B\"\2\u01a5\u01a7\5F$\2\u01a6"+
-		"\u01a0\3\2\2\2\u01a6\u01a1\3\2\2\2\u01a6\u01a2\3\2\2\2\u01a6\u01a3\3\2"+
-		"\2\2\u01a6\u01a4\3\2\2\2\u01a6\u01a5\3\2\2\2\u01a7\u01aa\3\2\2\2\u01a8"+
-		"\u01a6\3\2\2\2\u01a8\u01a9\3\2\2\2\u01a9\u01ab\3\2\2\2\u01aa\u01a8\3\2"+
-		"\2\2\u01ab\u01ac\7F\2\2\u01ac\u01ad\5\60\31\2\u01ad\63\3\2\2\2\u01ae\u01af"+
-		"\7@\2\2\u01af\u01b4\5\66\34\2\u01b0\u01b1\7\26\2\2\u01b1\u01b3\5\66\34"+
-		"\2\u01b2\u01b0\3\2\2\2\u01b3\u01b6\3\2\2\2\u01b4\u01b2\3\2\2\2\u01b4\u01b5"+
-		"\3\2\2\2\u01b5\65\3\2\2\2\u01b6\u01b4\3\2\2\2\u01b7\u01ba\5\u008cG\2\u01b8"+
-		"\u01b9\7I\2\2\u01b9\u01bb\5\u00a2R\2\u01ba\u01b8\3\2\2\2\u01ba\u01bb\3"+
-		"\2\2\2\u01bb\u01be\3\2\2\2\u01bc\u01bd\7K\2\2\u01bd\u01bf\7L\2\2\u01be"+
-		"\u01bc\3\2\2\2\u01be\u01bf\3\2\2\2\u01bf\u01c2\3\2\2\2\u01c0\u01c1\7J"+
-		"\2\2\u01c1\u01c3\5\u008cG\2\u01c2\u01c0\3\2\2\2\u01c2\u01c3\3\2\2\2\u01c3"+
-		"\u01c4\3\2\2\2\u01c4\u01c5\7H\2\2\u01c5\u01c6\5\60\31\2\u01c6\67\3\2\2"+
-		"\2\u01c7\u01c8\7A\2\2\u01c8\u01cd\5:\36\2\u01c9\u01ca\7\26\2\2\u01ca\u01cc"+
-		"\5:\36\2\u01cb\u01c9\3\2\2\2\u01cc\u01cf\3\2\2\2\u01cd\u01cb\3\2\2\2\u01cd"+
-		"\u01ce\3\2\2\2\u01ce9\3\2\2\2\u01cf\u01cd\3\2\2\2\u01d0\u01d3\5\u008c"+
-		"G\2\u01d1\u01d2\7I\2\2\u01d2\u01d4\5\u00a2R\2\u01d3\u01d1\3\2\2\2\u01d3"+
-		"\u01d4\3\2\2\2\u01d4\u01d5\3\2\2\2\u01d5\u01d6\7\27\2\2\u01d6\u01d7\5"+
-		"\60\31\2\u01d7;\3\2\2\2\u01d8\u01d9\7B\2\2\u01d9\u01da\5\60\31\2\u01da"+
-		"=\3\2\2\2\u01db\u01dc\7C\2\2\u01dc\u01dd\7D\2\2\u01dd\u01e2\5@!\2\u01de"+
-		"\u01df\7\26\2\2\u01df\u01e1\5@!\2\u01e0\u01de\3\2\2\2\u01e1\u01e4\3\2"+
-		"\2\2\u01e2\u01e0\3\2\2\2\u01e2\u01e3\3\2\2\2\u01e3?\3\2\2\2\u01e4\u01e2"+
-		"\3\2\2\2\u01e5\u01ec\5\u008cG\2\u01e6\u01e7\7I\2\2\u01e7\u01e9\5\u00a2"+
-		"R\2\u01e8\u01e6\3\2\2\2\u01e8\u01e9\3\2\2\2\u01e9\u01ea\3\2\2\2\u01ea"+
-		"\u01eb\7\27\2\2\u01eb\u01ed\5\60\31\2\u01ec\u01e8\3\2\2\2\u01ec\u01ed"+
-		"\3\2\2\2\u01ed\u01f0\3\2\2\2\u01ee\u01ef\7T\2\2\u01ef\u01f1\5\u00b4[\2"+
-		"\u01f0\u01ee\3\2\2\2\u01f0\u01f1\3\2\2\2\u01f1A\3\2\2\2\u01f2\u01f3\7"+
-		"E\2\2\u01f3\u01f8\7D\2\2\u01f4\u01f5\7N\2\2\u01f5\u01f6\7E\2\2\u01f6\u01f8"+
-		"\7D\2\2\u01f7\u01f2\3\2\2\2\u01f7\u01f4\3\2\2\2\u01f8\u01f9\3\2\2\2\u01f9"+
-		"\u01fe\5D#\2\u01fa\u01fb\7\26\2\2\u01fb\u01fd\5D#\2\u01fc\u01fa\3\2\2"+
-		"\2\u01fd\u0200\3\2\2\2\u01fe\u01fc\3\2\2\2\u01fe\u01ff\3\2\2\2\u01ffC"+
-		"\3\2\2\2\u0200\u01fe\3\2\2\2\u0201\u0204\5\60\31\2\u0202\u0205\7O\2\2"+
-		"\u0203\u0205\7P\2\2\u0204\u0202\3\2\2\2\u0204\u0203\3\2\2\2\u0204\u0205"+
-		"\3\2\2\2\u0205\u020b\3\2\2\2\u0206\u0209\7L\2\2\u0207\u020a\7U\2\2\u0208"+
-		"\u020a\7V\2\2\u0209\u0207\3\2\2\2\u0209\u0208\3\2\2\2\u020a\u020c\3\2"+
-		"\2\2\u020b\u0206\3\2\2\2\u020b\u020c\3\2\2\2\u020c\u020f\3\2\2\2\u020d"+
-		"\u020e\7T\2\2\u020e\u0210\5\u00b4[\2\u020f\u020d\3\2\2\2\u020f\u0210\3"+
-		"\2\2\2\u0210E\3\2\2\2\u0211\u0212\7M\2\2\u0212\u0213\5\u008cG\2\u0213"+
-		"G\3\2\2\2\u0214\u0217\7Q\2\2\u0215\u0217\7R\2\2\u0216\u0214\3\2\2\2\u0216"+
-		"\u0215\3\2\2\2\u0217\u0218\3\2\2\2\u0218\u021d\5J&\2\u0219\u021a\7\26"+
-		"\2\2\u021a\u021c\5J&\2\u021b\u0219\3\2\2\2\u021c\u021f\3\2\2\2\u021d\u021b"+
-		"\3\2\2\2\u021d\u021e\3\2\2\2\u021e\u0220\3\2\2\2\u021f\u021d\3\2\2\2\u0220"+
-		"\u0221\7S\2\2\u0221\u0222\5\60\31\2\u0222I\3\2\2\2\u0223\u0226\5\u008c"+
-		"G\2\u0224\u0225\7I\2\2\u0225\u0227\5\u00a2R\2\u0226\u0224\3\2\2\2\u0226"+
-		"\u0227\3\2\2\2\u0227\u0228\3\2\2\2\u0228\u0229\7H\2\2\u0229\u022a\5\60"+
-		"\31\2\u022aK\3\2\2\2\u022b\u022c\7W\2\2\u022c\u022d\7\32\2\2\u022d\u022e"+
-		"\5.\30\2\u022e\u0230\7\33\2\2\u022f\u0231\5N(\2\u0230\u022f\3\2\2\2\u0231"+
-		"\u0232\3\2\2\2\u0232\u0230\3\2\2\2\u0232\u0233\3\2\2\2\u0233\u0234\3\2"+
-		"\2\2\u0234\u0235\7[\2\2\u0235\u0236\7F\2\2\u0236\u0237\5\60\31\2\u0237"+
-		"M\3\2\2\2\u0238\u0239\7X\2\2\u0239\u023b\5\60\31\2\u023a\u0238\3\2\2\2"+
-		"\u023b\u023c\3\2\2\2\u023c\u023a\3\2\2\2\u023c\u023d\3\2\2\2\u023d\u023e"+
-		"\3\2\2\2\u023e\u023f\7F\2\2\u023f\u0240\5\60\31\2\u0240O\3\2\2\2\u0241"+
-		"\u0242\7^\2\2\u0242\u0243\7\32\2\2\u0243\u0244\5.\30\2\u0244\u0246\7\33"+
-		"\2\2\u0245\u0247\5R*\2\u0246\u0245\3\2\2\2\u0247\u0248\3\2\2\2\u0248\u0246"+
-		"\3\2\2\2\u0248\u0249\3\2\2\2\u0249\u024a\3\2\2\2\u024a\u024c\7[\2\2\u024b"+
-		"\u024d\5\u008cG\2\u024c\u024b\3\2\2\2\u024c\u024d\3\2\2\2\u024d\u024e"+
-		"\3\2\2\2\u024e\u024f\7F\2\2\u024f\u0250\5\60\31\2\u0250Q\3\2\2\2\u0251"+
-		"\u0255\7X\2\2\u0252\u0253\5\u008cG\2\u0253\u0254\7I\2\2\u0254\u0256\3"+
-		"\2\2\2\u0255\u0252\3\2\2\2\u0255\u0256\3\2\2\2\u0256\u0257\3\2\2\2\u0257"+
-		"\u025c\5\u00a2R\2\u0258\u0259\7$\2\2\u0259\u025b\5\u00a2R\2\u025a\u0258"+
-		"\3\2\2\2\u025b\u025e\3\2\2\2\u025c\u025a\3\2\2\2\u025c\u025d\3\2\2\2\u025d"+
-		"\u025f\3\2\2\2\u025e\u025c\3\2\2\2\u025f\u0260\7F\2\2\u0260\u0261\5\60"+
-		"\31\2\u0261S\3\2\2\2\u0262\u0263\7G\2\2\u0263\u0264\7\32\2\2\u0264\u0265"+
-		"\5.\30\2\u0265\u0266\7\33\2\2\u0266\u0267\7\\\2\2\u0267\u0268\5\60\31"+
-		"\2\u0268\u0269\7]\2\2\u0269\u026a\5\60\31\2\u026aU\3\2\2\2\u026b\u026c"+
-		"\7Y\2\2\u026c\u026d\7\34\2\2\u026d\u026e\5.\30\2\u026e\u0270\7\35\2\2"+
-		"\u026f\u0271\5X-\2\u0270\u026f\3\2\2\2\u0271\u0272\3\2\2\2\u0272\u0270"+
-		"\3\2\2\2\u0272\u0273\3\2\2\2\u0273W\3\2\2\2\u0274\u0277\7Z\2\2\u0275\u0278"+
-		"\7%\2\2\u0276\u0278\5\32\16\2\u0277\u0275\3\2\2\2\u0277\u0276\3\2\2\2"+
-		"\u0278\u0280\3\2\2\2\u0279\u027c\7$\2\2\u027a\u027d\7%\2\2\u027b\u027d"+
-		"\5\32\16\2\u027c\u027a\3\2\2\2\u027c\u027b\3\2\2\2\u027d\u027f\3\2\2\2"+
-		"\u027e\u0279\3\2\2\2\u027f\u0282\3\2\2\2\u0280\u027e\3\2\2\2\u0280\u0281"+
-		"\3\2\2\2\u0281\u0283\3\2\2\2\u0282\u0280\3\2\2\2\u0283\u0284\7\34\2\2"+
-		"\u0284\u0285\5.\30\2\u0285\u0286\7\35\2\2\u0286Y\3\2\2\2\u0287\u028c\5"+
-		"\\/\2\u0288\u0289\7_\2\2\u0289\u028b\5\\/\2\u028a\u0288\3\2\2\2\u028b"+
-		"\u028e\3\2\2\2\u028c\u028a\3\2\2\2\u028c\u028d\3\2\2\2\u028d[\3\2\2\2"+
-		"\u028e\u028c\3\2\2\2\u028f\u0294\5^\60\2\u0290\u0291\7`\2\2\u0291\u0293"+
-		"\5^\60\2\u0292\u0290\3\2\2\2\u0293\u0296\3\2\2\2\u0294\u0292\3\2\2\2\u0294"+
-		"\u0295\3\2\2\2\u0295]\3\2\2\2\u0296\u0294\3\2\2\2\u0297\u0299\7a\2\2\u0298"+
-		"\u0297\3\2\2\2\u0298\u0299\3\2\2\2\u0299\u029a\3\2\2\2\u029a\u029b\5`"+
-		"\61\2\u029b_\3\2\2\2\u029c\u029f\5b\62\2\u029d\u029e\t\5\2\2\u029e\u02a0"+
-		"\5b\62\2\u029f\u029d\3\2\2\2\u029f\u02a0\3\2\2\2\u02a0a\3\2\2\2\u02a1"+
-		"\u02a6\5d\63\2\u02a2\u02a3\7\61\2\2\u02a3\u02a5\5d\63\2\u02a4\u02a2\3"+
-		"\2\2\2\u02a5\u02a8\3\2\2\2\u02a6\u02a4\3\2\2\2\u02a6\u02a7\3\2\2\2\u02a7"+
-		"c\3\2\2\2\u02a8\u02a6\3\2\2\2\u02a9\u02ac\5f\64\2\u02aa\u02ab\7b\2\2\u02ab"+
-		"\u02ad\5f\64\2\u02ac\u02aa\3\2\2\2\u02ac\u02ad\3\2\2\2\u02ade\3\2\2\2"+
-		"\u02ae\u02b3\5h\65\2\u02af\u02b0\t\6\2\2\u02b0\u02b2\5h\65\2\u02b1\u02af"+
-		"\3\2\2\2\u02b2\u02b5\3\2\2\2\u02b3\u02b1\3\2\2\2\u02b3\u02b4\3\2\2\2\u02b4"+
-		"g\3\2\2\2\u02b5\u02b3\3\2\2\2\u02b6\u02bb\5j\66\2\u02b7\u02b8\t\7\2\2"+
-		"\u02b8\u02ba\5j\66\2\u02b9\u02b7\3\2\2\2\u02ba\u02bd\3\2\2\2\u02bb\u02b9"+
-		"\3\2\2\2\u02bb\u02bc\3\2\2\2\u02bci\3\2\2\2\u02bd\u02bb\3\2\2\2\u02be"+
-		"\u02c2\5l\67\2\u02bf\u02c0\7c\2\2\u02c0\u02c1\7d\2\2\u02c1\u02c3\5\u00a2"+
-		"R\2\u02c2\u02bf\3\2\2\2\u02c2\u02c3\3\2\2\2\u02c3k\3\2\2\2\u02c4\u02c8"+
-		"\5n8\2\u02c5\u02c6\7f\2\2\u02c6\u02c7\7e\2\2\u02c7\u02c9\5\u00a2R\2\u02c8"+
-		"\u02c5\3\2\2\2\u02c8\u02c9\3\2\2\2\u02c9m\3\2\2\2\u02ca\u02ce\5p9\2\u02cb"+
-		"\u02cc\7g\2\2\u02cc\u02cd\7I\2\2\u02cd\u02cf\5\u00a2R\2\u02ce\u02cb\3"+
-		"\2\2\2\u02ce\u02cf\3\2\2\2\u02cfo\3\2\2\2\u02d0\u02d4\5r:\2\u02d1\u02d2"+
-		"\7i\2\2\u02d2\u02d3\7I\2\2\u02d3\u02d5\5\u00aeX\2\u02d4\u02d1\3\2\2\2"+
-		"\u02d4\u02d5\3\2\2\2\u02d5q\3\2\2\2\u02d6\u02da\5t;\2\u02d7\u02d8\7h\2"+
-		"\2\u02d8\u02d9\7I\2\2\u02d9\u02db\5\u00aeX\2\u02da\u02d7\3\2\2\2\u02da"+
-		"\u02db\3\2\2\2\u02dbs\3\2\2\2\u02dc\u02e5\5x=\2\u02dd\u02de\7\6\2\2\u02de"+
-		"\u02df\7/\2\2\u02df\u02e0\3\2\2\2\u02e0\u02e1\5v<\2\u02e1\u02e2\5\u0098"+
-		"M\2\u02e2\u02e4\3\2\2\2\u02e3\u02dd\3\2\2\2\u02e4\u02e7\3\2\2\2\u02e5"+
-		"\u02e3\3\2\2\2\u02e5\u02e6\3\2\2\2\u02e6u\3\2\2\2\u02e7\u02e5\3\2\2\2"+
-		"\u02e8\u02ec\5\32\16\2\u02e9\u02ec\5\u008cG\2\u02ea\u02ec\5\u008eH\2\u02eb"+
-		"\u02e8\3\2\2\2\u02eb\u02e9\3\2\2\2\u02eb\u02ea\3\2\2\2\u02ecw\3\2\2\2"+
-		"\u02ed\u02ef\t\6\2\2\u02ee\u02ed\3\2\2\2\u02ef\u02f2\3\2\2\2\u02f0\u02ee"+
-		"\3\2\2\2\u02f0\u02f1\3\2\2\2\u02f1\u02f3\3\2\2\2\u02f2\u02f0\3\2\2\2\u02f3"+
-		"\u02f4\5z>\2\u02f4y\3\2\2\2\u02f5\u02f8\5~@\2\u02f6\u02f8\5|?\2\u02f7"+
-		"\u02f5\3\2\2\2\u02f7\u02f6\3\2\2\2\u02f8{\3\2\2\2\u02f9\u02fa\7\67\2\2"+
-		"\u02fa\u02fb\7o\2\2\u02fb\u02fc\5\u00a2R\2\u02fc\u02fd\7\34\2\2\u02fd"+
-		"\u02fe\5.\30\2\u02fe\u02ff\7\35\2\2\u02ff}\3\2\2\2\u0300\u0305\5\u0080"+
-		"A\2\u0301\u0302\78\2\2\u0302\u0304\5\u0080A\2\u0303\u0301\3\2\2\2\u0304"+
-		"\u0307\3\2\2\2\u0305\u0303\3\2\2\2\u0305\u0306\3\2\2\2\u0306\177\3\2\2"+
-		"\2\u0307\u0305\3\2\2\2\u0308\u0310\5\u008aF\2\u0309\u030f\5\u0082B\2\u030a"+
-		"\u030f\5\u0086D\2\u030b\u030f\5\u0088E\2\u030c\u030f\5\u0084C\2\u030d"+
-		"\u030f\5\u0098M\2\u030e\u0309\3\2\2\2\u030e\u030a\3\2\2\2\u030e\u030b"+
-		"\3\2\2\2\u030e\u030c\3\2\2\2\u030e\u030d\3\2\2\2\u030f\u0312\3\2\2\2\u0310"+
-		"\u030e\3\2\2\2\u0310\u0311\3\2\2\2\u0311\u0081\3\2\2\2\u0312\u0310\3\2"+
-		"\2\2\u0313\u0314\79\2\2\u0314\u0315\79\2\2\u0315\u0316\5.\30\2\u0316\u0317"+
-		"\7:\2\2\u0317\u0318\7:\2\2\u0318\u0083\3\2\2\2\u0319\u031a\79\2\2\u031a"+
-		"\u031b\7:\2\2\u031b\u0085\3\2\2\2\u031c\u031d\79\2\2\u031d\u031e\5.\30"+
-		"\2\u031e\u031f\7:\2\2\u031f\u0087\3\2\2\2\u0320\u0327\7;\2\2\u0321\u0328"+
-		"\5\u00b8]\2\u0322\u0328\5\u00b6\\\2\u0323\u0328\7}\2\2\u0324\u0328\5\u008e"+
-		"H\2\u0325\u0328\5\u008cG\2\u0326\u0328\5\u0090I\2\u0327\u0321\3\2\2\2"+
-		"\u0327\u0322\3\2\2\2\u0327\u0323\3\2\2\2\u0327\u0324\3\2\2\2\u0327\u0325"+
-		"\3\2\2\2\u0327\u0326\3\2\2\2\u0328\u0089\3\2\2\2\u0329\u0338\7v\2\2\u032a"+
-		"\u0338\7m\2\2\u032b\u0338\7n\2\2\u032c\u0338\7w\2\2\u032d\u0338\5\u00b6"+
-		"\\\2\u032e\u0338\5\u008cG\2\u032f\u0338\5\u008eH\2\u0330\u0338\5\u0090"+
-		"I\2\u0331\u0338\5\u00a4S\2\u0332\u0338\5\u0096L\2\u0333\u0338\5\u0092"+
-		"J\2\u0334\u0338\5\u0094K\2\u0335\u0338\5\u00b2Z\2\u0336\u0338\5\u009c"+
-		"O\2\u0337\u0329\3\2\2\2\u0337\u032a\3\2\2\2\u0337\u032b\3\2\2\2\u0337"+
-		"\u032c\3\2\2\2\u0337\u032d\3\2\2\2\u0337\u032e\3\2\2\2\u0337\u032f\3\2"+
-		"\2\2\u0337\u0330\3\2\2\2\u0337\u0331\3\2\2\2\u0337\u0332\3\2\2\2\u0337"+
-		"\u0333\3\2\2\2\u0337\u0334\3\2\2\2\u0337\u0335\3\2\2\2\u0337\u0336\3\2"+
-		"\2\2\u0338\u008b\3\2\2\2\u0339\u033a\7#\2\2\u033a\u033b\5\32\16\2\u033b"+
-		"\u008d\3\2\2\2\u033c\u033e\7\32\2\2\u033d\u033f\5.\30\2\u033e\u033d\3"+
-		"\2\2\2\u033e\u033f\3\2\2\2\u033f\u0340\3\2\2\2\u0340\u0341\7\33\2\2\u0341"+
-		"\u008f\3\2\2\2\u0342\u0343\7<\2\2\u0343\u0091\3\2\2\2\u0344\u0345\7\b"+
-		"\2\2\u0345\u0346\7\34\2\2\u0346\u0347\5.\30\2\u0347\u0348\7\35\2\2\u0348"+
-		"\u0093\3\2\2\2\u0349\u034a\7l\2\2\u034a\u034b\7\34\2\2\u034b\u034c\5."+
-		"\30\2\u034c\u034d\7\35\2\2\u034d\u0095\3\2\2\2\u034e\u034f\5\32\16\2\u034f"+
-		"\u0350\5\u0098M\2\u0350\u0097\3\2\2\2\u0351\u0358\7\32\2\2\u0352\u0354"+
-		"\5\u009aN\2\u0353\u0355\7\26\2\2\u0354\u0353\3\2\2\2\u0354\u0355\3\2\2"+
-		"\2\u0355\u0357\3\2\2\2\u0356\u0352\3\2\2\2\u0357\u035a\3\2\2\2\u0358\u0356"+
-		"\3\2\2\2\u0358\u0359\3\2\2\2\u0359\u035b\3\2\2\2\u035a\u0358\3\2\2\2\u035b"+
-		"\u035c\7\33\2\2\u035c\u0099\3\2\2\2\u035d\u0360\5\60\31\2\u035e\u0360"+
-		"\7u\2\2\u035f\u035d\3\2\2\2\u035f\u035e\3\2\2\2\u0360\u009b\3\2\2\2\u0361"+
-		"\u0364\5\u009eP\2\u0362\u0364\5\u00a0Q\2\u0363\u0361\3\2\2\2\u0363\u0362"+
-		"\3\2\2\2\u0364\u009d\3\2\2\2\u0365\u0366\5\32\16\2\u0366\u0367\7=\2\2"+
-		"\u0367\u0368\7w\2\2\u0368\u009f\3\2\2\2\u0369\u036a\7\31\2\2\u036a\u036c"+
-		"\7\32\2\2\u036b\u036d\5*\26\2\u036c\u036b\3\2\2\2\u036c\u036d\3\2\2\2"+
-		"\u036d\u036e\3\2\2\2\u036e\u0371\7\33\2\2\u036f\u0370\7I\2\2\u0370\u0372"+
-		"\5\u00a2R\2\u0371\u036f\3\2\2\2\u0371\u0372\3\2\2\2\u0372\u0373\3\2\2"+
-		"\2\u0373\u0375\7\34\2\2\u0374\u0376\5.\30\2\u0375\u0374\3\2\2\2\u0375"+
-		"\u0376\3\2\2\2\u0376\u0377\3\2\2\2\u0377\u0378\7\35\2\2\u0378\u00a1\3"+
-		"\2\2\2\u0379\u037a\7\32\2\2\u037a\u0382\7\33\2\2\u037b\u037f\5\u00a6T"+
-		"\2\u037c\u0380\7u\2\2\u037d\u0380\7%\2\2\u037e\u0380\7\62\2\2\u037f\u037c"+
-		"\3\2\2\2\u037f\u037d\3\2\2\2\u037f\u037e\3\2\2\2\u037f\u0380\3\2\2\2\u0380"+
-		"\u0382\3\2\2\2\u0381\u0379\3\2\2\2\u0381\u037b\3\2\2\2\u0382\u00a3\3\2"+
-		"\2\2\u0383\u038c\7\34\2\2\u0384\u0389\5\u00b0Y\2\u0385\u0386\7\26\2\2"+
-		"\u0386\u0388\5\u00b0Y\2\u0387\u0385\3\2\2\2\u0388\u038b\3\2\2\2\u0389"+
-		"\u0387\3\2\2\2\u0389\u038a\3\2\2\2\u038a\u038d\3\2\2\2\u038b\u0389\3\2"+
-		"\2\2\u038c\u0384\3\2\2\2\u038c\u038d\3\2\2\2\u038d\u038e\3\2\2\2\u038e"+
-		"\u0394\7\35\2\2\u038f\u0390\7>\2\2\u0390\u0391\5.\30\2\u0391\u0392\7?"+
-		"\2\2\u0392\u0394\3\2\2\2\u0393\u0383\3\2\2\2\u0393\u038f\3\2\2\2\u0394"+
-		"\u00a5\3\2\2\2\u0395\u0399\5\32\16\2\u0396\u0399\7v\2\2\u0397\u0399\5"+
-		"\u00a8U\2\u0398\u0395\3\2\2\2\u0398\u0396\3\2\2\2\u0398\u0397\3\2\2\2"+
-		"\u0399\u00a7\3\2\2\2\u039a\u039d\5\u00aaV\2\u039b\u039d\5\u00acW\2\u039c"+
-		"\u039a\3\2\2\2\u039c\u039b\3\2\2\2\u039d\u00a9\3\2\2\2\u039e\u039f\7\31"+
-		"\2\2\u039f\u03a0\7\32\2\2\u03a0\u03a1\7%\2\2\u03a1\u03a2\7\33\2\2\u03a2"+
-		"\u00ab\3\2\2\2\u03a3\u03a4\7\31\2\2\u03a4\u03ad\7\32\2\2\u03a5\u03aa\5"+
-		"\u00a2R\2\u03a6\u03a7\7\26\2\2\u03a7\u03a9\5\u00a2R\2\u03a8\u03a6\3\2"+
-		"\2\2\u03a9\u03ac\3\2\2\2\u03aa\u03a8\3\2\2\2\u03aa\u03ab\3\2\2\2\u03ab"+
-		"\u03ae\3\2\2\2\u03ac\u03aa\3\2\2\2\u03ad\u03a5\3\2\2\2\u03ad\u03ae\3\2"+
-		"\2\2\u03ae\u03af\3\2\2\2\u03af\u03b0\7\33\2\2\u03b0\u03b1\7I\2\2\u03b1"+
-		"\u03b2\5\u00a2R\2\u03b2\u00ad\3\2\2\2\u03b3\u03b5\5\u00a6T\2\u03b4\u03b6"+
-		"\7u\2\2\u03b5\u03b4\3\2\2\2\u03b5\u03b6\3\2\2\2\u03b6\u00af\3\2\2\2\u03b7"+
-		"\u03ba\5\60\31\2\u03b8\u03ba\7}\2\2\u03b9\u03b7\3\2\2\2\u03b9\u03b8\3"+
-		"\2\2\2\u03ba\u03bb\3\2\2\2\u03bb\u03bc\t\b\2\2\u03bc\u03bd\5\60\31\2\u03bd"+
-		"\u00b1\3\2\2\2\u03be\u03c0\79\2\2\u03bf\u03c1\5.\30\2\u03c0\u03bf\3\2"+
-		"\2\2\u03c0\u03c1\3\2\2\2\u03c1\u03c2\3\2\2\2\u03c2\u03c3\7:\2\2\u03c3"+
-		"\u00b3\3\2\2\2\u03c4\u03c5\5\u00b6\\\2\u03c5\u00b5\3\2\2\2\u03c6\u03c7"+
-		"\7t\2\2\u03c7\u00b7\3\2\2\2\u03c8\u03c9\t\t\2\2\u03c9\u00b9\3\2\2\2k\u00c2"+
-		"\u00c6\u00d6\u00dc\u00e4\u00eb\u00f7\u010d\u0115\u011a\u011d\u0121\u012a"+
-		"\u0133\u0136\u013d\u0144\u0146\u014d\u0154\u0156\u015d\u0162\u0166\u016a"+
-		"\u0171\u017b\u0182\u0189\u0190\u019a\u019e\u01a6\u01a8\u01b4\u01ba\u01be"+
-		"\u01c2\u01cd\u01d3\u01e2\u01e8\u01ec\u01f0\u01f7\u01fe\u0204\u0209\u020b"+
-		"\u020f\u0216\u021d\u0226\u0232\u023c\u0248\u024c\u0255\u025c\u0272\u0277"+
-		"\u027c\u0280\u028c\u0294\u0298\u029f\u02a6\u02ac\u02b3\u02bb\u02c2\u02c8"+
-		"\u02ce\u02d4\u02da\u02e5\u02eb\u02f0\u02f7\u0305\u030e\u0310\u0327\u0337"+
-		"\u033e\u0354\u0358\u035f\u0363\u036c\u0371\u0375\u037f\u0381\u0389\u038c"+
-		"\u0393\u0398\u039c\u03aa\u03ad\u03b5\u03b9\u03c0";
+		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\4^\t^\4_\t_\4"+
+		"`\t`\4a\ta\4b\tb\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\5\3\u00cd\n\3\3\3\3\3"+
+		"\5\3\u00d1\n\3\3\4\3\4\3\4\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6\3\6"+
+		"\5\6\u00e1\n\6\3\6\3\6\7\6\u00e5\n\6\f\6\16\6\u00e8\13\6\3\6\3\6\3\6\7"+
+		"\6\u00ed\n\6\f\6\16\6\u00f0\13\6\3\7\3\7\3\7\3\7\5\7\u00f6\n\7\3\b\3\b"+
+		"\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\5\t\u0102\n\t\3\n\3\n\3\n\3\n\3\n\3\13"+
+		"\3\13\3\13\3\13\3\f\3\f\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\5\r\u0118"+
+		"\n\r\3\r\3\r\3\r\3\r\7\r\u011e\n\r\f\r\16\r\u0121\13\r\3\16\3\16\5\16"+
+		"\u0125\n\16\3\16\5\16\u0128\n\16\3\16\3\16\5\16\u012c\n\16\3\17\3\17\3"+
+		"\20\3\20\3\20\3\20\3\20\5\20\u0135\n\20\3\20\3\20\3\20\3\20\3\20\7\20"+
+		"\u013c\n\20\f\20\16\20\u013f\13\20\5\20\u0141\n\20\3\21\3\21\3\21\3\21"+
+		"\3\21\5\21\u0148\n\21\3\21\3\21\3\21\3\21\3\21\5\21\u014f\n\21\5\21\u0151"+
+		"\n\21\3\22\3\22\3\22\3\22\3\22\5\22\u0158\n\22\3\22\3\22\3\22\3\22\3\22"+
+		"\5\22\u015f\n\22\5\22\u0161\n\22\3\23\3\23\3\23\3\23\3\23\5\23\u0168\n"+
+		"\23\3\23\3\23\3\23\5\23\u016d\n\23\3\23\3\23\5\23\u0171\n\23\3\23\3\23"+
+		"\5\23\u0175\n\23\3\24\3\24\3\24\3\24\3\24\5\24\u017c\n\24\3\24\3\24\3"+
+		"\25\3\25\3\25\3\25\3\25\3\25\5\25\u0186\n\25\3\26\3\26\3\26\7\26\u018b"+
+		"\n\26\f\26\16\26\u018e\13\26\3\27\3\27\3\27\3\27\5\27\u0194\n\27\3\30"+
+		"\3\30\3\30\7\30\u0199\n\30\f\30\16\30\u019c\13\30\3\31\3\31\3\31\3\31"+
+		"\3\31\3\31\3\31\5\31\u01a5\n\31\3\32\3\32\3\32\5\32\u01aa\n\32\3\32\3"+
+		"\32\3\32\3\32\3\32\3\32\3\32\7\32\u01b3\n\32\f\32\16\32\u01b6\13\32\3"+
+		"\32\3\32\3\32\3\33\3\33\3\33\3\33\7\33\u01bf\n\33\f\33\16\33\u01c2\13"+
+		"\33\3\34\3\34\3\34\5\34\u01c7\n\34\3\34\3\34\5\34\u01cb\n\34\3\34\3\34"+
+		"\5\34\u01cf\n\34\3\34\3\34\3\34\3\35\3\35\3\35\3\35\3\35\3\35\3\35\5\35"+
+		"\u01db\n\35\3\35\3\35\3\35\3\35\5\35\u01e1\n\35\3\36\3\36\3\36\3\37\3"+
+		"\37\3\37\3\37\3\37\3\37\3\37\3 \3 \5 \u01ef\n \3 \3 \3 \3 \3 \3 \3 \3"+
+		"!\5!\u01f9\n!\3!\3!\5!\u01fd\n!\3!\3!\3!\5!\u0202\n!\3!\3!\3!\5!\u0207"+
+		"\n!\3\"\3\"\3\"\3\"\7\"\u020d\n\"\f\"\16\"\u0210\13\"\3#\3#\3#\5#\u0215"+
+		"\n#\3#\3#\3#\3$\3$\3$\3%\3%\3%\3%\3%\7%\u0222\n%\f%\16%\u0225\13%\3&\3"+
+		"&\3&\5&\u022a\n&\3&\3&\5&\u022e\n&\3&\3&\5&\u0232\n&\3\'\3\'\3\'\3\'\3"+
+		"\'\5\'\u0239\n\'\3\'\3\'\3\'\7\'\u023e\n\'\f\'\16\'\u0241\13\'\3(\3(\3"+
+		"(\5(\u0246\n(\3(\3(\3(\5(\u024b\n(\5(\u024d\n(\3(\3(\5(\u0251\n(\3)\3"+
+		")\3)\3*\3*\5*\u0258\n*\3*\3*\3*\7*\u025d\n*\f*\16*\u0260\13*\3*\3*\3*"+
+		"\3+\3+\3+\5+\u0268\n+\3+\3+\3+\3,\3,\3,\3,\3,\6,\u0272\n,\r,\16,\u0273"+
+		"\3,\3,\3,\3,\3-\3-\6-\u027c\n-\r-\16-\u027d\3-\3-\3-\3.\3.\3.\3.\3.\6"+
+		".\u0288\n.\r.\16.\u0289\3.\3.\5.\u028e\n.\3.\3.\3.\3/\3/\3/\3/\5/\u0297"+
+		"\n/\3/\3/\3/\7/\u029c\n/\f/\16/\u029f\13/\3/\3/\3/\3\60\3\60\3\60\3\60"+
+		"\3\60\3\60\3\60\3\60\3\60\3\61\3\61\3\61\3\61\3\61\6\61\u02b2\n\61\r\61"+
+		"\16\61\u02b3\3\62\3\62\3\62\5\62\u02b9\n\62\3\62\3\62\3\62\5\62\u02be"+
+		"\n\62\7\62\u02c0\n\62\f\62\16\62\u02c3\13\62\3\62\3\62\3\62\3\62\3\63"+
+		"\3\63\3\63\7\63\u02cc\n\63\f\63\16\63\u02cf\13\63\3\64\3\64\3\64\7\64"+
+		"\u02d4\n\64\f\64\16\64\u02d7\13\64\3\65\5\65\u02da\n\65\3\65\3\65\3\66"+
+		"\3\66\3\66\5\66\u02e1\n\66\3\67\3\67\3\67\7\67\u02e6\n\67\f\67\16\67\u02e9"+
+		"\13\67\38\38\38\58\u02ee\n8\39\39\39\79\u02f3\n9\f9\169\u02f6\139\3:\3"+
+		":\3:\7:\u02fb\n:\f:\16:\u02fe\13:\3;\3;\3;\3;\5;\u0304\n;\3<\3<\3<\3<"+
+		"\5<\u030a\n<\3=\3=\3=\3=\5=\u0310\n=\3>\3>\3>\3>\5>\u0316\n>\3?\3?\3?"+
+		"\3?\5?\u031c\n?\3@\3@\3@\3@\3@\3@\3@\7@\u0325\n@\f@\16@\u0328\13@\3A\3"+
+		"A\3A\5A\u032d\nA\3B\7B\u0330\nB\fB\16B\u0333\13B\3B\3B\3C\3C\5C\u0339"+
+		"\nC\3D\3D\3D\3D\3D\3D\3D\3E\3E\3E\7E\u0345\nE\fE\16E\u0348\13E\3F\3F\3"+
+		"F\3F\3F\3F\7F\u0350\nF\fF\16F\u0353\13F\3G\3G\3G\3G\3G\3G\3H\3H\3H\3I"+
+		"\3I\3I\3I\3J\3J\3J\3J\3J\3J\3J\5J\u0369\nJ\3K\3K\3K\3K\3K\3K\3K\3K\3K"+
+		"\3K\3K\3K\3K\3K\5K\u0379\nK\3L\3L\3L\3M\3M\5M\u0380\nM\3M\3M\3N\3N\3O"+
+		"\3O\3O\3O\3O\3P\3P\3P\3P\3P\3Q\3Q\3Q\3R\3R\3R\5R\u0396\nR\7R\u0398\nR"+
+		"\fR\16R\u039b\13R\3R\3R\3S\3S\5S\u03a1\nS\3T\3T\5T\u03a5\nT\3U\3U\3U\3"+
+		"U\3V\3V\3V\5V\u03ae\nV\3V\3V\3V\5V\u03b3\nV\3V\3V\5V\u03b7\nV\3V\3V\3"+
+		"W\3W\3W\3W\3W\3W\5W\u03c1\nW\5W\u03c3\nW\3X\3X\3X\3X\7X\u03c9\nX\fX\16"+
+		"X\u03cc\13X\5X\u03ce\nX\3X\3X\3X\3X\3X\5X\u03d5\nX\3Y\3Y\3Y\5Y\u03da\n"+
+		"Y\3Z\3Z\5Z\u03de\nZ\3[\3[\3[\3[\3[\3\\\3\\\3\\\3\\\3\\\7\\\u03ea\n\\\f"+
+		"\\\16\\\u03ed\13\\\5\\\u03ef\n\\\3\\\3\\\3\\\3\\\3]\3]\5]\u03f7\n]\3^"+
+		"\3^\5^\u03fb\n^\3^\3^\3^\3_\3_\5_\u0402\n_\3_\3_\3`\3`\3a\3a\3b\3b\3b"+
+		"\2\2c\2\4\6\b\n\f\16\20\22\24\26\30\32\34\36 \"$&(*,.\60\62\64\668:<>"+
+		"@BDFHJLNPRTVXZ\\^`bdfhjlnprtvxz|~\u0080\u0082\u0084\u0086\u0088\u008a"+
+		"\u008c\u008e\u0090\u0092\u0094\u0096\u0098\u009a\u009c\u009e\u00a0\u00a2"+
+		"\u00a4\u00a6\u00a8\u00aa\u00ac\u00ae\u00b0\u00b2\u00b4\u00b6\u00b8\u00ba"+
+		"\u00bc\u00be\u00c0\u00c2\2\n\4\2\b\bll\3\2UV\3\2\13\24\4\2\6\6&\60\3\2"+
+		"\62\63\4\2%%\64\66\4\2\n\nuu\4\2@svv\2\u0443\2\u00c4\3\2\2\2\4\u00cc\3"+
+		"\2\2\2\6\u00d2\3\2\2\2\b\u00d5\3\2\2\2\n\u00e6\3\2\2\2\f\u00f5\3\2\2\2"+
+		"\16\u00f7\3\2\2\2\20\u0101\3\2\2\2\22\u0103\3\2\2\2\24\u0108\3\2\2\2\26"+
+		"\u010c\3\2\2\2\30\u0112\3\2\2\2\32\u0127\3\2\2\2\34\u012d\3\2\2\2\36\u012f"+
+		"\3\2\2\2 \u0142\3\2\2\2\"\u0152\3\2\2\2$\u0162\3\2\2\2&\u0176\3\2\2\2"+
+		"(\u0185\3\2\2\2*\u0187\3\2\2\2,\u018f\3\2\2\2.\u0195\3\2\2\2\60\u01a4"+
+		"\3\2\2\2\62\u01a9\3\2\2\2\64\u01ba\3\2\2\2\66\u01c3\3\2\2\28\u01d3\3\2"+
+		"\2\2:\u01e2\3\2\2\2<\u01e5\3\2\2\2>\u01ee\3\2\2\2@\u01f8\3\2\2\2B\u0208"+
+		"\3\2\2\2D\u0211\3\2\2\2F\u0219\3\2\2\2H\u021c\3\2\2\2J\u0226\3\2\2\2L"+
+		"\u0238\3\2\2\2N\u0242\3\2\2\2P\u0252\3\2\2\2R\u0257\3\2\2\2T\u0264\3\2"+
+		"\2\2V\u026c\3\2\2\2X\u027b\3\2\2\2Z\u0282\3\2\2\2\\\u0292\3\2\2\2^\u02a3"+
+		"\3\2\2\2`\u02ac\3\2\2\2b\u02b5\3\2\2\2d\u02c8\3\2\2\2f\u02d0\3\2\2\2h"+
+		"\u02d9\3\2\2\2j\u02dd\3\2\2\2l\u02e2\3\2\2\2n\u02ea\3\2\2\2p\u02ef\3\2"+
+		"\2\2r\u02f7\3\2\2\2t\u02ff\3\2\2\2v\u0305\3\2\2\2x\u030b\3\2\2\2z\u0311"+
+		"\3\2\2\2|\u0317\3\2\2\2~\u031d\3\2\2\2\u0080\u032c\3\2\2\2\u0082\u0331"+
+		"\3\2\2\2\u0084\u0338\3\2\2\2\u0086\u033a\3\2\2\2\u0088\u0341\3\2\2\2\u008a"+
+		"\u0349\3\2\2\2\u008c\u0354\3\2\2\2\u008e\u035a\3\2\2\2\u0090\u035d\3\2"+
+		"\2\2\u0092\u0361\3\2\2\2\u0094\u0378\3\2\2\2\u0096\u037a\3\2\2\2\u0098"+
+		"\u037d\3\2\2\2\u009a\u0383\3\2\2\2\u009c\u0385\3\2\2\2\u009e\u038a\3\2"+
+		"\2\2\u00a0\u038f\3\2\2\2\u00a2\u0392\3\2\2\2\u00a4\u03a0\3\2\2\2\u00a6"+
+		"\u03a4\3\2\2\2\u00a8\u03a6\3\2\2\2\u00aa\u03aa\3\2\2\2\u00ac\u03c2\3\2"+
+		"\2\2\u00ae\u03d4\3\2\2\2\u00b0\u03d9\3\2\2\2\u00b2\u03dd\3\2\2\2\u00b4"+
+		"\u03df\3\2\2\2\u00b6\u03e4\3\2\2\2\u00b8\u03f4\3\2\2\2\u00ba\u03fa\3\2"+
+		"\2\2\u00bc\u03ff\3\2\2\2\u00be\u0405\3\2\2\2\u00c0\u0407\3\2\2\2\u00c2"+
+		"\u0409\3\2\2\2\u00c4\u00c5\5\4\3\2\u00c5\u00c6\7\2\2\3\u00c6\3\3\2\2\2"+
+		"\u00c7\u00c8\7k\2\2\u00c8\u00c9\7j\2\2\u00c9\u00ca\5\u00c0a\2\u00ca\u00cb"+
+		"\7\3\2\2\u00cb\u00cd\3\2\2\2\u00cc\u00c7\3\2\2\2\u00cc\u00cd\3\2\2\2\u00cd"+
+		"\u00d0\3\2\2\2\u00ce\u00d1\5\b\5\2\u00cf\u00d1\5\6\4\2\u00d0\u00ce\3\2"+
+		"\2\2\u00d0\u00cf\3\2\2\2\u00d1\5\3\2\2\2\u00d2\u00d3\5\n\6\2\u00d3\u00d4"+
+		"\5.\30\2\u00d4\7\3\2\2\2\u00d5\u00d6\7\4\2\2\u00d6\u00d7\7\5\2\2\u00d7"+
+		"\u00d8\7}\2\2\u00d8\u00d9\7\6\2\2\u00d9\u00da\5\u00be`\2\u00da\u00db\7"+
+		"\3\2\2\u00db\u00dc\5\n\6\2\u00dc\t\3\2\2\2\u00dd\u00e1\5\f\7\2\u00de\u00e1"+
+		"\5\16\b\2\u00df\u00e1\5\36\20\2\u00e0\u00dd\3\2\2\2\u00e0\u00de\3\2\2"+
+		"\2\u00e0\u00df\3\2\2\2\u00e1\u00e2\3\2\2\2\u00e2\u00e3\7\3\2\2\u00e3\u00e5"+
+		"\3\2\2\2\u00e4\u00e0\3\2\2\2\u00e5\u00e8\3\2\2\2\u00e6\u00e4\3\2\2\2\u00e6"+
+		"\u00e7\3\2\2\2\u00e7\u00ee\3\2\2\2\u00e8\u00e6\3\2\2\2\u00e9\u00ea\5\20"+
+		"\t\2\u00ea\u00eb\7\3\2\2\u00eb\u00ed\3\2\2\2\u00ec\u00e9\3\2\2\2\u00ed"+
+		"\u00f0\3\2\2\2\u00ee\u00ec\3\2\2\2\u00ee\u00ef\3\2\2\2\u00ef\13\3\2\2"+
+		"\2\u00f0\u00ee\3\2\2\2\u00f1\u00f6\5\22\n\2\u00f2\u00f6\5\24\13\2\u00f3"+
+		"\u00f6\5\26\f\2\u00f4\u00f6\5\30\r\2\u00f5\u00f1\3\2\2\2\u00f5\u00f2\3"+
+		"\2\2\2\u00f5\u00f3\3\2\2\2\u00f5\u00f4\3\2\2\2\u00f6\r\3\2\2\2\u00f7\u00f8"+
+		"\7p\2\2\u00f8\u00f9\7\5\2\2\u00f9\u00fa\7}\2\2\u00fa\u00fb\7\6\2\2\u00fb"+
+		"\u00fc\5\u00be`\2\u00fc\17\3\2\2\2\u00fd\u0102\5$\23\2\u00fe\u0102\5 "+
+		"\21\2\u00ff\u0102\5&\24\2\u0100\u0102\5\"\22\2\u0101\u00fd\3\2\2\2\u0101"+
+		"\u00fe\3\2\2\2\u0101\u00ff\3\2\2\2\u0101\u0100\3\2\2\2\u0102\21\3\2\2"+
+		"\2\u0103\u0104\7p\2\2\u0104\u0105\7[\2\2\u0105\u0106\7T\2\2\u0106\u0107"+
+		"\5\u00be`\2\u0107\23\3\2\2\2\u0108\u0109\7p\2\2\u0109\u010a\7\7\2\2\u010a"+
+		"\u010b\t\2\2\2\u010b\25\3\2\2\2\u010c\u010d\7p\2\2\u010d\u010e\7[\2\2"+
+		"\u010e\u010f\7E\2\2\u010f\u0110\7L\2\2\u0110\u0111\t\3\2\2\u0111\27\3"+
+		"\2\2\2\u0112\u0117\7p\2\2\u0113\u0114\7\t\2\2\u0114\u0118\5\32\16\2\u0115"+
+		"\u0116\7[\2\2\u0116\u0118\7\t\2\2\u0117\u0113\3\2\2\2\u0117\u0115\3\2"+
+		"\2\2\u0118\u011f\3\2\2\2\u0119\u011a\5\34\17\2\u011a\u011b\7\6\2\2\u011b"+
+		"\u011c\5\u00c0a\2\u011c\u011e\3\2\2\2\u011d\u0119\3\2\2\2\u011e\u0121"+
+		"\3\2\2\2\u011f\u011d\3\2\2\2\u011f\u0120\3\2\2\2\u0120\31\3\2\2\2\u0121"+
+		"\u011f\3\2\2\2\u0122\u0125\7}\2\2\u0123\u0125\5\u00c2b\2\u0124\u0122\3"+
+		"\2\2\2\u0124\u0123\3\2\2\2\u0125\u0126\3\2\2\2\u0126\u0128\7\n\2\2\u0127"+
+		"\u0124\3\2\2\2\u0127\u0128\3\2\2\2\u0128\u012b\3\2\2\2\u0129\u012c\7}"+
+		"\2\2\u012a\u012c\5\u00c2b\2\u012b\u0129\3\2\2\2\u012b\u012a\3\2\2\2\u012c"+
+		"\33\3\2\2\2\u012d\u012e\t\4\2\2\u012e\35\3\2\2\2\u012f\u0130\7\25\2\2"+
+		"\u0130\u0134\7\4\2\2\u0131\u0132\7\5\2\2\u0132\u0133\7}\2\2\u0133\u0135"+
+		"\7\6\2\2\u0134\u0131\3\2\2\2\u0134\u0135\3\2\2\2\u0135\u0136\3\2\2\2\u0136"+
+		"\u0140\5\u00be`\2\u0137\u0138\7J\2\2\u0138\u013d\5\u00be`\2\u0139\u013a"+
+		"\7\26\2\2\u013a\u013c\5\u00be`\2\u013b\u0139\3\2\2\2\u013c\u013f\3\2\2"+
+		"\2\u013d\u013b\3\2\2\2\u013d\u013e\3\2\2\2\u013e\u0141\3\2\2\2\u013f\u013d"+
+		"\3\2\2\2\u0140\u0137\3\2\2\2\u0140\u0141\3\2\2\2\u0141\37\3\2\2\2\u0142"+
+		"\u0143\7p\2\2\u0143\u0144\7s\2\2\u0144\u0147\5\u0096L\2\u0145\u0146\7"+
+		"I\2\2\u0146\u0148\5\u00acW\2\u0147\u0145\3\2\2\2\u0147\u0148\3\2\2\2\u0148"+
+		"\u0150\3\2\2\2\u0149\u014a\7\27\2\2\u014a\u0151\5\60\31\2\u014b\u014e"+
+		"\7\30\2\2\u014c\u014d\7\27\2\2\u014d\u014f\5\60\31\2\u014e\u014c\3\2\2"+
+		"\2\u014e\u014f\3\2\2\2\u014f\u0151\3\2\2\2\u0150\u0149\3\2\2\2\u0150\u014b"+
+		"\3\2\2\2\u0151!\3\2\2\2\u0152\u0153\7p\2\2\u0153\u0154\7q\2\2\u0154\u0157"+
+		"\7r\2\2\u0155\u0156\7I\2\2\u0156\u0158\5\u00acW\2\u0157\u0155\3\2\2\2"+
+		"\u0157\u0158\3\2\2\2\u0158\u0160\3\2\2\2\u0159\u015a\7\27\2\2\u015a\u0161"+
+		"\5\60\31\2\u015b\u015e\7\30\2\2\u015c\u015d\7\27\2\2\u015d\u015f\5\60"+
+		"\31\2\u015e\u015c\3\2\2\2\u015e\u015f\3\2\2\2\u015f\u0161\3\2\2\2\u0160"+
+		"\u0159\3\2\2\2\u0160\u015b\3\2\2\2\u0161#\3\2\2\2\u0162\u0163\7p\2\2\u0163"+
+		"\u0164\7\31\2\2\u0164\u0165\5\32\16\2\u0165\u0167\7\32\2\2\u0166\u0168"+
+		"\5*\26\2\u0167\u0166\3\2\2\2\u0167\u0168\3\2\2\2\u0168\u0169\3\2\2\2\u0169"+
+		"\u016c\7\33\2\2\u016a\u016b\7I\2\2\u016b\u016d\5\u00acW\2\u016c\u016a"+
+		"\3\2\2\2\u016c\u016d\3\2\2\2\u016d\u0174\3\2\2\2\u016e\u0170\7\34\2\2"+
+		"\u016f\u0171\5.\30\2\u0170\u016f\3\2\2\2\u0170\u0171\3\2\2\2\u0171\u0172"+
+		"\3\2\2\2\u0172\u0175\7\35\2\2\u0173\u0175\7\30\2\2\u0174\u016e\3\2\2\2"+
+		"\u0174\u0173\3\2\2\2\u0175%\3\2\2\2\u0176\u0177\7p\2\2\u0177\u0178\7o"+
+		"\2\2\u0178\u0179\5\32\16\2\u0179\u017b\7I\2\2\u017a\u017c\5(\25\2\u017b"+
+		"\u017a\3\2\2\2\u017b\u017c\3\2\2\2\u017c\u017d\3\2\2\2\u017d\u017e\5\60"+
+		"\31\2\u017e\'\3\2\2\2\u017f\u0180\7\36\2\2\u0180\u0186\7\37\2\2\u0181"+
+		"\u0182\7\36\2\2\u0182\u0186\7 \2\2\u0183\u0184\7!\2\2\u0184\u0186\7\""+
+		"\2\2\u0185\u017f\3\2\2\2\u0185\u0181\3\2\2\2\u0185\u0183\3\2\2\2\u0186"+
+		")\3\2\2\2\u0187\u018c\5,\27\2\u0188\u0189\7\26\2\2\u0189\u018b\5,\27\2"+
+		"\u018a\u0188\3\2\2\2\u018b\u018e\3\2\2\2\u018c\u018a\3\2\2\2\u018c\u018d"+
+		"\3\2\2\2\u018d+\3\2\2\2\u018e\u018c\3\2\2\2\u018f\u0190\7#\2\2\u0190\u0193"+
+		"\5\32\16\2\u0191\u0192\7I\2\2\u0192\u0194\5\u00acW\2\u0193\u0191\3\2\2"+
+		"\2\u0193\u0194\3\2\2\2\u0194-\3\2\2\2\u0195\u019a\5\60\31\2\u0196\u0197"+
+		"\7\26\2\2\u0197\u0199\5\60\31\2\u0198\u0196\3\2\2\2\u0199\u019c\3\2\2"+
+		"\2\u019a\u0198\3\2\2\2\u019a\u019b\3\2\2\2\u019b/\3\2\2\2\u019c\u019a"+
+		"\3\2\2\2\u019d\u01a5\5\62\32\2\u019e\u01a5\5R*\2\u019f\u01a5\5V,\2\u01a0"+
+		"\u01a5\5Z.\2\u01a1\u01a5\5^\60\2\u01a2\u01a5\5`\61\2\u01a3\u01a5\5d\63"+
+		"\2\u01a4\u019d\3\2\2\2\u01a4\u019e\3\2\2\2\u01a4\u019f\3\2\2\2\u01a4\u01a0"+
+		"\3\2\2\2\u01a4\u01a1\3\2\2\2\u01a4\u01a2\3\2\2\2\u01a4\u01a3\3\2\2\2\u01a5"+
+		"\61\3\2\2\2\u01a6\u01aa\5\64\33\2\u01a7\u01aa\58\35\2\u01a8\u01aa\5B\""+
+		"\2\u01a9\u01a6\3\2\2\2\u01a9\u01a7\3\2\2\2\u01a9\u01a8\3\2\2\2\u01aa\u01b4"+
+		"\3\2\2\2\u01ab\u01b3\5\64\33\2\u01ac\u01b3\58\35\2\u01ad\u01b3\5F$\2\u01ae"+
+		"\u01b3\5B\"\2\u01af\u01b3\5H%\2\u01b0\u01b3\5L\'\2\u01b1\u01b3\5P)\2\u01b2"+
+		"\u01ab\3\2\2\2\u01b2\u01ac\3\2\2\2\u01b2\u01ad\3\2\2\2\u01b2\u01ae\3\2"+
+		"\2\2\u01b2\u01af\3\2\2\2\u01b2\u01b0\3\2\2\2\u01b2\u01b1\3\2\2\2\u01b3"+
+		"\u01b6\3\2\2\2\u01b4\u01b2\3\2\2\2\u01b4\u01b5\3\2\2\2\u01b5\u01b7\3\2"+
+		"\2\2\u01b6\u01b4\3\2\2\2\u01b7\u01b8\7F\2\2\u01b8\u01b9\5\60\31\2\u01b9"+
+		"\63\3\2\2\2\u01ba\u01bb\7@\2\2\u01bb\u01c0\5\66\34\2\u01bc\u01bd\7\26"+
+		"\2\2\u01bd\u01bf\5\66\34\2\u01be\u01bc\3\2\2\2\u01bf\u01c2\3\2\2\2\u01c0"+
+		"\u01be\3\2\2\2\u01c0\u01c1\3\2\2\2\u01c1\65\3\2\2\2\u01c2\u01c0\3\2\2"+
+		"\2\u01c3\u01c6\5\u0096L\2\u01c4\u01c5\7I\2\2\u01c5\u01c7\5\u00acW\2\u01c6"+
+		"\u01c4\3\2\2\2\u01c6\u01c7\3\2\2\2\u01c7\u01ca\3\2\2\2\u01c8\u01c9\7K"+
+		"\2\2\u01c9\u01cb\7L\2\2\u01ca\u01c8\3\2\2\2\u01ca\u01cb\3\2\2\2\u01cb"+
+		"\u01ce\3\2\2\2\u01cc\u01cd\7J\2\2\u01cd\u01cf\5\u0096L\2\u01ce\u01cc\3"+
+		"\2\2\2\u01ce\u01cf\3\2\2\2\u01cf\u01d0\3\2\2\2\u01d0\u01d1\7H\2\2\u01d1"+
+		"\u01d2\5\60\31\2\u01d2\67\3\2\2\2\u01d3\u01d4\7@\2\2\u01d4\u01d5\5:\36"+
+		"\2\u01d5\u01d6\6\35\2\2\u01d6\u01d7\7}\2\2\u01d7\u01da\5\u0096L\2\u01d8"+
+		"\u01d9\7I\2\2\u01d9\u01db\5\u00acW\2\u01da\u01d8\3\2\2\2\u01da\u01db\3"+
+		"\2\2\2\u01db\u01dc\3\2\2\2\u01dc\u01dd\7H\2\2\u01dd\u01de\5\60\31\2\u01de"+
+		"\u01e0\5<\37\2\u01df\u01e1\5> \2\u01e0\u01df\3\2\2\2\u01e0\u01e1\3\2\2"+
+		"\2\u01e19\3\2\2\2\u01e2\u01e3\6\36\3\2\u01e3\u01e4\7}\2\2\u01e4;\3\2\2"+
+		"\2\u01e5\u01e6\6\37\4\2\u01e6\u01e7\7}\2\2\u01e7\u01e8\5@!\2\u01e8\u01e9"+
+		"\6\37\5\2\u01e9\u01ea\7}\2\2\u01ea\u01eb\5\60\31\2\u01eb=\3\2\2\2\u01ec"+
+		"\u01ed\6 \6\2\u01ed\u01ef\7}\2\2\u01ee\u01ec\3\2\2\2\u01ee\u01ef\3\2\2"+
+		"\2\u01ef\u01f0\3\2\2\2\u01f0\u01f1\6 \7\2\u01f1\u01f2\7}\2\2\u01f2\u01f3"+
+		"\5@!\2\u01f3\u01f4\6 \b\2\u01f4\u01f5\7}\2\2\u01f5\u01f6\5\60\31\2\u01f6"+
+		"?\3\2\2\2\u01f7\u01f9\5\u0096L\2\u01f8\u01f7\3\2\2\2\u01f8\u01f9\3\2\2"+
+		"\2\u01f9\u01fc\3\2\2\2\u01fa\u01fb\7J\2\2\u01fb\u01fd\5\u0096L\2\u01fc"+
+		"\u01fa\3\2\2\2\u01fc\u01fd\3\2\2\2\u01fd\u0201\3\2\2\2\u01fe\u01ff\6!"+
+		"\t\2\u01ff\u0200\7}\2\2\u0200\u0202\5\u0096L\2\u0201\u01fe\3\2\2\2\u0201"+
+		"\u0202\3\2\2\2\u0202\u0206\3\2\2\2\u0203\u0204\6!\n\2\u0204\u0205\7}\2"+
+		"\2\u0205\u0207\5\u0096L\2\u0206\u0203\3\2\2\2\u0206\u0207\3\2\2\2\u0207"+
+		"A\3\2\2\2\u0208\u0209\7A\2\2\u0209\u020e\5D#\2\u020a\u020b\7\26\2\2\u020b"+
+		"\u020d\5D#\2\u020c\u020a\3\2\2\2\u020d\u0210\3\2\2\2\u020e\u020c\3\2\2"+
+		"\2\u020e\u020f\3\2\2\2\u020fC\3\2\2\2\u0210\u020e\3\2\2\2\u0211\u0214"+
+		"\5\u0096L\2\u0212\u0213\7I\2\2\u0213\u0215\5\u00acW\2\u0214\u0212\3\2"+
+		"\2\2\u0214\u0215\3\2\2\2\u0215\u0216\3\2\2\2\u0216\u0217\7\27\2\2\u0217"+
+		"\u0218\5\60\31\2\u0218E\3\2\2\2\u0219\u021a\7B\2\2\u021a\u021b\5\60\31"+
+		"\2\u021bG\3\2\2\2\u021c\u021d\7C\2\2\u021d\u021e\7D\2\2\u021e\u0223\5"+
+		"J&\2\u021f\u0220\7\26\2\2\u0220\u0222\5J&\2\u0221\u021f\3\2\2\2\u0222"+
+		"\u0225\3\2\2\2\u0223\u0221\3\2\2\2\u0223\u0224\3\2\2\2\u0224I\3\2\2\2"+
+		"\u0225\u0223\3\2\2\2\u0226\u022d\5\u0096L\2\u0227\u0228\7I\2\2\u0228\u022a"+
+		"\5\u00acW\2\u0229\u0227\3\2\2\2\u0229\u022a\3\2\2\2\u022a\u022b\3\2\2"+
+		"\2\u022b\u022c\7\27\2\2\u022c\u022e\5\60\31\2\u022d\u0229\3\2\2\2\u022d"+
+		"\u022e\3\2\2\2\u022e\u0231\3\2\2\2\u022f\u0230\7T\2\2\u0230\u0232\5\u00be"+
+		"`\2\u0231\u022f\3\2\2\2\u0231\u0232\3\2\2\2\u0232K\3\2\2\2\u0233\u0234"+
+		"\7E\2\2\u0234\u0239\7D\2\2\u0235\u0236\7N\2\2\u0236\u0237\7E\2\2\u0237"+
+		"\u0239\7D\2\2\u0238\u0233\3\2\2\2\u0238\u0235\3\2\2\2\u0239\u023a\3\2"+
+		"\2\2\u023a\u023f\5N(\2\u023b\u023c\7\26\2\2\u023c\u023e\5N(\2\u023d\u023b"+
+		"\3\2\2\2\u023e\u0241\3\2\2\2\u023f\u023d\3\2\2\2\u023f\u0240\3\2\2\2\u0240"+
+		"M\3\2\2\2\u0241\u023f\3\2\2\2\u0242\u0245\5\60\31\2\u0243\u0246\7O\2\2"+
+		"\u0244\u0246\7P\2\2\u0245\u0243\3\2\2\2\u0245\u0244\3\2\2\2\u0245\u0246"+
+		"\3\2\2\2\u0246\u024c\3\2\2\2\u0247\u024a\7L\2\2\u0248\u024b\7U\2\2\u0249"+
+		"\u024b\7V\2\2\u024a\u0248\3\2\2\2\u024a\u0249\3\2\2\2\u024b\u024d\3\2"+
+		"\2\2\u024c\u0247\3\2\2\2\u024c\u024d\3\2\2\2\u024d\u0250\3\2\2\2\u024e"+
+		"\u024f\7T\2\2\u024f\u0251\5\u00be`\2\u0250\u024e\3\2\2\2\u0250\u0251\3"+
+		"\2\2\2\u0251O\3\2\2\2\u0252\u0253\7M\2\2\u0253\u0254\5\u0096L\2\u0254"+
+		"Q\3\2\2\2\u0255\u0258\7Q\2\2\u0256\u0258\7R\2\2\u0257\u0255\3\2\2\2\u0257"+
+		"\u0256\3\2\2\2\u0258\u0259\3\2\2\2\u0259\u025e\5T+\2\u025a\u025b\7\26"+
+		"\2\2\u025b\u025d\5T+\2\u025c\u025a\3\2\2\2\u025d\u0260\3\2\2\2\u025e\u025c"+
+		"\3\2\2\2\u025e\u025f\3\2\2\2\u025f\u0261\3\2\2\2\u0260\u025e\3\2\2\2\u0261"+
+		"\u0262\7S\2\2\u0262\u0263\5\60\31\2\u0263S\3\2\2\2\u0264\u0267\5\u0096"+
+		"L\2\u0265\u0266\7I\2\2\u0266\u0268\5\u00acW\2\u0267\u0265\3\2\2\2\u0267"+
+		"\u0268\3\2\2\2\u0268\u0269\3\2\2\2\u0269\u026a\7H\2\2\u026a\u026b\5\60"+
+		"\31\2\u026bU\3\2\2\2\u026c\u026d\7W\2\2\u026d\u026e\7\32\2\2\u026e\u026f"+
+		"\5.\30\2\u026f\u0271\7\33\2\2\u0270\u0272\5X-\2\u0271\u0270\3\2\2\2\u0272"+
+		"\u0273\3\2\2\2\u0273\u0271\3\2\2\2\u0273\u0274\3\2\2\2\u0274\u0275\3\2"+
+		"\2\2\u0275\u0276\7[\2\2\u0276\u0277\7F\2\2\u0277\u0278\5\60\31\2\u0278"+
+		"W\3\2\2\2\u0279\u027a\7X\2\2\u027a\u027c\5\60\31\2\u027b\u0279\3\2\2\2"+
+		"\u027c\u027d\3\2\2\2\u027d\u027b\3\2\2\2\u027d\u027e\3\2\2\2\u027e\u027f"+
+		"\3\2\2\2\u027f\u0280\7F\2\2\u0280\u0281\5\60\31\2\u0281Y\3\2\2\2\u0282"+
+		"\u0283\7^\2\2\u0283\u0284\7\32\2\2\u0284\u0285\5.\30\2\u0285\u0287\7\33"+
+		"\2\2\u0286\u0288\5\\/\2\u0287\u0286\3\2\2\2\u0288\u0289\3\2\2\2\u0289"+
+		"\u0287\3\2\2\2\u0289\u028a\3\2\2\2\u028a\u028b\3\2\2\2\u028b\u028d\7["+
+		"\2\2\u028c\u028e\5\u0096L\2\u028d\u028c\3\2\2\2\u028d\u028e\3\2\2\2\u028e"+
+		"\u028f\3\2\2\2\u028f\u0290\7F\2\2\u0290\u0291\5\60\31\2\u0291[\3\2\2\2"+
+		"\u0292\u0296\7X\2\2\u0293\u0294\5\u0096L\2\u0294\u0295\7I\2\2\u0295\u0297"+
+		"\3\2\2\2\u0296\u0293\3\2\2\2\u0296\u0297\3\2\2\2\u0297\u0298\3\2\2\2\u0298"+
+		"\u029d\5\u00acW\2\u0299\u029a\7$\2\2\u029a\u029c\5\u00acW\2\u029b\u0299"+
+		"\3\2\2\2\u029c\u029f\3\2\2\2\u029d\u029b\3\2\2\2\u029d\u029e\3\2\2\2\u029e"+
+		"\u02a0\3\2\2\2\u029f\u029d\3\2\2\2\u02a0\u02a1\7F\2\2\u02a1\u02a2\5\60"+
+		"\31\2\u02a2]\3\2\2\2\u02a3\u02a4\7G\2\2\u02a4\u02a5\7\32\2\2\u02a5\u02a6"+
+		"\5.\30\2\u02a6\u02a7\7\33\2\2\u02a7\u02a8\7\\\2\2\u02a8\u02a9\5\60\31"+
+		"\2\u02a9\u02aa\7]\2\2\u02aa\u02ab\5\60\31\2\u02ab_\3\2\2\2\u02ac\u02ad"+
+		"\7Y\2\2\u02ad\u02ae\7\34\2\2\u02ae\u02af\5.\30\2\u02af\u02b1\7\35\2\2"+
+		"\u02b0\u02b2\5b\62\2\u02b1\u02b0\3\2\2\2\u02b2\u02b3\3\2\2\2\u02b3\u02b1"+
+		"\3\2\2\2\u02b3\u02b4\3\2\2\2\u02b4a\3\2\2\2\u02b5\u02b8\7Z\2\2\u02b6\u02b9"+
+		"\7%\2\2\u02b7\u02b9\5\32\16\2\u02b8\u02b6\3\2\2\2\u02b8\u02b7\3\2\2\2"+
+		"\u02b9\u02c1\3\2\2\2\u02ba\u02bd\7$\2\2\u02bb\u02be\7%\2\2\u02bc\u02be"+
+		"\5\32\16\2\u02bd\u02bb\3\2\2\2\u02bd\u02bc\3\2\2\2\u02be\u02c0\3\2\2\2"+
+		"\u02bf\u02ba\3\2\2\2\u02c0\u02c3\3\2\2\2\u02c1\u02bf\3\2\2\2\u02c1\u02c2"+
+		"\3\2\2\2\u02c2\u02c4\3\2\2\2\u02c3\u02c1\3\2\2\2\u02c4\u02c5\7\34\2\2"+
+		"\u02c5\u02c6\5.\30\2\u02c6\u02c7\7\35\2\2\u02c7c\3\2\2\2\u02c8\u02cd\5"+
+		"f\64\2\u02c9\u02ca\7_\2\2\u02ca\u02cc\5f\64\2\u02cb\u02c9\3\2\2\2\u02cc"+
+		"\u02cf\3\2\2\2\u02cd\u02cb\3\2\2\2\u02cd\u02ce\3\2\2\2\u02cee\3\2\2\2"+
+		"\u02cf\u02cd\3\2\2\2\u02d0\u02d5\5h\65\2\u02d1\u02d2\7`\2\2\u02d2\u02d4"+
+		"\5h\65\2\u02d3\u02d1\3\2\2\2\u02d4\u02d7\3\2\2\2\u02d5\u02d3\3\2\2\2\u02d5"+
+		"\u02d6\3\2\2\2\u02d6g\3\2\2\2\u02d7\u02d5\3\2\2\2\u02d8\u02da\7a\2\2\u02d9"+
+		"\u02d8\3\2\2\2\u02d9\u02da\3\2\2\2\u02da\u02db\3\2\2\2\u02db\u02dc\5j"+
+		"\66\2\u02dci\3\2\2\2\u02dd\u02e0\5l\67\2\u02de\u02df\t\5\2\2\u02df\u02e1"+
+		"\5l\67\2\u02e0\u02de\3\2\2\2\u02e0\u02e1\3\2\2\2\u02e1k\3\2\2\2\u02e2"+
+		"\u02e7\5n8\2\u02e3\u02e4\7\61\2\2\u02e4\u02e6\5n8\2\u02e5\u02e3\3\2\2"+
+		"\2\u02e6\u02e9\3\2\2\2\u02e7\u02e5\3\2\2\2\u02e7\u02e8\3\2\2\2\u02e8m"+
+		"\3\2\2\2\u02e9\u02e7\3\2\2\2\u02ea\u02ed\5p9\2\u02eb\u02ec\7b\2\2\u02ec"+
+		"\u02ee\5p9\2\u02ed\u02eb\3\2\2\2\u02ed\u02ee\3\2\2\2\u02eeo\3\2\2\2\u02ef"+
+		"\u02f4\5r:\2\u02f0\u02f1\t\6\2\2\u02f1\u02f3\5r:\2\u02f2\u02f0\3\2\2\2"+
+		"\u02f3\u02f6\3\2\2\2\u02f4\u02f2\3\2\2\2\u02f4\u02f5\3\2\2\2\u02f5q\3"+
+		"\2\2\2\u02f6\u02f4\3\2\2\2\u02f7\u02fc\5t;\2\u02f8\u02f9\t\7\2\2\u02f9"+
+		"\u02fb\5t;\2\u02fa\u02f8\3\2\2\2\u02fb\u02fe\3\2\2\2\u02fc\u02fa\3\2\2"+
+		"\2\u02fc\u02fd\3\2\2\2\u02fds\3\2\2\2\u02fe\u02fc\3\2\2\2\u02ff\u0303"+
+		"\5v<\2\u0300\u0301\7c\2\2\u0301\u0302\7d\2\2\u0302\u0304\5\u00acW\2\u0303"+
+		"\u0300\3\2\2\2\u0303\u0304\3\2\2\2\u0304u\3\2\2\2\u0305\u0309\5x=\2\u0306"+
+		"\u0307\7f\2\2\u0307\u0308\7e\2\2\u0308\u030a\5\u00acW\2\u0309\u0306\3"+
+		"\2\2\2\u0309\u030a\3\2\2\2\u030aw\3\2\2\2\u030b\u030f\5z>\2\u030c\u030d"+
+		"\7g\2\2\u030d\u030e\7I\2\2\u030e\u0310\5\u00acW\2\u030f\u030c\3\2\2\2"+
+		"\u030f\u0310\3\2\2\2\u0310y\3\2\2\2\u0311\u0315\5|?\2\u0312\u0313\7i\2"+
+		"\2\u0313\u0314\7I\2\2\u0314\u0316\5\u00b8]\2\u0315\u0312\3\2\2\2\u0315"+
+		"\u0316\3\2\2\2\u0316{\3\2\2\2\u0317\u031b\5~@\2\u0318\u0319\7h\2\2\u0319"+
+		"\u031a\7I\2\2\u031a\u031c\5\u00b8]\2\u031b\u0318\3\2\2\2\u031b\u031c\3"+
+		"\2\2\2\u031c}\3\2\2\2\u031d\u0326\5\u0082B\2\u031e\u031f\7\6\2\2\u031f"+
+		"\u0320\7/\2\2\u0320\u0321\3\2\2\2\u0321\u0322\5\u0080A\2\u0322\u0323\5"+
+		"\u00a2R\2\u0323\u0325\3\2\2\2\u0324\u031e\3\2\2\2\u0325\u0328\3\2\2\2"+
+		"\u0326\u0324\3\2\2\2\u0326\u0327\3\2\2\2\u0327\177\3\2\2\2\u0328\u0326"+
+		"\3\2\2\2\u0329\u032d\5\32\16\2\u032a\u032d\5\u0096L\2\u032b\u032d\5\u0098"+
+		"M\2\u032c\u0329\3\2\2\2\u032c\u032a\3\2\2\2\u032c\u032b\3\2\2\2\u032d"+
+		"\u0081\3\2\2\2\u032e\u0330\t\6\2\2\u032f\u032e\3\2\2\2\u0330\u0333\3\2"+
+		"\2\2\u0331\u032f\3\2\2\2\u0331\u0332\3\2\2\2\u0332\u0334\3\2\2\2\u0333"+
+		"\u0331\3\2\2\2\u0334\u0335\5\u0084C\2\u0335\u0083\3\2\2\2\u0336\u0339"+
+		"\5\u0088E\2\u0337\u0339\5\u0086D\2\u0338\u0336\3\2\2\2\u0338\u0337\3\2"+
+		"\2\2\u0339\u0085\3\2\2\2\u033a\u033b\7\67\2\2\u033b\u033c\7o\2\2\u033c"+
+		"\u033d\5\u00acW\2\u033d\u033e\7\34\2\2\u033e\u033f\5.\30\2\u033f\u0340"+
+		"\7\35\2\2\u0340\u0087\3\2\2\2\u0341\u0346\5\u008aF\2\u0342\u0343\78\2"+
+		"\2\u0343\u0345\5\u008aF\2\u0344\u0342\3\2\2\2\u0345\u0348\3\2\2\2\u0346"+
+		"\u0344\3\2\2\2\u0346\u0347\3\2\2\2\u0347\u0089\3\2\2\2\u0348\u0346\3\2"+
+		"\2\2\u0349\u0351\5\u0094K\2\u034a\u0350\5\u008cG\2\u034b\u0350\5\u0090"+
+		"I\2\u034c\u0350\5\u0092J\2\u034d\u0350\5\u008eH\2\u034e\u0350\5\u00a2"+
+		"R\2\u034f\u034a\3\2\2\2\u034f\u034b\3\2\2\2\u034f\u034c\3\2\2\2\u034f"+
+		"\u034d\3\2\2\2\u034f\u034e\3\2\2\2\u0350\u0353\3\2\2\2\u0351\u034f\3\2"+
+		"\2\2\u0351\u0352\3\2\2\2\u0352\u008b\3\2\2\2\u0353\u0351\3\2\2\2\u0354"+
+		"\u0355\79\2\2\u0355\u0356\79\2\2\u0356\u0357\5.\30\2\u0357\u0358\7:\2"+
+		"\2\u0358\u0359\7:\2\2\u0359\u008d\3\2\2\2\u035a\u035b\79\2\2\u035b\u035c"+
+		"\7:\2\2\u035c\u008f\3\2\2\2\u035d\u035e\79\2\2\u035e\u035f\5.\30\2\u035f"+
+		"\u0360\7:\2\2\u0360\u0091\3\2\2\2\u0361\u0368\7;\2\2\u0362\u0369\5\u00c2"+
+		"b\2\u0363\u0369\5\u00c0a\2\u0364\u0369\7}\2\2\u0365\u0369\5\u0098M\2\u0366"+
+		"\u0369\5\u0096L\2\u0367\u0369\5\u009aN\2\u0368\u0362\3\2\2\2\u0368\u0363"+
+		"\3\2\2\2\u0368\u0364\3\2\2\2\u0368\u0365\3\2\2\2\u0368\u0366\3\2\2\2\u0368"+
+		"\u0367\3\2\2\2\u0369\u0093\3\2\2\2\u036a\u0379\7v\2\2\u036b\u0379\7m\2"+
+		"\2\u036c\u0379\7n\2\2\u036d\u0379\7w\2\2\u036e\u0379\5\u00c0a\2\u036f"+
+		"\u0379\5\u0096L\2\u0370\u0379\5\u0098M\2\u0371\u0379\5\u009aN\2\u0372"+
+		"\u0379\5\u00aeX\2\u0373\u0379\5\u00a0Q\2\u0374\u0379\5\u009cO\2\u0375"+
+		"\u0379\5\u009eP\2\u0376\u0379\5\u00bc_\2\u0377\u0379\5\u00a6T\2\u0378"+
+		"\u036a\3\2\2\2\u0378\u036b\3\2\2\2\u0378\u036c\3\2\2\2\u0378\u036d\3\2"+
+		"\2\2\u0378\u036e\3\2\2\2\u0378\u036f\3\2\2\2\u0378\u0370\3\2\2\2\u0378"+
+		"\u0371\3\2\2\2\u0378\u0372\3\2\2\2\u0378\u0373\3\2\2\2\u0378\u0374\3\2"+
+		"\2\2\u0378\u0375\3\2\2\2\u0378\u0376\3\2\2\2\u0378\u0377\3\2\2\2\u0379"+
+		"\u0095\3\2\2\2\u037a\u037b\7#\2\2\u037b\u037c\5\32\16\2\u037c\u0097\3"+
+		"\2\2\2\u037d\u037f\7\32\2\2\u037e\u0380\5.\30\2\u037f\u037e\3\2\2\2\u037f"+
+		"\u0380\3\2\2\2\u0380\u0381\3\2\2\2\u0381\u0382\7\33\2\2\u0382\u0099\3"+
+		"\2\2\2\u0383\u0384\7<\2\2\u0384\u009b\3\2\2\2\u0385\u0386\7\b\2\2\u0386"+
+		"\u0387\7\34\2\2\u0387\u0388\5.\30\2\u0388\u0389\7\35\2\2\u0389\u009d\3"+
+		"\2\2\2\u038a\u038b\7l\2\2\u038b\u038c\7\34\2\2\u038c\u038d\5.\30\2\u038d"+
+		"\u038e\7\35\2\2\u038e\u009f\3\2\2\2\u038f\u0390\5\32\16\2\u0390\u0391"+
+		"\5\u00a2R\2\u0391\u00a1\3\2\2\2\u0392\u0399\7\32\2\2\u0393\u0395\5\u00a4"+
+		"S\2\u0394\u0396\7\26\2\2\u0395\u0394\3\2\2\2\u0395\u0396\3\2\2\2\u0396"+
+		"\u0398\3\2\2\2\u0397\u0393\3\2\2\2\u0398\u039b\3\2\2\2\u0399\u0397\3\2"+
+		"\2\2\u0399\u039a\3\2\2\2\u039a\u039c\3\2\2\2\u039b\u0399\3\2\2\2\u039c"+
+		"\u039d\7\33\2\2\u039d\u00a3\3\2\2\2\u039e\u03a1\5\60\31\2\u039f\u03a1"+
+		"\7u\2\2\u03a0\u039e\3\2\2\2\u03a0\u039f\3\2\2\2\u03a1\u00a5\3\2\2\2\u03a2"+
+		"\u03a5\5\u00a8U\2\u03a3\u03a5\5\u00aaV\2\u03a4\u03a2\3\2\2\2\u03a4\u03a3"+
+		"\3\2\2\2\u03a5\u00a7\3\2\2\2\u03a6\u03a7\5\32\16\2\u03a7\u03a8\7=\2\2"+
+		"\u03a8\u03a9\7w\2\2\u03a9\u00a9\3\2\2\2\u03aa\u03ab\7\31\2\2\u03ab\u03ad"+
+		"\7\32\2\2\u03ac\u03ae\5*\26\2\u03ad\u03ac\3\2\2\2\u03ad\u03ae\3\2\2\2"+
+		"\u03ae\u03af\3\2\2\2\u03af\u03b2\7\33\2\2\u03b0\u03b1\7I\2\2\u03b1\u03b3"+
+		"\5\u00acW\2\u03b2\u03b0\3\2\2\2\u03b2\u03b3\3\2\2\2\u03b3\u03b4\3\2\2"+
+		"\2\u03b4\u03b6\7\34\2\2\u03b5\u03b7\5.\30\2\u03b6\u03b5\3\2\2\2\u03b6"+
+		"\u03b7\3\2\2\2\u03b7\u03b8\3\2\2\2\u03b8\u03b9\7\35\2\2\u03b9\u00ab\3"+
+		"\2\2\2\u03ba\u03bb\7\32\2\2\u03bb\u03c3\7\33\2\2\u03bc\u03c0\5\u00b0Y"+
+		"\2\u03bd\u03c1\7u\2\2\u03be\u03c1\7%\2\2\u03bf\u03c1\7\62\2\2\u03c0\u03bd"+
+		"\3\2\2\2\u03c0\u03be\3\2\2\2\u03c0\u03bf\3\2\2\2\u03c0\u03c1\3\2\2\2\u03c1"+
+		"\u03c3\3\2\2\2\u03c2\u03ba\3\2\2\2\u03c2\u03bc\3\2\2\2\u03c3\u00ad\3\2"+
+		"\2\2\u03c4\u03cd\7\34\2\2\u03c5\u03ca\5\u00ba^\2\u03c6\u03c7\7\26\2\2"+
+		"\u03c7\u03c9\5\u00ba^\2\u03c8\u03c6\3\2\2\2\u03c9\u03cc\3\2\2\2\u03ca"+
+		"\u03c8\3\2\2\2\u03ca\u03cb\3\2\2\2\u03cb\u03ce\3\2\2\2\u03cc\u03ca\3\2"+
+		"\2\2\u03cd\u03c5\3\2\2\2\u03cd\u03ce\3\2\2\2\u03ce\u03cf\3\2\2\2\u03cf"+
+		"\u03d5\7\35\2\2\u03d0\u03d1\7>\2\2\u03d1\u03d2\5.\30\2\u03d2\u03d3\7?"+
+		"\2\2\u03d3\u03d5\3\2\2\2\u03d4\u03c4\3\2\2\2\u03d4\u03d0\3\2\2\2\u03d5"+
+		"\u00af\3\2\2\2\u03d6\u03da\5\32\16\2\u03d7\u03da\7v\2\2\u03d8\u03da\5"+
+		"\u00b2Z\2\u03d9\u03d6\3\2\2\2\u03d9\u03d7\3\2\2\2\u03d9\u03d8\3\2\2\2"+
+		"\u03da\u00b1\3\2\2\2\u03db\u03de\5\u00b4[\2\u03dc\u03de\5\u00b6\\\2\u03dd"+
+		"\u03db\3\2\2\2\u03dd\u03dc\3\2\2\2\u03de\u00b3\3\2\2\2\u03df\u03e0\7\31"+
+		"\2\2\u03e0\u03e1\7\32\2\2\u03e1\u03e2\7%\2\2\u03e2\u03e3\7\33\2\2\u03e3"+
+		"\u00b5\3\2\2\2\u03e4\u03e5\7\31\2\2\u03e5\u03ee\7\32\2\2\u03e6\u03eb\5"+
+		"\u00acW\2\u03e7\u03e8\7\26\2\2\u03e8\u03ea\5\u00acW\2\u03e9\u03e7\3\2"+
+		"\2\2\u03ea\u03ed\3\2\2\2\u03eb\u03e9\3\2\2\2\u03eb\u03ec\3\2\2\2\u03ec"+
+		"\u03ef\3\2\2\2\u03ed\u03eb\3\2\2\2\u03ee\u03e6\3\2\2\2\u03ee\u03ef\3\2"+
+		"\2\2\u03ef\u03f0\3\2\2\2\u03f0\u03f1\7\33\2\2\u03f1\u03f2\7I\2\2\u03f2"+
+		"\u03f3\5\u00acW\2\u03f3\u00b7\3\2\2\2\u03f4\u03f6\5\u00b0Y\2\u03f5\u03f7"+
+		"\7u\2\2\u03f6\u03f5\3\2\2\2\u03f6\u03f7\3\2\2\2\u03f7\u00b9\3\2\2\2\u03f8"+
+		"\u03fb\5\60\31\2\u03f9\u03fb\7}\2\2\u03fa\u03f8\3\2\2\2\u03fa\u03f9\3"+
+		"\2\2\2\u03fb\u03fc\3\2\2\2\u03fc\u03fd\t\b\2\2\u03fd\u03fe\5\60\31\2\u03fe"+
+		"\u00bb\3\2\2\2\u03ff\u0401\79\2\2\u0400\u0402\5.\30\2\u0401\u0400\3\2"+
+		"\2\2\u0401\u0402\3\2\2\2\u0402\u0403\3\2\2\2\u0403\u0404\7:\2\2\u0404"+
+		"\u00bd\3\2\2\2\u0405\u0406\5\u00c0a\2\u0406\u00bf\3\2\2\2\u0407\u0408"+
+		"\7t\2\2\u0408\u00c1\3\2\2\2\u0409\u040a\t\t\2\2\u040a\u00c3\3\2\2\2r\u00cc"+
+		"\u00d0\u00e0\u00e6\u00ee\u00f5\u0101\u0117\u011f\u0124\u0127\u012b\u0134"+
+		"\u013d\u0140\u0147\u014e\u0150\u0157\u015e\u0160\u0167\u016c\u0170\u0174"+
+		"\u017b\u0185\u018c\u0193\u019a\u01a4\u01a9\u01b2\u01b4\u01c0\u01c6\u01ca"+
+		"\u01ce\u01da\u01e0\u01ee\u01f8\u01fc\u0201\u0206\u020e\u0214\u0223\u0229"+
+		"\u022d\u0231\u0238\u023f\u0245\u024a\u024c\u0250\u0257\u025e\u0267\u0273"+
+		"\u027d\u0289\u028d\u0296\u029d\u02b3\u02b8\u02bd\u02c1\u02cd\u02d5\u02d9"+
+		"\u02e0\u02e7\u02ed\u02f4\u02fc\u0303\u0309\u030f\u0315\u031b\u0326\u032c"+
+		"\u0331\u0338\u0346\u034f\u0351\u0368\u0378\u037f\u0395\u0399\u03a0\u03a4"+
+		"\u03ad\u03b2\u03b6\u03c0\u03c2\u03ca\u03cd\u03d4\u03d9\u03dd\u03eb\u03ee"+
+		"\u03f6\u03fa\u0401";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {
@@ -175,6 +175,36 @@ public interface JsoniqVisitor<T> extends ParseTreeVisitor<T> {
 	 * @return the visitor result
 	 */
 	T visitForVar(JsoniqParser.ForVarContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link JsoniqParser#windowClause}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWindowClause(JsoniqParser.WindowClauseContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link JsoniqParser#windowKind}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWindowKind(JsoniqParser.WindowKindContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link JsoniqParser#windowStartCondition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWindowStartCondition(JsoniqParser.WindowStartConditionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link JsoniqParser#windowEndCondition}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWindowEndCondition(JsoniqParser.WindowEndConditionContext ctx);
+	/**
+	 * Visit a parse tree produced by {@link JsoniqParser#windowVars}.
+	 * @param ctx the parse tree
+	 * @return the visitor result
+	 */
+	T visitWindowVars(JsoniqParser.WindowVarsContext ctx);
 	/**
 	 * Visit a parse tree produced by {@link JsoniqParser#letClause}.
 	 * @param ctx the parse tree
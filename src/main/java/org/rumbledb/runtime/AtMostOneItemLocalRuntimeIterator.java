@@ -57,6 +57,11 @@ public abstract class AtMostOneItemLocalRuntimeIterator extends RuntimeIterator
             DynamicContext context
     );
 
+    @Override
+    public CompiledExpression compile() {
+        return this::materializeFirstItemOrNull;
+    }
+
     @Override
     public void open(DynamicContext dynamicContext) {
         super.open(dynamicContext);
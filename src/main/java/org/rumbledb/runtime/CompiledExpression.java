@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime;
+
+import org.rumbledb.api.Item;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.exceptions.MoreThanOneItemException;
+
+/**
+ * A local runtime iterator tree compiled into direct, nested evaluation calls returning at most one item. Unlike the
+ * iterator protocol, no open(), hasNext(), next() or close() calls are made and no intermediate lists are allocated.
+ *
+ * Compiled expressions are obtained with RuntimeIterator.compile(). Sub-trees that cannot be compiled are evaluated
+ * with the interpreter. If an expression turns out to evaluate to more than one item, a MoreThanOneItemException is
+ * thrown and the caller must fall back to the interpreter.
+ */
+@FunctionalInterface
+public interface CompiledExpression {
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param context the dynamic context.
+     * @return the resulting item, or null if the expression evaluates to the empty sequence.
+     * @throws MoreThanOneItemException if the expression evaluates to more than one item.
+     */
+    Item evaluate(DynamicContext context) throws MoreThanOneItemException;
+
+    /**
+     * Compiles an iterator if supported, or otherwise wraps it so that it is evaluated with the interpreter.
+     *
+     * @param iterator the iterator.
+     * @return the compiled expression.
+     */
+    static CompiledExpression compileOrInterpret(RuntimeIterator iterator) {
+        CompiledExpression compiled = iterator.compile();
+        if (compiled != null) {
+            return compiled;
+        }
+        return iterator::materializeAtMostOneItemOrNull;
+    }
+
+    /**
+     * Computes the effective boolean value of a compiled expression. Only the empty sequence and booleans are handled
+     * directly, other items are handed to the interpreter.
+     *
+     * @param expression the compiled expression.
+     * @param iterator the iterator it was compiled from.
+     * @param context the dynamic context.
+     * @return the effective boolean value.
+     * @throws MoreThanOneItemException if the expression evaluates to more than one item.
+     */
+    static boolean getEffectiveBooleanValue(
+            CompiledExpression expression,
+            RuntimeIterator iterator,
+            DynamicContext context
+    )
+            throws MoreThanOneItemException {
+        Item item = expression.evaluate(context);
+        if (item == null) {
+            return false;
+        }
+        if (item.isBoolean()) {
+            return item.getBooleanValue();
+        }
+        return iterator.getEffectiveBooleanValue(context);
+    }
+}
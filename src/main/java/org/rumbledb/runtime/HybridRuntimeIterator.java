@@ -31,6 +31,7 @@ import org.rumbledb.exceptions.NoItemException;
 import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.parsing.RowToItemMapper;
 import org.rumbledb.items.structured.JSoundDataFrame;
+import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
 
 import sparksoniq.spark.SparkSessionManager;
 
@@ -142,6 +143,7 @@ public abstract class HybridRuntimeIterator extends RuntimeIterator {
     }
 
     public static JavaRDD<Item> dataFrameToRDDOfItems(JSoundDataFrame df, ExceptionMetadata metadata) {
+        FlworDataFrameUtils.checkNotStreaming(df.getDataFrame(), metadata);
         JavaRDD<Row> rowRDD = df.javaRDD();
         JavaRDD<Item> result = rowRDD.map(new RowToItemMapper(metadata, df.getItemType()));
         return result;
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime;
+
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
+import org.apache.spark.storage.StorageLevel;
+import org.rumbledb.api.Item;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
+import org.rumbledb.exceptions.CliException;
+import org.rumbledb.items.structured.JSoundDataFrame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps track of the big sequences that a query persisted because the variable they are bound to is referenced
+ * several times, so that they can be unpersisted when the query finishes. Each query has its own instance, held by
+ * its module context, so that concurrent queries do not unpersist each other's sequences.
+ */
+public class PersistedSequences {
+
+    private final List<JavaRDD<Item>> rdds = new ArrayList<>();
+    private final List<Dataset<Row>> dataFrames = new ArrayList<>();
+
+    /**
+     * Persists an RDD with the configured storage level, unless it is already persisted.
+     *
+     * @param rdd the RDD.
+     * @param configuration the runtime configuration.
+     * @return the same RDD.
+     */
+    public synchronized JavaRDD<Item> persist(JavaRDD<Item> rdd, RumbleRuntimeConfiguration configuration) {
+        StorageLevel storageLevel = getStorageLevel(configuration);
+        if (storageLevel.equals(StorageLevel.NONE()) || !rdd.getStorageLevel().equals(StorageLevel.NONE())) {
+            return rdd;
+        }
+        this.rdds.add(rdd.persist(storageLevel));
+        return rdd;
+    }
+
+    /**
+     * Persists a DataFrame with the configured storage level, unless it is already persisted.
+     *
+     * @param df the DataFrame.
+     * @param configuration the runtime configuration.
+     * @return the same DataFrame.
+     */
+    public synchronized JSoundDataFrame persist(
+            JSoundDataFrame df,
+            RumbleRuntimeConfiguration configuration
+    ) {
+        StorageLevel storageLevel = getStorageLevel(configuration);
+        Dataset<Row> dataFrame = df.getDataFrame();
+        if (
+            storageLevel.equals(StorageLevel.NONE())
+                || dataFrame.isStreaming()
+                || !dataFrame.storageLevel().equals(StorageLevel.NONE())
+        ) {
+            return df;
+        }
+        this.dataFrames.add(dataFrame.persist(storageLevel));
+        return df;
+    }
+
+    /**
+     * Unpersists all the sequences persisted since the last call.
+     */
+    public synchronized void unpersistAll() {
+        for (JavaRDD<Item> rdd : this.rdds) {
+            rdd.unpersist(false);
+        }
+        for (Dataset<Row> dataFrame : this.dataFrames) {
+            dataFrame.unpersist(false);
+        }
+        this.rdds.clear();
+        this.dataFrames.clear();
+    }
+
+    private static StorageLevel getStorageLevel(RumbleRuntimeConfiguration configuration) {
+        try {
+            return StorageLevel.fromString(configuration.getPersistStorageLevel());
+        } catch (IllegalArgumentException e) {
+            throw new CliException("Unknown storage level: " + configuration.getPersistStorageLevel());
+        }
+    }
+}
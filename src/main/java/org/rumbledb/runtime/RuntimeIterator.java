@@ -422,6 +422,17 @@ public abstract class RuntimeIterator implements RuntimeIteratorInterface, KryoS
         return NativeClauseContext.NoNativeQuery;
     }
 
+    /**
+     * Compiles (if possible) this iterator and its descendants into direct evaluation calls, used to evaluate
+     * expressions on each row in DataFrame UDFs.
+     *
+     * @return the compiled expression, or null if this iterator does not support compilation, in which case it is
+     *         evaluated with the interpreter.
+     */
+    public CompiledExpression compile() {
+        return null;
+    }
+
     /**
      * Says whether this expression evaluation triggers a Spark job.
      *
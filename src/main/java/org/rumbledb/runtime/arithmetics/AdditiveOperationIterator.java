@@ -36,6 +36,7 @@ import org.rumbledb.exceptions.UnexpectedTypeException;
 import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
+import org.rumbledb.runtime.CompiledExpression;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.flwor.NativeClauseContext;
 import org.rumbledb.types.BuiltinTypesCatalogue;
@@ -47,9 +48,9 @@ public class AdditiveOperationIterator extends AtMostOneItemLocalRuntimeIterator
 
     private Item left;
     private Item right;
-    private boolean isMinus;
-    private RuntimeIterator leftIterator;
-    private RuntimeIterator rightIterator;
+    protected boolean isMinus;
+    protected RuntimeIterator leftIterator;
+    protected RuntimeIterator rightIterator;
 
     public AdditiveOperationIterator(
             RuntimeIterator leftIterator,
@@ -88,31 +89,56 @@ public class AdditiveOperationIterator extends AtMostOneItemLocalRuntimeIterator
         if (this.left == null || this.right == null) {
             return null;
         }
-        if (!this.left.isAtomic()) {
+        return processOperands(this.left, this.right);
+    }
+
+    @Override
+    public CompiledExpression compile() {
+        CompiledExpression left = CompiledExpression.compileOrInterpret(this.leftIterator);
+        CompiledExpression right = CompiledExpression.compileOrInterpret(this.rightIterator);
+        return context -> {
+            Item leftItem = left.evaluate(context);
+            Item rightItem = right.evaluate(context);
+            if (leftItem == null || rightItem == null) {
+                return null;
+            }
+            return processOperands(leftItem, rightItem);
+        };
+    }
+
+    /**
+     * Checks that both (non-empty) operands are atomic and adds or subtracts them.
+     *
+     * @param left the left operand.
+     * @param right the right operand.
+     * @return the result of the operation.
+     */
+    protected Item processOperands(Item left, Item right) {
+        if (!left.isAtomic()) {
             String message = String.format(
                 "Can not atomize an %1$s item: an %1$s has probably been passed where "
                     +
                     "an atomic value is expected (e.g., as a key, or to a function expecting an atomic item)",
-                this.left.getDynamicType().toString()
+                left.getDynamicType().toString()
             );
             throw new NonAtomicKeyException(message, getMetadata());
         }
-        if (!this.right.isAtomic()) {
+        if (!right.isAtomic()) {
             String message = String.format(
                 "Can not atomize an %1$s item: an %1$s has probably been passed where "
                     +
                     "an atomic value is expected (e.g., as a key, or to a function expecting an atomic item)",
-                this.right.getDynamicType().toString()
+                right.getDynamicType().toString()
             );
             throw new NonAtomicKeyException(message, getMetadata());
         }
-        Item result = processItem(this.left, this.right, this.isMinus);
+        Item result = processItem(left, right, this.isMinus);
         if (result == null) {
             throw new UnexpectedTypeException(
                     " \"+\": operation not possible with parameters of type \""
-                        + this.left.getDynamicType().toString()
+                        + left.getDynamicType().toString()
                         + "\" and \""
-                        + this.right.getDynamicType().toString()
+                        + right.getDynamicType().toString()
                         + "\"",
                     getMetadata()
             );
@@ -128,10 +154,10 @@ public class AdditiveOperationIterator extends AtMostOneItemLocalRuntimeIterator
         // The integer 0 is considered the default neutral element for addition in sum(), even though
         // it is technically incompatible with durations. In the future, we should
         // make sure an error is thrown if an actual 0 appears in the sum with durations.
-        if (!isMinus && left.isInteger() && left.getIntegerValue().equals(BigInteger.ZERO)) {
+        if (!isMinus && isIntegerZero(left)) {
             return right;
         }
-        if (!isMinus && right.isInteger() && right.getIntegerValue().equals(BigInteger.ZERO)) {
+        if (!isMinus && isIntegerZero(right)) {
             return left;
         }
         if (
@@ -148,6 +174,12 @@ public class AdditiveOperationIterator extends AtMostOneItemLocalRuntimeIterator
                 return processInt(left.getIntValue(), right.getIntValue(), isMinus);
             }
         }
+        if (left.isLong() && right.isLong()) {
+            Item result = processLong(left.getLongValue(), right.getLongValue(), isMinus);
+            if (result != null) {
+                return result;
+            }
+        }
 
         // General cases
         if (left.isDouble() && right.isNumeric()) {
@@ -284,7 +316,7 @@ public class AdditiveOperationIterator extends AtMostOneItemLocalRuntimeIterator
         return null;
     }
 
-    private static Item processDouble(
+    protected static Item processDouble(
             double l,
             double r,
             boolean isMinus
@@ -332,6 +364,33 @@ public class AdditiveOperationIterator extends AtMostOneItemLocalRuntimeIterator
         }
     }
 
+    private static boolean isIntegerZero(Item item) {
+        if (item.isLong()) {
+            return item.getLongValue() == 0;
+        }
+        return item.isInteger() && item.getIntegerValue().signum() == 0;
+    }
+
+    /**
+     * Adds or subtracts two longs, returning null if the result overflows so that the caller can fall back to
+     * BigInteger arithmetic.
+     */
+    protected static Item processLong(
+            long l,
+            long r,
+            boolean isMinus
+    ) {
+        try {
+            if (isMinus) {
+                return ItemFactory.getInstance().createLongItem(Math.subtractExact(l, r));
+            } else {
+                return ItemFactory.getInstance().createLongItem(Math.addExact(l, r));
+            }
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
     private static Item processInt(
             int l,
             int r,
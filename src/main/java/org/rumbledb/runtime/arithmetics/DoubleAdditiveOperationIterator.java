@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.arithmetics;
+
+import org.rumbledb.api.Item;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.runtime.RuntimeIterator;
+
+/**
+ * Additive operation whose operands were both statically inferred to be at most one double. The cardinality and
+ * atomicity checks are skipped, and the generic dispatch of AdditiveOperationIterator is only used as a fallback if
+ * the operands turn out not to be doubles.
+ */
+public class DoubleAdditiveOperationIterator extends AdditiveOperationIterator {
+
+    private static final long serialVersionUID = 1L;
+
+    public DoubleAdditiveOperationIterator(
+            RuntimeIterator leftIterator,
+            RuntimeIterator rightIterator,
+            boolean isMinus,
+            ExecutionMode executionMode,
+            ExceptionMetadata iteratorMetadata
+    ) {
+        super(leftIterator, rightIterator, isMinus, executionMode, iteratorMetadata);
+    }
+
+    @Override
+    public Item materializeFirstItemOrNull(DynamicContext dynamicContext) {
+        Item left = this.leftIterator.materializeFirstItemOrNull(dynamicContext);
+        if (left == null) {
+            return null;
+        }
+        Item right = this.rightIterator.materializeFirstItemOrNull(dynamicContext);
+        if (right == null) {
+            return null;
+        }
+        return processOperands(left, right);
+    }
+
+    @Override
+    protected Item processOperands(Item left, Item right) {
+        if (left.isDouble() && right.isDouble()) {
+            return processDouble(left.getDoubleValue(), right.getDoubleValue(), this.isMinus);
+        }
+        return super.processOperands(left, right);
+    }
+}
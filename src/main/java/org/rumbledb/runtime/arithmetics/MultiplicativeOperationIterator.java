@@ -37,6 +37,7 @@ import org.rumbledb.expressions.arithmetic.MultiplicativeExpression.Multiplicati
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.items.YearMonthDurationItem;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
+import org.rumbledb.runtime.CompiledExpression;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.flwor.NativeClauseContext;
 import org.rumbledb.types.BuiltinTypesCatalogue;
@@ -49,8 +50,8 @@ public class MultiplicativeOperationIterator extends AtMostOneItemLocalRuntimeIt
     Item left;
     Item right;
     MultiplicativeExpression.MultiplicativeOperator multiplicativeOperator;
-    private RuntimeIterator leftIterator;
-    private RuntimeIterator rightIterator;
+    protected RuntimeIterator leftIterator;
+    protected RuntimeIterator rightIterator;
 
     public MultiplicativeOperationIterator(
             RuntimeIterator leftIterator,
@@ -89,25 +90,50 @@ public class MultiplicativeOperationIterator extends AtMostOneItemLocalRuntimeIt
         if (this.left == null || this.right == null) {
             return null;
         }
-        if (!this.left.isAtomic()) {
+        return processOperands(this.left, this.right);
+    }
+
+    @Override
+    public CompiledExpression compile() {
+        CompiledExpression left = CompiledExpression.compileOrInterpret(this.leftIterator);
+        CompiledExpression right = CompiledExpression.compileOrInterpret(this.rightIterator);
+        return context -> {
+            Item leftItem = left.evaluate(context);
+            Item rightItem = right.evaluate(context);
+            if (leftItem == null || rightItem == null) {
+                return null;
+            }
+            return processOperands(leftItem, rightItem);
+        };
+    }
+
+    /**
+     * Checks that both (non-empty) operands are atomic and applies the operator to them.
+     *
+     * @param left the left operand.
+     * @param right the right operand.
+     * @return the result of the operation.
+     */
+    protected Item processOperands(Item left, Item right) {
+        if (!left.isAtomic()) {
             String message = String.format(
                 "Can not atomize an %1$s item: an %1$s has probably been passed where "
                     +
                     "an atomic value is expected (e.g., as a key, or to a function expecting an atomic item)",
-                this.left.getDynamicType().toString()
+                left.getDynamicType().toString()
             );
             throw new NonAtomicKeyException(message, getMetadata());
         }
-        if (!this.right.isAtomic()) {
+        if (!right.isAtomic()) {
             String message = String.format(
                 "Can not atomize an %1$s item: an %1$s has probably been passed where "
                     +
                     "an atomic value is expected (e.g., as a key, or to a function expecting an atomic item)",
-                this.right.getDynamicType().toString()
+                right.getDynamicType().toString()
             );
             throw new NonAtomicKeyException(message, getMetadata());
         }
-        return processItem(this.left, this.right, this.multiplicativeOperator, getMetadata());
+        return processItem(left, right, this.multiplicativeOperator, getMetadata());
     }
 
     public static Item processItem(
@@ -138,6 +164,12 @@ public class MultiplicativeOperationIterator extends AtMostOneItemLocalRuntimeIt
                     return processInt(left.getIntValue(), right.getIntValue(), multiplicativeOperator, metadata);
             }
         }
+        if (left.isLong() && right.isLong()) {
+            Item result = processLong(left.getLongValue(), right.getLongValue(), multiplicativeOperator, metadata);
+            if (result != null) {
+                return result;
+            }
+        }
 
         // General cases
         if (left.isDouble() && right.isNumeric()) {
@@ -246,7 +278,7 @@ public class MultiplicativeOperationIterator extends AtMostOneItemLocalRuntimeIt
         );
     }
 
-    private static Item processDouble(
+    protected static Item processDouble(
             double l,
             double r,
             MultiplicativeExpression.MultiplicativeOperator multiplicativeOperator,
@@ -378,6 +410,52 @@ public class MultiplicativeOperationIterator extends AtMostOneItemLocalRuntimeIt
         }
     }
 
+    /**
+     * Evaluates the operation on two longs. Returns null if the result overflows or is not an exact integer division,
+     * so that the caller falls back to BigInteger or BigDecimal arithmetic.
+     */
+    private static Item processLong(
+            long l,
+            long r,
+            MultiplicativeExpression.MultiplicativeOperator multiplicativeOperator,
+            ExceptionMetadata metadata
+    ) {
+        switch (multiplicativeOperator) {
+            case MUL:
+                try {
+                    return ItemFactory.getInstance().createLongItem(Math.multiplyExact(l, r));
+                } catch (ArithmeticException e) {
+                    return null;
+                }
+            case DIV:
+                if (r == 0) {
+                    throw new DivisionByZeroException(metadata);
+                }
+                if (l % r != 0 || (l == Long.MIN_VALUE && r == -1)) {
+                    return null;
+                }
+                return ItemFactory.getInstance().createLongItem(l / r);
+            case IDIV:
+                if (r == 0) {
+                    throw new DivisionByZeroException(metadata);
+                }
+                if (l == Long.MIN_VALUE && r == -1) {
+                    return null;
+                }
+                return ItemFactory.getInstance().createLongItem(l / r);
+            case MOD:
+                if (r == 0) {
+                    throw new DivisionByZeroException(metadata);
+                }
+                return ItemFactory.getInstance().createLongItem(l % r);
+            default:
+                throw new OurBadException(
+                        "Non recognized multiplicative operator: " + multiplicativeOperator,
+                        metadata
+                );
+        }
+    }
+
     private static Item processInt(
             int l,
             int r,
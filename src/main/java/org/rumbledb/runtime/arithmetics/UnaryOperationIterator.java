@@ -73,6 +73,9 @@ public class UnaryOperationIterator extends AtMostOneItemLocalRuntimeIterator {
         if (this.item.isInt()) {
             return ItemFactory.getInstance().createIntItem(-1 * this.item.getIntValue());
         }
+        if (this.item.isLong() && this.item.getLongValue() != Long.MIN_VALUE) {
+            return ItemFactory.getInstance().createLongItem(-this.item.getLongValue());
+        }
         if (this.item.isInteger()) {
             return ItemFactory.getInstance()
                 .createIntegerItem(BigInteger.valueOf(-1).multiply(this.item.getIntegerValue()));
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.flwor;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.format.converter.ParquetMetadataConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.catalyst.plans.logical.Aggregate;
+import org.apache.spark.sql.catalyst.plans.logical.Deduplicate;
+import org.apache.spark.sql.catalyst.plans.logical.Filter;
+import org.apache.spark.sql.catalyst.plans.logical.GlobalLimit;
+import org.apache.spark.sql.catalyst.plans.logical.LeafNode;
+import org.apache.spark.sql.catalyst.plans.logical.LocalLimit;
+import org.apache.spark.sql.catalyst.plans.logical.LogicalPlan;
+import org.apache.spark.sql.catalyst.plans.logical.Project;
+import org.apache.spark.sql.catalyst.plans.logical.Repartition;
+import org.apache.spark.sql.catalyst.plans.logical.RepartitionByExpression;
+import org.apache.spark.sql.catalyst.plans.logical.Sample;
+import org.apache.spark.sql.catalyst.plans.logical.Sort;
+import org.apache.spark.sql.catalyst.plans.logical.Statistics;
+import org.apache.spark.sql.catalyst.plans.logical.SubqueryAlias;
+
+/**
+ * Row counts of the inputs that FLWOR clauses read with DataFrames.
+ *
+ * Row counts are collected once per set of input files and cached for the lifetime of the process, along with the
+ * modification times and lengths of the files: an entry is dropped as soon as one of its files changes. For Parquet
+ * inputs, the row count is read from the file footers without scanning the data; other inputs require one count over
+ * the input. They are then looked up for any DataFrame derived from the same input files, in order to choose
+ * physical strategies (e.g., broadcast or shuffle joins) by cost.
+ */
+public class DataFrameStatistics {
+
+    private static final Map<String, DataFrameStatistics> cache = new ConcurrentHashMap<>();
+
+    private final long rowCount;
+    private final String version;
+
+    private DataFrameStatistics(long rowCount, String version) {
+        this.rowCount = rowCount;
+        this.version = version;
+    }
+
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Collects the row count of an input DataFrame, unless it is already known. DataFrames that are not read from
+     * files (e.g., created with parallelize()) are ignored.
+     *
+     * @param dataFrame an input DataFrame, as returned by an input function.
+     */
+    public static void collect(Dataset<Row> dataFrame) {
+        String key = getInputKey(dataFrame);
+        if (key == null || get(dataFrame) != null) {
+            return;
+        }
+        String version = getInputVersion(dataFrame);
+        if (version == null) {
+            return;
+        }
+        long rowCount = getParquetRowCount(dataFrame);
+        if (rowCount == -1) {
+            rowCount = dataFrame.count();
+        }
+        cache.put(key, new DataFrameStatistics(rowCount, version));
+    }
+
+    /**
+     * Returns the statistics collected for the inputs of a DataFrame, if its input files did not change since.
+     *
+     * @param dataFrame a DataFrame, possibly derived from an input DataFrame.
+     * @return the statistics, or null if none were collected.
+     */
+    public static DataFrameStatistics get(Dataset<Row> dataFrame) {
+        String key = getInputKey(dataFrame);
+        if (key == null) {
+            return null;
+        }
+        DataFrameStatistics statistics = cache.get(key);
+        if (statistics == null) {
+            return null;
+        }
+        if (!statistics.version.equals(getInputVersion(dataFrame))) {
+            cache.remove(key, statistics);
+            return null;
+        }
+        return statistics;
+    }
+
+    /**
+     * Estimates the size in memory of a DataFrame. The collected row count of its input is used if the DataFrame
+     * cannot have more rows than its input (it only filters, projects or reorders it), as the estimate is then an
+     * upper bound that is more accurate than the estimates of Spark, which are derived from the size of the files on
+     * disk. Otherwise (e.g., if the DataFrame unnests arrays or joins its input), the estimate of Spark is used.
+     *
+     * @param dataFrame a DataFrame.
+     * @return the estimated size in bytes.
+     */
+    public static long estimateSizeInBytes(Dataset<Row> dataFrame) {
+        if (isBoundedByInput(dataFrame)) {
+            DataFrameStatistics statistics = get(dataFrame);
+            if (statistics != null) {
+                return statistics.getRowCount() * dataFrame.schema().defaultSize();
+            }
+        }
+        Statistics planStatistics = dataFrame.queryExecution().optimizedPlan().stats();
+        BigInteger size = planStatistics.sizeInBytes().bigInteger();
+        return size.bitLength() < 64 ? size.longValue() : Long.MAX_VALUE;
+    }
+
+    public static void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Says whether a DataFrame has at most as many rows as the single input it reads.
+     *
+     * @param dataFrame a DataFrame.
+     * @return true if the number of rows of the input is an upper bound of the number of rows of the DataFrame.
+     */
+    public static boolean isBoundedByInput(Dataset<Row> dataFrame) {
+        return isBoundedByInput(dataFrame.queryExecution().optimizedPlan());
+    }
+
+    private static boolean isBoundedByInput(LogicalPlan plan) {
+        if (plan instanceof LeafNode) {
+            return true;
+        }
+        if (
+            plan instanceof Project
+                || plan instanceof Filter
+                || plan instanceof SubqueryAlias
+                || plan instanceof Sort
+                || plan instanceof Repartition
+                || plan instanceof RepartitionByExpression
+                || plan instanceof LocalLimit
+                || plan instanceof GlobalLimit
+                || plan instanceof Sample
+                || plan instanceof Aggregate
+                || plan instanceof Deduplicate
+        ) {
+            return plan.children().size() == 1 && isBoundedByInput(plan.children().head());
+        }
+        return false;
+    }
+
+    private static String getInputKey(Dataset<Row> dataFrame) {
+        String[] files = dataFrame.inputFiles();
+        if (files.length == 0) {
+            return null;
+        }
+        Arrays.sort(files);
+        return String.join("\n", files);
+    }
+
+    /**
+     * Returns the modification times and lengths of the input files, which change whenever the input changes.
+     *
+     * @param dataFrame an input DataFrame.
+     * @return the version of the input, or null if the input files cannot be accessed.
+     */
+    private static String getInputVersion(Dataset<Row> dataFrame) {
+        Configuration configuration = dataFrame.sparkSession().sparkContext().hadoopConfiguration();
+        String[] files = dataFrame.inputFiles();
+        Arrays.sort(files);
+        StringBuilder result = new StringBuilder();
+        try {
+            for (String file : files) {
+                Path path = new Path(file);
+                FileStatus status = path.getFileSystem(configuration).getFileStatus(path);
+                result.append(status.getModificationTime()).append(',').append(status.getLen()).append('\n');
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return result.toString();
+    }
+
+    /**
+     * Sums the row counts found in the footers of the input files, without scanning them.
+     *
+     * @param dataFrame an input DataFrame.
+     * @return the number of rows, or -1 if not all input files are Parquet files.
+     */
+    private static long getParquetRowCount(Dataset<Row> dataFrame) {
+        Configuration configuration = dataFrame.sparkSession().sparkContext().hadoopConfiguration();
+        long result = 0;
+        try {
+            for (String file : dataFrame.inputFiles()) {
+                if (!file.endsWith(".parquet")) {
+                    return -1;
+                }
+                @SuppressWarnings("deprecation")
+                List<BlockMetaData> blocks = ParquetFileReader.readFooter(
+                    configuration,
+                    new Path(file),
+                    ParquetMetadataConverter.NO_FILTER
+                ).getBlocks();
+                for (BlockMetaData block : blocks) {
+                    result += block.getRowCount();
+                }
+            }
+        } catch (IOException e) {
+            return -1;
+        }
+        return result;
+    }
+}
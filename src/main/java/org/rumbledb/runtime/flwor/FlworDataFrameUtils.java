@@ -54,7 +54,10 @@ import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.context.FunctionIdentifier;
 import org.rumbledb.context.Name;
+import org.rumbledb.exceptions.CannotMaterializeException;
+import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.exceptions.OurBadException;
+import org.rumbledb.exceptions.UnsupportedFeatureException;
 import org.rumbledb.items.AnnotatedItem;
 import org.rumbledb.items.AnyURIItem;
 import org.rumbledb.items.ArrayItem;
@@ -72,6 +75,7 @@ import org.rumbledb.items.FunctionItem;
 import org.rumbledb.items.HexBinaryItem;
 import org.rumbledb.items.IntItem;
 import org.rumbledb.items.IntegerItem;
+import org.rumbledb.items.LongItem;
 import org.rumbledb.items.NullItem;
 import org.rumbledb.items.ObjectItem;
 import org.rumbledb.items.StringItem;
@@ -95,6 +99,9 @@ public class FlworDataFrameUtils {
     // we use UUID to escape backtick within DataFrame columns
     public static String backtickEscape = "d32a3242-b15d-46b8-b689-d2288f7f492f";
 
+    // version of the layout of serialized sequences of items, see serializeItemList.
+    private static final byte SERIALIZED_SEQUENCE_VERSION = 1;
+
     private static ThreadLocal<byte[]> lastBytesCache = ThreadLocal.withInitial(() -> null);
 
     private static ThreadLocal<List<Item>> lastObjectItemCache = ThreadLocal.withInitial(() -> null);
@@ -120,6 +127,7 @@ public class FlworDataFrameUtils {
         kryo.register(HexBinaryItem.class);
         kryo.register(IntegerItem.class);
         kryo.register(IntItem.class);
+        kryo.register(LongItem.class);
         kryo.register(NullItem.class);
         kryo.register(StringItem.class);
         kryo.register(TimeItem.class);
@@ -143,9 +151,23 @@ public class FlworDataFrameUtils {
         return output.toBytes();
     }
 
+    /**
+     * Serializes a sequence of items. The layout is a version byte, the number of items as a variable-length
+     * integer, and then each item with its Kryo class ID. The number of items and the first item can thus be read
+     * without decoding the entire sequence.
+     *
+     * @param toSerialize the sequence of items.
+     * @param kryo the Kryo object.
+     * @param output the Kryo output.
+     * @return the serialized sequence.
+     */
     public static byte[] serializeItemList(List<Item> toSerialize, Kryo kryo, Output output) {
         output.clear();
-        kryo.writeClassAndObject(output, toSerialize);
+        output.writeByte(SERIALIZED_SEQUENCE_VERSION);
+        output.writeInt(toSerialize.size(), true);
+        for (Item item : toSerialize) {
+            kryo.writeClassAndObject(output, item);
+        }
         byte[] serializedBytes = output.toBytes();
         if (toSerialize.size() == 1 && toSerialize.get(0).isObject()) {
             lastBytesCache.set(serializedBytes);
@@ -969,6 +991,53 @@ public class FlworDataFrameUtils {
         return queryColumnString.toString();
     }
 
+    /**
+     * Builds the projection that merges partial group by results, computed with getGroupBySQLProjection over
+     * salted grouping keys, into the final results of each group.
+     *
+     * @param partialSchema schema of the partial results.
+     * @param groupingColumnName name of the grouping key column, which is not projected.
+     * @param serializerUdfName name of the UDF concatenating serialized sequences.
+     * @param groupbyVariableNames names of the grouping variables.
+     * @return the SQL projection.
+     */
+    public static String getGroupByMergeSQLProjection(
+            StructType partialSchema,
+            String groupingColumnName,
+            String serializerUdfName,
+            List<Name> groupbyVariableNames
+    ) {
+        StringBuilder queryColumnString = new StringBuilder();
+        String comma = "";
+        for (String columnName : partialSchema.fieldNames()) {
+            if (columnName.equals(groupingColumnName)) {
+                continue;
+            }
+            FlworDataFrameColumn column = new FlworDataFrameColumn(columnName, partialSchema);
+            queryColumnString.append(comma);
+            comma = ",";
+            if (groupbyVariableNames.contains(column.getVariableName())) {
+                // grouping variables and their counts are identical across the partial results of a group
+                queryColumnString.append(String.format("first(%s)", column));
+            } else if (column.isCount() || column.isSum()) {
+                queryColumnString.append(String.format("sum(%s)", column));
+            } else if (column.isMax()) {
+                queryColumnString.append(String.format("max(%s)", column));
+            } else if (column.isMin()) {
+                queryColumnString.append(String.format("min(%s)", column));
+            } else if (column.isNativeSequence()) {
+                queryColumnString.append(String.format("flatten(collect_list(%s))", column));
+            } else if (column.isSerializedSequence()) {
+                queryColumnString.append(serializerUdfName);
+                queryColumnString.append(String.format("(collect_list(%s))", column));
+            } else {
+                throw new OurBadException("Unexpected partial group by column: " + columnName);
+            }
+            queryColumnString.append(String.format(" as %s", column));
+        }
+        return queryColumnString.toString();
+    }
+
     public static boolean isCountPreComputed(StructType schema, String columnName) {
         String[] fields = schema.fieldNames();
         for (String field : fields) {
@@ -1018,15 +1087,67 @@ public class FlworDataFrameUtils {
         return groupbyVariableNames.contains(variableForColumnName(columnName));
     }
 
-    private static Object deserializeByteArray(byte[] toDeserialize, Kryo kryo, Input input) {
+    private static List<Item> deserializeByteArray(byte[] toDeserialize, Kryo kryo, Input input) {
         byte[] bytes = lastBytesCache.get();
         if (bytes != null) {
             if (Arrays.equals(bytes, toDeserialize)) {
                 return lastObjectItemCache.get();
             }
         }
+        return deserializeItemList(toDeserialize, kryo, input);
+    }
+
+    private static int readSerializedSequenceHeader(byte[] toDeserialize, Input input) {
         input.setBuffer(toDeserialize);
-        return kryo.readClassAndObject(input);
+        byte version = input.readByte();
+        if (version != SERIALIZED_SEQUENCE_VERSION) {
+            throw new OurBadException("Unsupported serialized sequence version: " + version);
+        }
+        return input.readInt(true);
+    }
+
+    /**
+     * Deserializes a sequence of items serialized with serializeItemList.
+     *
+     * @param toDeserialize the serialized sequence.
+     * @param kryo the Kryo object.
+     * @param input the Kryo input.
+     * @return the sequence of items.
+     */
+    public static List<Item> deserializeItemList(byte[] toDeserialize, Kryo kryo, Input input) {
+        int size = readSerializedSequenceHeader(toDeserialize, input);
+        List<Item> result = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            result.add((Item) kryo.readClassAndObject(input));
+        }
+        return result;
+    }
+
+    /**
+     * Reads the number of items in a sequence serialized with serializeItemList, without decoding the items.
+     *
+     * @param toDeserialize the serialized sequence.
+     * @param input the Kryo input.
+     * @return the number of items.
+     */
+    public static int deserializeItemCount(byte[] toDeserialize, Input input) {
+        return readSerializedSequenceHeader(toDeserialize, input);
+    }
+
+    /**
+     * Decodes only the first item of a sequence serialized with serializeItemList.
+     *
+     * @param toDeserialize the serialized sequence.
+     * @param kryo the Kryo object.
+     * @param input the Kryo input.
+     * @return the first item, or null if the sequence is empty.
+     */
+    public static Item deserializeFirstItem(byte[] toDeserialize, Kryo kryo, Input input) {
+        int size = readSerializedSequenceHeader(toDeserialize, input);
+        if (size == 0) {
+            return null;
+        }
+        return (Item) kryo.readClassAndObject(input);
     }
 
     public static void deserializeWrappedParameters(
@@ -1041,12 +1162,42 @@ public class FlworDataFrameUtils {
                 deserializedParams.add(Collections.emptyList());
                 continue;
             }
-            @SuppressWarnings("unchecked")
-            List<Item> deserializedParam = (List<Item>) deserializeByteArray((byte[]) serializedParam, kryo, input);
+            List<Item> deserializedParam = deserializeByteArray((byte[]) serializedParam, kryo, input);
             deserializedParams.add(deserializedParam);
         }
     }
 
+    /**
+     * Concatenates sequences serialized with serializeItemList into a single serialized sequence, without decoding
+     * their items. Since Kryo references are disabled, the serialized items can be copied as they are.
+     *
+     * @param serializedSequences the serialized sequences (null entries stand for empty sequences).
+     * @param input the Kryo input.
+     * @param output the Kryo output.
+     * @return the serialized concatenation.
+     */
+    public static byte[] concatenateSerializedItemLists(Object[] serializedSequences, Input input, Output output) {
+        int size = 0;
+        for (Object serializedSequence : serializedSequences) {
+            if (serializedSequence != null) {
+                size += readSerializedSequenceHeader((byte[]) serializedSequence, input);
+            }
+        }
+        output.clear();
+        output.writeByte(SERIALIZED_SEQUENCE_VERSION);
+        output.writeInt(size, true);
+        for (Object serializedSequence : serializedSequences) {
+            if (serializedSequence == null) {
+                continue;
+            }
+            byte[] bytes = (byte[]) serializedSequence;
+            readSerializedSequenceHeader(bytes, input);
+            int itemsStart = input.position();
+            output.writeBytes(bytes, itemsStart, bytes.length - itemsStart);
+        }
+        return output.toBytes();
+    }
+
     public static Row reserializeRowWithNewData(
             Row prevRow,
             List<Item> newColumn,
@@ -1072,6 +1223,9 @@ public class FlworDataFrameUtils {
         Object o = row.get(columnIndex);
         if (o instanceof Long) {
             return ((Long) o).longValue();
+        } else if (o instanceof byte[]) {
+            // the count of a serialized sequence is in its header.
+            return deserializeItemCount((byte[]) o, new Input());
         } else {
             throw new OurBadException("Count is not available. Items should have been deserialized and counted.");
         }
@@ -1155,4 +1309,41 @@ public class FlworDataFrameUtils {
         df.createOrReplaceTempView(name);
         return name;
     }
+
+    /**
+     * Checks that a DataFrame can be materialized, which is not the case of streams: their results can only be
+     * written incrementally to an output path.
+     *
+     * @param df the DataFrame to materialize.
+     * @param metadata the metadata of the materializing iterator.
+     */
+    public static void checkNotStreaming(Dataset<Row> df, ExceptionMetadata metadata) {
+        if (df.isStreaming()) {
+            throw new CannotMaterializeException(
+                    "The query reads a stream with structured-json-stream(), whose results cannot be materialized."
+                        + " Please specify an output directory with --output-path, to which the results are written"
+                        + " as new inputs arrive.",
+                    metadata
+            );
+        }
+    }
+
+    /**
+     * Rejects the clauses that Rumble cannot execute on streams, as they would require a stateful aggregation with
+     * watermarks, which JSONiq has no syntax for.
+     *
+     * @param df the input DataFrame of the clause.
+     * @param clause the name of the clause.
+     * @param metadata the metadata of the clause.
+     */
+    public static void checkSupportedOnStreams(Dataset<Row> df, String clause, ExceptionMetadata metadata) {
+        if (df.isStreaming()) {
+            throw new UnsupportedFeatureException(
+                    clause
+                        + " clauses are not supported on streams (structured-json-stream()), as they would require"
+                        + " watermarks.",
+                    metadata
+            );
+        }
+    }
 }
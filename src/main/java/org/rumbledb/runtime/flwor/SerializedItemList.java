@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.flwor;
+
+import java.util.AbstractList;
+import java.util.List;
+
+import org.rumbledb.api.Item;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+
+/**
+ * A read-only view over a sequence of items serialized with FlworDataFrameUtils.serializeItemList, which only
+ * decodes what is accessed. The size is read from the header, the first item can be decoded on its own, and the
+ * whole sequence is decoded at most once when any other item is accessed.
+ *
+ * The Kryo object and input are shared with the caller, so the list must be accessed on the thread that created it.
+ */
+public class SerializedItemList extends AbstractList<Item> {
+
+    private final byte[] bytes;
+    private final Kryo kryo;
+    private final Input input;
+    private int size;
+    private Item firstItem;
+    private List<Item> items;
+
+    public SerializedItemList(byte[] bytes, Kryo kryo, Input input) {
+        this.bytes = bytes;
+        this.kryo = kryo;
+        this.input = input;
+        this.size = -1;
+    }
+
+    @Override
+    public int size() {
+        if (this.size == -1) {
+            this.size = this.items != null
+                ? this.items.size()
+                : FlworDataFrameUtils.deserializeItemCount(this.bytes, this.input);
+        }
+        return this.size;
+    }
+
+    @Override
+    public Item get(int index) {
+        if (this.items == null && index == 0) {
+            if (this.firstItem == null) {
+                this.firstItem = FlworDataFrameUtils.deserializeFirstItem(this.bytes, this.kryo, this.input);
+                if (this.firstItem == null) {
+                    throw new IndexOutOfBoundsException("Index: 0, Size: 0");
+                }
+            }
+            return this.firstItem;
+        }
+        if (this.items == null) {
+            this.items = FlworDataFrameUtils.deserializeItemList(this.bytes, this.kryo, this.input);
+        }
+        return this.items.get(index);
+    }
+}
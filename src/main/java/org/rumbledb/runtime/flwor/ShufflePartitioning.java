@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.flwor;
+
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
+import org.rumbledb.exceptions.ExceptionMetadata;
+
+import sparksoniq.spark.SparkSessionManager;
+
+/**
+ * Sizes the shuffles of the FLWOR clauses (group by, order by, join) from estimates of the size of their input.
+ *
+ * Each clause shuffles its input into a number of partitions proportional to its estimated size, by partitioning it
+ * explicitly on its keys (hash partitioning for group by and join, range partitioning for order by) rather than
+ * through the session-wide spark.sql.shuffle.partitions setting. The number of partitions is thus chosen per
+ * operation, and concurrent queries sharing the session do not interfere with each other.
+ *
+ * An explicit spark.sql.shuffle.partitions setting always takes precedence.
+ */
+public class ShufflePartitioning {
+
+    private static final String SHUFFLE_PARTITIONS = "spark.sql.shuffle.partitions";
+    private static final long MAXIMUM_PARTITIONS = 100000;
+
+    /**
+     * Returns a number of shuffle partitions suitable for a clause.
+     *
+     * @param input the input DataFrame of the clause.
+     * @param clause a description of the clause, for the execution report.
+     * @param configuration the runtime configuration.
+     * @param metadata the metadata of the clause.
+     * @return the number of partitions suitable for this clause, or -1 if automatic sizing is deactivated or the input
+     *         size is unknown.
+     */
+    public static int getPartitions(
+            Dataset<Row> input,
+            String clause,
+            RumbleRuntimeConfiguration configuration,
+            ExceptionMetadata metadata
+    ) {
+        long partitionSize = configuration.getShufflePartitionSize();
+        if (partitionSize <= 0 || SparkSessionManager.getInstance().getConfiguration().contains(SHUFFLE_PARTITIONS)) {
+            return -1;
+        }
+        long inputSize = DataFrameStatistics.estimateSizeInBytes(input);
+        if (inputSize >= input.sparkSession().sessionState().conf().defaultSizeInBytes()) {
+            // Spark does not know the size of the input (e.g., created with parallelize()).
+            return -1;
+        }
+        int partitions = getPartitions(inputSize, partitionSize);
+        if (configuration.printExecutionReport()) {
+            System.err.println(
+                "[INFO] "
+                    + clause
+                    + " at line "
+                    + metadata.getTokenLineNumber()
+                    + ": estimated input size "
+                    + inputSize
+                    + " bytes, "
+                    + partitions
+                    + " shuffle partitions."
+            );
+        }
+        return partitions;
+    }
+
+    /**
+     * Returns the number of partitions of the given size needed to hold an input, between 1 and 100,000.
+     *
+     * @param inputSize the size of the input in bytes.
+     * @param partitionSize the target size of a partition in bytes.
+     * @return the number of partitions.
+     */
+    public static int getPartitions(long inputSize, long partitionSize) {
+        long partitions = inputSize / partitionSize + (inputSize % partitionSize == 0 ? 0 : 1);
+        return (int) Math.max(1, Math.min(MAXIMUM_PARTITIONS, partitions));
+    }
+}
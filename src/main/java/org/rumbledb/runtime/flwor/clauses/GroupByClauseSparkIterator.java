@@ -20,6 +20,7 @@
 
 package org.rumbledb.runtime.flwor.clauses;
 
+import org.apache.spark.sql.Column;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.types.DataType;
@@ -27,6 +28,7 @@ import org.apache.spark.sql.types.DataTypes;
 import org.apache.spark.sql.types.StructField;
 import org.apache.spark.sql.types.StructType;
 import org.rumbledb.api.Item;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.context.Name;
 import org.rumbledb.exceptions.ExceptionMetadata;
@@ -39,9 +41,11 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.RuntimeTupleIterator;
+import org.rumbledb.runtime.flwor.DataFrameStatistics;
 import org.rumbledb.runtime.flwor.FlworDataFrameColumn;
 import org.rumbledb.runtime.flwor.FlworDataFrameColumn.ColumnFormat;
 import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
+import org.rumbledb.runtime.flwor.ShufflePartitioning;
 import org.rumbledb.runtime.flwor.expression.GroupByClauseSparkIteratorExpression;
 import org.rumbledb.runtime.flwor.udfs.GroupClauseArrayMergeAggregateResultsUDF;
 import org.rumbledb.runtime.flwor.udfs.GroupClauseCreateColumnsUDF;
@@ -58,9 +62,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 
+import static org.apache.spark.sql.functions.col;
+
 public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
 
     private static final long serialVersionUID = 1L;
+    private static final double SKEW_SAMPLING_FRACTION = 0.01;
     private final List<GroupByClauseSparkIteratorExpression> groupingExpressions;
     private List<FlworTuple> localTupleResults;
     private int resultIndex;
@@ -266,6 +273,13 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
         }
 
         Dataset<Row> df = this.child.getDataFrame(context);
+        FlworDataFrameUtils.checkSupportedOnStreams(df, "Group by", getMetadata());
+        int partitions = ShufflePartitioning.getPartitions(
+            df,
+            "group by clause",
+            context.getRumbleRuntimeConfiguration(),
+            getMetadata()
+        );
         StructType inputSchema;
         // String[] columnNamesArray;
         // List<String> columnNames;
@@ -316,7 +330,8 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
             this.outputTupleProjection,
             inputSchema,
             context,
-            input
+            input,
+            partitions
         );
         if (nativeQueryResult != null) {
 
@@ -408,18 +423,155 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
             this.outputTupleProjection
         );
 
+        if (isGroupingKeySkewed(df, UDFParameters, appendedGroupingColumnsName, context)) {
+            return groupWithSaltedKeys(
+                df,
+                projectSQL,
+                createColumnsSQL,
+                appendedGroupingColumnsName,
+                serializerUDFName,
+                variableAccessNames,
+                context
+            );
+        }
+
+        String groupedInput = "(" + createColumnsSQL + ")";
+        if (partitions > 0) {
+            // the aggregation keeps this partitioning on the grouping key, instead of shuffling again
+            groupedInput = FlworDataFrameUtils.createTempView(
+                df.sparkSession()
+                    .sql(createColumnsSQL)
+                    .repartition(partitions, col("`" + appendedGroupingColumnsName + "`"))
+            );
+        }
         Dataset<Row> result = df.sparkSession()
             .sql(
                 String.format(
-                    "select %s from (%s) group by `%s`",
+                    "select %s from %s group by `%s`",
                     projectSQL,
-                    createColumnsSQL,
+                    groupedInput,
                     appendedGroupingColumnsName
                 )
             );
         return result;
     }
 
+    /**
+     * Estimates, on a sample of the input, whether a single grouping key holds a large share of the rows, in which
+     * case the task aggregating this key would process a disproportionate amount of data. The sample is aggregated
+     * in a Spark job of its own, which is why the check is only made if a skew threshold is configured.
+     *
+     * @param df the input dataframe, with the grouping UDF registered.
+     * @param UDFParameters the parameters of the grouping UDF.
+     * @param groupingColumnName the name of the grouping key column.
+     * @param context the dynamic context.
+     * @return true if the grouping key is skewed.
+     */
+    private boolean isGroupingKeySkewed(
+            Dataset<Row> df,
+            String UDFParameters,
+            String groupingColumnName,
+            DynamicContext context
+    ) {
+        RumbleRuntimeConfiguration configuration = context.getRumbleRuntimeConfiguration();
+        double threshold = configuration.getGroupBySkewThreshold();
+        if (threshold <= 0 || this.outputTupleProjection.isEmpty()) {
+            return false;
+        }
+        long partitionSize = configuration.getShufflePartitionSize();
+        if (partitionSize > 0 && DataFrameStatistics.estimateSizeInBytes(df) <= partitionSize) {
+            // a single task aggregates the whole input anyway.
+            return false;
+        }
+        String sample = FlworDataFrameUtils.createTempView(df.sample(false, SKEW_SAMPLING_FRACTION));
+        Row counts = df.sparkSession()
+            .sql(
+                String.format(
+                    "select max(c), sum(c) from (select count(*) as c from (select createGroupingColumns(%s) as `%s` from %s) group by `%s`)",
+                    UDFParameters,
+                    groupingColumnName,
+                    sample,
+                    groupingColumnName
+                )
+            )
+            .first();
+        if (counts.isNullAt(0)) {
+            return false;
+        }
+        double share = (double) counts.getLong(0) / counts.getLong(1);
+        if (configuration.printExecutionReport()) {
+            System.err.println(
+                "[INFO] group by clause at line "
+                    + getMetadata().getTokenLineNumber()
+                    + ": the most frequent grouping key holds an estimated "
+                    + Math.round(share * 100)
+                    + "% of the rows."
+            );
+        }
+        return share >= threshold;
+    }
+
+    /**
+     * Groups in two phases: the rows are first aggregated per grouping key and random salt, so that the rows of a
+     * frequent key are spread over many tasks, and the partial results are then merged per grouping key. Counts,
+     * sums, minimums and maximums are merged as such, and sequences are concatenated without being deserialized.
+     *
+     * @param df the input dataframe, with the UDFs registered.
+     * @param projectSQL the projection computing the aggregates.
+     * @param createColumnsSQL the query appending the grouping key column to the input.
+     * @param groupingColumnName the name of the grouping key column.
+     * @param serializerUDFName the name of the UDF concatenating serialized sequences.
+     * @param groupingVariableNames the names of the grouping variables.
+     * @param context the dynamic context.
+     * @return the grouped dataframe.
+     */
+    private Dataset<Row> groupWithSaltedKeys(
+            Dataset<Row> df,
+            String projectSQL,
+            String createColumnsSQL,
+            String groupingColumnName,
+            String serializerUDFName,
+            List<Name> groupingVariableNames,
+            DynamicContext context
+    ) {
+        if (context.getRumbleRuntimeConfiguration().printExecutionReport()) {
+            System.err.println(
+                "[INFO] group by clause at line "
+                    + getMetadata().getTokenLineNumber()
+                    + ": the grouping key is skewed, aggregating in two phases."
+            );
+        }
+        String saltColumnName = "grouping_salt";
+        Dataset<Row> partialResults = df.sparkSession()
+            .sql(
+                String.format(
+                    "select `%s`, %s from (select *, cast(floor(rand() * %d) as int) as `%s` from (%s)) group by `%s`, `%s`",
+                    groupingColumnName,
+                    projectSQL,
+                    df.sparkSession().sparkContext().defaultParallelism(),
+                    saltColumnName,
+                    createColumnsSQL,
+                    groupingColumnName,
+                    saltColumnName
+                )
+            );
+        String mergeSQL = FlworDataFrameUtils.getGroupByMergeSQLProjection(
+            partialResults.schema(),
+            groupingColumnName,
+            serializerUDFName,
+            groupingVariableNames
+        );
+        return df.sparkSession()
+            .sql(
+                String.format(
+                    "select %s from %s group by `%s`",
+                    mergeSQL,
+                    FlworDataFrameUtils.createTempView(partialResults),
+                    groupingColumnName
+                )
+            );
+    }
+
     public Map<Name, DynamicContext.VariableDependency> getDynamicContextVariableDependencies() {
         Map<Name, DynamicContext.VariableDependency> result = new TreeMap<>();
         for (GroupByClauseSparkIteratorExpression iterator : this.groupingExpressions) {
@@ -507,6 +659,8 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
      * @param dependencies dependencies to forward to the next clause (select variables)
      * @param inputSchema input schema of the dataframe
      * @param context current dynamic context of the dataframe
+     * @param input name of the view of the input dataframe
+     * @param partitions number of shuffle partitions, or -1 to use the default
      * @return resulting dataframe of the group by clause if successful, null otherwise
      */
     private Dataset<Row> tryNativeQuery(
@@ -515,9 +669,11 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
             Map<Name, DynamicContext.VariableDependency> dependencies,
             StructType inputSchema,
             DynamicContext context,
-            String input
+            String input,
+            int partitions
     ) {
         StringBuilder groupByString = new StringBuilder();
+        List<Column> groupingColumns = new ArrayList<>();
         String sep = " ";
         for (Name groupingVar : groupingVariables) {
             if (!FlworDataFrameUtils.isVariableAvailableAsNativeItem(inputSchema, groupingVar)) {
@@ -528,6 +684,7 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
             groupByString.append(sep);
             sep = ", ";
             groupByString.append(groupingVar.toString());
+            groupingColumns.add(col("`" + groupingVar.toString() + "`"));
         }
         StringBuilder selectString = new StringBuilder();
         sep = " ";
@@ -586,6 +743,12 @@ public class GroupByClauseSparkIterator extends RuntimeTupleIterator {
             }
         }
         System.err.println("[INFO] Rumble was able to optimize a group by clause to a native SQL query.");
+        if (partitions > 0) {
+            // the aggregation keeps this partitioning on the grouping columns, instead of shuffling again
+            input = FlworDataFrameUtils.createTempView(
+                dataFrame.repartition(partitions, groupingColumns.toArray(new Column[0]))
+            );
+        }
         return dataFrame.sparkSession()
             .sql(
                 String.format(
@@ -24,6 +24,7 @@ import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.types.DataTypes;
 import org.apache.spark.sql.types.StructType;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.context.DynamicContext.VariableDependency;
 import org.rumbledb.context.Name;
@@ -33,9 +34,11 @@ import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
 import org.rumbledb.runtime.CommaExpressionIterator;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.RuntimeTupleIterator;
+import org.rumbledb.runtime.flwor.DataFrameStatistics;
 import org.rumbledb.runtime.flwor.FlworDataFrameColumn;
 import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
 import org.rumbledb.runtime.flwor.NativeClauseContext;
+import org.rumbledb.runtime.flwor.ShufflePartitioning;
 import org.rumbledb.runtime.flwor.udfs.DataFrameContext;
 import org.rumbledb.runtime.flwor.udfs.WhereClauseUDF;
 import org.rumbledb.runtime.logics.AndOperationIterator;
@@ -53,6 +56,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 
+import static org.apache.spark.sql.functions.col;
+
 
 public class JoinClauseSparkIterator extends RuntimeTupleIterator {
 
@@ -248,6 +253,19 @@ public class JoinClauseSparkIterator extends RuntimeTupleIterator {
                 true
             );
             // leftInputTuple.show();
+
+            int partitions = getEquiJoinPartitions(leftInputTuple, rightInputTuple, context, metadata);
+            if (partitions > 0) {
+                // the join keeps this partitioning of both sides on their hashes, instead of shuffling them again
+                leftInputTuple = leftInputTuple.repartition(
+                    partitions,
+                    col("`" + SparkSessionManager.leftHandSideHashColumnName + "`")
+                );
+                rightInputTuple = rightInputTuple.repartition(
+                    partitions,
+                    col("`" + SparkSessionManager.rightHandSideHashColumnName + "`")
+                );
+            }
         }
 
 
@@ -255,6 +273,13 @@ public class JoinClauseSparkIterator extends RuntimeTupleIterator {
         // Now we prepare the two views that we want to compute the Cartesian product of.
         leftInputDFTableName = FlworDataFrameUtils.createTempView(leftInputTuple);
         rightInputDFTableName = FlworDataFrameUtils.createTempView(rightInputTuple);
+        String joinHint = getJoinHint(
+            leftInputTuple,
+            rightInputTuple,
+            leftInputDFTableName,
+            rightInputDFTableName,
+            isLeftOuterJoin
+        );
 
         StructType leftSchema = leftInputTuple.schema();
         StructType rightSchema = rightInputTuple.schema();
@@ -311,7 +336,8 @@ public class JoinClauseSparkIterator extends RuntimeTupleIterator {
             Dataset<Row> resultDF = leftInputTuple.sparkSession()
                 .sql(
                     String.format(
-                        "SELECT %s FROM %s LEFT OUTER JOIN %s ON joinUDF(%s) = 'true'",
+                        "SELECT %s%s FROM %s LEFT OUTER JOIN %s ON joinUDF(%s) = 'true'",
+                        joinHint,
                         projectionVariables,
                         leftInputDFTableName,
                         rightInputDFTableName,
@@ -326,7 +352,8 @@ public class JoinClauseSparkIterator extends RuntimeTupleIterator {
             Dataset<Row> resultDF = leftInputTuple.sparkSession()
                 .sql(
                     String.format(
-                        "SELECT %s FROM %s JOIN %s ON `%s` = `%s` WHERE joinUDF(%s) = 'true'",
+                        "SELECT %s%s FROM %s JOIN %s ON `%s` = `%s` WHERE joinUDF(%s) = 'true'",
+                        joinHint,
                         projectionVariables,
                         leftInputDFTableName,
                         rightInputDFTableName,
@@ -341,7 +368,8 @@ public class JoinClauseSparkIterator extends RuntimeTupleIterator {
         Dataset<Row> resultDF = leftInputTuple.sparkSession()
             .sql(
                 String.format(
-                    "SELECT %s FROM %s JOIN %s ON joinUDF(%s) = 'true'",
+                    "SELECT %s%s FROM %s JOIN %s ON joinUDF(%s) = 'true'",
+                    joinHint,
                     projectionVariables,
                     leftInputDFTableName,
                     rightInputDFTableName,
@@ -351,6 +379,77 @@ public class JoinClauseSparkIterator extends RuntimeTupleIterator {
         return resultDF;
     }
 
+    /**
+     * Returns the number of shuffle partitions of an equi-join, sized for the larger of its sides. No number is
+     * returned if one of the sides is small enough to be broadcast, as neither side is then shuffled.
+     *
+     * @return the number of partitions, or -1 to leave the shuffles to Spark.
+     */
+    private static int getEquiJoinPartitions(
+            Dataset<Row> leftInputTuple,
+            Dataset<Row> rightInputTuple,
+            DynamicContext context,
+            ExceptionMetadata metadata
+    ) {
+        long threshold = leftInputTuple.sparkSession().sessionState().conf().autoBroadcastJoinThreshold();
+        if (
+            threshold > 0
+                && Math.min(
+                    DataFrameStatistics.estimateSizeInBytes(leftInputTuple),
+                    DataFrameStatistics.estimateSizeInBytes(rightInputTuple)
+                ) <= threshold
+        ) {
+            return -1;
+        }
+        RumbleRuntimeConfiguration configuration = context.getRumbleRuntimeConfiguration();
+        return Math.max(
+            ShufflePartitioning.getPartitions(leftInputTuple, "join (left side)", configuration, metadata),
+            ShufflePartitioning.getPartitions(rightInputTuple, "join (right side)", configuration, metadata)
+        );
+    }
+
+    /**
+     * Broadcasts a side of the join if statistics were collected for its input and its estimated size is below the
+     * broadcast threshold of Spark (for a left outer join, only the right side can be). Estimates based on collected
+     * statistics are upper bounds, so that a large side is never broadcast. Otherwise, the choice is left to Spark.
+     *
+     * @return a SQL hint followed by a space, or the empty string to leave the choice to Spark.
+     */
+    private static String getJoinHint(
+            Dataset<Row> leftInputTuple,
+            Dataset<Row> rightInputTuple,
+            String leftInputDFTableName,
+            String rightInputDFTableName,
+            boolean isLeftOuterJoin
+    ) {
+        long threshold = leftInputTuple.sparkSession().sessionState().conf().autoBroadcastJoinThreshold();
+        if (threshold <= 0) {
+            return "";
+        }
+        long rightSize = getCollectedSizeInBytes(rightInputTuple);
+        long leftSize = isLeftOuterJoin ? -1 : getCollectedSizeInBytes(leftInputTuple);
+        if (rightSize != -1 && rightSize <= threshold && (leftSize == -1 || rightSize <= leftSize)) {
+            return String.format("/*+ BROADCAST(%s) */ ", rightInputDFTableName);
+        }
+        if (leftSize != -1 && leftSize <= threshold) {
+            return String.format("/*+ BROADCAST(%s) */ ", leftInputDFTableName);
+        }
+        return "";
+    }
+
+    /**
+     * Returns the estimated size of a side of a join, if it is bounded by collected statistics.
+     *
+     * @return the size in bytes, or -1 if no statistics bound it.
+     */
+    private static long getCollectedSizeInBytes(Dataset<Row> inputTuple) {
+        if (!DataFrameStatistics.isBoundedByInput(inputTuple)) {
+            return -1;
+        }
+        DataFrameStatistics statistics = DataFrameStatistics.get(inputTuple);
+        return statistics == null ? -1 : statistics.getRowCount() * inputTuple.schema().defaultSize();
+    }
+
     private static boolean extractEqualityComparisonsForHashing(
             RuntimeIterator predicateIterator,
             List<RuntimeIterator> leftTupleSideEqualityCriteria,
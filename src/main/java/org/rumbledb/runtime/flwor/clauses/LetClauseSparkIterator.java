@@ -73,14 +73,19 @@ public class LetClauseSparkIterator extends RuntimeTupleIterator {
     private Name variableName; // for efficient use in local iteration
     private SequenceType sequenceType;
     private RuntimeIterator assignmentIterator;
+    private boolean persisted;
     private DynamicContext tupleContext; // re-use same DynamicContext object for efficiency
     private FlworTuple nextLocalTupleResult;
+    // persisted value, shared by all the tuples if it does not depend on them
+    private transient JavaRDD<Item> persistedRDD;
+    private transient JSoundDataFrame persistedDataFrame;
 
     public LetClauseSparkIterator(
             RuntimeTupleIterator child,
             Name variableName,
             SequenceType sequenceType,
             RuntimeIterator assignmentIterator,
+            boolean persisted,
             ExecutionMode executionMode,
             ExceptionMetadata iteratorMetadata
     ) {
@@ -88,11 +93,14 @@ public class LetClauseSparkIterator extends RuntimeTupleIterator {
         this.variableName = variableName;
         this.sequenceType = sequenceType;
         this.assignmentIterator = assignmentIterator;
+        this.persisted = persisted;
     }
 
     @Override
     public void open(DynamicContext context) {
         super.open(context);
+        this.persistedRDD = null;
+        this.persistedDataFrame = null;
         if (this.child == null || this.evaluationDepthLimit == 0) {
             this.nextLocalTupleResult = generateTupleFromExpressionWithContext(null, this.currentDynamicContext);
         } else {
@@ -105,6 +113,8 @@ public class LetClauseSparkIterator extends RuntimeTupleIterator {
     @Override
     public void reset(DynamicContext context) {
         super.reset(context);
+        this.persistedRDD = null;
+        this.persistedDataFrame = null;
         if (this.child == null || this.evaluationDepthLimit == 0) {
             this.nextLocalTupleResult = generateTupleFromExpressionWithContext(null, this.currentDynamicContext);
         } else {
@@ -144,11 +154,25 @@ public class LetClauseSparkIterator extends RuntimeTupleIterator {
             resultTuple = new FlworTuple(inputTuple);
         }
         if (this.assignmentIterator.isDataFrame()) {
-            JSoundDataFrame df = this.assignmentIterator.getDataFrame(context);
-            resultTuple.putValue(this.variableName, df);
+            if (!isPersistedOnce()) {
+                resultTuple.putValue(this.variableName, this.assignmentIterator.getDataFrame(context));
+                return resultTuple;
+            }
+            if (this.persistedDataFrame == null) {
+                this.persistedDataFrame = context.getPersistedSequences()
+                    .persist(this.assignmentIterator.getDataFrame(context), context.getRumbleRuntimeConfiguration());
+            }
+            resultTuple.putValue(this.variableName, this.persistedDataFrame);
         } else if (this.assignmentIterator.isRDDOrDataFrame()) {
-            JavaRDD<Item> itemRDD = this.assignmentIterator.getRDD(context);
-            resultTuple.putValue(this.variableName, itemRDD);
+            if (!isPersistedOnce()) {
+                resultTuple.putValue(this.variableName, this.assignmentIterator.getRDD(context));
+                return resultTuple;
+            }
+            if (this.persistedRDD == null) {
+                this.persistedRDD = context.getPersistedSequences()
+                    .persist(this.assignmentIterator.getRDD(context), context.getRumbleRuntimeConfiguration());
+            }
+            resultTuple.putValue(this.variableName, this.persistedRDD);
         } else {
             List<Item> results = new ArrayList<>();
             this.assignmentIterator.open(context);
@@ -161,6 +185,25 @@ public class LetClauseSparkIterator extends RuntimeTupleIterator {
         return resultTuple;
     }
 
+    /**
+     * Says whether the value of the variable is persisted. It is only persisted if it is the same for all the input
+     * tuples, so that it is evaluated and persisted once rather than once per tuple.
+     *
+     * @return true if the value is persisted.
+     */
+    private boolean isPersistedOnce() {
+        if (!this.persisted) {
+            return false;
+        }
+        if (this.child == null || this.evaluationDepthLimit == 0) {
+            return true;
+        }
+        return Collections.disjoint(
+            this.assignmentIterator.getVariableDependencies().keySet(),
+            this.child.getOutputTupleVariableNames()
+        );
+    }
+
     @Override
     public FlworTuple next() {
         if (this.hasNext) {
@@ -480,7 +523,11 @@ public class LetClauseSparkIterator extends RuntimeTupleIterator {
         for (int i = 0; i < indent + 1; ++i) {
             buffer.append("  ");
         }
-        buffer.append("Variable ").append(this.variableName).append("\n");
+        buffer.append("Variable ").append(this.variableName);
+        if (this.persisted) {
+            buffer.append(" (persisted)");
+        }
+        buffer.append("\n");
         this.assignmentIterator.print(buffer, indent + 1);
     }
 
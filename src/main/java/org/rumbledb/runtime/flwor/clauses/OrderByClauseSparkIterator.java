@@ -20,6 +20,7 @@
 
 package org.rumbledb.runtime.flwor.clauses;
 
+import org.apache.spark.sql.Column;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.types.DataType;
@@ -44,6 +45,7 @@ import org.rumbledb.runtime.RuntimeTupleIterator;
 import org.rumbledb.runtime.flwor.FlworDataFrameColumn;
 import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
 import org.rumbledb.runtime.flwor.NativeClauseContext;
+import org.rumbledb.runtime.flwor.ShufflePartitioning;
 import org.rumbledb.runtime.flwor.expression.OrderByClauseAnnotatedChildIterator;
 import org.rumbledb.runtime.flwor.udfs.OrderClauseCreateColumnsUDF;
 import org.rumbledb.runtime.flwor.udfs.OrderClauseDetermineTypeUDF;
@@ -61,6 +63,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 
+import static org.apache.spark.sql.functions.col;
+import static org.apache.spark.sql.functions.expr;
 import static org.rumbledb.items.parsing.ItemParser.decimalType;
 
 public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
@@ -226,6 +230,13 @@ public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
         }
 
         Dataset<Row> df = this.child.getDataFrame(context);
+        FlworDataFrameUtils.checkSupportedOnStreams(df, "Order by", getMetadata());
+        int partitions = ShufflePartitioning.getPartitions(
+            df,
+            "order by clause",
+            context.getRumbleRuntimeConfiguration(),
+            getMetadata()
+        );
         StructType inputSchema = df.schema();
 
         List<FlworDataFrameColumn> allColumns = FlworDataFrameUtils.getColumns(inputSchema);
@@ -241,7 +252,8 @@ public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
             this.expressionsWithIterator,
             allColumns,
             inputSchema,
-            context
+            context,
+            partitions
         );
         if (nativeQueryResult != null) {
             return nativeQueryResult;
@@ -346,7 +358,7 @@ public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
 
 
         List<StructField> typedFields = new ArrayList<>(); // Determine the return type for ordering UDF
-        StringBuilder orderingSQL = new StringBuilder(); // Prepare the SQL statement for the order by query
+        List<Column> sortingKeys = new ArrayList<>(); // Prepare the sorting keys for the order by query
         String appendedOrderingColumnsName = "ordering_columns";
         for (int columnIndex = 0; columnIndex < numberOfOrderingKeys; columnIndex++) {
             Name columnTypeString = typesForAllColumns.get(columnIndex);
@@ -394,35 +406,17 @@ public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
             typedFields.add(DataTypes.createStructField(columnName, columnType, true));
 
             OrderByClauseAnnotatedChildIterator expressionWithIterator = this.expressionsWithIterator.get(columnIndex);
-            // accessing the created ordering row as "`ordering_columns`.`0-nullEmptyCheckField` (desc)"
-            // prepare sql for expression's 1st column
-            orderingSQL.append("`");
-            orderingSQL.append(appendedOrderingColumnsName);
-            orderingSQL.append("`.`");
-            orderingSQL.append(columnIndex);
-            orderingSQL.append("-nullEmptyCheckField`");
+            // sorting on the created ordering row as "`ordering_columns`.`0-nullEmptyCheckField` (desc)", then on
+            // "`ordering_columns`.`0-valueField` (desc)"
+            Column orderingRow = col("`" + appendedOrderingColumnsName + "`");
+            Column nullEmptyCheckField = orderingRow.getField(columnIndex + "-nullEmptyCheckField");
+            Column valueField = orderingRow.getField(columnIndex + "-valueField");
             if (expressionWithIterator.isAscending()) {
-                orderingSQL.append(", ");
+                sortingKeys.add(nullEmptyCheckField.asc());
+                sortingKeys.add(valueField.asc());
             } else {
-                orderingSQL.append(" desc, ");
-            }
-
-            // prepare sql for expression's 2nd column
-            orderingSQL.append("`");
-            orderingSQL.append(appendedOrderingColumnsName);
-            orderingSQL.append("`.`");
-            orderingSQL.append(columnIndex);
-            orderingSQL.append("-valueField`");
-            if (columnIndex != numberOfOrderingKeys - 1) {
-                if (expressionWithIterator.isAscending()) {
-                    orderingSQL.append(", ");
-                } else {
-                    orderingSQL.append(" desc, ");
-                }
-            } else {
-                if (!expressionWithIterator.isAscending()) {
-                    orderingSQL.append(" desc");
-                }
+                sortingKeys.add(nullEmptyCheckField.desc());
+                sortingKeys.add(valueField.desc());
             }
         }
 
@@ -443,17 +437,35 @@ public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
         String selectSQL = FlworDataFrameUtils.getSQLColumnProjection(allColumns, true);
         String projectSQL = selectSQL.substring(0, selectSQL.length() - 1); // remove trailing comma
 
-        return df.sparkSession()
+        Dataset<Row> withOrderingColumns = df.sparkSession()
             .sql(
                 String.format(
-                    "select %s from (select %s createOrderingColumns(%s) as `%s` from input order by %s)",
-                    projectSQL,
+                    "select %s createOrderingColumns(%s) as `%s` from input",
                     selectSQL,
                     UDFParameters,
-                    appendedOrderingColumnsName,
-                    orderingSQL
+                    appendedOrderingColumnsName
                 )
             );
+        String sortedInput = FlworDataFrameUtils.createTempView(sort(withOrderingColumns, sortingKeys, partitions));
+        return df.sparkSession().sql(String.format("select %s from %s", projectSQL, sortedInput));
+    }
+
+    /**
+     * Sorts a dataframe globally. If a number of partitions is given, the dataframe is range-partitioned into this
+     * number of partitions on the sorting keys and each partition is then sorted, which is how Spark sorts globally,
+     * but without the number of partitions being set by the session-wide configuration.
+     *
+     * @param dataFrame the dataframe to sort
+     * @param sortingKeys the sorting keys, with their directions
+     * @param partitions the number of partitions, or -1 to use the default
+     * @return the sorted dataframe
+     */
+    private static Dataset<Row> sort(Dataset<Row> dataFrame, List<Column> sortingKeys, int partitions) {
+        Column[] keys = sortingKeys.toArray(new Column[0]);
+        if (partitions <= 0) {
+            return dataFrame.orderBy(keys);
+        }
+        return dataFrame.repartitionByRange(partitions, keys).sortWithinPartitions(keys);
     }
 
     public Map<Name, DynamicContext.VariableDependency> getDynamicContextVariableDependencies() {
@@ -517,6 +529,7 @@ public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
      * @param allColumns other columns required in following clauses
      * @param inputSchema input schema of the dataframe
      * @param context current dynamic context of the dataframe
+     * @param partitions number of shuffle partitions, or -1 to use the default
      * @return resulting dataframe of the order by clause if successful, null otherwise
      */
     public static Dataset<Row> tryNativeQuery(
@@ -524,57 +537,50 @@ public class OrderByClauseSparkIterator extends RuntimeTupleIterator {
             List<OrderByClauseAnnotatedChildIterator> expressionsWithIterator,
             List<FlworDataFrameColumn> allColumns,
             StructType inputSchema,
-            DynamicContext context
+            DynamicContext context,
+            int partitions
     ) {
         NativeClauseContext orderContext = new NativeClauseContext(FLWOR_CLAUSES.ORDER_BY, inputSchema, context);
-        StringBuilder orderSql = new StringBuilder();
-        String orderSeparator = "";
+        List<Column> sortingKeys = new ArrayList<>();
         NativeClauseContext nativeQuery;
         for (OrderByClauseAnnotatedChildIterator orderIterator : expressionsWithIterator) {
             nativeQuery = orderIterator.getIterator().generateNativeQuery(orderContext);
             if (nativeQuery == NativeClauseContext.NoNativeQuery) {
                 return null;
             }
-            orderSql.append(orderSeparator);
-            orderSeparator = ", ";
             // special check to avoid ordering by an integer constant in an ordering clause
             // second check to assure it is a literal
             // because of meaning mismatch between sparksql (where it is supposed to order by the i-th col)
             // and jsoniq (order by a costant, so no actual ordering is performed)
+            Column sortingKey;
             if (
                 (nativeQuery.getResultingType() == BuiltinTypesCatalogue.integerItem
                     || nativeQuery.getResultingType() == BuiltinTypesCatalogue.intItem)
                     && nativeQuery.getResultingQuery().matches("\\s*-?\\s*\\d+\\s*")
             ) {
-                orderSql.append('"');
-                orderSql.append(nativeQuery.getResultingQuery());
-                orderSql.append('"');
+                sortingKey = expr('"' + nativeQuery.getResultingQuery() + '"');
             } else {
-                orderSql.append(nativeQuery.getResultingQuery());
+                sortingKey = expr(nativeQuery.getResultingQuery());
             }
             if (!orderIterator.isAscending()) {
-                orderSql.append(" desc");
                 if (orderIterator.getEmptyOrder() == EMPTY_ORDER.GREATEST) {
-                    orderSql.append(" nulls first");
+                    sortingKeys.add(sortingKey.desc_nulls_first());
+                } else {
+                    sortingKeys.add(sortingKey.desc());
                 }
             } else {
                 if (orderIterator.getEmptyOrder() == EMPTY_ORDER.GREATEST) {
-                    orderSql.append(" nulls last");
+                    sortingKeys.add(sortingKey.asc_nulls_last());
+                } else {
+                    sortingKeys.add(sortingKey.asc());
                 }
             }
         }
 
         System.err.println("[INFO] Rumble was able to optimize an order-by clause to a native SQL query.");
         String selectSQL = FlworDataFrameUtils.getSQLColumnProjection(allColumns, false);
-        dataFrame.createOrReplaceTempView("input");
-        return dataFrame.sparkSession()
-            .sql(
-                String.format(
-                    "select %s from input order by %s",
-                    selectSQL,
-                    orderSql
-                )
-            );
+        String sortedInput = FlworDataFrameUtils.createTempView(sort(dataFrame, sortingKeys, partitions));
+        return dataFrame.sparkSession().sql(String.format("select %s from %s", selectSQL, sortedInput));
     }
 
     public boolean containsClause(FLWOR_CLAUSES kind) {
@@ -113,6 +113,7 @@ public class ReturnClauseSparkIterator extends HybridRuntimeIterator {
             return result;
         }
         Dataset<Row> df = this.child.getDataFrame(context);
+        FlworDataFrameUtils.checkNotStreaming(df, getMetadata());
         StructType oldSchema = df.schema();
         List<String> UDFcolumns = FlworDataFrameUtils.getColumnNames(
             oldSchema,
@@ -0,0 +1,500 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.flwor.clauses;
+
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
+import org.rumbledb.api.Item;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.context.Name;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.IteratorFlowException;
+import org.rumbledb.exceptions.OurBadException;
+import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
+import org.rumbledb.items.ItemFactory;
+import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.runtime.RuntimeTupleIterator;
+import org.rumbledb.runtime.flwor.expression.WindowClauseSparkIteratorCondition;
+
+import sparksoniq.jsoniq.tuple.FlworTuple;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Evaluates a tumbling or sliding window clause. Windows are computed on the fly for each incoming tuple: the
+ * input sequence is streamed, and only the items that may still belong to a window that is not output yet are
+ * kept in memory. Windows are output in the order of their start positions.
+ *
+ * This clause is always evaluated locally.
+ */
+public class WindowClauseSparkIterator extends RuntimeTupleIterator {
+
+    private static final long serialVersionUID = 1L;
+    private final Name variableName;
+    private final boolean sliding;
+    private final RuntimeIterator assignmentIterator;
+    private final WindowClauseSparkIteratorCondition startCondition;
+    private final WindowClauseSparkIteratorCondition endCondition;
+
+    private transient DynamicContext tupleContext;
+    private transient DynamicContext conditionContext;
+    private transient FlworTuple inputTuple;
+    // items of the input sequence, starting at position bufferOffset
+    private transient List<Item> buffer;
+    private transient long bufferOffset;
+    // last position of the input sequence for which conditions were evaluated
+    private transient long position;
+    // start and end positions of windows not output yet, in start order. An end of 0 means the window is open.
+    private transient Deque<long[]> pendingWindows;
+    private transient Deque<FlworTuple> results;
+    private transient FlworTuple nextLocalTupleResult;
+
+    public WindowClauseSparkIterator(
+            RuntimeTupleIterator child,
+            Name variableName,
+            boolean sliding,
+            RuntimeIterator assignmentIterator,
+            WindowClauseSparkIteratorCondition startCondition,
+            WindowClauseSparkIteratorCondition endCondition,
+            ExecutionMode executionMode,
+            ExceptionMetadata iteratorMetadata
+    ) {
+        super(child, executionMode, iteratorMetadata);
+        this.variableName = variableName;
+        this.sliding = sliding;
+        this.assignmentIterator = assignmentIterator;
+        this.startCondition = startCondition;
+        this.endCondition = endCondition;
+    }
+
+    public Name getVariableName() {
+        return this.variableName;
+    }
+
+    @Override
+    public void open(DynamicContext context) {
+        super.open(context);
+        initializeState();
+        if (this.child != null) {
+            this.child.open(this.currentDynamicContext);
+        } else {
+            startInput(null);
+        }
+        setNextLocalTupleResult();
+    }
+
+    @Override
+    public void reset(DynamicContext context) {
+        this.hasNext = true;
+        this.currentDynamicContext = context;
+        if (this.assignmentIterator.isOpen()) {
+            this.assignmentIterator.close();
+        }
+        initializeState();
+        if (this.child != null) {
+            this.child.reset(this.currentDynamicContext);
+        } else {
+            startInput(null);
+        }
+        setNextLocalTupleResult();
+    }
+
+    @Override
+    public void close() {
+        this.isOpen = false;
+        if (this.child != null) {
+            this.child.close();
+        }
+        if (this.assignmentIterator.isOpen()) {
+            this.assignmentIterator.close();
+        }
+        this.buffer = null;
+        this.pendingWindows = null;
+        this.results = null;
+        this.inputTuple = null;
+    }
+
+    @Override
+    public FlworTuple next() {
+        if (this.hasNext) {
+            FlworTuple result = this.nextLocalTupleResult; // save the result to be returned
+            setNextLocalTupleResult(); // calculate and store the next result
+            return result;
+        }
+        throw new IteratorFlowException("Invalid next() call in window flwor clause", getMetadata());
+    }
+
+    private void initializeState() {
+        this.tupleContext = new DynamicContext(this.currentDynamicContext); // assign current context as parent
+        this.conditionContext = new DynamicContext(this.tupleContext);
+        this.buffer = new ArrayList<>();
+        this.pendingWindows = new ArrayDeque<>();
+        this.results = new ArrayDeque<>();
+        this.inputTuple = null;
+    }
+
+    private void setNextLocalTupleResult() {
+        while (this.results.isEmpty()) {
+            if (this.assignmentIterator.isOpen()) {
+                processNextPosition();
+            } else if (this.child != null && this.child.hasNext()) {
+                startInput(this.child.next());
+            } else {
+                break;
+            }
+        }
+        if (this.results.isEmpty()) {
+            this.hasNext = false;
+            return;
+        }
+        this.nextLocalTupleResult = this.results.poll();
+        this.hasNext = true;
+    }
+
+    private void startInput(FlworTuple tuple) {
+        this.inputTuple = tuple;
+        this.tupleContext.getVariableValues().removeAllVariables(); // clear the previous variables
+        if (tuple != null) {
+            this.tupleContext.getVariableValues().setBindingsFromTuple(tuple, getMetadata());
+        }
+        this.buffer.clear();
+        this.bufferOffset = 1;
+        this.position = 0;
+        this.pendingWindows.clear();
+        this.assignmentIterator.open(this.tupleContext);
+    }
+
+    private void processNextPosition() {
+        long current = this.position + 1;
+        if (getItem(current) == null) {
+            finishInput();
+            return;
+        }
+        this.position = current;
+        if (this.sliding) {
+            if (startConditionHolds(current)) {
+                this.pendingWindows.addLast(new long[] { current, 0 });
+            }
+            for (long[] window : this.pendingWindows) {
+                if (window[1] == 0 && endConditionHolds(window[0], current)) {
+                    window[1] = current;
+                }
+            }
+            // windows are output in start order, so a closed window waits for all windows started before it
+            while (!this.pendingWindows.isEmpty() && this.pendingWindows.peekFirst()[1] != 0) {
+                outputWindow(this.pendingWindows.pollFirst());
+            }
+        } else if (this.endCondition == null) {
+            // without an end condition, a tumbling window ends right before the next one starts
+            if (startConditionHolds(current)) {
+                if (!this.pendingWindows.isEmpty()) {
+                    long[] window = this.pendingWindows.pollFirst();
+                    window[1] = current - 1;
+                    outputWindow(window);
+                }
+                this.pendingWindows.addLast(new long[] { current, 0 });
+            }
+        } else {
+            if (this.pendingWindows.isEmpty() && startConditionHolds(current)) {
+                this.pendingWindows.addLast(new long[] { current, 0 });
+            }
+            if (!this.pendingWindows.isEmpty() && endConditionHolds(this.pendingWindows.peekFirst()[0], current)) {
+                long[] window = this.pendingWindows.pollFirst();
+                window[1] = current;
+                outputWindow(window);
+            }
+        }
+        trimBuffer();
+    }
+
+    private void finishInput() {
+        boolean dropOpenWindows = this.endCondition != null && this.endCondition.isOnly();
+        for (long[] window : this.pendingWindows) {
+            if (window[1] == 0) {
+                if (dropOpenWindows) {
+                    continue;
+                }
+                window[1] = this.position;
+            }
+            outputWindow(window);
+        }
+        this.pendingWindows.clear();
+        this.assignmentIterator.close();
+    }
+
+    private void trimBuffer() {
+        // the previous item of the next position, as well as the items of pending windows and their previous item,
+        // are still needed
+        long firstNeeded = this.position;
+        if (!this.pendingWindows.isEmpty()) {
+            firstNeeded = Math.min(firstNeeded, this.pendingWindows.peekFirst()[0] - 1);
+        }
+        int toRemove = (int) (firstNeeded - this.bufferOffset);
+        if (toRemove > 0) {
+            this.buffer.subList(0, toRemove).clear();
+            this.bufferOffset += toRemove;
+        }
+    }
+
+    /**
+     * Returns the item at the given position in the input sequence, or null if there is none.
+     */
+    private Item getItem(long itemPosition) {
+        if (itemPosition < 1) {
+            return null;
+        }
+        if (itemPosition < this.bufferOffset) {
+            throw new OurBadException("Window clause item at position " + itemPosition + " was already discarded.");
+        }
+        while (
+            this.bufferOffset + this.buffer.size() <= itemPosition
+                && this.assignmentIterator.isOpen()
+                && this.assignmentIterator.hasNext()
+        ) {
+            this.buffer.add(this.assignmentIterator.next());
+        }
+        int index = (int) (itemPosition - this.bufferOffset);
+        return index < this.buffer.size() ? this.buffer.get(index) : null;
+    }
+
+    private List<Item> getItemAsSequence(long itemPosition) {
+        Item item = getItem(itemPosition);
+        return item == null ? Collections.emptyList() : Collections.singletonList(item);
+    }
+
+    private boolean startConditionHolds(long start) {
+        this.conditionContext.getVariableValues().removeAllVariables();
+        bindConditionVariables(this.startCondition, start, null);
+        return this.startCondition.getExpression().getEffectiveBooleanValue(this.conditionContext);
+    }
+
+    private boolean endConditionHolds(long start, long end) {
+        this.conditionContext.getVariableValues().removeAllVariables();
+        bindConditionVariables(this.startCondition, start, null);
+        bindConditionVariables(this.endCondition, end, null);
+        return this.endCondition.getExpression().getEffectiveBooleanValue(this.conditionContext);
+    }
+
+    /**
+     * Binds the variables of a condition either in the output tuple, if one is passed, or in the condition context.
+     */
+    private void bindConditionVariables(
+            WindowClauseSparkIteratorCondition condition,
+            long itemPosition,
+            FlworTuple tuple
+    ) {
+        if (condition.getCurrentItemName() != null) {
+            bindVariable(condition.getCurrentItemName(), getItemAsSequence(itemPosition), tuple);
+        }
+        if (condition.getPositionalVariableName() != null) {
+            bindVariable(
+                condition.getPositionalVariableName(),
+                Collections.singletonList(ItemFactory.getInstance().createLongItem(itemPosition)),
+                tuple
+            );
+        }
+        if (condition.getPreviousItemName() != null) {
+            bindVariable(condition.getPreviousItemName(), getItemAsSequence(itemPosition - 1), tuple);
+        }
+        if (condition.getNextItemName() != null) {
+            bindVariable(condition.getNextItemName(), getItemAsSequence(itemPosition + 1), tuple);
+        }
+    }
+
+    private void bindVariable(Name name, List<Item> value, FlworTuple tuple) {
+        if (tuple != null) {
+            tuple.putValue(name, value);
+        } else {
+            this.conditionContext.getVariableValues().addVariableValue(name, value);
+        }
+    }
+
+    private void outputWindow(long[] window) {
+        FlworTuple result = this.inputTuple == null ? new FlworTuple() : new FlworTuple(this.inputTuple);
+        result.putValue(
+            this.variableName,
+            new ArrayList<>(
+                    this.buffer.subList(
+                        (int) (window[0] - this.bufferOffset),
+                        (int) (window[1] - this.bufferOffset + 1)
+                    )
+            )
+        );
+        bindConditionVariables(this.startCondition, window[0], result);
+        if (this.endCondition != null) {
+            bindConditionVariables(this.endCondition, window[1], result);
+        }
+        this.results.addLast(result);
+    }
+
+    @Override
+    public Dataset<Row> getDataFrame(
+            DynamicContext context
+    ) {
+        throw new OurBadException("Window clauses are only evaluated locally.", getMetadata());
+    }
+
+    private List<Name> getBoundVariableNames() {
+        List<Name> result = new ArrayList<>();
+        result.add(this.variableName);
+        result.addAll(this.startCondition.getVariableNames());
+        if (this.endCondition != null) {
+            result.addAll(this.endCondition.getVariableNames());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the dependencies of the input expression and of the conditions, excluding the variables bound by the
+     * conditions themselves.
+     */
+    private Map<Name, DynamicContext.VariableDependency> getExpressionDependencies() {
+        Map<Name, DynamicContext.VariableDependency> result =
+            new TreeMap<>(this.assignmentIterator.getVariableDependencies());
+        Map<Name, DynamicContext.VariableDependency> conditionDependencies =
+            new TreeMap<>(this.startCondition.getExpression().getVariableDependencies());
+        if (this.endCondition != null) {
+            conditionDependencies.putAll(this.endCondition.getExpression().getVariableDependencies());
+        }
+        for (Name variable : getBoundVariableNames()) {
+            conditionDependencies.remove(variable);
+        }
+        for (Map.Entry<Name, DynamicContext.VariableDependency> entry : conditionDependencies.entrySet()) {
+            if (result.containsKey(entry.getKey()) && result.get(entry.getKey()) != entry.getValue()) {
+                result.put(entry.getKey(), DynamicContext.VariableDependency.FULL);
+            } else {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Name, DynamicContext.VariableDependency> getDynamicContextVariableDependencies() {
+        Map<Name, DynamicContext.VariableDependency> result = getExpressionDependencies();
+        if (this.child != null) {
+            for (Name var : this.child.getOutputTupleVariableNames()) {
+                result.remove(var);
+            }
+            result.putAll(this.child.getDynamicContextVariableDependencies());
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Name> getOutputTupleVariableNames() {
+        Set<Name> result = new HashSet<>();
+        if (this.child != null) {
+            result.addAll(this.child.getOutputTupleVariableNames());
+        }
+        result.addAll(getBoundVariableNames());
+        return result;
+    }
+
+    @Override
+    public void print(StringBuffer buffer, int indent) {
+        super.print(buffer, indent);
+        for (int i = 0; i < indent + 1; ++i) {
+            buffer.append("  ");
+        }
+        buffer.append(this.sliding ? "Sliding" : "Tumbling")
+            .append(" window variable ")
+            .append(this.variableName.toString())
+            .append("\n");
+        this.assignmentIterator.print(buffer, indent + 1);
+        this.startCondition.getExpression().print(buffer, indent + 1);
+        if (this.endCondition != null) {
+            this.endCondition.getExpression().print(buffer, indent + 1);
+        }
+    }
+
+    @Override
+    public Map<Name, DynamicContext.VariableDependency> getInputTupleVariableDependencies(
+            Map<Name, DynamicContext.VariableDependency> parentProjection
+    ) {
+        if (this.child == null) {
+            return Collections.emptyMap();
+        }
+
+        // copy over the projection needed by the parent clause.
+        Map<Name, DynamicContext.VariableDependency> projection =
+            new TreeMap<>(parentProjection);
+
+        // remove the variables that this window clause binds.
+        for (Name variable : getBoundVariableNames()) {
+            projection.remove(variable);
+        }
+
+        // add the variable dependencies needed by the input expression and the conditions.
+        Set<Name> childVariables = this.child.getOutputTupleVariableNames();
+        for (Map.Entry<Name, DynamicContext.VariableDependency> entry : getExpressionDependencies().entrySet()) {
+            if (!childVariables.contains(entry.getKey())) {
+                continue;
+            }
+            if (projection.containsKey(entry.getKey()) && projection.get(entry.getKey()) != entry.getValue()) {
+                // If the projection already needed a different kind of dependency, we fall back to the full
+                // sequence of items.
+                projection.put(entry.getKey(), DynamicContext.VariableDependency.FULL);
+            } else {
+                projection.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return projection;
+    }
+
+    public boolean containsClause(FLWOR_CLAUSES kind) {
+        if (kind == FLWOR_CLAUSES.WINDOW) {
+            return true;
+        }
+        if (this.child == null || this.evaluationDepthLimit == 0) {
+            return false;
+        }
+        return this.child.containsClause(kind);
+    }
+
+    /**
+     * Says whether this expression evaluation triggers a Spark job.
+     *
+     * @return true if the execution triggers a Spark, false otherwise, null if undetermined yet.
+     */
+    @Override
+    public boolean isSparkJobNeeded() {
+        if (this.child != null && this.child.isSparkJobNeeded()) {
+            return true;
+        }
+        if (this.assignmentIterator.isSparkJobNeeded()) {
+            return true;
+        }
+        if (this.startCondition.getExpression().isSparkJobNeeded()) {
+            return true;
+        }
+        return this.endCondition != null && this.endCondition.getExpression().isSparkJobNeeded();
+    }
+}
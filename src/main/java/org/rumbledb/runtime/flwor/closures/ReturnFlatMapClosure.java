@@ -27,6 +27,7 @@ import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.JobWithinAJobException;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.runtime.flwor.udfs.CompiledExpressionEvaluator;
 import org.rumbledb.runtime.flwor.udfs.DataFrameContext;
 
 import java.util.ArrayList;
@@ -38,6 +39,7 @@ public class ReturnFlatMapClosure implements FlatMapFunction<Row, Item> {
     private static final long serialVersionUID = 1L;
     private DataFrameContext dataFrameContext;
     private RuntimeIterator expression;
+    private CompiledExpressionEvaluator evaluator;
 
     List<Item> results;
 
@@ -49,6 +51,7 @@ public class ReturnFlatMapClosure implements FlatMapFunction<Row, Item> {
     ) {
         this.dataFrameContext = new DataFrameContext(context, schema, columnNames);
         this.expression = expression;
+        this.evaluator = new CompiledExpressionEvaluator(expression, context);
         if (this.expression.isSparkJobNeeded()) {
             throw new JobWithinAJobException(
                     "The expression in this clause requires parallel execution, but is itself executed in parallel. Please consider moving it up or unnest it if it is independent on previous FLWOR variables.",
@@ -61,7 +64,7 @@ public class ReturnFlatMapClosure implements FlatMapFunction<Row, Item> {
     @Override
     public Iterator<Item> call(Row row) {
         this.dataFrameContext.setFromRow(row);
-        this.expression.materialize(this.dataFrameContext.getContext(), this.results);
+        this.evaluator.materialize(this.dataFrameContext.getContext(), this.results);
         return this.results.iterator();
     }
 }
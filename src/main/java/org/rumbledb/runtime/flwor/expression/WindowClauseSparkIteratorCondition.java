@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.flwor.expression;
+
+
+import org.rumbledb.context.Name;
+import org.rumbledb.runtime.RuntimeIterator;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+public class WindowClauseSparkIteratorCondition implements Serializable {
+
+
+    private static final long serialVersionUID = 1L;
+    private final boolean only;
+    private final Name currentItemName;
+    private final Name positionalVariableName;
+    private final Name previousItemName;
+    private final Name nextItemName;
+    private final RuntimeIterator expression;
+
+    public WindowClauseSparkIteratorCondition(
+            boolean only,
+            Name currentItemName,
+            Name positionalVariableName,
+            Name previousItemName,
+            Name nextItemName,
+            RuntimeIterator expression
+    ) {
+        this.only = only;
+        this.currentItemName = currentItemName;
+        this.positionalVariableName = positionalVariableName;
+        this.previousItemName = previousItemName;
+        this.nextItemName = nextItemName;
+        this.expression = expression;
+    }
+
+    public boolean isOnly() {
+        return this.only;
+    }
+
+    public Name getCurrentItemName() {
+        return this.currentItemName;
+    }
+
+    public Name getPositionalVariableName() {
+        return this.positionalVariableName;
+    }
+
+    public Name getPreviousItemName() {
+        return this.previousItemName;
+    }
+
+    public Name getNextItemName() {
+        return this.nextItemName;
+    }
+
+    public RuntimeIterator getExpression() {
+        return this.expression;
+    }
+
+    public List<Name> getVariableNames() {
+        List<Name> result = new ArrayList<>();
+        if (this.currentItemName != null) {
+            result.add(this.currentItemName);
+        }
+        if (this.positionalVariableName != null) {
+            result.add(this.positionalVariableName);
+        }
+        if (this.previousItemName != null) {
+            result.add(this.previousItemName);
+        }
+        if (this.nextItemName != null) {
+            result.add(this.nextItemName);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.flwor.udfs;
+
+import org.rumbledb.api.Item;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.exceptions.MoreThanOneItemException;
+import org.rumbledb.runtime.CompiledExpression;
+import org.rumbledb.runtime.RuntimeIterator;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Evaluates an expression on each row of a DataFrame. The expression is compiled on the executor the first time it
+ * is evaluated. Rows on which the compiled expression evaluates to more than one item are evaluated again with the
+ * interpreter, which is also used throughout if compilation is deactivated.
+ */
+public class CompiledExpressionEvaluator implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private RuntimeIterator expression;
+    private boolean isCompilationEnabled;
+
+    private transient CompiledExpression compiledExpression;
+    private transient boolean isCompiled;
+
+    public CompiledExpressionEvaluator(RuntimeIterator expression, DynamicContext context) {
+        this.expression = expression;
+        this.isCompilationEnabled = context.getRumbleRuntimeConfiguration() == null
+            || context.getRumbleRuntimeConfiguration().compileUDFExpressions();
+    }
+
+    private CompiledExpression getCompiledExpression() {
+        if (!this.isCompiled) {
+            this.compiledExpression = this.isCompilationEnabled ? this.expression.compile() : null;
+            this.isCompiled = true;
+        }
+        return this.compiledExpression;
+    }
+
+    /**
+     * Evaluates the expression and stores its items in the given list, which is cleared first.
+     *
+     * @param context the dynamic context.
+     * @param result the list in which to store the resulting items.
+     */
+    public void materialize(DynamicContext context, List<Item> result) {
+        CompiledExpression compiled = getCompiledExpression();
+        if (compiled != null) {
+            try {
+                Item item = compiled.evaluate(context);
+                result.clear();
+                if (item != null) {
+                    result.add(item);
+                }
+                return;
+            } catch (MoreThanOneItemException e) {
+                // falls back to the interpreter
+            }
+        }
+        this.expression.materialize(context, result);
+    }
+
+    /**
+     * Computes the effective boolean value of the expression.
+     *
+     * @param context the dynamic context.
+     * @return the effective boolean value.
+     */
+    public boolean getEffectiveBooleanValue(DynamicContext context) {
+        CompiledExpression compiled = getCompiledExpression();
+        if (compiled != null) {
+            try {
+                return CompiledExpression.getEffectiveBooleanValue(compiled, this.expression, context);
+            } catch (MoreThanOneItemException e) {
+                // falls back to the interpreter
+            }
+        }
+        return this.expression.getEffectiveBooleanValue(context);
+    }
+}
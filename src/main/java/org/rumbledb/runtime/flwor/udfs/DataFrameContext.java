@@ -37,6 +37,7 @@ import org.rumbledb.items.ItemFactory;
 import org.rumbledb.items.parsing.ItemParser;
 import org.rumbledb.runtime.flwor.FlworDataFrameColumn;
 import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
+import org.rumbledb.runtime.flwor.SerializedItemList;
 import org.rumbledb.types.ItemType;
 
 import java.io.IOException;
@@ -63,6 +64,10 @@ public class DataFrameContext implements Serializable {
     private transient Output output;
     private transient Input input;
 
+    // indices of the columns in the rows, resolved on the first row of a given schema.
+    private transient StructType schemaOfColumnIndices;
+    private transient int[] columnIndices;
+
     /**
      * Builds a new data frame context that only serves to pool Kryo objects.
      * The only allowed methods are getKryo, getInput and getOutput.
@@ -143,31 +148,33 @@ public class DataFrameContext implements Serializable {
     public void setFromRow(Row row, ItemType itemType) {
         this.context.getVariableValues().removeAllVariables();
 
-        // Create dynamic context with deserialized data but only with dependencies
-        for (FlworDataFrameColumn column : this.columns) {
-            int columnIndex = row.fieldIndex(column.getColumnName());
-            if (column.isNativeSequence()) {
-                List<Item> i = readColumnAsSequenceOfItems(row, itemType, columnIndex);
-                this.context.getVariableValues()
-                    .addVariableValue(
-                        column.getVariableName(),
-                        i
-                    );
+        if (this.columnIndices == null || row.schema() != this.schemaOfColumnIndices) {
+            this.schemaOfColumnIndices = row.schema();
+            this.columnIndices = new int[this.columns.size()];
+            for (int i = 0; i < this.columns.size(); ++i) {
+                this.columnIndices[i] = row.fieldIndex(this.columns.get(i).getColumnName());
             }
+        }
+
+        // Create dynamic context with deserialized data but only with dependencies.
+        // Serialized sequences are only decoded as far as the expression accesses them.
+        for (int i = 0; i < this.columns.size(); ++i) {
+            FlworDataFrameColumn column = this.columns.get(i);
+            int columnIndex = this.columnIndices[i];
             if (!column.isCount()) {
-                List<Item> i = readColumnAsSequenceOfItems(row, itemType, columnIndex);
+                List<Item> items = readColumnAsSequenceOfItems(row, itemType, columnIndex);
                 this.context.getVariableValues()
                     .addVariableValue(
                         column.getVariableName(),
-                        i
+                        items
                     );
             } else {
                 long count = FlworDataFrameUtils.getCountOfField(row, columnIndex);
-                Item i = ItemFactory.getInstance().createLongItem(count);
+                Item countItem = ItemFactory.getInstance().createLongItem(count);
                 this.context.getVariableValues()
                     .addVariableCount(
                         column.getVariableName(),
-                        i
+                        countItem
                     );
             }
         }
@@ -222,7 +229,6 @@ public class DataFrameContext implements Serializable {
         this.input = new Input();
     }
 
-    @SuppressWarnings("unchecked")
     private List<Item> readColumnAsSequenceOfItems(Row row, ItemType itemType, int columnIndex) {
         Object o = row.get(columnIndex);
         DataType dt = row.schema().fields()[columnIndex].dataType();
@@ -236,9 +242,8 @@ public class DataFrameContext implements Serializable {
         }
         if (o instanceof byte[]) {
             byte[] bytes = (byte[]) o;
-            this.input.setBuffer(bytes);
             try {
-                return (List<Item>) this.kryo.readClassAndObject(this.input);
+                return new SerializedItemList(bytes, this.kryo, this.input);
             } catch (Exception e) {
                 RuntimeException ex = new OurBadException(
                         "Error while deserializing column " + row.schema().fields()[columnIndex].name()
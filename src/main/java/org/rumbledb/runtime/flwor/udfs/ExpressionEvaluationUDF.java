@@ -39,7 +39,9 @@ public class ExpressionEvaluationUDF implements UDF1<Row, List<byte[]>> {
 
     private DataFrameContext dataFrameContext;
     private RuntimeIterator expression;
+    private CompiledExpressionEvaluator evaluator;
 
+    private transient List<Item> items;
     private transient List<byte[]> results;
 
     public ExpressionEvaluationUDF(
@@ -50,6 +52,7 @@ public class ExpressionEvaluationUDF implements UDF1<Row, List<byte[]>> {
     ) {
         this.dataFrameContext = new DataFrameContext(context, schema, columnNames);
         this.expression = expression;
+        this.evaluator = new CompiledExpressionEvaluator(expression, context);
         if (this.expression.isSparkJobNeeded()) {
             throw new JobWithinAJobException(
                     "The expression in this clause requires parallel execution, but is itself executed in parallel. Please consider moving it up or unnest it if it is independent on previous FLWOR variables.",
@@ -57,6 +60,7 @@ public class ExpressionEvaluationUDF implements UDF1<Row, List<byte[]>> {
             );
         }
 
+        this.items = new ArrayList<>();
         this.results = new ArrayList<>();
     }
 
@@ -66,18 +70,16 @@ public class ExpressionEvaluationUDF implements UDF1<Row, List<byte[]>> {
 
         this.results.clear();
         // apply expression in the dynamic context
-        this.expression.open(this.dataFrameContext.getContext());
-        while (this.expression.hasNext()) {
-            Item nextItem = this.expression.next();
+        this.evaluator.materialize(this.dataFrameContext.getContext(), this.items);
+        for (Item item : this.items) {
             this.results.add(
                 FlworDataFrameUtils.serializeItem(
-                    nextItem,
+                    item,
                     this.dataFrameContext.getKryo(),
                     this.dataFrameContext.getOutput()
                 )
             );
         }
-        this.expression.close();
 
         return this.results;
     }
@@ -86,6 +88,7 @@ public class ExpressionEvaluationUDF implements UDF1<Row, List<byte[]>> {
             throws IOException,
                 ClassNotFoundException {
         in.defaultReadObject();
+        this.items = new ArrayList<>();
         this.results = new ArrayList<>();
     }
 }
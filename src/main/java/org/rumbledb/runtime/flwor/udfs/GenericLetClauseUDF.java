@@ -18,6 +18,7 @@ public class GenericLetClauseUDF<T> implements UDF1<Row, T> {
 
     private DataFrameContext dataFrameContext;
     private RuntimeIterator expression;
+    private CompiledExpressionEvaluator evaluator;
     private String classSimpleName;
 
     private List<Item> nextResult;
@@ -31,6 +32,7 @@ public class GenericLetClauseUDF<T> implements UDF1<Row, T> {
     ) {
         this.dataFrameContext = new DataFrameContext(context, schema, columnNames);
         this.expression = expression;
+        this.evaluator = new CompiledExpressionEvaluator(expression, context);
         if (this.expression.isSparkJobNeeded()) {
             throw new JobWithinAJobException(
                     "The expression in this clause requires parallel execution, but is itself executed in parallel. Please consider moving it up or unnest it if it is independent on previous FLWOR variables.",
@@ -46,7 +48,7 @@ public class GenericLetClauseUDF<T> implements UDF1<Row, T> {
     public T call(Row row) {
         this.dataFrameContext.setFromRow(row);
 
-        this.expression.materialize(this.dataFrameContext.getContext(), this.nextResult);
+        this.evaluator.materialize(this.dataFrameContext.getContext(), this.nextResult);
 
         return toDFValue();
     }
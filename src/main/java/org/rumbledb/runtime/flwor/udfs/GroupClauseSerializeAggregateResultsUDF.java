@@ -21,44 +21,28 @@
 package org.rumbledb.runtime.flwor.udfs;
 
 import org.apache.spark.sql.api.java.UDF1;
-import org.rumbledb.api.Item;
 import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
 import scala.collection.mutable.WrappedArray;
 
-import java.util.ArrayList;
-import java.util.List;
-
+/**
+ * Concatenates the serialized sequences collected for a group into a single serialized sequence. The items are
+ * copied in their serialized form, so that the sequence of a large group is never materialized as items.
+ */
 public class GroupClauseSerializeAggregateResultsUDF implements UDF1<WrappedArray<byte[]>, byte[]> {
 
 
     private static final long serialVersionUID = 1L;
-    private List<Item> nextResult;
-    private List<List<Item>> deserializedParams;
     private DataFrameContext dataFrameContext;
 
     public GroupClauseSerializeAggregateResultsUDF() {
-        this.nextResult = new ArrayList<>();
-        this.deserializedParams = new ArrayList<>();
         this.dataFrameContext = new DataFrameContext();
     }
 
     @Override
     public byte[] call(WrappedArray<byte[]> wrappedParameters) {
-        this.nextResult.clear();
-        this.deserializedParams.clear();
-        FlworDataFrameUtils.deserializeWrappedParameters(
-            wrappedParameters,
-            this.deserializedParams,
-            this.dataFrameContext.getKryo(),
-            this.dataFrameContext.getInput()
-        );
-
-        for (List<Item> deserializedParam : this.deserializedParams) {
-            this.nextResult.addAll(deserializedParam);
-        }
-        return FlworDataFrameUtils.serializeItemList(
-            this.nextResult,
-            this.dataFrameContext.getKryo(),
+        return FlworDataFrameUtils.concatenateSerializedItemLists(
+            (Object[]) wrappedParameters.array(),
+            this.dataFrameContext.getInput(),
             this.dataFrameContext.getOutput()
         );
     }
@@ -34,6 +34,7 @@ public class WhereClauseUDF implements UDF1<Row, Boolean> {
 
     private DataFrameContext dataFrameContext;
     private RuntimeIterator expression;
+    private CompiledExpressionEvaluator evaluator;
 
     public WhereClauseUDF(
             RuntimeIterator expression,
@@ -43,6 +44,7 @@ public class WhereClauseUDF implements UDF1<Row, Boolean> {
     ) {
         this.dataFrameContext = new DataFrameContext(context, schema, columnNames);
         this.expression = expression;
+        this.evaluator = new CompiledExpressionEvaluator(expression, context);
         if (this.expression.isSparkJobNeeded()) {
             throw new JobWithinAJobException(
                     "The expression in this clause requires parallel execution, but is itself executed in parallel. Please consider moving it up or unnest it if it is independent on previous FLWOR variables.",
@@ -58,7 +60,7 @@ public class WhereClauseUDF implements UDF1<Row, Boolean> {
 
         DynamicContext dynamicContext = this.dataFrameContext.getContext();
 
-        boolean result = this.expression.getEffectiveBooleanValue(dynamicContext);
+        boolean result = this.evaluator.getEffectiveBooleanValue(dynamicContext);
         return result;
     }
 }
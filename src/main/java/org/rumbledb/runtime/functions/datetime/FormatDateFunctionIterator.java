@@ -1,21 +1,18 @@
 package org.rumbledb.runtime.functions.datetime;
 
-import org.joda.time.DateTime;
+import org.apache.spark.sql.types.DataTypes;
 import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.CastException;
-import org.rumbledb.exceptions.ComponentSpecifierNotAvailableException;
 import org.rumbledb.exceptions.ExceptionMetadata;
-import org.rumbledb.exceptions.IncorrectSyntaxFormatDateTimeException;
-import org.rumbledb.exceptions.UnsupportedFeatureException;
 import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.runtime.flwor.NativeClauseContext;
+import org.rumbledb.runtime.primary.StringRuntimeIterator;
+import org.rumbledb.types.BuiltinTypesCatalogue;
 
-import java.text.SimpleDateFormat;
-import java.util.Arrays;
-import java.util.Calendar;
 import java.util.List;
 
 public class FormatDateFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
@@ -23,6 +20,8 @@ public class FormatDateFunctionIterator extends AtMostOneItemLocalRuntimeIterato
     private static final long serialVersionUID = 1L;
     private Item valueDateItem = null;
     private Item pictureStringItem = null;
+    // the last compiled picture, reused as long as the picture string does not change.
+    private transient PictureString picture = null;
 
     public FormatDateFunctionIterator(
             List<RuntimeIterator> arguments,
@@ -45,89 +44,12 @@ public class FormatDateFunctionIterator extends AtMostOneItemLocalRuntimeIterato
             if (this.valueDateItem.isNull()) {
                 return this.valueDateItem;
             }
-
-            DateTime dateValue = this.valueDateItem.getDateTimeValue();
             String pictureString = this.pictureStringItem.getStringValue();
-
-            int startOfSequence = 0;
-            boolean variableMarkerSequence = false;
-
-            StringBuilder result = new StringBuilder();
-
-            // Iterate over picture
-            for (int i = 0; i < pictureString.length(); i++) {
-                char c = pictureString.charAt(i);
-                if (variableMarkerSequence) {
-                    if (c == ']') {
-                        String variableMarker = pictureString.substring(startOfSequence, i);
-                        String pattern = parseVariableMarker(variableMarker, result);
-
-                        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(pattern.toString());
-                        Calendar formatCalendar = Calendar.getInstance();
-                        formatCalendar.set(
-                            dateValue.getYear(),
-                            dateValue.getMonthOfYear() - 1,
-                            dateValue.getDayOfMonth()
-                        );
-                        result.append(simpleDateFormat.format(formatCalendar.getTime()));
-
-                        variableMarkerSequence = false;
-                        startOfSequence = i + 1;
-                    }
-                } else {
-                    if (c == ']') {
-                        if (i == pictureString.length() - 1 || pictureString.charAt(i + 1) != ']') {
-                            String message = String.format(
-                                "\"%s\": incorrect syntax",
-                                this.pictureStringItem.serialize()
-                            );
-                            throw new IncorrectSyntaxFormatDateTimeException(message, getMetadata());
-                        } else {
-                            String literalSubstring = pictureString.substring(startOfSequence, i + 1);
-                            result.append(literalSubstring);
-                            startOfSequence = i + 2;
-                            i++;
-                        }
-                    } else if (c == '[') {
-                        if (i == pictureString.length() - 1) {
-                            String message = String.format(
-                                "\"%s\": incorrect syntax",
-                                this.pictureStringItem.serialize()
-                            );
-                            throw new IncorrectSyntaxFormatDateTimeException(message, getMetadata());
-                        }
-
-                        if (pictureString.charAt(i + 1) == '[') {
-                            String literalSubstring = pictureString.substring(startOfSequence, i + 1);
-                            result.append(literalSubstring);
-                            startOfSequence = i + 2;
-                            i++;
-                        } else {
-                            String literalSubstring = pictureString.substring(startOfSequence, i);
-                            result.append(literalSubstring);
-                            variableMarkerSequence = true;
-                            startOfSequence = i + 1;
-                        }
-                    }
-                }
-            }
-
-            if (startOfSequence != pictureString.length()) {
-                if (variableMarkerSequence) {
-                    String message = String.format(
-                        "\"%s\": incorrect syntax",
-                        this.pictureStringItem.serialize()
-                    );
-                    throw new IncorrectSyntaxFormatDateTimeException(message, getMetadata());
-                } else {
-                    String literalSubstring = pictureString.substring(
-                        startOfSequence,
-                        pictureString.length()
-                    );
-                    result.append(literalSubstring);
-                }
+            if (this.picture == null || !this.picture.getPicture().equals(pictureString)) {
+                this.picture = PictureString.get(pictureString, "date", getMetadata());
             }
-            return ItemFactory.getInstance().createStringItem(result.toString());
+            return ItemFactory.getInstance()
+                .createStringItem(this.picture.format(this.valueDateItem.getDateTimeValue()));
         } catch (UnsupportedOperationException | IllegalArgumentException e) {
             String message = String.format(
                 "\"%s\": not castable to type %s",
@@ -138,206 +60,29 @@ public class FormatDateFunctionIterator extends AtMostOneItemLocalRuntimeIterato
         }
     }
 
-    private String parsePresentationModifiers(String presentationModifiers) {
-        String presentationModifier1 = "";
-
-        int presentationModifiersLength = presentationModifiers.length();
-        if (presentationModifiersLength == 1) {
-            presentationModifier1 = presentationModifiers;
-        } else {
-            char lastChar = presentationModifiers.charAt(
-                presentationModifiersLength - 1
-            );
-            String message;
-            switch (lastChar) {
-                case 'a':
-                    message = String.format(
-                        "\"%s\": alphabetic numbering not supported",
-                        this.pictureStringItem.serialize()
-                    );
-                    throw new UnsupportedFeatureException(message, getMetadata());
-                case 't':
-                    presentationModifier1 = presentationModifiers.substring(
-                        0,
-                        presentationModifiersLength - 1
-                    );
-                    break;
-                case 'c':
-                    presentationModifier1 = presentationModifiers.substring(
-                        0,
-                        presentationModifiersLength - 1
-                    );
-                    break;
-                case 'o':
-                    message = String.format(
-                        "\"%s\": ordinal numbering not supported",
-                        this.pictureStringItem.serialize()
-                    );
-                    throw new UnsupportedFeatureException(message, getMetadata());
-                default:
-                    presentationModifier1 = presentationModifiers;
-            }
-        }
-
-        return presentationModifier1;
-    }
-
-    int parseWidthModifier(String widthModifier) {
-        int width = -1;
-        if (widthModifier.length() == 0) {
-            String message = String.format(
-                "\"%s\": incorrect syntax",
-                this.pictureStringItem.serialize()
-            );
-            throw new IncorrectSyntaxFormatDateTimeException(
-                    message,
-                    getMetadata()
-            );
-        }
-        if (!widthModifier.equals("*"))
-            width = Integer.parseInt(widthModifier);
-        return width;
-    }
-
-    private String parseVariableMarker(String variableMarker, StringBuilder result) {
-        if (variableMarker.length() == 0) {
-            String message = String.format(
-                "\"%s\": incorrect syntax",
-                this.pictureStringItem.serialize()
-            );
-            throw new IncorrectSyntaxFormatDateTimeException(message, getMetadata());
+    @Override
+    public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
+        if (!(this.children.get(1) instanceof StringRuntimeIterator)) {
+            return NativeClauseContext.NoNativeQuery;
         }
-        char componentSpecifier;
-        switch (variableMarker.charAt(0)) {
-            case 'Y':
-                componentSpecifier = 'Y';
-                break;
-            case 'M':
-                componentSpecifier = 'M';
-                break;
-            case 'd':
-                componentSpecifier = 'D';
-                break;
-            case 'D':
-                componentSpecifier = 'd';
-                break;
-            case 'F':
-                componentSpecifier = 'u';
-                break;
-            default:
-                String message = String.format(
-                    "\"%s\": a component specifier refers to components"
-                        + " that are not available in the %s type",
-                    this.pictureStringItem.serialize(),
-                    "date"
-                );
-                throw new ComponentSpecifierNotAvailableException(message, getMetadata());
+        NativeClauseContext value = this.children.get(0).generateNativeQuery(nativeClauseContext);
+        if (value == NativeClauseContext.NoNativeQuery || !DataTypes.DateType.equals(value.getSchema())) {
+            return NativeClauseContext.NoNativeQuery;
         }
-
-        String presentationModifier1 = "";
-        Integer minWidth = 1;
-        Integer maxWidth = -1;
-
-        String variableMarkerOptionalModifiers = variableMarker.substring(1);
-
-        if (variableMarkerOptionalModifiers.length() > 0) {
-            List<String> variableMarkerModifiers =
-                Arrays.asList(variableMarkerOptionalModifiers.split(","));
-            int variableMarkerModifiersSize = variableMarkerModifiers.size();
-
-            if (variableMarkerModifiersSize > 2) {
-                // only one comma accepted for picture argument
-                String message = String.format(
-                    "\"%s\": groups not supported",
-                    this.pictureStringItem.serialize()
-                );
-                throw new UnsupportedFeatureException(message, getMetadata());
-            } else {
-                if (variableMarkerModifiersSize >= 1) {
-                    // presentation modifiers present
-                    String presentationModifiers = variableMarkerModifiers.get(0);
-                    presentationModifier1 = parsePresentationModifiers(presentationModifiers);
-                }
-                if (variableMarkerModifiersSize == 2) {
-                    // width modifier present
-                    String variableMarkerOptionalWidthModifiers = variableMarkerModifiers.get(1);
-                    if (variableMarkerOptionalWidthModifiers.length() > 0) {
-                        List<String> widthModifier =
-                            Arrays.asList(variableMarkerOptionalWidthModifiers.split("-"));
-                        int widthModifierSize = widthModifier.size();
-                        if (widthModifierSize >= 1) {
-                            minWidth = parseWidthModifier(widthModifier.get(0));
-                            if (minWidth < 1)
-                                minWidth = 1;
-                        }
-                        if (widthModifierSize == 2) {
-                            maxWidth = parseWidthModifier(widthModifier.get(1));
-                        }
-                        if (widthModifierSize > 2) {
-                            String message = String.format(
-                                "\"%s\": incorrect syntax",
-                                this.pictureStringItem.serialize()
-                            );
-                            throw new IncorrectSyntaxFormatDateTimeException(
-                                    message,
-                                    getMetadata()
-                            );
-                        }
-                    } else {
-                        String message = String.format(
-                            "\"%s\": incorrect syntax",
-                            this.pictureStringItem.serialize()
-                        );
-                        throw new IncorrectSyntaxFormatDateTimeException(message, getMetadata());
-                    }
-                }
-            }
+        String pattern;
+        try {
+            pattern = PictureString.get(
+                this.children.get(1).materializeFirstItemOrNull(nativeClauseContext.getContext()).getStringValue(),
+                "date",
+                getMetadata()
+            ).getSparkDatePattern();
+        } catch (IllegalArgumentException e) {
+            return NativeClauseContext.NoNativeQuery;
         }
-
-        StringBuilder pattern = new StringBuilder();
-        if (presentationModifier1.length() > 0) {
-            if (presentationModifier1.equals("Nn")) {
-                if (maxWidth < 1)
-                    maxWidth = 10;
-                if (
-                    componentSpecifier == 'd'
-                        || componentSpecifier == 'D'
-                        || componentSpecifier == 'u'
-                )
-                    componentSpecifier = 'E';
-            } else {
-                char presentationModifierStart = presentationModifier1.charAt(0);
-                // check if numeric sequence as format token
-                if (presentationModifierStart >= '0' && presentationModifierStart <= '9') {
-                    int toReduce = 2;
-                    if (componentSpecifier == 'Y')
-                        toReduce = 4;
-                    int prefixLength;
-                    if (maxWidth < 1)
-                        prefixLength = presentationModifier1.length() - toReduce;
-                    else
-                        prefixLength = maxWidth - toReduce;
-                    for (int j = 0; j < prefixLength; ++j)
-                        pattern.append('0');
-                    maxWidth = toReduce;
-                } else {
-                    String message = String.format(
-                        "\"%s\": first presentation modifier not supported: %s",
-                        this.pictureStringItem.serialize(),
-                        presentationModifier1
-                    );
-                    throw new UnsupportedFeatureException(message, getMetadata());
-                }
-            }
-        } else {
-            if (maxWidth < 1)
-                maxWidth = 1;
+        if (pattern == null) {
+            return NativeClauseContext.NoNativeQuery;
         }
-
-        for (int j = minWidth; j <= maxWidth; ++j)
-            pattern.append(componentSpecifier);
-
-        return pattern.toString();
+        String resultingQuery = "date_format( " + value.getResultingQuery() + ", \"" + pattern + "\" )";
+        return new NativeClauseContext(nativeClauseContext, resultingQuery, BuiltinTypesCatalogue.stringItem);
     }
-
 }
@@ -0,0 +1,367 @@
+package org.rumbledb.runtime.functions.datetime;
+
+import org.joda.time.DateTime;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.rumbledb.exceptions.ComponentSpecifierNotAvailableException;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.IncorrectSyntaxFormatDateTimeException;
+import org.rumbledb.exceptions.UnsupportedFeatureException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A picture string of format-date, format-time or format-dateTime, compiled once into an immutable sequence of
+ * literals and component formatters.
+ *
+ * Each variable marker is compiled to a Joda formatter for a single component, so that formatting a value only
+ * appends literals and formatted components to one buffer. Compiled pictures are shared across calls through a
+ * bounded cache, keyed by the picture and the type of the formatted values.
+ */
+final class PictureString {
+
+    private static final int CACHE_SIZE = 256;
+    private static final Map<String, PictureString> cache = Collections.synchronizedMap(new PictureCache());
+
+    private final String picture;
+    // literals[i] is output before component i, and the last literal after all components.
+    private final String[] literals;
+    private final char[] letters;
+    private final int[] counts;
+    private final DateTimeFormatter[] formatters;
+
+    private PictureString(String picture, List<String> literals, List<Character> letters, List<Integer> counts) {
+        this.picture = picture;
+        this.literals = literals.toArray(new String[0]);
+        this.letters = new char[letters.size()];
+        this.counts = new int[counts.size()];
+        this.formatters = new DateTimeFormatter[letters.size()];
+        for (int i = 0; i < this.letters.length; ++i) {
+            this.letters[i] = letters.get(i);
+            this.counts[i] = counts.get(i);
+            if (this.counts[i] > 0) {
+                StringBuilder pattern = new StringBuilder();
+                for (int j = 0; j < this.counts[i]; ++j) {
+                    pattern.append(this.letters[i]);
+                }
+                this.formatters[i] = DateTimeFormat.forPattern(pattern.toString());
+            }
+        }
+    }
+
+    /**
+     * Returns the compiled picture, compiling it if it is not cached yet.
+     *
+     * @param picture the picture string.
+     * @param typeName the type of the formatted values: date, time or dateTime.
+     * @param metadata the metadata used for reporting errors in the picture.
+     * @return the compiled picture.
+     */
+    static PictureString get(String picture, String typeName, ExceptionMetadata metadata) {
+        String key = typeName + ":" + picture;
+        PictureString result = cache.get(key);
+        if (result == null) {
+            result = compile(picture, typeName, metadata);
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    String getPicture() {
+        return this.picture;
+    }
+
+    /**
+     * Formats a value, in its own time zone.
+     *
+     * @param value the value to format.
+     * @return the formatted value.
+     */
+    String format(DateTime value) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < this.formatters.length; ++i) {
+            result.append(this.literals[i]);
+            if (this.formatters[i] != null) {
+                this.formatters[i].printTo(result, value);
+            }
+        }
+        result.append(this.literals[this.formatters.length]);
+        return result.toString();
+    }
+
+    /**
+     * Translates this picture to a Spark SQL date_format pattern for formatting dates.
+     *
+     * @return the pattern, or null if some component has no equivalent in Spark SQL.
+     */
+    String getSparkDatePattern() {
+        StringBuilder pattern = new StringBuilder();
+        for (int i = 0; i <= this.letters.length; ++i) {
+            String literal = this.literals[i];
+            if (literal.indexOf('\'') != -1 || literal.indexOf('"') != -1 || literal.indexOf('\\') != -1) {
+                return null;
+            }
+            if (!literal.isEmpty()) {
+                pattern.append('\'').append(literal).append('\'');
+            }
+            if (i == this.letters.length) {
+                break;
+            }
+            char letter = this.letters[i];
+            int count = this.counts[i];
+            if (count == 0) {
+                return null;
+            }
+            switch (letter) {
+                case 'y':
+                    if (count > 4) {
+                        return null;
+                    }
+                    break;
+                case 'M':
+                case 'E':
+                    count = Math.min(count, 4);
+                    break;
+                case 'd':
+                    if (count > 2) {
+                        return null;
+                    }
+                    break;
+                case 'D':
+                    if (count > 3) {
+                        return null;
+                    }
+                    break;
+                default:
+                    return null;
+            }
+            for (int j = 0; j < count; ++j) {
+                pattern.append(letter);
+            }
+        }
+        return pattern.toString();
+    }
+
+    private static PictureString compile(String picture, String typeName, ExceptionMetadata metadata) {
+        List<String> literals = new ArrayList<>();
+        List<Character> letters = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < picture.length()) {
+            char c = picture.charAt(i);
+            if (c == ']') {
+                if (i == picture.length() - 1 || picture.charAt(i + 1) != ']') {
+                    throw incorrectSyntax(picture, metadata);
+                }
+                literal.append(']');
+                i += 2;
+            } else if (c == '[') {
+                if (i == picture.length() - 1) {
+                    throw incorrectSyntax(picture, metadata);
+                }
+                if (picture.charAt(i + 1) == '[') {
+                    literal.append('[');
+                    i += 2;
+                    continue;
+                }
+                int end = picture.indexOf(']', i + 1);
+                if (end == -1) {
+                    throw incorrectSyntax(picture, metadata);
+                }
+                compileVariableMarker(picture, i + 1, end, typeName, metadata, literal, letters, counts);
+                literals.add(literal.toString());
+                literal.setLength(0);
+                i = end + 1;
+            } else {
+                literal.append(c);
+                ++i;
+            }
+        }
+        literals.add(literal.toString());
+        return new PictureString(picture, literals, letters, counts);
+    }
+
+    private static void compileVariableMarker(
+            String picture,
+            int start,
+            int end,
+            String typeName,
+            ExceptionMetadata metadata,
+            StringBuilder literal,
+            List<Character> letters,
+            List<Integer> counts
+    ) {
+        if (start == end) {
+            throw incorrectSyntax(picture, metadata);
+        }
+        boolean hasDate = !typeName.equals("time");
+        boolean hasTime = !typeName.equals("date");
+        char componentSpecifier;
+        switch (picture.charAt(start)) {
+            case 'Y':
+                componentSpecifier = hasDate ? 'y' : 0;
+                break;
+            case 'M':
+                componentSpecifier = hasDate ? 'M' : 0;
+                break;
+            case 'd':
+                componentSpecifier = hasDate ? 'D' : 0;
+                break;
+            case 'D':
+                componentSpecifier = hasDate ? 'd' : 0;
+                break;
+            case 'F':
+                componentSpecifier = hasDate ? 'e' : 0;
+                break;
+            case 'H':
+                componentSpecifier = hasTime ? 'H' : 0;
+                break;
+            case 'm':
+                componentSpecifier = hasTime ? 'm' : 0;
+                break;
+            case 's':
+                componentSpecifier = hasTime ? 's' : 0;
+                break;
+            case 'P':
+                componentSpecifier = hasTime ? 'a' : 0;
+                break;
+            default:
+                componentSpecifier = 0;
+        }
+        if (componentSpecifier == 0) {
+            String message = String.format(
+                "\"%s\": a component specifier refers to components"
+                    + " that are not available in the %s type",
+                picture,
+                typeName
+            );
+            throw new ComponentSpecifierNotAvailableException(message, metadata);
+        }
+
+        String presentationModifier = "";
+        int minWidth = 1;
+        int maxWidth = -1;
+
+        int comma = picture.indexOf(',', start + 1);
+        if (comma == -1 || comma > end) {
+            comma = end;
+        } else if (picture.indexOf(',', comma + 1) != -1 && picture.indexOf(',', comma + 1) < end) {
+            // only one comma accepted for picture argument
+            String message = String.format("\"%s\": groups not supported", picture);
+            throw new UnsupportedFeatureException(message, metadata);
+        }
+        if (comma > start + 1) {
+            presentationModifier = compilePresentationModifier(picture.substring(start + 1, comma), picture, metadata);
+        }
+        if (comma + 1 < end) {
+            // width modifier present
+            int dash = picture.indexOf('-', comma + 1);
+            if (dash == -1 || dash > end) {
+                dash = end;
+            } else if (picture.indexOf('-', dash + 1) != -1 && picture.indexOf('-', dash + 1) < end) {
+                throw incorrectSyntax(picture, metadata);
+            }
+            minWidth = Math.max(compileWidthModifier(picture, comma + 1, dash, metadata), 1);
+            if (dash + 1 < end) {
+                maxWidth = compileWidthModifier(picture, dash + 1, end, metadata);
+            }
+        }
+
+        if (presentationModifier.length() > 0) {
+            if (presentationModifier.equals("Nn") && componentSpecifier != 'a') {
+                if (maxWidth < 1) {
+                    maxWidth = 10;
+                }
+                if (componentSpecifier == 'd' || componentSpecifier == 'D' || componentSpecifier == 'e') {
+                    componentSpecifier = 'E';
+                }
+            } else if (presentationModifier.equals("N") && componentSpecifier == 'a') {
+                if (maxWidth < 1) {
+                    maxWidth = 10;
+                }
+            } else {
+                char presentationModifierStart = presentationModifier.charAt(0);
+                // check if numeric sequence as format token
+                if (presentationModifierStart >= '0' && presentationModifierStart <= '9') {
+                    int toReduce = componentSpecifier == 'y' ? 4 : 2;
+                    int prefixLength = (maxWidth < 1 ? presentationModifier.length() : maxWidth) - toReduce;
+                    for (int j = 0; j < prefixLength; ++j) {
+                        literal.append('0');
+                    }
+                    maxWidth = toReduce;
+                } else {
+                    String message = String.format(
+                        "\"%s\": first presentation modifier not supported: %s",
+                        picture,
+                        presentationModifier
+                    );
+                    throw new UnsupportedFeatureException(message, metadata);
+                }
+            }
+        } else if (maxWidth < 1) {
+            maxWidth = 1;
+        }
+
+        letters.add(componentSpecifier);
+        counts.add(Math.max(maxWidth - minWidth + 1, 0));
+    }
+
+    private static String compilePresentationModifier(
+            String presentationModifiers,
+            String picture,
+            ExceptionMetadata metadata
+    ) {
+        int length = presentationModifiers.length();
+        if (length == 1) {
+            return presentationModifiers;
+        }
+        String message;
+        switch (presentationModifiers.charAt(length - 1)) {
+            case 'a':
+                message = String.format("\"%s\": alphabetic numbering not supported", picture);
+                throw new UnsupportedFeatureException(message, metadata);
+            case 'o':
+                message = String.format("\"%s\": ordinal numbering not supported", picture);
+                throw new UnsupportedFeatureException(message, metadata);
+            case 't':
+            case 'c':
+                return presentationModifiers.substring(0, length - 1);
+            default:
+                return presentationModifiers;
+        }
+    }
+
+    private static int compileWidthModifier(String picture, int start, int end, ExceptionMetadata metadata) {
+        if (start == end) {
+            throw incorrectSyntax(picture, metadata);
+        }
+        if (end - start == 1 && picture.charAt(start) == '*') {
+            return -1;
+        }
+        return Integer.parseInt(picture.substring(start, end));
+    }
+
+    private static IncorrectSyntaxFormatDateTimeException incorrectSyntax(String picture, ExceptionMetadata metadata) {
+        String message = String.format("\"%s\": incorrect syntax", picture);
+        return new IncorrectSyntaxFormatDateTimeException(message, metadata);
+    }
+
+    private static class PictureCache extends LinkedHashMap<String, PictureString> {
+
+        private static final long serialVersionUID = 1L;
+
+        PictureCache() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PictureString> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    }
+}
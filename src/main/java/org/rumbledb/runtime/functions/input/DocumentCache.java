@@ -0,0 +1,158 @@
+package org.rumbledb.runtime.functions.input;
+
+import java.net.URI;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.hadoop.fs.FileStatus;
+
+/**
+ * A process-wide cache (on the driver and on each executor) of documents read by json-doc(), unparsed-text() and
+ * local-text-file(), in their parsed form. Entries are keyed by function and resolved location, and are only valid
+ * as long as the modification time and length of the file are unchanged. Resources whose status cannot be known
+ * (e.g., over HTTP) are not cached.
+ *
+ * The cache is bounded by the total length of the cached files, and the least recently used documents are evicted
+ * first.
+ */
+public class DocumentCache {
+
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 64 * 1024 * 1024;
+
+    private static final DocumentCache instance = new DocumentCache(DEFAULT_MAXIMUM_WEIGHT);
+
+    private final long maximumWeight;
+    private final LinkedHashMap<String, CachedDocument> entries;
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private static class CachedDocument {
+        private final long modificationTime;
+        private final long length;
+        private final Object document;
+
+        private CachedDocument(long modificationTime, long length, Object document) {
+            this.modificationTime = modificationTime;
+            this.length = length;
+            this.document = document;
+        }
+    }
+
+    public DocumentCache(long maximumWeight) {
+        this.maximumWeight = maximumWeight;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.weight = 0;
+    }
+
+    public static DocumentCache getInstance() {
+        return instance;
+    }
+
+    private static String key(String function, URI location) {
+        return function + " " + location;
+    }
+
+    /**
+     * Says whether a file is small enough to be cached.
+     *
+     * @param status the status of the file, or null if unknown.
+     * @return true if the file can be cached.
+     */
+    public boolean isCacheable(FileStatus status) {
+        return status != null && status.getLen() <= this.maximumWeight / 4;
+    }
+
+    /**
+     * Looks up a document.
+     *
+     * @param function the name of the function that read the document.
+     * @param location the resolved location of the document.
+     * @param status the current status of the file, or null if unknown.
+     * @return the cached document, or null if it is not cached or if the file has changed.
+     */
+    public synchronized Object get(String function, URI location, FileStatus status) {
+        if (status == null) {
+            return null;
+        }
+        String key = key(function, location);
+        CachedDocument entry = this.entries.get(key);
+        if (entry == null) {
+            this.misses++;
+            return null;
+        }
+        if (entry.modificationTime != status.getModificationTime() || entry.length != status.getLen()) {
+            this.entries.remove(key);
+            this.weight -= entry.length;
+            this.misses++;
+            return null;
+        }
+        this.hits++;
+        return entry.document;
+    }
+
+    /**
+     * Caches a document if the file is small enough.
+     *
+     * @param function the name of the function that read the document.
+     * @param location the resolved location of the document.
+     * @param status the status of the file when it was read, or null if unknown.
+     * @param document the document, which must not be modified afterwards.
+     */
+    public synchronized void put(String function, URI location, FileStatus status, Object document) {
+        if (!isCacheable(status)) {
+            return;
+        }
+        CachedDocument entry = new CachedDocument(status.getModificationTime(), status.getLen(), document);
+        CachedDocument previous = this.entries.put(key(function, location), entry);
+        if (previous != null) {
+            this.weight -= previous.length;
+        }
+        this.weight += entry.length;
+        Iterator<Map.Entry<String, CachedDocument>> iterator = this.entries.entrySet().iterator();
+        while (this.weight > this.maximumWeight && iterator.hasNext()) {
+            CachedDocument evicted = iterator.next().getValue();
+            iterator.remove();
+            this.weight -= evicted.length;
+            this.evictions++;
+        }
+    }
+
+    public synchronized void clear() {
+        this.entries.clear();
+        this.weight = 0;
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    public synchronized long getEvictions() {
+        return this.evictions;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "Document cache: "
+            + this.entries.size()
+            + " documents, "
+            + this.weight
+            + " bytes, "
+            + this.hits
+            + " hits, "
+            + this.misses
+            + " misses, "
+            + this.evictions
+            + " evictions";
+    }
+}
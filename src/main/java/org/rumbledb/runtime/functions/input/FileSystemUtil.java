@@ -1,11 +1,15 @@
 package org.rumbledb.runtime.functions.input;
 
 import org.apache.hadoop.HadoopIllegalArgumentException;
+import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.CreateFlag;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileContext;
+import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.UnsupportedFileSystemException;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.methods.CloseableHttpResponse;
@@ -164,6 +168,94 @@ public class FileSystemUtil {
         }
     }
 
+    /**
+     * Opens a resource for reading, decompressing it if its extension is that of a compression codec (e.g., .gz or
+     * .bz2), as Spark does when reading text files.
+     *
+     * @param locator the resolved location of the resource.
+     * @param conf the configuration.
+     * @param metadata the metadata.
+     * @return the decompressed content of the resource.
+     */
+    public static InputStream getDecompressedDataInputStream(
+            URI locator,
+            RumbleRuntimeConfiguration conf,
+            ExceptionMetadata metadata
+    ) {
+        InputStream inputStream = getDataInputStream(locator, conf, metadata);
+        CompressionCodec codec = getCompressionCodec(locator);
+        if (codec == null) {
+            return inputStream;
+        }
+        try {
+            return codec.createInputStream(inputStream);
+        } catch (IOException e) {
+            handleException(e, locator, metadata);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the compression codec of a resource, inferred from its extension.
+     *
+     * @param locator the resolved location of the resource.
+     * @return the codec, or null if the resource is not compressed.
+     */
+    public static CompressionCodec getCompressionCodec(URI locator) {
+        return new CompressionCodecFactory(new Configuration()).getCodec(new Path(locator));
+    }
+
+    /**
+     * Returns the status (modification time, length...) of a resource, used to invalidate cached content.
+     *
+     * @param locator the resolved location of the resource.
+     * @param conf the configuration.
+     * @param metadata the metadata.
+     * @return the file status, or null if it cannot be known (e.g., over HTTP).
+     */
+    public static FileStatus getFileStatus(
+            URI locator,
+            RumbleRuntimeConfiguration conf,
+            ExceptionMetadata metadata
+    ) {
+        checkForAbsoluteAndNoWildcards(locator, metadata);
+        checkAllowed(locator, conf, metadata);
+        if (locator.getScheme().equals("http") || locator.getScheme().equals("https")) {
+            return null;
+        }
+        try {
+            FileContext fileContext = FileContext.getFileContext();
+            Path path = new Path(locator);
+            if (!fileContext.util().exists(path)) {
+                throw new CannotRetrieveResourceException("File does not exist: " + locator, metadata);
+            }
+            return fileContext.getFileStatus(path);
+        } catch (Exception e) {
+            handleException(e, locator, metadata);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the modification time of a resource, used to invalidate cached content.
+     *
+     * @param locator the resolved location of the resource.
+     * @param conf the configuration.
+     * @param metadata the metadata.
+     * @return the modification time, or -1 if it cannot be known (e.g., over HTTP).
+     */
+    public static long getModificationTime(
+            URI locator,
+            RumbleRuntimeConfiguration conf,
+            ExceptionMetadata metadata
+    ) {
+        FileStatus status = getFileStatus(locator, conf, metadata);
+        if (status == null) {
+            return -1;
+        }
+        return status.getModificationTime();
+    }
+
     public static InputStream getDataInputStreamHTML(
             URI locator,
             RumbleRuntimeConfiguration conf,
@@ -21,14 +21,23 @@
 package org.rumbledb.runtime.functions.input;
 
 import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.types.StructType;
 import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.CannotRetrieveResourceException;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.items.parsing.ItemParser;
+import org.rumbledb.items.parsing.JSONSchemaInference;
+import org.rumbledb.items.parsing.JSONSyntaxToInferredRowMapper;
 import org.rumbledb.items.parsing.JSONSyntaxToItemMapper;
-import org.rumbledb.runtime.RDDRuntimeIterator;
+import org.rumbledb.items.structured.JSoundDataFrame;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.types.ItemType;
+import org.rumbledb.types.ItemTypeFactory;
+
+import com.google.gson.stream.JsonReader;
 
 import sparksoniq.spark.SparkSessionManager;
 
@@ -36,11 +45,13 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-public class JsonFileFunctionIterator extends RDDRuntimeIterator {
+public class JsonFileFunctionIterator extends LineBasedFileFunctionIterator {
 
     private static final long serialVersionUID = 1L;
 
@@ -52,8 +63,49 @@ public class JsonFileFunctionIterator extends RDDRuntimeIterator {
         super(arguments, executionMode, iteratorMetadata);
     }
 
+    @Override
+    protected Item parseLine(String line) {
+        return ItemParser.getItemFromObject(new JsonReader(new StringReader(line)), getMetadata());
+    }
+
     @Override
     public JavaRDD<Item> getRDDAux(DynamicContext context) {
+        return getLines(context).mapPartitions(new JSONSyntaxToItemMapper(getMetadata()));
+    }
+
+    @Override
+    protected boolean implementsDataFrames() {
+        return true;
+    }
+
+    /**
+     * Reads the file into a DataFrame with a schema inferred from its first lines. This execution mode is only chosen
+     * by the execution mode visitor if schema inference is activated.
+     */
+    @Override
+    public JSoundDataFrame getDataFrame(DynamicContext context) {
+        JavaRDD<String> lines = getLines(context);
+        int sampleSize = context.getRumbleRuntimeConfiguration().getJSONSchemaInferenceSampleSize();
+        ItemType itemType = JSONSchemaInference.inferItemType(lines.take(sampleSize), getMetadata());
+        if (itemType == null) {
+            // The malformed line is reported while parsing.
+            itemType = ItemTypeFactory.createOpenObjectItemType(Collections.emptyMap());
+        }
+        StructType schema = JSONSchemaInference.getDataFrameSchema(itemType);
+        JavaRDD<Row> rows = lines.mapPartitions(new JSONSyntaxToInferredRowMapper(itemType, schema, getMetadata()));
+        return new JSoundDataFrame(
+                SparkSessionManager.getInstance().getOrCreateSession().createDataFrame(rows, schema),
+                itemType
+        );
+    }
+
+    /**
+     * Returns the lines of the file without parsing them, so that they can be parsed directly against a schema.
+     *
+     * @param context the dynamic context in which the arguments are evaluated.
+     * @return the lines of the file.
+     */
+    public JavaRDD<String> getLines(DynamicContext context) {
         String url = this.children.get(0).materializeFirstItemOrNull(context).getStringValue();
         url = url.replaceAll(" ", "%20");
         URI uri = FileSystemUtil.resolveURI(this.staticURI, url, getMetadata());
@@ -115,6 +167,6 @@ public class JsonFileFunctionIterator extends RDDRuntimeIterator {
                     );
             }
         }
-        return strings.mapPartitions(new JSONSyntaxToItemMapper(getMetadata()));
+        return strings;
     }
 }
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.functions.input;
+
+import org.rumbledb.api.Item;
+import org.rumbledb.exceptions.CannotRetrieveResourceException;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.IteratorFlowException;
+import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.runtime.HybridRuntimeIterator;
+import org.rumbledb.runtime.RuntimeIterator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Base class for the functions reading a file line by line (json-file, text-file...). These are normally evaluated
+ * with Spark, but the execution mode visitor may decide to read small files locally, in which case the lines are
+ * streamed from the file system without creating any Spark job.
+ */
+public abstract class LineBasedFileFunctionIterator extends HybridRuntimeIterator {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient InputStream inputStream;
+    private transient Iterator<String> lines;
+
+    protected LineBasedFileFunctionIterator(
+            List<RuntimeIterator> arguments,
+            ExecutionMode executionMode,
+            ExceptionMetadata iteratorMetadata
+    ) {
+        super(arguments, executionMode, iteratorMetadata);
+    }
+
+    /**
+     * Converts a line of the file to an item.
+     *
+     * @param line the line.
+     * @return the item.
+     */
+    protected abstract Item parseLine(String line);
+
+    @Override
+    protected void openLocal() {
+        Item url = this.children.get(0).materializeFirstItemOrNull(this.currentDynamicContextForLocalExecution);
+        if (url == null) {
+            this.lines = Collections.emptyIterator();
+            this.hasNext = false;
+            return;
+        }
+        URI uri = FileSystemUtil.resolveURI(this.staticURI, url.getStringValue(), getMetadata());
+        this.inputStream = FileSystemUtil.getDecompressedDataInputStream(
+            uri,
+            this.currentDynamicContextForLocalExecution.getRumbleRuntimeConfiguration(),
+            getMetadata()
+        );
+        this.lines = new BufferedReader(new InputStreamReader(this.inputStream)).lines().iterator();
+        this.hasNext = this.lines.hasNext();
+    }
+
+    @Override
+    protected void closeLocal() {
+        if (this.inputStream == null) {
+            return;
+        }
+        try {
+            this.inputStream.close();
+        } catch (IOException e) {
+            CannotRetrieveResourceException ex = new CannotRetrieveResourceException("I/O exception", getMetadata());
+            ex.initCause(e);
+            throw ex;
+        } finally {
+            this.inputStream = null;
+            this.lines = null;
+        }
+    }
+
+    @Override
+    protected void resetLocal() {
+        closeLocal();
+        openLocal();
+    }
+
+    @Override
+    protected boolean hasNextLocal() {
+        return this.hasNext;
+    }
+
+    @Override
+    protected Item nextLocal() {
+        if (!this.hasNext) {
+            throw new IteratorFlowException(
+                    RuntimeIterator.FLOW_EXCEPTION_MESSAGE + this.getClass().getSimpleName(),
+                    getMetadata()
+            );
+        }
+        Item result = parseLine(this.lines.next());
+        this.hasNext = this.lines.hasNext();
+        return result;
+    }
+}
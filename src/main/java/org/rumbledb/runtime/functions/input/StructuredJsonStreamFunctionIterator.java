@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.functions.input;
+
+import org.apache.spark.sql.AnalysisException;
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.types.StructType;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.exceptions.CannotRetrieveResourceException;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.items.structured.JSoundDataFrame;
+import org.rumbledb.runtime.DataFrameRuntimeIterator;
+import org.rumbledb.runtime.RuntimeIterator;
+
+import sparksoniq.spark.SparkSessionManager;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Watches a directory of JSON Lines files and returns the objects of the files that appear in it as a streaming
+ * DataFrame (Spark Structured Streaming). The schema is inferred from the files already present in the directory
+ * when the query starts, as a streaming source requires a fixed schema.
+ */
+public class StructuredJsonStreamFunctionIterator extends DataFrameRuntimeIterator {
+
+    private static final long serialVersionUID = 1L;
+
+    public StructuredJsonStreamFunctionIterator(
+            List<RuntimeIterator> arguments,
+            ExecutionMode executionMode,
+            ExceptionMetadata iteratorMetadata
+    ) {
+        super(arguments, executionMode, iteratorMetadata);
+    }
+
+    @Override
+    public JSoundDataFrame getDataFrame(DynamicContext context) {
+        RuntimeIterator urlIterator = this.children.get(0);
+        urlIterator.open(context);
+        String url = urlIterator.next().getStringValue();
+        urlIterator.close();
+        URI uri = FileSystemUtil.resolveURI(this.staticURI, url, getMetadata());
+        if (!FileSystemUtil.exists(uri, context.getRumbleRuntimeConfiguration(), getMetadata())) {
+            throw new CannotRetrieveResourceException("Directory " + uri + " not found.", getMetadata());
+        }
+        SparkSession session = SparkSessionManager.getInstance().getOrCreateSession();
+        StructType schema;
+        try {
+            schema = session.read().json(uri.toString()).schema();
+        } catch (Exception e) {
+            if (e instanceof AnalysisException) {
+                throw new CannotRetrieveResourceException(
+                        "The schema of the stream " + uri + " cannot be inferred: " + e.getMessage(),
+                        getMetadata()
+                );
+            }
+            throw e;
+        }
+        if (schema.fields().length == 0) {
+            throw new CannotRetrieveResourceException(
+                    "The schema of the stream "
+                        + uri
+                        + " cannot be inferred: the directory must contain at least one JSON Lines file when the query starts.",
+                    getMetadata()
+            );
+        }
+        Dataset<Row> dataFrame = session.readStream()
+            .schema(schema)
+            .option("mode", "DROPMALFORMED")
+            .json(uri.toString());
+        return new JSoundDataFrame(dataFrame);
+    }
+}
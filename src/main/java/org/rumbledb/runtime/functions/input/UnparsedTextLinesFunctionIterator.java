@@ -26,8 +26,8 @@ import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.CannotRetrieveResourceException;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.items.ItemFactory;
 import org.rumbledb.items.parsing.StringToStringItemMapper;
-import org.rumbledb.runtime.RDDRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
 
 import sparksoniq.spark.SparkSessionManager;
@@ -40,7 +40,7 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 
-public class UnparsedTextLinesFunctionIterator extends RDDRuntimeIterator {
+public class UnparsedTextLinesFunctionIterator extends LineBasedFileFunctionIterator {
 
     private static final long serialVersionUID = 1L;
     public static final int MIN_PARTITIONS = 10;
@@ -53,6 +53,11 @@ public class UnparsedTextLinesFunctionIterator extends RDDRuntimeIterator {
         super(arguments, executionMode, iteratorMetadata);
     }
 
+    @Override
+    protected Item parseLine(String line) {
+        return ItemFactory.getInstance().createStringItem(line);
+    }
+
     @Override
     public JavaRDD<Item> getRDDAux(DynamicContext context) {
         RuntimeIterator urlIterator = this.children.get(0);
@@ -21,7 +21,9 @@
 
 package org.rumbledb.runtime.functions.io;
 
+import org.apache.hadoop.fs.FileStatus;
 import org.rumbledb.api.Item;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.exceptions.IteratorFlowException;
@@ -30,7 +32,9 @@ import org.rumbledb.items.parsing.ItemParser;
 import com.google.gson.stream.JsonReader;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.functions.base.LocalFunctionCallIterator;
+import org.rumbledb.runtime.functions.input.DocumentCache;
 import org.rumbledb.runtime.functions.input.FileSystemUtil;
+import org.rumbledb.runtime.primary.StringRuntimeIterator;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -40,8 +44,12 @@ import java.util.List;
 public class JsonDocFunctionIterator extends LocalFunctionCallIterator {
 
     private static final long serialVersionUID = 1L;
+    private static final String FUNCTION_NAME = "json-doc";
     private RuntimeIterator iterator;
 
+    // Document read by this call site, kept for the lifetime of the query if the location is a literal.
+    private transient Item constantDocument;
+
     public JsonDocFunctionIterator(
             List<RuntimeIterator> arguments,
             ExecutionMode executionMode,
@@ -64,19 +72,20 @@ public class JsonDocFunctionIterator extends LocalFunctionCallIterator {
         if (this.hasNext) {
             this.hasNext = false;
             Item path = this.iterator.materializeFirstItemOrNull(this.currentDynamicContextForLocalExecution);
+            if (this.constantDocument != null) {
+                return this.constantDocument;
+            }
             try {
                 URI uri = FileSystemUtil.resolveURI(
                     this.staticURI,
                     path.getStringValue(),
                     getMetadata()
                 );
-                InputStream is = FileSystemUtil.getDataInputStream(
-                    uri,
-                    this.currentDynamicContextForLocalExecution.getRumbleRuntimeConfiguration(),
-                    getMetadata()
-                );
-                JsonReader object = new JsonReader(new InputStreamReader(is));
-                return ItemParser.getItemFromObject(object, getMetadata());
+                Item document = readDocument(uri);
+                if (this.iterator instanceof StringRuntimeIterator) {
+                    this.constantDocument = document;
+                }
+                return document;
             } catch (IteratorFlowException e) {
                 throw new IteratorFlowException(e.getJSONiqErrorMessage(), getMetadata());
             }
@@ -84,5 +93,20 @@ public class JsonDocFunctionIterator extends LocalFunctionCallIterator {
         throw new IteratorFlowException(RuntimeIterator.FLOW_EXCEPTION_MESSAGE + " json-doc function", getMetadata());
     }
 
+    private Item readDocument(URI uri) {
+        RumbleRuntimeConfiguration configuration = this.currentDynamicContextForLocalExecution
+            .getRumbleRuntimeConfiguration();
+        FileStatus status = FileSystemUtil.getFileStatus(uri, configuration, getMetadata());
+        Object cached = DocumentCache.getInstance().get(FUNCTION_NAME, uri, status);
+        if (cached != null) {
+            return (Item) cached;
+        }
+        InputStream is = FileSystemUtil.getDataInputStream(uri, configuration, getMetadata());
+        JsonReader object = new JsonReader(new InputStreamReader(is));
+        Item document = ItemParser.getItemFromObject(object, getMetadata());
+        DocumentCache.getInstance().put(FUNCTION_NAME, uri, status, document);
+        return document;
+    }
+
 
 }
@@ -21,7 +21,9 @@
 
 package org.rumbledb.runtime.functions.io;
 
+import org.apache.hadoop.fs.FileStatus;
 import org.rumbledb.api.Item;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.CannotRetrieveResourceException;
 import org.rumbledb.exceptions.ExceptionMetadata;
@@ -30,7 +32,9 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.functions.base.LocalFunctionCallIterator;
+import org.rumbledb.runtime.functions.input.DocumentCache;
 import org.rumbledb.runtime.functions.input.FileSystemUtil;
+import org.rumbledb.runtime.primary.StringRuntimeIterator;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -39,14 +43,18 @@ import java.io.InputStreamReader;
 import java.net.URI;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class LocalTextFileFunctionIterator extends LocalFunctionCallIterator {
 
     private static final long serialVersionUID = 1L;
+    private static final String FUNCTION_NAME = "local-text-file";
     private RuntimeIterator iterator;
 
     private transient InputStream is;
     private transient Iterator<String> stream;
+    // Lines read by this call site, kept for the lifetime of the query if the location is a literal.
+    private transient List<String> constantLines;
 
     public LocalTextFileFunctionIterator(
             List<RuntimeIterator> arguments,
@@ -59,41 +67,31 @@ public class LocalTextFileFunctionIterator extends LocalFunctionCallIterator {
     @Override
     public void open(DynamicContext context) {
         super.open(context);
-        this.iterator = this.children.get(0);
-        Item path = this.iterator.materializeFirstItemOrNull(context);
-        if (path == null) {
-            throw new IteratorFlowException(
-                    RuntimeIterator.FLOW_EXCEPTION_MESSAGE + " local-text-file function",
-                    getMetadata()
-            );
-        }
-        URI uri = FileSystemUtil.resolveURI(
-            this.staticURI,
-            path.getStringValue(),
-            getMetadata()
-        );
-        this.is = FileSystemUtil.getDataInputStream(
-            uri,
-            this.currentDynamicContextForLocalExecution.getRumbleRuntimeConfiguration(),
-            getMetadata()
-        );
-        InputStreamReader r = new InputStreamReader(this.is);
-        BufferedReader br = new BufferedReader(r);
-        this.stream = br.lines().iterator();
-        this.hasNext = this.stream.hasNext();
+        openStream(context);
     }
 
     @Override
     public void reset(DynamicContext context) {
         super.reset(context);
-        try {
-            this.is.close();
-        } catch (IOException e) {
-            CannotRetrieveResourceException ex = new CannotRetrieveResourceException("I/O exception", getMetadata());
-            ex.initCause(e);
-            throw ex;
-        }
+        closeStream();
+        openStream(context);
+    }
+
+    @Override
+    public void close() {
+        super.close();
+        this.iterator = null;
+        closeStream();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void openStream(DynamicContext context) {
         this.iterator = this.children.get(0);
+        if (this.constantLines != null) {
+            this.stream = this.constantLines.iterator();
+            this.hasNext = this.stream.hasNext();
+            return;
+        }
         Item path = this.iterator.materializeFirstItemOrNull(context);
         if (path == null) {
             throw new IteratorFlowException(
@@ -106,27 +104,43 @@ public class LocalTextFileFunctionIterator extends LocalFunctionCallIterator {
             path.getStringValue(),
             getMetadata()
         );
-        this.is = FileSystemUtil.getDataInputStream(
-            uri,
-            this.currentDynamicContextForLocalExecution.getRumbleRuntimeConfiguration(),
-            getMetadata()
-        );
-        InputStreamReader r = new InputStreamReader(this.is);
-        BufferedReader br = new BufferedReader(r);
-        this.stream = br.lines().iterator();
+        RumbleRuntimeConfiguration configuration = this.currentDynamicContextForLocalExecution
+            .getRumbleRuntimeConfiguration();
+        DocumentCache cache = DocumentCache.getInstance();
+        FileStatus status = FileSystemUtil.getFileStatus(uri, configuration, getMetadata());
+        List<String> lines = (List<String>) cache.get(FUNCTION_NAME, uri, status);
+        if (lines == null) {
+            this.is = FileSystemUtil.getDataInputStream(uri, configuration, getMetadata());
+            BufferedReader br = new BufferedReader(new InputStreamReader(this.is));
+            if (!cache.isCacheable(status)) {
+                // Large or remote files are streamed rather than kept in memory.
+                this.stream = br.lines().iterator();
+                this.hasNext = this.stream.hasNext();
+                return;
+            }
+            lines = br.lines().collect(Collectors.toList());
+            closeStream();
+            cache.put(FUNCTION_NAME, uri, status, lines);
+        }
+        if (this.iterator instanceof StringRuntimeIterator) {
+            this.constantLines = lines;
+        }
+        this.stream = lines.iterator();
         this.hasNext = this.stream.hasNext();
     }
 
-    @Override
-    public void close() {
-        super.close();
-        this.iterator = null;
+    private void closeStream() {
+        if (this.is == null) {
+            return;
+        }
         try {
             this.is.close();
         } catch (IOException e) {
             CannotRetrieveResourceException ex = new CannotRetrieveResourceException("I/O exception", getMetadata());
             ex.initCause(e);
             throw ex;
+        } finally {
+            this.is = null;
         }
     }
 
@@ -21,7 +21,9 @@
 
 package org.rumbledb.runtime.functions.io;
 
+import org.apache.hadoop.fs.FileStatus;
 import org.rumbledb.api.Item;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.exceptions.IteratorFlowException;
@@ -29,7 +31,9 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.functions.base.LocalFunctionCallIterator;
+import org.rumbledb.runtime.functions.input.DocumentCache;
 import org.rumbledb.runtime.functions.input.FileSystemUtil;
+import org.rumbledb.runtime.primary.StringRuntimeIterator;
 
 import java.net.URI;
 import java.util.List;
@@ -37,9 +41,12 @@ import java.util.List;
 public class UnparsedTextFunctionIterator extends LocalFunctionCallIterator {
 
     private static final long serialVersionUID = 1L;
+    private static final String FUNCTION_NAME = "unparsed-text";
     private RuntimeIterator iterator;
 
     private transient Item path;
+    // Text read by this call site, kept for the lifetime of the query if the location is a literal.
+    private transient Item constantText;
 
     public UnparsedTextFunctionIterator(
             List<RuntimeIterator> arguments,
@@ -74,18 +81,20 @@ public class UnparsedTextFunctionIterator extends LocalFunctionCallIterator {
     @Override
     public Item next() {
         if (this.hasNext) {
+            this.hasNext = false;
+            if (this.constantText != null) {
+                return this.constantText;
+            }
             URI uri = FileSystemUtil.resolveURI(
                 this.staticURI,
                 this.path.getStringValue(),
                 getMetadata()
             );
-            String result = FileSystemUtil.readContent(
-                uri,
-                this.currentDynamicContextForLocalExecution.getRumbleRuntimeConfiguration(),
-                getMetadata()
-            );
-            this.hasNext = false;
-            return ItemFactory.getInstance().createStringItem(result);
+            Item result = readText(uri);
+            if (this.iterator instanceof StringRuntimeIterator) {
+                this.constantText = result;
+            }
+            return result;
         }
         throw new IteratorFlowException(
                 RuntimeIterator.FLOW_EXCEPTION_MESSAGE + " unparsed-text function",
@@ -93,5 +102,19 @@ public class UnparsedTextFunctionIterator extends LocalFunctionCallIterator {
         );
     }
 
+    private Item readText(URI uri) {
+        RumbleRuntimeConfiguration configuration = this.currentDynamicContextForLocalExecution
+            .getRumbleRuntimeConfiguration();
+        FileStatus status = FileSystemUtil.getFileStatus(uri, configuration, getMetadata());
+        Object cached = DocumentCache.getInstance().get(FUNCTION_NAME, uri, status);
+        if (cached != null) {
+            return (Item) cached;
+        }
+        String content = FileSystemUtil.readContent(uri, configuration, getMetadata());
+        Item result = ItemFactory.getInstance().createStringItem(content);
+        DocumentCache.getInstance().put(FUNCTION_NAME, uri, status, result);
+        return result;
+    }
+
 
 }
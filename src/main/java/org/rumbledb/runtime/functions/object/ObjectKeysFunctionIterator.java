@@ -70,6 +70,16 @@ public class ObjectKeysFunctionIterator extends HybridRuntimeIterator {
 
     private void setResultsFromDF() {
         JSoundDataFrame childDF = this.iterator.getDataFrame(this.currentDynamicContextForLocalExecution);
+        if (childDF.getKeys().contains(SparkSessionManager.overflowJSONiqItemColumnName)) {
+            // Objects kept in the overflow column may have other keys than the columns.
+            this.nextResults.addAll(
+                SparkSessionManager.collectRDDwithLimit(
+                    getRDDAux(this.currentDynamicContextForLocalExecution),
+                    getMetadata()
+                )
+            );
+            return;
+        }
         for (String key : childDF.getKeys()) {
             if (
                 !key.equals(SparkSessionManager.emptyObjectJSONiqItemColumnName)
@@ -0,0 +1,389 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.functions.sequences.aggregate;
+
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.Function2;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.types.StructType;
+import org.rumbledb.api.Item;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.exceptions.InvalidArgumentTypeException;
+import org.rumbledb.expressions.Expression;
+import org.rumbledb.expressions.primary.FunctionCallExpression;
+import org.rumbledb.items.ItemComparator;
+import org.rumbledb.items.ItemFactory;
+import org.rumbledb.items.parsing.ItemParser;
+import org.rumbledb.items.structured.JSoundDataFrame;
+import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
+import org.rumbledb.runtime.typing.AtMostOneItemTypePromotionIterator;
+import sparksoniq.spark.SparkSessionManager;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes, in a single Spark job, the aggregates (count, sum, avg, min, max) taken by sibling expressions over the
+ * same big sequence, such as the values of an object constructor {"n": count($d.x), "total": sum($d.x)}.
+ *
+ * The siblings are always evaluated in order and with the same dynamic context. The first one computes all the
+ * aggregates of the group, and the following ones retrieve their result from this pass.
+ */
+public class AggregateFusion implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Aggregate {
+        COUNT,
+        SUM,
+        MIN,
+        MAX
+    }
+
+    private EnumSet<Aggregate> aggregates;
+    private RuntimeIterator argument;
+    private int members;
+
+    private transient Results results;
+    private transient DynamicContext resultsContext;
+    private transient int pendingMembers;
+
+    public AggregateFusion() {
+        this.aggregates = EnumSet.of(Aggregate.COUNT);
+        this.members = 0;
+    }
+
+    /**
+     * Adds an aggregate to the group.
+     *
+     * @param aggregates the aggregates needed by the new member.
+     * @param argument the argument of the new member.
+     * @return the index of the new member in the group.
+     */
+    public int register(EnumSet<Aggregate> aggregates, RuntimeIterator argument) {
+        this.aggregates.addAll(aggregates);
+        // the count does not promote its argument, so the argument of another aggregate is preferred.
+        if (this.argument == null || !aggregates.equals(EnumSet.of(Aggregate.COUNT))) {
+            this.argument = argument;
+        }
+        return this.members++;
+    }
+
+    /**
+     * Returns the aggregates for a member of the group, computing them if it is the first member.
+     *
+     * @param context the dynamic context.
+     * @param member the index of the member.
+     * @param metadata the metadata of the member.
+     * @return the aggregates.
+     */
+    public Results getResults(DynamicContext context, int member, ExceptionMetadata metadata) {
+        if (member != 0 && this.results != null && this.resultsContext == context) {
+            Results results = this.results;
+            if (--this.pendingMembers == 0) {
+                this.results = null;
+                this.resultsContext = null;
+            }
+            return results;
+        }
+        Results results = computeAggregates(this.argument, this.aggregates, context, metadata);
+        if (member == 0 && this.members > 1) {
+            this.results = results;
+            this.resultsContext = context;
+            this.pendingMembers = this.members - 1;
+        }
+        return results;
+    }
+
+    /**
+     * Computes several aggregates over a big sequence in a single Spark job.
+     *
+     * @param iterator the iterator producing the sequence, which must be RDD or DataFrame-based.
+     * @param aggregates the aggregates to compute (the count is always computed).
+     * @param context the dynamic context.
+     * @param metadata the metadata for errors.
+     * @return the aggregates.
+     */
+    public static Results computeAggregates(
+            RuntimeIterator iterator,
+            EnumSet<Aggregate> aggregates,
+            DynamicContext context,
+            ExceptionMetadata metadata
+    ) {
+        if (iterator.isDataFrame()) {
+            return computeDataFrame(iterator, aggregates, context, metadata);
+        }
+        JavaRDD<Item> rdd = iterator.getRDD(context);
+        return rdd.treeAggregate(
+            new Results(aggregates.contains(Aggregate.SUM) ? zero() : null),
+            new SequenceOperation(aggregates, metadata),
+            new CombineOperation(aggregates, metadata)
+        );
+    }
+
+    private static Results computeDataFrame(
+            RuntimeIterator iterator,
+            EnumSet<Aggregate> aggregates,
+            DynamicContext context,
+            ExceptionMetadata metadata
+    ) {
+        JSoundDataFrame df = iterator.getDataFrame(context);
+        Results results = new Results(aggregates.contains(Aggregate.SUM) ? zero() : null);
+        if (df.isEmptySequence()) {
+            return results;
+        }
+        List<String> columns = new ArrayList<>();
+        columns.add("COUNT(*)");
+        for (Aggregate aggregate : aggregates) {
+            if (aggregate != Aggregate.COUNT) {
+                columns.add(String.format("%s(`%s`)", aggregate, SparkSessionManager.atomicJSONiqItemColumnName));
+            }
+        }
+        String input = FlworDataFrameUtils.createTempView(df.getDataFrame());
+        Row row = df.getDataFrame()
+            .sparkSession()
+            .sql(String.format("SELECT %s FROM %s", String.join(", ", columns), input))
+            .first();
+        StructType schema = row.schema();
+        results.count = row.getLong(0);
+        if (results.count == 0) {
+            return results;
+        }
+        int column = 1;
+        for (Aggregate aggregate : aggregates) {
+            if (aggregate == Aggregate.COUNT) {
+                continue;
+            }
+            Item item = row.isNullAt(column)
+                ? null
+                : ItemParser.convertValueToItem(
+                    row.get(column),
+                    schema.fields()[column].dataType(),
+                    metadata,
+                    df.getItemType()
+                );
+            column++;
+            switch (aggregate) {
+                case SUM:
+                    if (item != null) {
+                        results.sum = item;
+                    }
+                    break;
+                case MIN:
+                    results.min = item;
+                    break;
+                case MAX:
+                    results.max = item;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return results;
+    }
+
+    private static Item zero() {
+        return ItemFactory.getInstance().createIntegerItem(BigInteger.ZERO);
+    }
+
+    /**
+     * Groups the sibling aggregates, among the given expressions, that take the same argument. Sibling aggregates
+     * are only fused if their argument is a big sequence, and if they are at least two.
+     *
+     * @param expressions the sibling expressions.
+     * @param iterators the runtime iterators of these expressions.
+     */
+    public static void fuseSiblingAggregates(List<Expression> expressions, List<RuntimeIterator> iterators) {
+        Map<String, List<Member>> groups = new HashMap<>();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < expressions.size(); ++i) {
+            RuntimeIterator iterator = iterators.get(i);
+            if (iterator instanceof AtMostOneItemTypePromotionIterator) {
+                iterator = ((AtMostOneItemTypePromotionIterator) iterator).getIterator();
+            }
+            if (
+                !(expressions.get(i) instanceof FunctionCallExpression)
+                    || !(iterator instanceof Member)
+                    || !((Member) iterator).isFusable()
+            ) {
+                continue;
+            }
+            FunctionCallExpression functionCall = (FunctionCallExpression) expressions.get(i);
+            StringBuffer key = new StringBuffer();
+            functionCall.getArguments().get(0).serializeToJSONiq(key, 0);
+            if (!groups.containsKey(key.toString())) {
+                groups.put(key.toString(), new ArrayList<>());
+                keys.add(key.toString());
+            }
+            groups.get(key.toString()).add((Member) iterator);
+        }
+        for (String key : keys) {
+            List<Member> group = groups.get(key);
+            if (group.size() < 2) {
+                continue;
+            }
+            AggregateFusion fusion = new AggregateFusion();
+            for (Member member : group) {
+                member.fuseWith(fusion);
+            }
+        }
+    }
+
+    /**
+     * An aggregate function iterator that can be fused with its siblings.
+     */
+    public interface Member {
+
+        /**
+         * Says whether the aggregate takes a single argument that is a big sequence.
+         *
+         * @return true if the aggregate can be fused.
+         */
+        boolean isFusable();
+
+        /**
+         * Makes the aggregate retrieve its result from the given group.
+         *
+         * @param fusion the group.
+         */
+        void fuseWith(AggregateFusion fusion);
+    }
+
+    /**
+     * The aggregates of a sequence. The sum is null if it was not requested, and the minimum and maximum are null if
+     * they were not requested or if the sequence is empty.
+     */
+    public static class Results implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+        private long count;
+        private Item sum;
+        private Item min;
+        private Item max;
+
+        public Results(Item sum) {
+            this.count = 0;
+            this.sum = sum;
+        }
+
+        public long getCount() {
+            return this.count;
+        }
+
+        public Item getSum() {
+            return this.sum;
+        }
+
+        public Item getMin() {
+            return this.min;
+        }
+
+        public Item getMax() {
+            return this.max;
+        }
+    }
+
+    private static class SequenceOperation implements Function2<Results, Item, Results> {
+
+        private static final long serialVersionUID = 1L;
+        private final CombineOperation combine;
+
+        SequenceOperation(EnumSet<Aggregate> aggregates, ExceptionMetadata metadata) {
+            this.combine = new CombineOperation(aggregates, metadata);
+        }
+
+        @Override
+        public Results call(Results results, Item item) throws Exception {
+            results.count++;
+            results.sum = this.combine.sum(results.sum, item);
+            results.min = this.combine.min(results.min, item);
+            results.max = this.combine.max(results.max, item);
+            return results;
+        }
+    }
+
+    private static class CombineOperation implements Function2<Results, Results, Results> {
+
+        private static final long serialVersionUID = 1L;
+        private final SumClosure sum;
+        private final ItemComparator minComparator;
+        private final ItemComparator maxComparator;
+
+        CombineOperation(EnumSet<Aggregate> aggregates, ExceptionMetadata metadata) {
+            this.sum = aggregates.contains(Aggregate.SUM) ? new SumClosure(metadata) : null;
+            this.minComparator = aggregates.contains(Aggregate.MIN)
+                ? new ItemComparator(
+                        true,
+                        new InvalidArgumentTypeException(
+                                "Min expression input error. Input has to be non-null atomics of matching types",
+                                metadata
+                        )
+                )
+                : null;
+            this.maxComparator = aggregates.contains(Aggregate.MAX)
+                ? new ItemComparator(
+                        false,
+                        new InvalidArgumentTypeException(
+                                "Max expression input error. Input has to be non-null atomics of matching types",
+                                metadata
+                        )
+                )
+                : null;
+        }
+
+        @Override
+        public Results call(Results first, Results second) throws Exception {
+            first.count += second.count;
+            first.sum = sum(first.sum, second.sum);
+            first.min = min(first.min, second.min);
+            first.max = max(first.max, second.max);
+            return first;
+        }
+
+        Item sum(Item current, Item candidate) throws Exception {
+            if (this.sum == null || candidate == null) {
+                return current;
+            }
+            return this.sum.call(current, candidate);
+        }
+
+        Item min(Item current, Item candidate) {
+            if (this.minComparator == null || candidate == null) {
+                return current;
+            }
+            return current == null || this.minComparator.compare(candidate, current) < 0 ? candidate : current;
+        }
+
+        Item max(Item current, Item candidate) {
+            if (this.maxComparator == null || candidate == null) {
+                return current;
+            }
+            return current == null || this.maxComparator.compare(candidate, current) > 0 ? candidate : current;
+        }
+    }
+}
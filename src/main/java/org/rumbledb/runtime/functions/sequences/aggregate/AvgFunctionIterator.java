@@ -33,14 +33,17 @@ import org.rumbledb.runtime.arithmetics.MultiplicativeOperationIterator;
 import org.rumbledb.runtime.primary.VariableReferenceIterator;
 
 import java.math.BigInteger;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-public class AvgFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
+public class AvgFunctionIterator extends AtMostOneItemLocalRuntimeIterator implements AggregateFusion.Member {
 
 
     private static final long serialVersionUID = 1L;
+    private AggregateFusion fusion;
+    private int fusionMember;
     private Item item;
 
     public AvgFunctionIterator(
@@ -53,15 +56,36 @@ public class AvgFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
 
     @Override
     public Item materializeFirstItemOrNull(DynamicContext context) {
+        if (this.children.get(0).isRDDOrDataFrame()) {
+            // the count and the sum are computed in the same Spark job.
+            AggregateFusion.Results results = this.fusion != null
+                ? this.fusion.getResults(context, this.fusionMember, getMetadata())
+                : AggregateFusion.computeAggregates(
+                    this.children.get(0),
+                    EnumSet.of(AggregateFusion.Aggregate.SUM),
+                    context,
+                    getMetadata()
+                );
+            if (results.getCount() == 0) {
+                return null;
+            }
+            this.item = MultiplicativeOperationIterator.processItem(
+                results.getSum(),
+                ItemFactory.getInstance().createLongItem(results.getCount()),
+                MultiplicativeExpression.MultiplicativeOperator.DIV,
+                getMetadata()
+            );
+            return this.item;
+        }
         Item count = CountFunctionIterator.computeCount(
             this.children.get(0),
             context,
             getMetadata()
         );
-        if (count.isInt() && count.getIntValue() == 0) {
+        if (count.isLong() && count.getLongValue() == 0) {
             return null;
         }
-        if (count.isInteger() && count.getIntegerValue().equals(BigInteger.ZERO)) {
+        if (!count.isLong() && count.getIntegerValue().signum() == 0) {
             return null;
         }
         Item sum = SumFunctionIterator.computeSum(
@@ -79,6 +103,17 @@ public class AvgFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
         return this.item;
     }
 
+    @Override
+    public boolean isFusable() {
+        return this.children.size() == 1 && this.children.get(0).isRDDOrDataFrame();
+    }
+
+    @Override
+    public void fuseWith(AggregateFusion fusion) {
+        this.fusion = fusion;
+        this.fusionMember = fusion.register(EnumSet.of(AggregateFusion.Aggregate.SUM), this.children.get(0));
+    }
+
     public Map<Name, DynamicContext.VariableDependency> getVariableDependencies() {
         if (this.children.get(0) instanceof VariableReferenceIterator) {
             VariableReferenceIterator expr = (VariableReferenceIterator) this.children.get(0);
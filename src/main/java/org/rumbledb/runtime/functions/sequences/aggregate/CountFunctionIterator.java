@@ -31,15 +31,18 @@ import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.primary.VariableReferenceIterator;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-public class CountFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
+public class CountFunctionIterator extends AtMostOneItemLocalRuntimeIterator implements AggregateFusion.Member {
     /**
      *
      */
     private static final long serialVersionUID = 1L;
+    private AggregateFusion fusion;
+    private int fusionMember;
 
     public CountFunctionIterator(
             List<RuntimeIterator> arguments,
@@ -52,6 +55,10 @@ public class CountFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
 
     @Override
     public Item materializeFirstItemOrNull(DynamicContext context) {
+        if (this.fusion != null) {
+            return ItemFactory.getInstance()
+                .createLongItem(this.fusion.getResults(context, this.fusionMember, getMetadata()).getCount());
+        }
         RuntimeIterator iterator = this.children.get(0);
 
         // the count($x) case is treated separately because we can short-circuit the
@@ -140,6 +147,17 @@ public class CountFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
 
     }
 
+    @Override
+    public boolean isFusable() {
+        return this.children.size() == 1 && this.children.get(0).isRDDOrDataFrame();
+    }
+
+    @Override
+    public void fuseWith(AggregateFusion fusion) {
+        this.fusion = fusion;
+        this.fusionMember = fusion.register(EnumSet.of(AggregateFusion.Aggregate.COUNT), this.children.get(0));
+    }
+
     public Map<Name, DynamicContext.VariableDependency> getVariableDependencies() {
         if (this.children.get(0) instanceof VariableReferenceIterator) {
             VariableReferenceIterator expr = (VariableReferenceIterator) this.children.get(0);
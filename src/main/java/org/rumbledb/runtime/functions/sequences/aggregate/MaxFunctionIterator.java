@@ -42,14 +42,17 @@ import org.rumbledb.types.ItemType;
 import sparksoniq.spark.SparkSessionManager;
 
 import java.math.BigDecimal;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-public class MaxFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
+public class MaxFunctionIterator extends AtMostOneItemLocalRuntimeIterator implements AggregateFusion.Member {
 
 
     private static final long serialVersionUID = 1L;
+    private AggregateFusion fusion;
+    private int fusionMember;
     private RuntimeIterator iterator;
     private transient boolean currentMinIsNullItem = false; // Only happens if all elements are null
     private transient double currentMaxDouble;
@@ -95,6 +98,13 @@ public class MaxFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
                 throw new UnsupportedCollationException("Wrong collation parameter", getMetadata());
             }
         }
+        if (this.fusion != null) {
+            this.result = this.fusion.getResults(context, this.fusionMember, getMetadata()).getMax();
+            if (this.result != null && this.iterator.isDataFrame()) {
+                return itemTypePromotion(this.result);
+            }
+            return this.result;
+        }
         this.currentMinIsNullItem = false;
         this.currentMaxDouble = 0;
         this.currentMaxFloat = 0;
@@ -493,6 +503,17 @@ public class MaxFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
 
     }
 
+    @Override
+    public boolean isFusable() {
+        return this.children.size() == 1 && this.children.get(0).isRDDOrDataFrame();
+    }
+
+    @Override
+    public void fuseWith(AggregateFusion fusion) {
+        this.fusion = fusion;
+        this.fusionMember = fusion.register(EnumSet.of(AggregateFusion.Aggregate.MAX), this.children.get(0));
+    }
+
     public Map<Name, DynamicContext.VariableDependency> getVariableDependencies() {
         if (this.children.get(0) instanceof VariableReferenceIterator) {
             VariableReferenceIterator expr = (VariableReferenceIterator) this.children.get(0);
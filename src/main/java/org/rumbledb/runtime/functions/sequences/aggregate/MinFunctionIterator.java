@@ -42,14 +42,17 @@ import org.rumbledb.types.ItemType;
 import sparksoniq.spark.SparkSessionManager;
 
 import java.math.BigDecimal;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-public class MinFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
+public class MinFunctionIterator extends AtMostOneItemLocalRuntimeIterator implements AggregateFusion.Member {
 
 
     private static final long serialVersionUID = 1L;
+    private AggregateFusion fusion;
+    private int fusionMember;
     private RuntimeIterator iterator;
     private transient double currentMinDouble;
     private transient float currentMinFloat;
@@ -94,6 +97,10 @@ public class MinFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
                 throw new UnsupportedCollationException("Wrong collation parameter", getMetadata());
             }
         }
+        if (this.fusion != null) {
+            this.result = this.fusion.getResults(context, this.fusionMember, getMetadata()).getMin();
+            return this.result;
+        }
         this.currentMinDouble = 0;
         this.currentMinFloat = 0;
         this.currentMinDecimal = null;
@@ -486,6 +493,17 @@ public class MinFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
         return this.result;
     }
 
+    @Override
+    public boolean isFusable() {
+        return this.children.size() == 1 && this.children.get(0).isRDDOrDataFrame();
+    }
+
+    @Override
+    public void fuseWith(AggregateFusion fusion) {
+        this.fusion = fusion;
+        this.fusionMember = fusion.register(EnumSet.of(AggregateFusion.Aggregate.MIN), this.children.get(0));
+    }
+
     public Map<Name, DynamicContext.VariableDependency> getVariableDependencies() {
         if (this.children.get(0) instanceof VariableReferenceIterator) {
             VariableReferenceIterator expr = (VariableReferenceIterator) this.children.get(0);
@@ -38,14 +38,17 @@ import org.rumbledb.runtime.primary.VariableReferenceIterator;
 import sparksoniq.spark.SparkSessionManager;
 
 import java.math.BigInteger;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 
-public class SumFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
+public class SumFunctionIterator extends AtMostOneItemLocalRuntimeIterator implements AggregateFusion.Member {
 
 
     private static final long serialVersionUID = 1L;
+    private AggregateFusion fusion;
+    private int fusionMember;
     private Item item;
 
     public SumFunctionIterator(
@@ -58,6 +61,9 @@ public class SumFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
 
     @Override
     public Item materializeFirstItemOrNull(DynamicContext context) {
+        if (this.fusion != null) {
+            return this.fusion.getResults(context, this.fusionMember, getMetadata()).getSum();
+        }
         this.item = computeSum(
             zeroElement(context),
             this.children.get(0),
@@ -117,8 +123,26 @@ public class SumFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
         iterator.open(context);
 
         Item result = zeroElement;
+        // Integers are accumulated in a primitive long for as long as no overflow occurs and no other type is met.
+        boolean accumulatesLong = zeroElement.isLong();
+        long longSum = accumulatesLong ? zeroElement.getLongValue() : 0;
         while (iterator.hasNext()) {
             Item nextValue = iterator.next();
+            if (accumulatesLong) {
+                if (nextValue.isLong()) {
+                    long value = nextValue.getLongValue();
+                    long newSum = longSum + value;
+                    if (((longSum ^ newSum) & (value ^ newSum)) >= 0) {
+                        longSum = newSum;
+                        result = null;
+                        continue;
+                    }
+                }
+                accumulatesLong = false;
+                if (result == null) {
+                    result = ItemFactory.getInstance().createLongItem(longSum);
+                }
+            }
             Item sum = AdditiveOperationIterator.processItem(result, nextValue, false);
             if (sum == null) {
                 throw new InvalidArgumentTypeException(
@@ -133,6 +157,9 @@ public class SumFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
             result = sum;
         }
         iterator.close();
+        if (result == null) {
+            return ItemFactory.getInstance().createLongItem(longSum);
+        }
         return result;
     }
 
@@ -170,6 +197,17 @@ public class SumFunctionIterator extends AtMostOneItemLocalRuntimeIterator {
         return summedDF.getExactlyOneItem();
     }
 
+    @Override
+    public boolean isFusable() {
+        return this.children.size() == 1 && this.children.get(0).isRDDOrDataFrame();
+    }
+
+    @Override
+    public void fuseWith(AggregateFusion fusion) {
+        this.fusion = fusion;
+        this.fusionMember = fusion.register(EnumSet.of(AggregateFusion.Aggregate.SUM), this.children.get(0));
+    }
+
     public Map<Name, DynamicContext.VariableDependency> getVariableDependencies() {
         if (this.children.get(0) instanceof VariableReferenceIterator) {
             VariableReferenceIterator expr = (VariableReferenceIterator) this.children.get(0);
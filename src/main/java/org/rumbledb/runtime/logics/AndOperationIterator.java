@@ -28,6 +28,7 @@ import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
+import org.rumbledb.runtime.CompiledExpression;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.flwor.NativeClauseContext;
 import org.rumbledb.types.BuiltinTypesCatalogue;
@@ -68,6 +69,26 @@ public class AndOperationIterator extends AtMostOneItemLocalRuntimeIterator {
             .createBooleanItem((leftEffectiveBooleanValue && rightEffectiveBooleanValue));
     }
 
+    @Override
+    public CompiledExpression compile() {
+        CompiledExpression left = CompiledExpression.compileOrInterpret(this.leftIterator);
+        CompiledExpression right = CompiledExpression.compileOrInterpret(this.rightIterator);
+        return context -> {
+            boolean leftEffectiveBooleanValue = CompiledExpression.getEffectiveBooleanValue(
+                left,
+                this.leftIterator,
+                context
+            );
+            boolean rightEffectiveBooleanValue = CompiledExpression.getEffectiveBooleanValue(
+                right,
+                this.rightIterator,
+                context
+            );
+            return ItemFactory.getInstance()
+                .createBooleanItem((leftEffectiveBooleanValue && rightEffectiveBooleanValue));
+        };
+    }
+
     @Override
     public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
         NativeClauseContext leftResult = this.leftIterator.generateNativeQuery(nativeClauseContext);
@@ -28,6 +28,7 @@ import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
+import org.rumbledb.runtime.CompiledExpression;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.flwor.NativeClauseContext;
 import org.rumbledb.types.BuiltinTypesCatalogue;
@@ -52,6 +53,15 @@ public class NotOperationIterator extends AtMostOneItemLocalRuntimeIterator {
         return ItemFactory.getInstance().createBooleanItem(!(effectiveBooleanValue));
     }
 
+    @Override
+    public CompiledExpression compile() {
+        CompiledExpression child = CompiledExpression.compileOrInterpret(this.child);
+        return context -> {
+            boolean effectiveBooleanValue = CompiledExpression.getEffectiveBooleanValue(child, this.child, context);
+            return ItemFactory.getInstance().createBooleanItem(!(effectiveBooleanValue));
+        };
+    }
+
     @Override
     public NativeClauseContext generateNativeQuery(NativeClauseContext nativeClauseContext) {
         NativeClauseContext childResult = this.child.generateNativeQuery(nativeClauseContext);
@@ -35,6 +35,7 @@ import org.rumbledb.expressions.comparison.ComparisonExpression;
 import org.rumbledb.expressions.comparison.ComparisonExpression.ComparisonOperator;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.runtime.AtMostOneItemLocalRuntimeIterator;
+import org.rumbledb.runtime.CompiledExpression;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.flwor.NativeClauseContext;
 import org.rumbledb.types.BuiltinTypesCatalogue;
@@ -132,6 +133,26 @@ public class ComparisonIterator extends AtMostOneItemLocalRuntimeIterator {
         return generalComparison(left, right);
     }
 
+    @Override
+    public CompiledExpression compile() {
+        CompiledExpression left = CompiledExpression.compileOrInterpret(this.leftIterator);
+        CompiledExpression right = CompiledExpression.compileOrInterpret(this.rightIterator);
+        boolean isValueComparison = this.comparisonOperator.isValueComparison();
+        // general comparisons on singletons behave like value comparisons, except that the empty sequence yields
+        // false. Sequences of several items make the compiled expression bail out to the interpreter.
+        return context -> {
+            Item leftItem = left.evaluate(context);
+            if (leftItem == null) {
+                return isValueComparison ? null : ItemFactory.getInstance().createBooleanItem(false);
+            }
+            Item rightItem = right.evaluate(context);
+            if (rightItem == null) {
+                return isValueComparison ? null : ItemFactory.getInstance().createBooleanItem(false);
+            }
+            return valueComparison(leftItem, rightItem);
+        };
+    }
+
     /**
      * Function to compare two lists of items one by one with each other.
      *
@@ -151,7 +172,7 @@ public class ComparisonIterator extends AtMostOneItemLocalRuntimeIterator {
         return ItemFactory.getInstance().createBooleanItem(false);
     }
 
-    private Item valueComparison(Item left, Item right) {
+    protected Item valueComparison(Item left, Item right) {
 
         if (left.isArray() || right.isArray()) {
             throw new NonAtomicKeyException(
@@ -236,6 +257,9 @@ public class ComparisonIterator extends AtMostOneItemLocalRuntimeIterator {
         ) {
             return processInt(left.getIntValue(), right.getIntValue());
         }
+        if (left.isLong() && right.isLong()) {
+            return processLong(left.getLongValue(), right.getLongValue());
+        }
 
         // General cases
         if (left.isDouble() && right.isNumeric()) {
@@ -389,7 +413,7 @@ public class ComparisonIterator extends AtMostOneItemLocalRuntimeIterator {
         return Long.MIN_VALUE;
     }
 
-    private static int processDouble(
+    protected static int processDouble(
             double l,
             double r
     ) {
@@ -438,6 +462,13 @@ public class ComparisonIterator extends AtMostOneItemLocalRuntimeIterator {
         return Integer.compare(l, r);
     }
 
+    private static int processLong(
+            long l,
+            long r
+    ) {
+        return Long.compare(l, r);
+    }
+
     private static int processDuration(
             Period l,
             Period r
@@ -490,7 +521,7 @@ public class ComparisonIterator extends AtMostOneItemLocalRuntimeIterator {
         }
     }
 
-    private static Item comparisonResultToBooleanItem(
+    protected static Item comparisonResultToBooleanItem(
             int comparison,
             ComparisonExpression.ComparisonOperator comparisonOperator,
             ExceptionMetadata metadata
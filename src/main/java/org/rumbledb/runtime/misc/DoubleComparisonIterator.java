@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package org.rumbledb.runtime.misc;
+
+import org.rumbledb.api.Item;
+import org.rumbledb.context.DynamicContext;
+import org.rumbledb.exceptions.ExceptionMetadata;
+import org.rumbledb.expressions.ExecutionMode;
+import org.rumbledb.expressions.comparison.ComparisonExpression;
+import org.rumbledb.items.ItemFactory;
+import org.rumbledb.runtime.RuntimeIterator;
+
+/**
+ * Comparison whose operands were both statically inferred to be at most one double. The cardinality checks and the
+ * generic type dispatch are skipped, and ComparisonIterator is only used as a fallback if the operands turn out not
+ * to be doubles.
+ */
+public class DoubleComparisonIterator extends ComparisonIterator {
+
+    private static final long serialVersionUID = 1L;
+
+    public DoubleComparisonIterator(
+            RuntimeIterator leftIterator,
+            RuntimeIterator rightIterator,
+            ComparisonExpression.ComparisonOperator comparisonOperator,
+            ExecutionMode executionMode,
+            ExceptionMetadata iteratorMetadata
+    ) {
+        super(leftIterator, rightIterator, comparisonOperator, executionMode, iteratorMetadata);
+    }
+
+    @Override
+    public Item materializeFirstItemOrNull(DynamicContext dynamicContext) {
+        Item left = getLeftIterator().materializeFirstItemOrNull(dynamicContext);
+        if (left == null) {
+            return emptyOperandResult();
+        }
+        Item right = getRightIterator().materializeFirstItemOrNull(dynamicContext);
+        if (right == null) {
+            return emptyOperandResult();
+        }
+        return valueComparison(left, right);
+    }
+
+    @Override
+    protected Item valueComparison(Item left, Item right) {
+        if (left.isDouble() && right.isDouble()) {
+            double l = left.getDoubleValue();
+            double r = right.getDoubleValue();
+            // NaN never compares successfully.
+            if (Double.isNaN(l) || Double.isNaN(r)) {
+                return ItemFactory.getInstance().createBooleanItem(false);
+            }
+            return comparisonResultToBooleanItem(processDouble(l, r), getComparisonOperator(), getMetadata());
+        }
+        return super.valueComparison(left, right);
+    }
+
+    private Item emptyOperandResult() {
+        if (getComparisonOperator().isValueComparison()) {
+            return null;
+        }
+        return ItemFactory.getInstance().createBooleanItem(false);
+    }
+}
@@ -22,6 +22,8 @@ package org.rumbledb.runtime.misc;
 
 import java.util.Arrays;
 
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.sql.SparkSession;
 import org.rumbledb.api.Item;
 import org.rumbledb.context.DynamicContext;
 import org.rumbledb.exceptions.ExceptionMetadata;
@@ -29,10 +31,18 @@ import org.rumbledb.exceptions.IteratorFlowException;
 import org.rumbledb.exceptions.UnexpectedTypeException;
 import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
-import org.rumbledb.runtime.LocalRuntimeIterator;
+import org.rumbledb.runtime.HybridRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
 
-public class RangeOperationIterator extends LocalRuntimeIterator {
+import sparksoniq.spark.SparkSessionManager;
+
+/**
+ * Evaluates a range expression. Locally, the integers are produced one at a time from a primitive counter. When the
+ * range is the input of a FLWOR expression and is large or has dynamic bounds (as decided by the
+ * ExecutionModeVisitor), it is generated in parallel with Spark's range, in the number of partitions given by the
+ * range-partitions parameter (or the default parallelism of the Spark context).
+ */
+public class RangeOperationIterator extends HybridRuntimeIterator {
 
 
     private static final long serialVersionUID = 1L;
@@ -53,12 +63,13 @@ public class RangeOperationIterator extends LocalRuntimeIterator {
         this.rightIterator = rightiterator;
     }
 
-    public boolean hasNext() {
+    @Override
+    protected boolean hasNextLocal() {
         return this.hasNext;
     }
 
     @Override
-    public Item next() {
+    protected Item nextLocal() {
         if (this.hasNext) {
             if (this.index == this.right) {
                 this.hasNext = false;
@@ -68,12 +79,55 @@ public class RangeOperationIterator extends LocalRuntimeIterator {
         throw new IteratorFlowException("Invalid next call in Range Operation", getMetadata());
     }
 
-    public void open(DynamicContext context) {
-        super.open(context);
-
+    @Override
+    protected void openLocal() {
         this.index = 0;
-        this.leftIterator.open(this.currentDynamicContextForLocalExecution);
-        this.rightIterator.open(this.currentDynamicContextForLocalExecution);
+        this.hasNext = computeBounds(this.currentDynamicContextForLocalExecution);
+        if (this.hasNext) {
+            this.index = this.left;
+        }
+    }
+
+    @Override
+    protected void resetLocal() {
+        openLocal();
+    }
+
+    @Override
+    protected void closeLocal() {
+    }
+
+    @Override
+    protected JavaRDD<Item> getRDDAux(DynamicContext context) {
+        if (!computeBounds(context)) {
+            return SparkSessionManager.getInstance().getJavaSparkContext().emptyRDD();
+        }
+        if (this.right == Long.MAX_VALUE) {
+            throw new UnexpectedTypeException(
+                    "Distributed range expressions cannot end with the largest long value " + this.right,
+                    getMetadata()
+            );
+        }
+        SparkSession session = SparkSessionManager.getInstance().getOrCreateSession();
+        int partitions = context.getRumbleRuntimeConfiguration().getRangePartitions();
+        if (partitions <= 0) {
+            partitions = session.sparkContext().defaultParallelism();
+        }
+        return session.range(this.left, this.right + 1, 1, partitions)
+            .javaRDD()
+            .map(value -> ItemFactory.getInstance().createLongItem(value));
+    }
+
+    /**
+     * Evaluates the bounds of the range.
+     *
+     * @param context the dynamic context in which the bounds are evaluated.
+     * @return false if the range is empty.
+     */
+    private boolean computeBounds(DynamicContext context) {
+        boolean result;
+        this.leftIterator.open(context);
+        this.rightIterator.open(context);
         if (this.leftIterator.hasNext() && this.rightIterator.hasNext()) {
             Item left = this.leftIterator.next();
             Item right = this.rightIterator.next();
@@ -99,18 +153,13 @@ public class RangeOperationIterator extends LocalRuntimeIterator {
             } catch (IteratorFlowException e) {
                 throw new IteratorFlowException(e.getJSONiqErrorMessage(), getMetadata());
             }
-            if (this.right < this.left) {
-                this.hasNext = false;
-            } else {
-                this.index = this.left;
-                this.hasNext = true;
-            }
+            result = this.right >= this.left;
         } else {
-            this.hasNext = false;
+            result = false;
         }
 
         this.leftIterator.close();
         this.rightIterator.close();
-
+        return result;
     }
 }
@@ -34,6 +34,7 @@ import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.expressions.flowr.FLWOR_CLAUSES;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.items.structured.JSoundDataFrame;
+import org.rumbledb.runtime.CompiledExpression;
 import org.rumbledb.runtime.HybridRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
@@ -191,6 +192,23 @@ public class ObjectLookupIterator extends HybridRuntimeIterator {
         }
     }
 
+    @Override
+    public CompiledExpression compile() {
+        // only lookups with a literal string key on a local object are compiled.
+        if (isRDDOrDataFrame() || !(this.children.get(1) instanceof StringRuntimeIterator)) {
+            return null;
+        }
+        String key = this.children.get(1).materializeFirstItemOrNull(null).getStringValue();
+        CompiledExpression object = CompiledExpression.compileOrInterpret(this.iterator);
+        return context -> {
+            Item item = object.evaluate(context);
+            if (item == null || !item.isObject()) {
+                return null;
+            }
+            return item.getItemByKey(key);
+        };
+    }
+
     @Override
     public JavaRDD<Item> getRDDAux(DynamicContext dynamicContext) {
         JavaRDD<Item> childRDD = this.children.get(0).getRDD(dynamicContext);
@@ -301,6 +319,13 @@ public class ObjectLookupIterator extends HybridRuntimeIterator {
             newContext.setSchema(field.dataType());
             newContext.setResultingType(FlworDataFrameUtils.mapToJsoniqType(field.dataType()));
         } else {
+            if (
+                Arrays.stream(structSchema.fieldNames())
+                    .anyMatch(field -> field.equals(SparkSessionManager.overflowJSONiqItemColumnName))
+            ) {
+                // The field may still be found in the lines kept in the overflow column.
+                return NativeClauseContext.NoNativeQuery;
+            }
             if (this.children.get(1) instanceof StringRuntimeIterator) {
                 throw new UnexpectedStaticTypeException(
                         "There is no field with the name "
@@ -30,8 +30,10 @@ import org.rumbledb.context.Name;
 import org.rumbledb.context.VariableValues;
 import org.rumbledb.exceptions.ExceptionMetadata;
 import org.rumbledb.exceptions.IteratorFlowException;
+import org.rumbledb.exceptions.MoreThanOneItemException;
 import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.structured.JSoundDataFrame;
+import org.rumbledb.runtime.CompiledExpression;
 import org.rumbledb.runtime.HybridRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
 import org.rumbledb.runtime.flwor.FlworDataFrameUtils;
@@ -118,6 +120,23 @@ public class VariableReferenceIterator extends HybridRuntimeIterator {
         return newContext;
     }
 
+    @Override
+    public CompiledExpression compile() {
+        if (isRDDOrDataFrame()) {
+            return null;
+        }
+        return context -> {
+            List<Item> items = context.getVariableValues().getLocalVariableValue(this.variableName, getMetadata());
+            if (items.isEmpty()) {
+                return null;
+            }
+            if (items.size() > 1) {
+                throw new MoreThanOneItemException();
+            }
+            return items.get(0);
+        };
+    }
+
     @Override
     public Item nextLocal() {
         if (!this.hasNext) {
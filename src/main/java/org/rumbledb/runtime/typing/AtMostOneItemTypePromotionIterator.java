@@ -55,6 +55,10 @@ public class AtMostOneItemTypePromotionIterator extends AtMostOneItemLocalRuntim
         }
     }
 
+    public RuntimeIterator getIterator() {
+        return this.iterator;
+    }
+
     @Override
     public Item materializeFirstItemOrNull(DynamicContext context) {
         if (!this.sequenceType.isResolved()) {
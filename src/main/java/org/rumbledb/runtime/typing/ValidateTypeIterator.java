@@ -19,9 +19,11 @@ import org.rumbledb.exceptions.OurBadException;
 import org.rumbledb.expressions.ExecutionMode;
 import org.rumbledb.items.ItemFactory;
 import org.rumbledb.items.parsing.ItemParser;
+import org.rumbledb.items.parsing.JSONSyntaxToRowMapper;
 import org.rumbledb.items.structured.JSoundDataFrame;
 import org.rumbledb.runtime.HybridRuntimeIterator;
 import org.rumbledb.runtime.RuntimeIterator;
+import org.rumbledb.runtime.functions.input.JsonFileFunctionIterator;
 import org.rumbledb.types.FieldDescriptor;
 import org.rumbledb.types.ItemType;
 
@@ -76,6 +78,11 @@ public class ValidateTypeIterator extends HybridRuntimeIterator {
                 return convertRDDToValidDataFrame(inputDataAsRDDOfItems, this.itemType, context);
             }
 
+            if (inputDataIterator instanceof JsonFileFunctionIterator && inputDataIterator.isRDDOrDataFrame()) {
+                JavaRDD<String> lines = ((JsonFileFunctionIterator) inputDataIterator).getLines(context);
+                return convertJSONLinesToValidDataFrame(lines, this.itemType, context, getMetadata());
+            }
+
             if (inputDataIterator.isRDDOrDataFrame()) {
                 JavaRDD<Item> rdd = inputDataIterator.getRDD(context);
                 return convertRDDToValidDataFrame(rdd, this.itemType, context);
@@ -123,6 +130,30 @@ public class ValidateTypeIterator extends HybridRuntimeIterator {
         );
     }
 
+    /**
+     * Parses JSON Lines directly into a DataFrame with the schema of a type, validating the values on the way, rather
+     * than parsing them into items, validating the items and converting them to rows.
+     *
+     * @param lines the JSON Lines.
+     * @param itemType the type against which the values are validated.
+     * @param context the dynamic context.
+     * @param metadata the metadata used for parsing errors.
+     * @return the validated DataFrame.
+     */
+    public static JSoundDataFrame convertJSONLinesToValidDataFrame(
+            JavaRDD<String> lines,
+            ItemType itemType,
+            DynamicContext context,
+            ExceptionMetadata metadata
+    ) {
+        StructType schema = convertToDataFrameSchema(itemType);
+        JavaRDD<Row> rowRDD = lines.mapPartitions(new JSONSyntaxToRowMapper(itemType, schema, context, metadata));
+        return new JSoundDataFrame(
+                SparkSessionManager.getInstance().getOrCreateSession().createDataFrame(rowRDD, schema),
+                itemType
+        );
+    }
+
     private static StructType convertToDataFrameSchema(ItemType itemType) {
         if (itemType.isAtomicItemType()) {
             List<StructField> fields = new ArrayList<>();
@@ -233,7 +264,7 @@ public class ValidateTypeIterator extends HybridRuntimeIterator {
         );
     }
 
-    private static Object getRowColumnFromItemUsingDataType(
+    public static Object getRowColumnFromItemUsingDataType(
             Item item,
             DataType dataType,
             DynamicContext context
@@ -348,7 +379,7 @@ public class ValidateTypeIterator extends HybridRuntimeIterator {
         return i;
     }
 
-    private static Item validate(Item item, ItemType itemType, ExceptionMetadata metadata) {
+    public static Item validate(Item item, ItemType itemType, ExceptionMetadata metadata) {
         if (itemType.isAtomicItemType()) {
             if (!item.isAtomic()) {
                 throw new InvalidInstanceException(
@@ -513,6 +513,26 @@ public class ItemTypeFactory {
         return new FunctionItemType(signature);
     }
 
+    /**
+     * Creates an open object item type with optional fields of the given types, for example inferred from a sample of
+     * the input.
+     *
+     * @param fieldTypes the types of the fields, in order.
+     * @return an object item type with these fields
+     */
+    public static ItemType createOpenObjectItemType(Map<String, ItemType> fieldTypes) {
+        Map<String, FieldDescriptor> content = new LinkedHashMap<>();
+        for (Map.Entry<String, ItemType> entry : fieldTypes.entrySet()) {
+            FieldDescriptor fieldDescriptor = new FieldDescriptor();
+            fieldDescriptor.setName(entry.getKey());
+            fieldDescriptor.setType(entry.getValue());
+            fieldDescriptor.setRequired(false);
+            fieldDescriptor.setUnique(false);
+            content.put(entry.getKey(), fieldDescriptor);
+        }
+        return new ObjectItemType(null, BuiltinTypesCatalogue.objectItem, false, content, null, null);
+    }
+
     /**
      * Create an object item type from a spark struct type (count as restriction on generic object type)
      * 
@@ -56,6 +56,7 @@ import org.rumbledb.items.FunctionItem;
 import org.rumbledb.items.HexBinaryItem;
 import org.rumbledb.items.IntItem;
 import org.rumbledb.items.IntegerItem;
+import org.rumbledb.items.LongItem;
 import org.rumbledb.items.NullItem;
 import org.rumbledb.items.ObjectItem;
 import org.rumbledb.items.StringItem;
@@ -84,6 +85,7 @@ public class SparkSessionManager {
 
     public static String atomicJSONiqItemColumnName = "0d08af5d-10bb-4a73-af84-c6aac917a830";
     public static String emptyObjectJSONiqItemColumnName = "a84bc646-05af-4383-8853-2e9f31a710f2";
+    public static String overflowJSONiqItemColumnName = "3c6e2f1a-8b47-4d2e-9f05-71d4a6b9c3e8";
     public static String temporaryColumnName = "0f7b4040-b404-4239-99dd-9b4cf2900594";
     public static String countColumnName = "5af0c0c8-e84c-482a-82ce-1887565cf448";
     public static String rightHandSideHashColumnName = "db273b7d-d927-4c0d-b9c1-665af71faa2b ";
@@ -96,14 +98,20 @@ public class SparkSessionManager {
         return COLLECT_ITEM_LIMIT > 0;
     }
 
-    public static SparkSessionManager getInstance() {
+    public static synchronized SparkSessionManager getInstance() {
         if (instance == null) {
             instance = new SparkSessionManager();
         }
         return instance;
     }
 
-    public SparkSession getOrCreateSession() {
+    /**
+     * Returns the Spark session, creating it on first use. Queries that are executed locally never call this method,
+     * so that they do not pay for the startup of Spark.
+     *
+     * @return the Spark session.
+     */
+    public synchronized SparkSession getOrCreateSession() {
         if (this.configuration == null) {
             setDefaultConfiguration();
         }
@@ -113,6 +121,47 @@ public class SparkSessionManager {
         return this.session;
     }
 
+    /**
+     * Says whether the Spark session was already created.
+     *
+     * @return true if the session exists.
+     */
+    public synchronized boolean isSessionInitialized() {
+        return this.session != null;
+    }
+
+    /**
+     * Returns the Spark configuration without creating the Spark session. The configuration is taken from the
+     * session if it already exists, or else from the system properties set by spark-submit.
+     *
+     * @return the Spark configuration.
+     */
+    public synchronized SparkConf getConfiguration() {
+        if (this.session != null) {
+            return this.session.sparkContext().getConf();
+        }
+        if (this.configuration == null) {
+            setDefaultConfiguration();
+        }
+        return this.configuration;
+    }
+
+    /**
+     * Creates the Spark session on a background thread, so that it is ready by the time a query needs it while
+     * local work (parsing, static analysis, local execution) proceeds in the meantime.
+     */
+    public void prewarmSessionInBackground() {
+        Thread thread = new Thread(() -> {
+            try {
+                getOrCreateSession();
+            } catch (RuntimeException e) {
+                // The error is reported again when a query actually needs the session.
+            }
+        }, "Spark session initialization");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
     private void setDefaultConfiguration() {
         try {
             this.configuration = new SparkConf();
@@ -124,6 +173,10 @@ public class SparkSessionManager {
                 this.configuration.setAppName(APP_NAME);
             }
             this.configuration.set("spark.sql.crossJoin.enabled", "true"); // enables cartesian product
+            if (!this.configuration.contains("spark.sql.adaptive.enabled")) {
+                // coalesces small shuffle partitions and splits skewed ones at runtime
+                this.configuration.set("spark.sql.adaptive.enabled", "true");
+            }
             if (!this.configuration.contains("spark.master")) {
                 this.configuration.set("spark.master", "local[*]");
             }
@@ -169,6 +222,7 @@ public class SparkSessionManager {
                 HexBinaryItem.class,
                 IntegerItem.class,
                 IntItem.class,
+                LongItem.class,
                 NullItem.class,
                 StringItem.class,
                 TimeItem.class,
@@ -203,7 +257,7 @@ public class SparkSessionManager {
     }
 
 
-    public void initializeConfigurationAndSession(SparkConf conf, boolean setAppName) {
+    public synchronized void initializeConfigurationAndSession(SparkConf conf, boolean setAppName) {
         if (setAppName) {
             conf.setAppName(APP_NAME);
         }
@@ -211,7 +265,7 @@ public class SparkSessionManager {
         initializeSession();
     }
 
-    public JavaSparkContext getJavaSparkContext() {
+    public synchronized JavaSparkContext getJavaSparkContext() {
         if (this.configuration == null) {
             setDefaultConfiguration();
         }
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package iq;
+
+import static org.apache.spark.sql.functions.col;
+import static org.apache.spark.sql.functions.explode;
+
+import org.apache.spark.SparkConf;
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.rumbledb.api.Item;
+import org.rumbledb.api.Rumble;
+import org.rumbledb.api.SequenceOfItems;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
+import org.rumbledb.runtime.flwor.DataFrameStatistics;
+
+import sparksoniq.spark.SparkSessionManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class DataFrameStatisticsTest {
+
+    private static final RumbleRuntimeConfiguration statisticsConfiguration = new RumbleRuntimeConfiguration(
+            new String[] {
+                "--collect-statistics",
+                "yes" }
+    );
+
+    private static final RumbleRuntimeConfiguration defaultConfiguration = new RumbleRuntimeConfiguration(
+            new String[] {}
+    );
+
+    private static File file;
+
+    @BeforeClass
+    public static void setupSparkSession() throws IOException {
+        SparkConf sparkConfiguration = new SparkConf();
+        sparkConfiguration.setMaster("local[*]");
+        sparkConfiguration.set("spark.submit.deployMode", "client");
+        sparkConfiguration.set("spark.executor.extraClassPath", "lib/");
+        sparkConfiguration.set("spark.driver.extraClassPath", "lib/");
+        sparkConfiguration.set("spark.driver.host", "127.0.0.1");
+        sparkConfiguration.set("spark.driver.bindAddress", "127.0.0.1");
+        SparkSessionManager.getInstance().initializeConfigurationAndSession(sparkConfiguration, true);
+
+        file = File.createTempFile("statistics", ".json");
+        file.deleteOnExit();
+    }
+
+    @Before
+    public void clearStatistics() throws IOException {
+        DataFrameStatistics.clear();
+        writeInput(100);
+    }
+
+    @Test(timeout = 1000000)
+    public void testRowCount() {
+        Assert.assertNull(DataFrameStatistics.get(read()));
+        run(countQuery(), defaultConfiguration);
+        Assert.assertNull(DataFrameStatistics.get(read()));
+
+        Assert.assertEquals("100", run(countQuery(), statisticsConfiguration).get(0).serialize());
+        DataFrameStatistics statistics = DataFrameStatistics.get(read());
+        Assert.assertNotNull(statistics);
+        Assert.assertEquals(100, statistics.getRowCount());
+    }
+
+    @Test(timeout = 1000000)
+    public void testInvalidation() throws IOException {
+        run(countQuery(), statisticsConfiguration);
+        Assert.assertEquals(100, DataFrameStatistics.get(read()).getRowCount());
+
+        long modificationTime = file.lastModified();
+        writeInput(150);
+        Assert.assertTrue(file.setLastModified(modificationTime + 10000));
+        Assert.assertNull(DataFrameStatistics.get(read()));
+
+        Assert.assertEquals("150", run(countQuery(), statisticsConfiguration).get(0).serialize());
+        Assert.assertEquals(150, DataFrameStatistics.get(read()).getRowCount());
+    }
+
+    @Test(timeout = 1000000)
+    public void testSizeEstimates() {
+        run(countQuery(), statisticsConfiguration);
+
+        // filtering cannot add rows: the collected row count bounds the size.
+        Dataset<Row> filtered = read().filter(col("id").geq(50)).select(col("id"));
+        Assert.assertTrue(DataFrameStatistics.isBoundedByInput(filtered));
+        Assert.assertEquals(
+            100L * filtered.schema().defaultSize(),
+            DataFrameStatistics.estimateSizeInBytes(filtered)
+        );
+
+        // unnesting arrays can add rows: the estimate of Spark is used.
+        Dataset<Row> unnested = read().select(explode(col("values")));
+        Assert.assertFalse(DataFrameStatistics.isBoundedByInput(unnested));
+        Assert.assertEquals(
+            unnested.queryExecution().optimizedPlan().stats().sizeInBytes().longValue(),
+            DataFrameStatistics.estimateSizeInBytes(unnested)
+        );
+    }
+
+    @Test(timeout = 1000000)
+    public void testJoin() {
+        String input = file.toURI().toString();
+        String query = "for $l in structured-json-file(\""
+            + input
+            + "\") for $v in $l.values[] for $r in structured-json-file(\""
+            + input
+            + "\") where $v eq $r.id return { \"left\" : $l.id, \"right\" : $r.id }";
+        List<String> expected = serializeSorted(run(query, defaultConfiguration));
+        Assert.assertEquals(199, expected.size());
+        run(countQuery(), statisticsConfiguration);
+        Assert.assertEquals(expected, serializeSorted(run(query, statisticsConfiguration)));
+    }
+
+    private static void writeInput(int numberOfRows) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < numberOfRows; ++i) {
+            lines.add(String.format("{ \"id\" : %d, \"values\" : [ %d, %d ] }", i, i, i + 1));
+        }
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+    }
+
+    private static Dataset<Row> read() {
+        return SparkSessionManager.getInstance().getOrCreateSession().read().json(file.toURI().toString());
+    }
+
+    private static String countQuery() {
+        return "count(for $x in structured-json-file(\"" + file.toURI() + "\") return $x)";
+    }
+
+    private static List<Item> run(String query, RumbleRuntimeConfiguration configuration) {
+        SequenceOfItems sequence = new Rumble(configuration).runQuery(query);
+        if (sequence.availableAsRDD()) {
+            return sequence.getAsRDD().collect();
+        }
+        List<Item> result = new ArrayList<>();
+        sequence.open();
+        while (sequence.hasNext()) {
+            result.add(sequence.next());
+        }
+        sequence.close();
+        return result;
+    }
+
+    private static List<String> serializeSorted(List<Item> items) {
+        List<String> result = new ArrayList<>();
+        for (Item item : items) {
+            result.add(item.serialize());
+        }
+        Collections.sort(result);
+        return result;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package iq;
+
+import org.apache.spark.SparkConf;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.rumbledb.api.Item;
+import org.rumbledb.api.Rumble;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
+
+import sparksoniq.spark.SparkSessionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class GroupBySkewTest {
+
+    private static final int NUMBER_OF_ROWS = 20000;
+
+    private static final RumbleRuntimeConfiguration saltedConfiguration = new RumbleRuntimeConfiguration(
+            new String[] {
+                "--shuffle-partition-size",
+                "1",
+                "--group-by-skew-threshold",
+                "0.2",
+                "--print-execution-report",
+                "yes" }
+    );
+
+    private static final RumbleRuntimeConfiguration unsaltedConfiguration = new RumbleRuntimeConfiguration(
+            new String[] {
+                "--shuffle-partition-size",
+                "0",
+                "--group-by-skew-threshold",
+                "0" }
+    );
+
+    private static String input;
+
+    @BeforeClass
+    public static void setupSparkSession() throws IOException {
+        SparkConf sparkConfiguration = new SparkConf();
+        sparkConfiguration.setMaster("local[*]");
+        sparkConfiguration.set("spark.submit.deployMode", "client");
+        sparkConfiguration.set("spark.executor.extraClassPath", "lib/");
+        sparkConfiguration.set("spark.driver.extraClassPath", "lib/");
+        sparkConfiguration.set("spark.driver.host", "127.0.0.1");
+        sparkConfiguration.set("spark.driver.bindAddress", "127.0.0.1");
+        SparkSessionManager.getInstance().initializeConfigurationAndSession(sparkConfiguration, true);
+
+        // half of the rows share the same key.
+        File file = File.createTempFile("skewed", ".json");
+        file.deleteOnExit();
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_ROWS; ++i) {
+            lines.add(
+                String.format(
+                    "{ \"key\" : \"%s\", \"value\" : %d, \"tag\" : \"t%d\" }",
+                    i % 2 == 0 ? "hot" : "k" + (i % 50),
+                    i,
+                    i % 3
+                )
+            );
+        }
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+        input = file.toURI().toString();
+    }
+
+    @Test(timeout = 1000000)
+    public void testSaltedGroupBy() {
+        // counts, sums, minimums, maximums, native sequences and serialized sequences are merged.
+        String query = "for $x in structured-json-file(\""
+            + input
+            + "\") let $v := $x.value, $m := $x.value, $n := $x.value, $t := $x.tag, $o := { \"v\" : $x.value }"
+            + " group by $k := $x.key"
+            + " return { \"key\" : $k, \"count\" : count($x), \"sum\" : sum($v), \"max\" : max($m), \"min\" : min($n),"
+            + " \"tags\" : [ for $tag in distinct-values($t) order by $tag return $tag ], \"tagCount\" : count($t),"
+            + " \"objects\" : sum($o.v) }";
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+        PrintStream standardError = System.err;
+        System.setErr(new PrintStream(report, true));
+        List<Item> salted;
+        try {
+            salted = new Rumble(saltedConfiguration).runQuery(query).getAsRDD().collect();
+        } finally {
+            System.setErr(standardError);
+        }
+        Assert.assertTrue(
+            "The group by clause was not aggregated in two phases: " + report,
+            report.toString().contains("aggregating in two phases")
+        );
+        List<Item> unsalted = new Rumble(unsaltedConfiguration).runQuery(query).getAsRDD().collect();
+        Assert.assertEquals(26, unsalted.size());
+        Assert.assertEquals(serializeSorted(unsalted), serializeSorted(salted));
+    }
+
+    private static List<String> serializeSorted(List<Item> items) {
+        List<String> result = new ArrayList<>();
+        for (Item item : items) {
+            result.add(item.serialize());
+        }
+        Collections.sort(result);
+        return result;
+    }
+}
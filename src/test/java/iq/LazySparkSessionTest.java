@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package iq;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.rumbledb.api.Item;
+import org.rumbledb.api.Rumble;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
+
+import sparksoniq.spark.SparkSessionManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LazySparkSessionTest {
+
+    private static final String QUERY = "(for $i in 1 to 3 return $i * 2, "
+        + "json-doc(\"src/test/resources/queries/SpreadOverMultipleLinesDocument.json\").foobar[[1]])";
+
+    @Test(timeout = 1000000)
+    public void testLocalQueryDoesNotStartSpark() throws IOException, InterruptedException {
+        // The query runs in a new JVM, as other tests of the same JVM may have created the session already.
+        ProcessBuilder builder = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp",
+                System.getProperty("java.class.path"),
+                LocalQuery.class.getName()
+        );
+        builder.redirectErrorStream(true);
+        Process process = builder.start();
+        String output = IOUtils.toString(process.getInputStream(), StandardCharsets.UTF_8);
+        Assert.assertEquals("The local query failed: " + output, 0, process.waitFor());
+        Assert.assertTrue(output, output.contains("(2, 4, 6, test1)"));
+        Assert.assertTrue("The Spark session was created: " + output, output.contains("session initialized: false"));
+    }
+
+    public static class LocalQuery {
+
+        public static void main(String[] args) {
+            RumbleRuntimeConfiguration configuration = new RumbleRuntimeConfiguration(new String[] {});
+            List<Item> result = new ArrayList<>();
+            new Rumble(configuration).runQuery(QUERY).populateList(result);
+            List<String> serialized = new ArrayList<>();
+            for (Item item : result) {
+                serialized.add(item.serialize());
+            }
+            System.out.println("(" + String.join(", ", serialized) + ")");
+            System.out.println("session initialized: " + SparkSessionManager.getInstance().isSessionInitialized());
+        }
+    }
+}
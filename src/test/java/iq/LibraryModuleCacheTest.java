@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package iq;
+
+import org.apache.spark.SparkConf;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.rumbledb.api.Item;
+import org.rumbledb.api.Rumble;
+import org.rumbledb.compiler.LibraryModuleCache;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
+
+import sparksoniq.spark.SparkSessionManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LibraryModuleCacheTest {
+
+    private static final RumbleRuntimeConfiguration configuration = new RumbleRuntimeConfiguration(new String[] {});
+
+    @BeforeClass
+    public static void setupSparkSession() {
+        SparkConf sparkConfiguration = new SparkConf();
+        sparkConfiguration.setMaster("local[*]");
+        sparkConfiguration.set("spark.submit.deployMode", "client");
+        sparkConfiguration.set("spark.executor.extraClassPath", "lib/");
+        sparkConfiguration.set("spark.driver.extraClassPath", "lib/");
+        sparkConfiguration.set("spark.driver.host", "127.0.0.1");
+        sparkConfiguration.set("spark.driver.bindAddress", "127.0.0.1");
+        SparkSessionManager.getInstance().initializeConfigurationAndSession(sparkConfiguration, true);
+    }
+
+    @Test(timeout = 1000000)
+    public void testHitsAndInvalidation() throws IOException {
+        File module = File.createTempFile("module", ".jq");
+        module.deleteOnExit();
+        writeModule(module, 1);
+        String query = "import module namespace m = \"" + module.toURI() + "\"; m:value()";
+        LibraryModuleCache cache = LibraryModuleCache.getInstance();
+        cache.clear();
+
+        long hits = cache.getHits();
+        long invalidations = cache.getInvalidations();
+        Assert.assertEquals("1", runQuery(query));
+        Assert.assertEquals(hits, cache.getHits());
+        Assert.assertEquals("1", runQuery(query));
+        Assert.assertEquals(hits + 1, cache.getHits());
+        Assert.assertEquals(invalidations, cache.getInvalidations());
+
+        // the modification times are set explicitly, as the file system may not distinguish successive writes.
+        writeModule(module, 2);
+        Assert.assertTrue(module.setLastModified(module.lastModified() + 10000));
+        Assert.assertEquals("2", runQuery(query));
+        Assert.assertEquals(hits + 1, cache.getHits());
+        Assert.assertEquals(invalidations + 1, cache.getInvalidations());
+
+        Assert.assertTrue(module.setLastModified(module.lastModified() + 10000));
+        Assert.assertEquals("2", runQuery(query));
+        Assert.assertEquals(hits + 1, cache.getHits());
+        Assert.assertEquals(invalidations + 2, cache.getInvalidations());
+
+        Assert.assertEquals("2", runQuery(query));
+        Assert.assertEquals(hits + 2, cache.getHits());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    private static void writeModule(File module, int value) throws IOException {
+        String content = "module namespace m = \""
+            + module.getName()
+            + "\";\ndeclare function m:value() { "
+            + value
+            + " };\n";
+        Files.write(module.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String runQuery(String query) {
+        List<Item> result = new ArrayList<>();
+        new Rumble(configuration).runQuery(query).populateList(result);
+        Assert.assertEquals(1, result.size());
+        return result.get(0).serialize();
+    }
+}
@@ -37,7 +37,13 @@ import java.util.List;
 public class NativeFLWORRuntimeTests extends RuntimeTests {
 
     protected static final RumbleRuntimeConfiguration configuration = new RumbleRuntimeConfiguration(
-            new String[] { "--variable:externalUnparsedString", "unparsed string", "--escape-backticks", "yes" }
+            new String[] {
+                "--variable:externalUnparsedString",
+                "unparsed string",
+                "--escape-backticks",
+                "yes",
+                "--local-execution-threshold",
+                "0" }
     );
 
     public static final File nativeFlworRuntimeTestsDirectory = new File(
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package iq;
+
+import org.apache.spark.SparkConf;
+import org.apache.spark.api.java.JavaRDD;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.rumbledb.api.Item;
+import org.rumbledb.api.Rumble;
+import org.rumbledb.api.SequenceOfItems;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
+import org.rumbledb.runtime.flwor.ShufflePartitioning;
+
+import sparksoniq.spark.SparkSessionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class ShufflePartitioningTest {
+
+    private static final String input = new File(
+            System.getProperty("user.dir") + "/src/test/resources/queries/confusion_sample.json"
+    ).toURI().toString();
+
+    private static final RumbleRuntimeConfiguration sizedConfiguration = new RumbleRuntimeConfiguration(
+            new String[] {
+                "--shuffle-partition-size",
+                "8192",
+                "--group-by-skew-threshold",
+                "0",
+                "--print-execution-report",
+                "yes" }
+    );
+
+    private static final RumbleRuntimeConfiguration defaultConfiguration = new RumbleRuntimeConfiguration(
+            new String[] {
+                "--shuffle-partition-size",
+                "0",
+                "--group-by-skew-threshold",
+                "0" }
+    );
+
+    @BeforeClass
+    public static void setupSparkSession() {
+        SparkConf sparkConfiguration = new SparkConf();
+        sparkConfiguration.setMaster("local[*]");
+        sparkConfiguration.set("spark.submit.deployMode", "client");
+        sparkConfiguration.set("spark.executor.extraClassPath", "lib/");
+        sparkConfiguration.set("spark.driver.extraClassPath", "lib/");
+        sparkConfiguration.set("spark.driver.host", "127.0.0.1");
+        sparkConfiguration.set("spark.driver.bindAddress", "127.0.0.1");
+        SparkSessionManager.getInstance().initializeConfigurationAndSession(sparkConfiguration, true);
+    }
+
+    @Test(timeout = 1000000)
+    public void testNumberOfPartitions() {
+        Assert.assertEquals(1, ShufflePartitioning.getPartitions(0, 64));
+        Assert.assertEquals(1, ShufflePartitioning.getPartitions(64, 64));
+        Assert.assertEquals(2, ShufflePartitioning.getPartitions(65, 64));
+        Assert.assertEquals(100000, ShufflePartitioning.getPartitions(Long.MAX_VALUE, 1));
+    }
+
+    @Test(timeout = 1000000)
+    public void testGroupBy() {
+        String query = "for $x in structured-json-file(\""
+            + input
+            + "\") group by $g := $x.guess return { \"guess\" : $g, \"count\" : count($x) }";
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+        JavaRDD<Item> sized = runWithReport(query, report);
+        int partitions = getReportedPartitions(report, "group by clause");
+        Assert.assertTrue(partitions > 1);
+        Assert.assertEquals(partitions, sized.getNumPartitions());
+        Assert.assertEquals(serializeSorted(run(query, defaultConfiguration)), serializeSorted(sized.collect()));
+    }
+
+    @Test(timeout = 1000000)
+    public void testOrderBy() {
+        String query = "for $x in structured-json-file(\""
+            + input
+            + "\") order by $x.sample descending return $x.sample";
+        ByteArrayOutputStream report = new ByteArrayOutputStream();
+        JavaRDD<Item> sized = runWithReport(query, report);
+        int partitions = getReportedPartitions(report, "order by clause");
+        Assert.assertTrue(partitions > 1);
+        Assert.assertTrue(sized.getNumPartitions() <= partitions);
+        Assert.assertEquals(serialize(run(query, defaultConfiguration)), serialize(sized.collect()));
+    }
+
+    private static JavaRDD<Item> runWithReport(String query, ByteArrayOutputStream report) {
+        PrintStream standardError = System.err;
+        System.setErr(new PrintStream(report, true));
+        try {
+            SequenceOfItems sequence = new Rumble(sizedConfiguration).runQuery(query);
+            Assert.assertTrue(sequence.availableAsRDD());
+            JavaRDD<Item> result = sequence.getAsRDD();
+            result.count();
+            return result;
+        } finally {
+            System.setErr(standardError);
+        }
+    }
+
+    private static List<Item> run(String query, RumbleRuntimeConfiguration configuration) {
+        return new Rumble(configuration).runQuery(query).getAsRDD().collect();
+    }
+
+    private static int getReportedPartitions(ByteArrayOutputStream report, String clause) {
+        Matcher matcher = Pattern.compile(
+            Pattern.quote(clause) + " at line \\d+: estimated input size \\d+ bytes, (\\d+) shuffle partitions\\."
+        ).matcher(report.toString());
+        Assert.assertTrue("No execution report for the " + clause + ": " + report, matcher.find());
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private static List<String> serialize(List<Item> items) {
+        List<String> result = new ArrayList<>();
+        for (Item item : items) {
+            result.add(item.serialize());
+        }
+        return result;
+    }
+
+    private static List<String> serializeSorted(List<Item> items) {
+        List<String> result = serialize(items);
+        Collections.sort(result);
+        return result;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Authors: Stefan Irimescu, Can Berker Cikis
+ *
+ */
+
+package iq;
+
+import org.apache.spark.SparkConf;
+import org.apache.spark.sql.Dataset;
+import org.apache.spark.sql.Row;
+import org.apache.spark.sql.streaming.StreamingQuery;
+import org.apache.spark.sql.streaming.StreamingQueryException;
+import org.apache.spark.sql.streaming.Trigger;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.rumbledb.api.Rumble;
+import org.rumbledb.api.SequenceOfItems;
+import org.rumbledb.cli.JsoniqQueryExecutor;
+import org.rumbledb.config.RumbleRuntimeConfiguration;
+import org.rumbledb.exceptions.CannotMaterializeException;
+import org.rumbledb.exceptions.UnsupportedFeatureException;
+
+import sparksoniq.spark.SparkSessionManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+public class StructuredJsonStreamTest {
+
+    private static final RumbleRuntimeConfiguration configuration = new RumbleRuntimeConfiguration(
+            new String[] {}
+    );
+
+    private static File input;
+
+    @BeforeClass
+    public static void setupSparkSession() throws IOException {
+        SparkConf sparkConfiguration = new SparkConf();
+        sparkConfiguration.setMaster("local[*]");
+        sparkConfiguration.set("spark.submit.deployMode", "client");
+        sparkConfiguration.set("spark.executor.extraClassPath", "lib/");
+        sparkConfiguration.set("spark.driver.extraClassPath", "lib/");
+        sparkConfiguration.set("spark.driver.host", "127.0.0.1");
+        sparkConfiguration.set("spark.driver.bindAddress", "127.0.0.1");
+        SparkSessionManager.getInstance().initializeConfigurationAndSession(sparkConfiguration, true);
+
+        input = Files.createTempDirectory("stream").toFile();
+        input.deleteOnExit();
+        Files.write(
+            new File(input, "part-0.json").toPath(),
+            Arrays.asList(
+                "{ \"level\" : \"ERROR\", \"time\" : 1, \"message\" : \"a\" }",
+                "{ \"level\" : \"INFO\", \"time\" : 2, \"message\" : \"b\" }",
+                "{ \"level\" : \"ERROR\", \"time\" : 3, \"message\" : \"c\" }"
+            ),
+            StandardCharsets.UTF_8
+        );
+    }
+
+    @Test(timeout = 1000000)
+    public void testTriggerOnce() throws IOException, StreamingQueryException {
+        String query = "for $e in structured-json-stream(\""
+            + input.toURI()
+            + "\") where $e.level eq \"ERROR\" return { \"time\" : $e.time, \"message\" : $e.message }";
+        SequenceOfItems sequence = new Rumble(configuration).runQuery(query);
+        Assert.assertTrue(sequence.availableAsDataFrame());
+        Dataset<Row> dataFrame = sequence.getAsDataFrame();
+        Assert.assertTrue(dataFrame.isStreaming());
+
+        File output = new File(Files.createTempDirectory("stream-output").toFile(), "output");
+        StreamingQuery streamingQuery = JsoniqQueryExecutor.startStream(
+            dataFrame,
+            output.toURI().toString(),
+            configuration,
+            Trigger.Once()
+        );
+        streamingQuery.awaitTermination();
+
+        List<Row> rows = SparkSessionManager.getInstance()
+            .getOrCreateSession()
+            .read()
+            .json(output.toURI().toString())
+            .orderBy("time")
+            .collectAsList();
+        Assert.assertEquals(2, rows.size());
+        Assert.assertEquals(1L, (long) rows.get(0).getAs("time"));
+        Assert.assertEquals("a", rows.get(0).getAs("message"));
+        Assert.assertEquals(3L, (long) rows.get(1).getAs("time"));
+        Assert.assertEquals("c", rows.get(1).getAs("message"));
+    }
+
+    @Test(timeout = 1000000)
+    public void testMaterialization() {
+        String query = "for $e in structured-json-stream(\"" + input.toURI() + "\") return $e.message";
+        SequenceOfItems sequence = new Rumble(configuration).runQuery(query);
+        sequence.open();
+        try {
+            sequence.hasNext();
+            Assert.fail("A stream was materialized.");
+        } catch (CannotMaterializeException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("--output-path"));
+        } finally {
+            sequence.close();
+        }
+    }
+
+    @Test(timeout = 1000000)
+    public void testGroupBy() {
+        String query = "for $e in structured-json-stream(\""
+            + input.toURI()
+            + "\") group by $l := $e.level return { \"level\" : $l, \"count\" : count($e) }";
+        SequenceOfItems sequence = new Rumble(configuration).runQuery(query);
+        try {
+            sequence.getAsDataFrame();
+            Assert.fail("A group by clause was executed on a stream.");
+        } catch (UnsupportedFeatureException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("watermarks"));
+        }
+    }
+}
@@ -56,6 +56,8 @@ public class AnnotationsTestsBase {
             new String[] {
                 "--print-iterator-tree",
                 "yes",
+                "--local-execution-threshold",
+                "0",
                 "--variable:externalUnparsedString",
                 "unparsed string" }
     ).setExternalVariableValue(